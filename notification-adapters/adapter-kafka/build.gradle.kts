@@ -6,5 +6,6 @@ dependencies {
 
     implementation("org.springframework.cloud:spring-cloud-starter-stream-kafka")
     implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("org.apache.avro:avro:1.11.3")
 
 }
\ No newline at end of file
@@ -2,19 +2,34 @@ package com.threadly.notification.adapter.kafka.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.threadly.notification.adapter.kafka.notification.KafkaErrorHandlerConfig;
+import com.threadly.notification.adapter.kafka.notification.parallel.ConsumerLagProbe;
+import com.threadly.notification.adapter.kafka.retry.RetryTier;
 import java.util.HashMap;
 import java.util.Map;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.cloud.stream.config.ListenerContainerCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin.NewTopics;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.AbstractMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties.AckMode;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+/**
+ * Kafka 설정
+ * <p>
+ * lag 기반 lane 수 조절({@code LaneScalingController})을 위해 스케줄링을 활성화한다.
+ */
 @Configuration
+@EnableScheduling
 public class KafkaConfig {
 
   @Bean
@@ -28,6 +43,42 @@ public class KafkaConfig {
     return converter;
   }
 
+  /**
+   * manual ack 바인딩에 out-of-order ack 허용
+   * <p>
+   * lane에서 처리 완료 순서대로 ack 하더라도 container는 연속으로 처리 완료된 가장 낮은 offset까지만 commit 한다. commit
+   * offset 이 처리 속도를 늦게 따라가므로 lane 수 조절에 쓸 lag 은 container 의 consumer 에서 조회하도록 등록한다.
+   *
+   * @param consumerLagProbe
+   * @return
+   */
+  @Bean
+  public ListenerContainerCustomizer<AbstractMessageListenerContainer<?, ?>> asyncAckContainerCustomizer(
+      ConsumerLagProbe consumerLagProbe) {
+    return (container, destinationName, group) -> {
+      if (container.getContainerProperties().getAckMode() == AckMode.MANUAL) {
+        container.getContainerProperties().setAsyncAcks(true);
+        consumerLagProbe.register(destinationName, container);
+      }
+    };
+  }
+
+  /**
+   * DLT 토픽 생성
+   * <p>
+   * 재시도 토픽은 consumer 바인딩으로 생성되지만 DLT는 구독하는 바인딩이 없으므로 직접 생성한다.
+   *
+   * @return
+   */
+  @Bean
+  public NewTopics deadLetterTopics() {
+    return new NewTopics(
+        TopicBuilder.name(RetryTier.deadLetterTopic(KafkaErrorHandlerConfig.NOTIFICATION_TOPIC))
+            .build(),
+        TopicBuilder.name(RetryTier.deadLetterTopic(KafkaErrorHandlerConfig.MAIL_TOPIC)).build()
+    );
+  }
+
   @Bean
   public ProducerFactory<String, Object> producerFactory() {
     Map<String, Object> configProps = new HashMap<>();
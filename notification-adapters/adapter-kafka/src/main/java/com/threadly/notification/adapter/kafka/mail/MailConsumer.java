@@ -3,7 +3,7 @@ package com.threadly.notification.adapter.kafka.mail;
 import com.threadly.notification.adapter.kafka.mail.dto.MailEvent;
 import com.threadly.notification.adapter.kafka.utils.KafkaConsumerLogUtils;
 import com.threadly.notification.adapter.kafka.utils.RetryAttemptUtils;
-import com.threadly.notification.core.port.mail.in.SendMailUseCase;
+import com.threadly.notification.core.port.mail.in.MailOutboxUseCase;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.util.function.Consumer;
@@ -15,19 +15,22 @@ import org.springframework.stereotype.Component;
 
 /**
  * Kafka 메일 이벤트 수신 consumer
+ * <p>
+ * 메일을 직접 보내지 않고 outbox 에 적재만 하므로 SMTP 지연이 수신 처리량에 영향을 주지 않는다. 전송과 재시도는 outbox
+ * worker 가 담당한다.
  */
 @Component
 @Slf4j
 public class MailConsumer {
 
-  private final SendMailUseCase sendMailUseCase;
+  private final MailOutboxUseCase mailOutboxUseCase;
   private final Counter retryAttemptCounter;
   private final Counter consumeSuccessCounter;
 
   private static final String TOPIC = "Mail";
 
-  public MailConsumer(SendMailUseCase sendMailUseCase, MeterRegistry meterRegistry) {
-    this.sendMailUseCase = sendMailUseCase;
+  public MailConsumer(MailOutboxUseCase mailOutboxUseCase, MeterRegistry meterRegistry) {
+    this.mailOutboxUseCase = mailOutboxUseCase;
     this.retryAttemptCounter = Counter.builder("mail_consumer_retry_attempt")
         .tag("binding", "mail-in-0")
         .description("MailConsumer 재시도 횟수")
@@ -58,7 +61,7 @@ public class MailConsumer {
       }
 
       try {
-        sendMailUseCase.send(event.toCommand());
+        mailOutboxUseCase.enqueue(event.eventId(), event.toCommand(), event.occurredAt());
         KafkaConsumerLogUtils.logSuccess(TOPIC, event.eventId());
 
       } catch (Exception e) {
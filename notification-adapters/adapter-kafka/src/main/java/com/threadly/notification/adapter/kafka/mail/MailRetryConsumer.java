@@ -0,0 +1,108 @@
+package com.threadly.notification.adapter.kafka.mail;
+
+import com.threadly.notification.adapter.kafka.mail.dto.MailEvent;
+import com.threadly.notification.adapter.kafka.notification.KafkaErrorHandlerConfig;
+import com.threadly.notification.adapter.kafka.retry.RetryTier;
+import com.threadly.notification.adapter.kafka.retry.RetryTopicRouter;
+import com.threadly.notification.adapter.kafka.utils.KafkaConsumerLogUtils;
+import com.threadly.notification.adapter.kafka.utils.RetryAttemptUtils;
+import com.threadly.notification.core.port.mail.in.MailOutboxUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메일 재시도 토픽 consumer
+ * <p>
+ * outbox 적재에 실패한 메일 이벤트를 다시 적재한다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class MailRetryConsumer {
+
+  private final MailOutboxUseCase mailOutboxUseCase;
+  private final RetryTopicRouter retryTopicRouter;
+  private final MeterRegistry meterRegistry;
+
+  private static final String TOPIC = "Mail";
+
+  @Bean("mailRetry1s")
+  public Consumer<Message<MailEvent>> mailRetry1sConsumer() {
+    return retryConsumer(RetryTier.ONE_SECOND);
+  }
+
+  @Bean("mailRetry10s")
+  public Consumer<Message<MailEvent>> mailRetry10sConsumer() {
+    return retryConsumer(RetryTier.TEN_SECONDS);
+  }
+
+  @Bean("mailRetry60s")
+  public Consumer<Message<MailEvent>> mailRetry60sConsumer() {
+    return retryConsumer(RetryTier.SIXTY_SECONDS);
+  }
+
+  /**
+   * 재시도 단계별 consumer 생성
+   *
+   * @param tier
+   * @return
+   */
+  Consumer<Message<MailEvent>> retryConsumer(RetryTier tier) {
+    String binding = "mailRetry" + tier.getSuffix() + "-in-0";
+    Counter retryAttemptCounter = Counter.builder("mail_consumer_retry_attempt")
+        .tag("binding", binding)
+        .description("MailConsumer 재시도 횟수")
+        .register(meterRegistry);
+    Counter finalFailureCounter = Counter.builder("mail_consumer_final_failure")
+        .tag("binding", binding)
+        .description("모든 재시도 이후에도 실패한 알림 수")
+        .register(meterRegistry);
+
+    return message -> {
+      MailEvent event = message.getPayload();
+      Acknowledgment acknowledgment = message.getHeaders()
+          .get(KafkaHeaders.ACKNOWLEDGMENT, Acknowledgment.class);
+
+      /*처리 가능 시각 전이면 남은 시간만큼 파티션을 멈춘 뒤 재수신*/
+      long remainingDelay = RetryAttemptUtils.getRemainingDelayMillis(message);
+      if (remainingDelay > 0 && acknowledgment != null) {
+        acknowledgment.nack(Duration.ofMillis(remainingDelay));
+        return;
+      }
+
+      int attempt = RetryAttemptUtils.getAttemptValue(message);
+      retryAttemptCounter.increment();
+      KafkaConsumerLogUtils.logRetry(TOPIC, attempt, event.eventId());
+
+      try {
+        mailOutboxUseCase.enqueue(event.eventId(), event.toCommand(), event.occurredAt());
+        KafkaConsumerLogUtils.logSuccess(TOPIC, event.eventId());
+
+      } catch (Exception e) {
+        KafkaConsumerLogUtils.logFailure(TOPIC, event.eventId(), e);
+
+        /*이동에 실패하면 예외가 전파되어 ack 되지 않는다*/
+        String destination = retryTopicRouter.route(KafkaErrorHandlerConfig.MAIL_TOPIC,
+            message.getHeaders().get(KafkaHeaders.RECEIVED_KEY), event, attempt, e);
+
+        if (RetryTier.isDeadLetterTopic(destination)) {
+          finalFailureCounter.increment();
+          KafkaConsumerLogUtils.logDeadLetter(TOPIC, event.eventId(), event, e);
+        }
+      }
+
+      if (acknowledgment != null) {
+        acknowledgment.acknowledge();
+      }
+    };
+  }
+}
@@ -3,18 +3,30 @@ package com.threadly.notification.adapter.kafka.mail.dto;
 
 import com.threadly.notification.core.domain.mail.MailType;
 import com.threadly.notification.core.port.mail.in.dto.SendMailCommand;
+import java.time.LocalDateTime;
 import java.util.Map;
 
 /**
  * Kafka Mail event 객체
+ *
+ * @param eventId
+ * @param mailType
+ * @param to
+ * @param model
+ * @param occurredAt 메일 요청 발생 시각, 같은 수신자의 인증 메일 중 최신 메일을 고를 때 쓴다
  */
 public record MailEvent(
     String eventId,
     MailType mailType,
     String to,
-    Map<String, Object> model
+    Map<String, Object> model,
+    LocalDateTime occurredAt
 ) {
 
+  public MailEvent(String eventId, MailType mailType, String to, Map<String, Object> model) {
+    this(eventId, mailType, to, model, null);
+  }
+
   /**
    * event -> command
    *
@@ -0,0 +1,76 @@
+package com.threadly.notification.adapter.kafka.mail.dto;
+
+import com.threadly.notification.adapter.kafka.serde.AvroCodec;
+import com.threadly.notification.core.domain.mail.MailType;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+
+/**
+ * MailEvent Avro 코덱
+ * <p>
+ * 스키마: MailEvent.avsc, model 값은 문자열로 보관한다.
+ */
+public class MailEventAvroCodec extends AvroCodec<MailEvent> {
+
+  private static final long MICROS_PER_SECOND = 1_000_000L;
+
+  private final Schema mailTypeSchema = fieldSchema("mailType");
+
+  public MailEventAvroCodec() {
+    super(MailEvent.class);
+  }
+
+  @Override
+  protected GenericRecord toRecord(MailEvent event) {
+    GenericRecord record = new GenericData.Record(getSchema());
+    record.put("eventId", event.eventId());
+    record.put("mailType", new GenericData.EnumSymbol(mailTypeSchema, event.mailType().name()));
+    record.put("to", event.to());
+
+    if (event.model() != null) {
+      Map<String, String> model = new LinkedHashMap<>();
+      event.model().forEach((key, value) -> model.put(key, asString(value)));
+      record.put("model", model);
+    }
+
+    LocalDateTime occurredAt = event.occurredAt();
+    if (occurredAt != null) {
+      record.put("occurredAt", occurredAt.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND
+          + occurredAt.getNano() / 1_000);
+    }
+    return record;
+  }
+
+  @Override
+  protected MailEvent fromRecord(GenericRecord record) {
+    Map<String, Object> model = null;
+    if (record.get("model") instanceof Map<?, ?> rawModel) {
+      model = new LinkedHashMap<>();
+      for (Map.Entry<?, ?> entry : rawModel.entrySet()) {
+        model.put(entry.getKey().toString(), asString(entry.getValue()));
+      }
+    }
+
+    LocalDateTime occurredAt = null;
+    if (record.get("occurredAt") instanceof Long micros) {
+      occurredAt = LocalDateTime.ofEpochSecond(
+          Math.floorDiv(micros, MICROS_PER_SECOND),
+          (int) Math.floorMod(micros, MICROS_PER_SECOND) * 1_000,
+          ZoneOffset.UTC
+      );
+    }
+
+    return new MailEvent(
+        asString(record.get("eventId")),
+        MailType.valueOf(asString(record.get("mailType"))),
+        asString(record.get("to")),
+        model,
+        occurredAt
+    );
+  }
+}
@@ -0,0 +1,15 @@
+package com.threadly.notification.adapter.kafka.mail.dto;
+
+import com.threadly.notification.adapter.kafka.serde.ContentTypeDeserializer;
+
+/**
+ * mail 토픽 value 역직렬화기
+ * <p>
+ * content-type header 가 Avro 이면 MailEvent.avsc 로, 아니면 JSON 으로 읽는다.
+ */
+public class MailEventKafkaDeserializer extends ContentTypeDeserializer<MailEvent> {
+
+  public MailEventKafkaDeserializer() {
+    super(new MailEventAvroCodec());
+  }
+}
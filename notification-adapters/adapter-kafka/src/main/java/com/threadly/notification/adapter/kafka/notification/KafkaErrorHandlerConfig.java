@@ -2,58 +2,152 @@ package com.threadly.notification.adapter.kafka.notification;
 
 import static com.threadly.notification.adapter.kafka.utils.KafkaConsumerLogUtils.logFinalFailure;
 
+import com.threadly.notification.adapter.kafka.retry.RetryTier;
+import com.threadly.notification.adapter.kafka.retry.RetryTopicRouter;
+import com.threadly.notification.adapter.kafka.utils.RetryAttemptUtils;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
 import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessagingException;
 import org.springframework.messaging.support.ErrorMessage;
 
 /**
  * Kafka 에러 핸들러
+ * <p>
+ * 실패한 레코드는 원본 파티션에서 대기하지 않고 재시도 토픽으로 이동하며, 모든 단계를 소진하면 DLT로 이동한다.
  */
 @Configuration
 @Slf4j
 public class KafkaErrorHandlerConfig {
 
+  public static final String NOTIFICATION_TOPIC = "notification";
+  public static final String MAIL_TOPIC = "mail";
+
   /**
    * NotificationConsumer 에러 핸들러
    *
    * @param meterRegistry
+   * @param retryTopicRouter
    * @return
    */
   @Bean
-  public Consumer<ErrorMessage> notificationErrorHandler(MeterRegistry meterRegistry) {
+  public Consumer<ErrorMessage> notificationErrorHandler(MeterRegistry meterRegistry,
+      RetryTopicRouter retryTopicRouter) {
     Counter finalFailureCounter = Counter.builder("notification_consumer_final_failure")
         .tag("binding", "notification-in-0")
         .description("모든 재시도 이후에도 실패한 알림 수")
         .register(meterRegistry);
 
-    return errorMessage -> {
-      finalFailureCounter.increment();
-
-      logFinalFailure(errorMessage);
-    };
+    return errorMessage -> routeFailure(NOTIFICATION_TOPIC, errorMessage, retryTopicRouter,
+        finalFailureCounter);
   }
 
+  /**
+   * NotificationConsumer 일괄 처리 에러 핸들러
+   * <p>
+   * 실패한 메시지의 payload 는 poll 단위 레코드 목록이므로 레코드마다 자신의 key 로 재시도 토픽에 이동한다. 이동에 실패하면 예외를
+   * 그대로 던져 container 가 batch 의 첫 offset 으로 seek 하고 다시 수신하게 한다. 이미 저장된 레코드는 재수신 시 중복으로
+   * 걸러진다.
+   *
+   * @param meterRegistry
+   * @param retryTopicRouter
+   * @return
+   */
+  @Bean
+  public Consumer<ErrorMessage> notificationBatchErrorHandler(MeterRegistry meterRegistry,
+      RetryTopicRouter retryTopicRouter) {
+    Counter finalFailureCounter = Counter.builder("notification_consumer_final_failure")
+        .tag("binding", "notificationBatch-in-0")
+        .description("모든 재시도 이후에도 실패한 알림 수")
+        .register(meterRegistry);
+
+    return errorMessage -> routeBatchFailure(NOTIFICATION_TOPIC, errorMessage, retryTopicRouter,
+        finalFailureCounter);
+  }
 
   /**
    * MailConsumer 에러 핸들러
    *
    * @param meterRegistry
+   * @param retryTopicRouter
    * @return
    */
   @Bean
-  public Consumer<ErrorMessage> mailErrorHandler(MeterRegistry meterRegistry) {
+  public Consumer<ErrorMessage> mailErrorHandler(MeterRegistry meterRegistry,
+      RetryTopicRouter retryTopicRouter) {
     Counter finalFailureCounter = Counter.builder("mail_consumer_final_failure")
         .tag("binding", "mail-in-0")
         .description("모든 재시도 이후에도 실패한 알림 수")
         .register(meterRegistry);
 
-    return errorMessage -> {
+    return errorMessage -> routeFailure(MAIL_TOPIC, errorMessage, retryTopicRouter,
+        finalFailureCounter);
+  }
+
+  /**
+   * 실패한 레코드를 다음 재시도 토픽 또는 DLT로 이동
+   *
+   * @param baseTopic
+   * @param errorMessage
+   * @param retryTopicRouter
+   * @param finalFailureCounter
+   */
+  private static void routeFailure(String baseTopic, ErrorMessage errorMessage,
+      RetryTopicRouter retryTopicRouter, Counter finalFailureCounter) {
+    MessagingException ex = (MessagingException) errorMessage.getPayload();
+    Message<?> failedMessage = ex.getFailedMessage();
+
+    String destination = retryTopicRouter.route(
+        baseTopic,
+        failedMessage.getHeaders().get(KafkaHeaders.RECEIVED_KEY),
+        failedMessage.getPayload(),
+        RetryAttemptUtils.getAttemptValue(failedMessage),
+        ex.getCause() != null ? ex.getCause() : ex
+    );
+
+    if (RetryTier.isDeadLetterTopic(destination)) {
       finalFailureCounter.increment();
       logFinalFailure(errorMessage);
-    };
+    }
+  }
+
+  /**
+   * 일괄 처리에 실패한 레코드를 레코드 단위로 다음 재시도 토픽 또는 DLT로 이동
+   * <p>
+   * batch 바인딩은 원본 토픽만 구독하므로 모든 레코드의 실패 attempt 는 1 이다.
+   *
+   * @param baseTopic
+   * @param errorMessage
+   * @param retryTopicRouter
+   * @param finalFailureCounter
+   */
+  private static void routeBatchFailure(String baseTopic, ErrorMessage errorMessage,
+      RetryTopicRouter retryTopicRouter, Counter finalFailureCounter) {
+    MessagingException ex = (MessagingException) errorMessage.getPayload();
+    Message<?> failedMessage = ex.getFailedMessage();
+    Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+
+    if (!(failedMessage.getPayload() instanceof List<?> records)) {
+      routeFailure(baseTopic, errorMessage, retryTopicRouter, finalFailureCounter);
+      return;
+    }
+
+    List<?> keys = failedMessage.getHeaders().get(KafkaHeaders.RECEIVED_KEY, List.class);
+    for (int i = 0; i < records.size(); i++) {
+      Object key = keys != null && i < keys.size() ? keys.get(i) : null;
+      String destination = retryTopicRouter.route(baseTopic, key, records.get(i), 1, cause);
+
+      if (RetryTier.isDeadLetterTopic(destination)) {
+        finalFailureCounter.increment();
+      }
+    }
+    log.warn("[{}] 일괄 처리 실패, 레코드 단위로 재시도 토픽 이동: records={}", baseTopic,
+        records.size());
   }
 }
@@ -3,15 +3,27 @@ package com.threadly.notification.adapter.kafka.notification;
 import static com.threadly.notification.adapter.kafka.utils.KafkaConsumerLogUtils.logFailure;
 
 import com.threadly.notification.adapter.kafka.notification.dto.NotificationEvent;
+import com.threadly.notification.adapter.kafka.notification.parallel.KeyOrderedDispatcher;
+import com.threadly.notification.adapter.kafka.retry.RetryTier;
+import com.threadly.notification.adapter.kafka.retry.RetryTopicRouter;
 import com.threadly.notification.adapter.kafka.utils.KafkaConsumerLogUtils;
 import com.threadly.notification.adapter.kafka.utils.RetryAttemptUtils;
 import com.threadly.notification.core.port.notification.in.NotificationCommand;
 import com.threadly.notification.core.port.notification.in.NotificationIngestionUseCase;
+import com.threadly.notification.core.port.notification.in.dto.NotificationBatchResult;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.Message;
 import org.springframework.stereotype.Component;
@@ -24,16 +36,36 @@ import org.springframework.stereotype.Component;
 public class NotificationConsumer {
 
   private final NotificationIngestionUseCase notificationIngestionUseCase;
+  private final KeyOrderedDispatcher keyOrderedDispatcher;
+  private final RetryTopicRouter retryTopicRouter;
   private final Counter retryAttemptCounter;
   private final Counter consumeSuccessCounter;
+  private final Counter finalFailureCounter;
+  private final Counter batchFailureCounter;
+  private final Counter routeFailureCounter;
+  private final DistributionSummary batchSizeSummary;
+  private final long routeBackoffMillis;
 
   private static final String TOPIC = "Notification";
+  private static final long MAX_ROUTE_BACKOFF_MILLIS = 30_000L;
 
+  public NotificationConsumer(NotificationIngestionUseCase notificationIngestionUseCase,
+      MeterRegistry meterRegistry, KeyOrderedDispatcher keyOrderedDispatcher,
+      RetryTopicRouter retryTopicRouter) {
+    this(notificationIngestionUseCase, meterRegistry, keyOrderedDispatcher, retryTopicRouter,
+        1_000L);
+  }
 
+  @Autowired
   public NotificationConsumer(NotificationIngestionUseCase notificationIngestionUseCase,
-      MeterRegistry meterRegistry) {
+      MeterRegistry meterRegistry, KeyOrderedDispatcher keyOrderedDispatcher,
+      RetryTopicRouter retryTopicRouter,
+      @Value("${notification.consumer.route-backoff-ms:1000}") long routeBackoffMillis) {
 
+    this.routeBackoffMillis = Math.max(1L, routeBackoffMillis);
     this.notificationIngestionUseCase = notificationIngestionUseCase;
+    this.keyOrderedDispatcher = keyOrderedDispatcher;
+    this.retryTopicRouter = retryTopicRouter;
     this.retryAttemptCounter = Counter.builder(
             "notification_consumer_retry_attempt")
         .tag("binding", "notification-in-0")
@@ -43,6 +75,22 @@ public class NotificationConsumer {
         .tag("binding", "notification-in-0")
         .description("정상 처리된 알림 수 ")
         .register(meterRegistry);
+    this.finalFailureCounter = Counter.builder("notification_consumer_final_failure")
+        .tag("binding", "notification-in-0")
+        .description("모든 재시도 이후에도 실패한 알림 수")
+        .register(meterRegistry);
+    this.batchFailureCounter = Counter.builder("notification_consumer_batch_failure")
+        .tag("binding", "notificationBatch-in-0")
+        .description("일괄 처리 중 저장에 실패한 알림 수")
+        .register(meterRegistry);
+    this.routeFailureCounter = Counter.builder("notification_consumer_route_failure")
+        .tag("binding", "notification-in-0")
+        .description("재시도 토픽 이동에 실패해 lane 에서 다시 이동한 횟수")
+        .register(meterRegistry);
+    this.batchSizeSummary = DistributionSummary.builder("notification_consumer_batch_size")
+        .tag("binding", "notificationBatch-in-0")
+        .description("poll 1회당 수신한 알림 수")
+        .register(meterRegistry);
   }
 
   @Bean("notification")
@@ -50,6 +98,8 @@ public class NotificationConsumer {
     return message -> {
       Object rawKey = message.getHeaders().get(KafkaHeaders.RECEIVED_KEY);
       NotificationEvent event = message.getPayload();
+      Acknowledgment acknowledgment = message.getHeaders()
+          .get(KafkaHeaders.ACKNOWLEDGMENT, Acknowledgment.class);
 
       int attempt = RetryAttemptUtils.getAttemptValue(message);
 
@@ -60,30 +110,176 @@ public class NotificationConsumer {
       }
 
       /*key와 receiverId가 불일치하는 경우*/
-      if (rawKey != null && !rawKey.equals(event.getReceiverUserId())) {
-        log.warn("key 불일치 - key: {}, receiverId: {}", rawKey, event.getReceiverUserId());
+      if (isKeyMismatch(rawKey, event)) {
+        acknowledge(acknowledgment);
         return;
       }
 
-      try {
-        notificationIngestionUseCase.ingest(
-            new NotificationCommand(
-                event.getEventId(),
-                event.getReceiverUserId(),
-                event.getNotificationType(),
-                event.getMetadata(),
-                event.getOccurredAt(),
-                event.getActorProfile()
-            )
-        );
-        consumeSuccessCounter.increment();
-        KafkaConsumerLogUtils.logSuccess(TOPIC, event.getEventId());
-
-      } catch (Exception e) {
-        logFailure(TOPIC, event.getEventId(), e);
-        throw e;
+      /*manual ack 모드인 경우 receiver 단위 lane으로 위임*/
+      if (acknowledgment != null) {
+        keyOrderedDispatcher.dispatch(event.getReceiverUserId(), () -> {
+          if (ingestOrRoute(rawKey, event, attempt)) {
+            acknowledgment.acknowledge();
+          }
+        });
+        return;
       }
+
+      ingest(event);
     };
   }
-}
 
+  /**
+   * 일괄 처리 consumer
+   * <p>
+   * batch-mode 바인딩에서 poll 단위로 수신한 알림을 한 번의 bulk insert로 저장한다. 레코드 단위 실패는 batch 전체를 재시도하지
+   * 않고 실패 건만 재시도 토픽으로 이동한다. 저장 자체나 재시도 토픽 이동이 실패하면 일괄 처리 에러 핸들러가 레코드 단위로 이동한다.
+   *
+   * @return
+   */
+  @Bean("notificationBatch")
+  public Consumer<Message<List<NotificationEvent>>> notificationBatchEventConsumer() {
+    return message -> {
+      List<NotificationEvent> events = message.getPayload();
+      List<?> rawKeys = message.getHeaders().get(KafkaHeaders.RECEIVED_KEY, List.class);
+
+      batchSizeSummary.record(events.size());
+
+      Map<String, NotificationEvent> eventById = new HashMap<>();
+      List<NotificationCommand> commands = new ArrayList<>(events.size());
+      for (int i = 0; i < events.size(); i++) {
+        NotificationEvent event = events.get(i);
+        Object rawKey = rawKeys != null && i < rawKeys.size() ? rawKeys.get(i) : null;
+
+        /*key와 receiverId가 불일치하는 경우*/
+        if (isKeyMismatch(rawKey, event)) {
+          continue;
+        }
+        eventById.put(event.getEventId(), event);
+        commands.add(event.toCommand());
+      }
+
+      if (commands.isEmpty()) {
+        return;
+      }
+
+      NotificationBatchResult result = notificationIngestionUseCase.ingestBatch(commands);
+
+      consumeSuccessCounter.increment(result.succeededEventIds().size());
+      result.failures().forEach((eventId, reason) -> {
+        batchFailureCounter.increment();
+        KafkaConsumerLogUtils.logBatchFailure(TOPIC, eventId, reason);
+        routeBatchFailure(eventById.get(eventId), reason);
+      });
+
+      KafkaConsumerLogUtils.logBatchSuccess(TOPIC, commands.size(),
+          result.succeededEventIds().size(), result.duplicatedEventIds().size(),
+          result.failures().size());
+    };
+  }
+
+  /**
+   * 알림 저장
+   *
+   * @param event
+   */
+  private void ingest(NotificationEvent event) {
+    try {
+      notificationIngestionUseCase.ingest(event.toCommand());
+      consumeSuccessCounter.increment();
+      KafkaConsumerLogUtils.logSuccess(TOPIC, event.getEventId());
+
+    } catch (Exception e) {
+      logFailure(TOPIC, event.getEventId(), e);
+      throw e;
+    }
+  }
+
+  /**
+   * lane 내에서 알림 저장, 실패 시 재시도 토픽으로 이동
+   * <p>
+   * lane에서 실패한 레코드는 binder의 에러 핸들러를 거치지 않으므로 직접 재시도 토픽으로 이동한다. 대기는 재시도 토픽에서 이루어지므로
+   * lane과 원본 파티션은 계속 처리된다.
+   * <p>
+   * 재시도 토픽 이동에 실패하면 ack 하지 않은 offset 이 파티션의 commit 을 막으므로, 이동에 성공할 때까지 같은 lane 에서 backoff
+   * 후 다시 이동한다. asyncAcks 에서는 nack 을 사용할 수 없어 lane 에서 직접 대기하며, 같은 key 의 이후 레코드는 순서대로 뒤에서
+   * 기다린다.
+   *
+   * @param rawKey
+   * @param event
+   * @param attempt
+   * @return ack 가능 여부, 이동을 기다리던 중 lane 이 종료되면 false
+   */
+  private boolean ingestOrRoute(Object rawKey, NotificationEvent event, int attempt) {
+    try {
+      ingest(event);
+      return true;
+
+    } catch (Exception e) {
+      long backoffMillis = routeBackoffMillis;
+      while (true) {
+        try {
+          String destination = retryTopicRouter.route(
+              KafkaErrorHandlerConfig.NOTIFICATION_TOPIC, rawKey, event, attempt, e);
+
+          if (RetryTier.isDeadLetterTopic(destination)) {
+            finalFailureCounter.increment();
+            KafkaConsumerLogUtils.logDeadLetter(TOPIC, event.getEventId(), event, e);
+          }
+          return true;
+
+        } catch (Exception routeException) {
+          routeFailureCounter.increment();
+          log.error("[{}] 재시도 토픽 이동 실패, {}ms 후 다시 이동: eventId={}", TOPIC, backoffMillis,
+              event.getEventId(), routeException);
+        }
+
+        try {
+          Thread.sleep(backoffMillis);
+        } catch (InterruptedException interrupted) {
+          /*ack 하지 않으면 이후 offset 도 commit 되지 않아 재시작 시 재수신된다*/
+          Thread.currentThread().interrupt();
+          return false;
+        }
+        backoffMillis = Math.min(backoffMillis * 2, MAX_ROUTE_BACKOFF_MILLIS);
+      }
+    }
+  }
+
+  /**
+   * 일괄 처리 중 실패한 레코드를 재시도 토픽으로 이동
+   * <p>
+   * 이동에 실패하면 예외를 던져 batch 전체를 일괄 처리 에러 핸들러로 넘긴다.
+   *
+   * @param event
+   * @param reason
+   */
+  private void routeBatchFailure(NotificationEvent event, String reason) {
+    if (event == null) {
+      return;
+    }
+    retryTopicRouter.route(KafkaErrorHandlerConfig.NOTIFICATION_TOPIC,
+        event.getReceiverUserId(), event, 1, new IllegalStateException(reason));
+  }
+
+  private static void acknowledge(Acknowledgment acknowledgment) {
+    if (acknowledgment != null) {
+      acknowledgment.acknowledge();
+    }
+  }
+
+  /**
+   * key와 receiverId 불일치 여부 검증
+   *
+   * @param rawKey
+   * @param event
+   * @return
+   */
+  private static boolean isKeyMismatch(Object rawKey, NotificationEvent event) {
+    if (rawKey != null && !rawKey.equals(event.getReceiverUserId())) {
+      log.warn("key 불일치 - key: {}, receiverId: {}", rawKey, event.getReceiverUserId());
+      return true;
+    }
+    return false;
+  }
+}
@@ -0,0 +1,53 @@
+package com.threadly.notification.adapter.kafka.notification;
+
+import com.threadly.notification.adapter.kafka.notification.dto.NotificationEvent;
+import com.threadly.notification.adapter.kafka.utils.RetryAttemptUtils;
+import com.threadly.notification.core.port.notification.in.NotificationDeadLetterUseCase;
+import com.threadly.notification.core.port.notification.in.dto.NotificationDeadLetterCommand;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 DLT consumer
+ * <p>
+ * 모든 재시도를 소진한 알림을 재처리할 수 있도록 실패 위치와 사유를 함께 보관한다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class NotificationDeadLetterConsumer {
+
+  private final NotificationDeadLetterUseCase notificationDeadLetterUseCase;
+
+  @Bean("notificationDeadLetter")
+  public Consumer<Message<NotificationEvent>> notificationDeadLetterConsumer() {
+    return message -> {
+      NotificationEvent event = message.getPayload();
+      MessageHeaders headers = message.getHeaders();
+
+      /*DLT로 이동할 때 attempt 는 다음 시도 번호로 기록된다*/
+      int attempts = Math.max(1, RetryAttemptUtils.getAttemptValue(message) - 1);
+
+      notificationDeadLetterUseCase.record(
+          new NotificationDeadLetterCommand(
+              event.toCommand(),
+              headers.get(KafkaHeaders.RECEIVED_TOPIC, String.class),
+              headers.get(KafkaHeaders.RECEIVED_PARTITION, Integer.class),
+              headers.get(KafkaHeaders.OFFSET, Long.class),
+              RetryAttemptUtils.getStringHeader(message, RetryAttemptUtils.ORIGINAL_TOPIC_HEADER),
+              RetryAttemptUtils.getStringHeader(message,
+                  RetryAttemptUtils.EXCEPTION_MESSAGE_HEADER),
+              attempts
+          )
+      );
+
+      log.info("최종 실패 알림 보관: eventId={}, attempts={}", event.getEventId(), attempts);
+    };
+  }
+}
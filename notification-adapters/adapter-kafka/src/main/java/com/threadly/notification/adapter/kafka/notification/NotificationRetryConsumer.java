@@ -0,0 +1,108 @@
+package com.threadly.notification.adapter.kafka.notification;
+
+import com.threadly.notification.adapter.kafka.notification.dto.NotificationEvent;
+import com.threadly.notification.adapter.kafka.retry.RetryTier;
+import com.threadly.notification.adapter.kafka.retry.RetryTopicRouter;
+import com.threadly.notification.adapter.kafka.utils.KafkaConsumerLogUtils;
+import com.threadly.notification.adapter.kafka.utils.RetryAttemptUtils;
+import com.threadly.notification.core.port.notification.in.NotificationIngestionUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 재시도 토픽 consumer
+ * <p>
+ * 단계별 재시도 토픽은 모든 레코드의 대기 시간이 같으므로 파티션 내 처리 가능 시각이 순서대로 증가한다. 처리 가능 시각 전인 레코드는
+ * nack 으로 파티션을 남은 시간만큼 멈춘 뒤 다시 수신한다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class NotificationRetryConsumer {
+
+  private final NotificationIngestionUseCase notificationIngestionUseCase;
+  private final RetryTopicRouter retryTopicRouter;
+  private final MeterRegistry meterRegistry;
+
+  private static final String TOPIC = "Notification";
+
+  @Bean("notificationRetry1s")
+  public Consumer<Message<NotificationEvent>> notificationRetry1sConsumer() {
+    return retryConsumer(RetryTier.ONE_SECOND);
+  }
+
+  @Bean("notificationRetry10s")
+  public Consumer<Message<NotificationEvent>> notificationRetry10sConsumer() {
+    return retryConsumer(RetryTier.TEN_SECONDS);
+  }
+
+  @Bean("notificationRetry60s")
+  public Consumer<Message<NotificationEvent>> notificationRetry60sConsumer() {
+    return retryConsumer(RetryTier.SIXTY_SECONDS);
+  }
+
+  /**
+   * 재시도 단계별 consumer 생성
+   *
+   * @param tier
+   * @return
+   */
+  Consumer<Message<NotificationEvent>> retryConsumer(RetryTier tier) {
+    String binding = "notificationRetry" + tier.getSuffix() + "-in-0";
+    Counter retryAttemptCounter = Counter.builder("notification_consumer_retry_attempt")
+        .tag("binding", binding)
+        .description("NotificationConsumer 재시도 횟수")
+        .register(meterRegistry);
+    Counter finalFailureCounter = Counter.builder("notification_consumer_final_failure")
+        .tag("binding", binding)
+        .description("모든 재시도 이후에도 실패한 알림 수")
+        .register(meterRegistry);
+
+    return message -> {
+      NotificationEvent event = message.getPayload();
+      Acknowledgment acknowledgment = message.getHeaders()
+          .get(KafkaHeaders.ACKNOWLEDGMENT, Acknowledgment.class);
+
+      /*처리 가능 시각 전이면 남은 시간만큼 파티션을 멈춘 뒤 재수신*/
+      long remainingDelay = RetryAttemptUtils.getRemainingDelayMillis(message);
+      if (remainingDelay > 0 && acknowledgment != null) {
+        acknowledgment.nack(Duration.ofMillis(remainingDelay));
+        return;
+      }
+
+      int attempt = RetryAttemptUtils.getAttemptValue(message);
+      retryAttemptCounter.increment();
+      KafkaConsumerLogUtils.logRetry(TOPIC, attempt, event.getEventId());
+
+      try {
+        notificationIngestionUseCase.ingest(event.toCommand());
+        KafkaConsumerLogUtils.logSuccess(TOPIC, event.getEventId());
+
+      } catch (Exception e) {
+        KafkaConsumerLogUtils.logFailure(TOPIC, event.getEventId(), e);
+
+        /*이동에 실패하면 예외가 전파되어 ack 되지 않는다*/
+        String destination = retryTopicRouter.route(KafkaErrorHandlerConfig.NOTIFICATION_TOPIC,
+            message.getHeaders().get(KafkaHeaders.RECEIVED_KEY), event, attempt, e);
+
+        if (RetryTier.isDeadLetterTopic(destination)) {
+          finalFailureCounter.increment();
+          KafkaConsumerLogUtils.logDeadLetter(TOPIC, event.getEventId(), event, e);
+        }
+      }
+
+      if (acknowledgment != null) {
+        acknowledgment.acknowledge();
+      }
+    };
+  }
+}
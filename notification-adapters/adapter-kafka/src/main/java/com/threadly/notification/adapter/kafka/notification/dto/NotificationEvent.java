@@ -1,11 +1,11 @@
 package com.threadly.notification.adapter.kafka.notification.dto;
 
-import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.threadly.notification.core.domain.user.ActorProfile;
 import com.threadly.notification.core.domain.notification.NotificationType;
+import com.threadly.notification.core.domain.notification.metadata.NotificationMetaData;
+import com.threadly.notification.core.port.notification.in.NotificationCommand;
 import java.time.LocalDateTime;
-import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -13,6 +13,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonDeserialize(using = NotificationEventDeserializer.class)
 public class NotificationEvent {
 
   /*eventId*/
@@ -31,16 +32,15 @@ public class NotificationEvent {
   private LocalDateTime occurredAt;
 
   /*메타 데이터*/
-  private Map<String, Object> metadata;
+  private NotificationMetaData metadata;
 
-  @JsonCreator
   public NotificationEvent(
-      @JsonProperty("eventId") String eventId,
-      @JsonProperty("receiverUserId") String receiverUserId,
-      @JsonProperty("notificationType") NotificationType notificationType,
-      @JsonProperty("occurredAt") LocalDateTime occurredAt,
-      @JsonProperty("actorProfile") ActorProfile actorProfile,
-      @JsonProperty("metadata") Map<String, Object> metadata
+      String eventId,
+      String receiverUserId,
+      NotificationType notificationType,
+      LocalDateTime occurredAt,
+      ActorProfile actorProfile,
+      NotificationMetaData metadata
   ) {
     this.eventId = eventId;
     this.receiverUserId = receiverUserId;
@@ -49,4 +49,20 @@ public class NotificationEvent {
     this.actorProfile = actorProfile;
     this.metadata = metadata;
   }
-}
\ No newline at end of file
+
+  /**
+   * event -> command
+   *
+   * @return
+   */
+  public NotificationCommand toCommand() {
+    return new NotificationCommand(
+        this.eventId,
+        this.receiverUserId,
+        this.notificationType,
+        this.metadata,
+        this.occurredAt,
+        this.actorProfile
+    );
+  }
+}
@@ -0,0 +1,95 @@
+package com.threadly.notification.adapter.kafka.notification.dto;
+
+import com.threadly.notification.adapter.kafka.serde.AvroCodec;
+import com.threadly.notification.core.domain.notification.NotificationType;
+import com.threadly.notification.core.domain.user.ActorProfile;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+
+/**
+ * NotificationEvent Avro 코덱
+ * <p>
+ * 스키마: NotificationEvent.avsc
+ */
+public class NotificationEventAvroCodec extends AvroCodec<NotificationEvent> {
+
+  private static final long MICROS_PER_SECOND = 1_000_000L;
+
+  private final Schema notificationTypeSchema = fieldSchema("notificationType");
+  private final Schema actorProfileSchema = fieldSchema("actorProfile");
+  private final Schema metadataSchema = fieldSchema("metadata");
+
+  public NotificationEventAvroCodec() {
+    super(NotificationEvent.class);
+  }
+
+  @Override
+  protected GenericRecord toRecord(NotificationEvent event) {
+    GenericRecord record = new GenericData.Record(getSchema());
+    record.put("eventId", event.getEventId());
+    record.put("receiverUserId", event.getReceiverUserId());
+    record.put("notificationType",
+        new GenericData.EnumSymbol(notificationTypeSchema, event.getNotificationType().name()));
+
+    ActorProfile actorProfile = event.getActorProfile();
+    if (actorProfile != null) {
+      GenericRecord actorRecord = new GenericData.Record(actorProfileSchema);
+      actorRecord.put("userId", actorProfile.getUserId());
+      actorRecord.put("nickname", actorProfile.getNickname());
+      actorRecord.put("profileImageUrl", actorProfile.getProfileImageUrl());
+      record.put("actorProfile", actorRecord);
+    }
+
+    LocalDateTime occurredAt = event.getOccurredAt();
+    if (occurredAt != null) {
+      record.put("occurredAt", occurredAt.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND
+          + occurredAt.getNano() / 1_000);
+    }
+
+    if (event.getMetadata() != null) {
+      NotificationMetadataFields fields = NotificationMetadataFields.from(event.getMetadata());
+      GenericRecord metadataRecord = new GenericData.Record(metadataSchema);
+      metadataRecord.put("postId", fields.postId);
+      metadataRecord.put("commentId", fields.commentId);
+      metadataRecord.put("commentExcerpt", fields.commentExcerpt);
+      record.put("metadata", metadataRecord);
+    }
+    return record;
+  }
+
+  @Override
+  protected NotificationEvent fromRecord(GenericRecord record) {
+    NotificationEvent event = new NotificationEvent();
+    event.setEventId(asString(record.get("eventId")));
+    event.setReceiverUserId(asString(record.get("receiverUserId")));
+    event.setNotificationType(NotificationType.valueOf(asString(record.get("notificationType"))));
+
+    if (record.get("actorProfile") instanceof GenericRecord actorRecord) {
+      event.setActorProfile(new ActorProfile(
+          asString(actorRecord.get("userId")),
+          asString(actorRecord.get("nickname")),
+          asString(actorRecord.get("profileImageUrl"))
+      ));
+    }
+
+    if (record.get("occurredAt") instanceof Long micros) {
+      event.setOccurredAt(LocalDateTime.ofEpochSecond(
+          Math.floorDiv(micros, MICROS_PER_SECOND),
+          (int) Math.floorMod(micros, MICROS_PER_SECOND) * 1_000,
+          ZoneOffset.UTC
+      ));
+    }
+
+    if (record.get("metadata") instanceof GenericRecord metadataRecord) {
+      NotificationMetadataFields fields = new NotificationMetadataFields();
+      fields.postId = asString(metadataRecord.get("postId"));
+      fields.commentId = asString(metadataRecord.get("commentId"));
+      fields.commentExcerpt = asString(metadataRecord.get("commentExcerpt"));
+      event.setMetadata(fields.toTypeMeta(event.getNotificationType()));
+    }
+    return event;
+  }
+}
@@ -0,0 +1,86 @@
+package com.threadly.notification.adapter.kafka.notification.dto;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.threadly.notification.core.domain.notification.NotificationType;
+import com.threadly.notification.core.domain.notification.metadata.NotificationMetaData;
+import com.threadly.notification.core.domain.user.ActorProfile;
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * NotificationEvent 역직렬화기
+ * <p>
+ * metadata 를 Map 으로 읽은 뒤 타입별 클래스로 다시 변환하지 않고, 토큰 스트림을 한 번만 읽으며 notificationType 에 맞는
+ * metadata 를 바로 생성한다. metadata 가 notificationType 보다 먼저 와도 되도록 필드 값을 모아 두었다가 마지막에 생성한다.
+ */
+public class NotificationEventDeserializer extends JsonDeserializer<NotificationEvent> {
+
+  @Override
+  public NotificationEvent deserialize(JsonParser p, DeserializationContext ctxt)
+      throws IOException {
+    if (p.currentToken() != JsonToken.START_OBJECT) {
+      return (NotificationEvent) ctxt.handleUnexpectedToken(NotificationEvent.class, p);
+    }
+
+    NotificationEvent event = new NotificationEvent();
+    NotificationMetadataFields metadata = null;
+
+    for (String field = p.nextFieldName(); field != null; field = p.nextFieldName()) {
+      JsonToken token = p.nextToken();
+      if (token == JsonToken.VALUE_NULL) {
+        continue;
+      }
+      switch (field) {
+        case "eventId" -> event.setEventId(p.getValueAsString());
+        case "receiverUserId" -> event.setReceiverUserId(p.getValueAsString());
+        case "notificationType" ->
+            event.setNotificationType(ctxt.readValue(p, NotificationType.class));
+        case "actorProfile" -> event.setActorProfile(ctxt.readValue(p, ActorProfile.class));
+        case "occurredAt" -> event.setOccurredAt(ctxt.readValue(p, LocalDateTime.class));
+        case "metadata" -> metadata = readMetadataFields(p, ctxt);
+        default -> p.skipChildren();
+      }
+    }
+
+    if (metadata != null && event.getNotificationType() != null) {
+      event.setMetadata(metadata.toTypeMeta(event.getNotificationType()));
+    }
+    return event;
+  }
+
+  /**
+   * metadata 객체의 필드 값 수집
+   * <p>
+   * 알 수 없는 필드(ex. type)는 건너뛴다.
+   *
+   * @param p
+   * @param ctxt
+   * @return
+   * @throws IOException
+   */
+  private NotificationMetadataFields readMetadataFields(JsonParser p,
+      DeserializationContext ctxt) throws IOException {
+    if (p.currentToken() != JsonToken.START_OBJECT) {
+      return (NotificationMetadataFields) ctxt.handleUnexpectedToken(NotificationMetaData.class,
+          p);
+    }
+
+    NotificationMetadataFields fields = new NotificationMetadataFields();
+    for (String field = p.nextFieldName(); field != null; field = p.nextFieldName()) {
+      JsonToken token = p.nextToken();
+      if (token == JsonToken.VALUE_NULL) {
+        continue;
+      }
+      switch (field) {
+        case "postId" -> fields.postId = p.getValueAsString();
+        case "commentId" -> fields.commentId = p.getValueAsString();
+        case "commentExcerpt" -> fields.commentExcerpt = p.getValueAsString();
+        default -> p.skipChildren();
+      }
+    }
+    return fields;
+  }
+}
@@ -0,0 +1,16 @@
+package com.threadly.notification.adapter.kafka.notification.dto;
+
+import com.threadly.notification.adapter.kafka.serde.ContentTypeDeserializer;
+
+/**
+ * notification 토픽 value 역직렬화기
+ * <p>
+ * content-type header 가 Avro 이면 NotificationEvent.avsc 로, 아니면 JSON 으로 읽는다.
+ */
+public class NotificationEventKafkaDeserializer extends
+    ContentTypeDeserializer<NotificationEvent> {
+
+  public NotificationEventKafkaDeserializer() {
+    super(new NotificationEventAvroCodec());
+  }
+}
@@ -0,0 +1,62 @@
+package com.threadly.notification.adapter.kafka.notification.dto;
+
+import com.threadly.notification.core.domain.notification.NotificationType;
+import com.threadly.notification.core.domain.notification.metadata.CommentLikeMeta;
+import com.threadly.notification.core.domain.notification.metadata.FollowAcceptMeta;
+import com.threadly.notification.core.domain.notification.metadata.FollowMeta;
+import com.threadly.notification.core.domain.notification.metadata.FollowRequestMeta;
+import com.threadly.notification.core.domain.notification.metadata.NotificationMetaData;
+import com.threadly.notification.core.domain.notification.metadata.PostCommentMeta;
+import com.threadly.notification.core.domain.notification.metadata.PostLikeMeta;
+
+/**
+ * metadata 필드 값 모음
+ * <p>
+ * wire 포맷(JSON, Avro)에서는 metadata 가 타입 구분 없이 필드만 담고 있으므로, 값을 모아 두었다가 notificationType 에 맞는
+ * metadata 로 생성한다.
+ */
+final class NotificationMetadataFields {
+
+  String postId;
+  String commentId;
+  String commentExcerpt;
+
+  /**
+   * metadata -> 필드 값 모음
+   *
+   * @param metadata
+   * @return
+   */
+  static NotificationMetadataFields from(NotificationMetaData metadata) {
+    NotificationMetadataFields fields = new NotificationMetadataFields();
+    if (metadata instanceof PostLikeMeta meta) {
+      fields.postId = meta.postId();
+    } else if (metadata instanceof PostCommentMeta meta) {
+      fields.postId = meta.postId();
+      fields.commentId = meta.commentId();
+      fields.commentExcerpt = meta.commentExcerpt();
+    } else if (metadata instanceof CommentLikeMeta meta) {
+      fields.postId = meta.postId();
+      fields.commentId = meta.commentId();
+      fields.commentExcerpt = meta.commentExcerpt();
+    }
+    return fields;
+  }
+
+  /**
+   * 주어진 type 에 해당하는 metadata 생성
+   *
+   * @param type
+   * @return
+   */
+  NotificationMetaData toTypeMeta(NotificationType type) {
+    return switch (type) {
+      case POST_LIKE -> new PostLikeMeta(postId);
+      case COMMENT_ADDED -> new PostCommentMeta(postId, commentId, commentExcerpt);
+      case COMMENT_LIKE -> new CommentLikeMeta(postId, commentId, commentExcerpt);
+      case FOLLOW_REQUEST -> new FollowRequestMeta();
+      case FOLLOW_ACCEPT -> new FollowAcceptMeta();
+      case FOLLOW -> new FollowMeta();
+    };
+  }
+}
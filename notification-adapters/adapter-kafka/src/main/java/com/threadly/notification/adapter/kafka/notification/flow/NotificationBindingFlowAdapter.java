@@ -0,0 +1,53 @@
+package com.threadly.notification.adapter.kafka.notification.flow;
+
+import com.threadly.notification.core.port.notification.out.NotificationIngestionFlowPort;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.stream.binding.BindingsLifecycleController;
+import org.springframework.cloud.stream.binding.BindingsLifecycleController.State;
+import org.springframework.stereotype.Component;
+
+/**
+ * 푸시 executor 로 이어지는 바인딩 pause/resume
+ * <p>
+ * pause 된 container 는 poll 은 계속하되 레코드를 가져오지 않으므로 rebalance 없이 수신만 멈춘다. 단건/배치 바인딩이 모두
+ * 같은 푸시 executor 를 채우므로 설정된 바인딩을 함께 멈추고 재개한다.
+ */
+@Slf4j
+@Component
+public class NotificationBindingFlowAdapter implements NotificationIngestionFlowPort {
+
+  private final BindingsLifecycleController bindingsLifecycleController;
+
+  /*backpressure 대상 바인딩*/
+  private final List<String> bindings;
+
+  public NotificationBindingFlowAdapter(BindingsLifecycleController bindingsLifecycleController,
+      @Value("${notification.push.backpressure.bindings:notification-in-0,notificationBatch-in-0}")
+      String[] bindings) {
+    this.bindingsLifecycleController = bindingsLifecycleController;
+    this.bindings = List.of(bindings);
+  }
+
+  @Override
+  public void pause() {
+    changeState(State.PAUSED);
+  }
+
+  @Override
+  public void resume() {
+    changeState(State.RESUMED);
+  }
+
+  /*한 바인딩의 실패가 나머지 바인딩의 상태 변경을 막지 않도록 개별 처리*/
+  private void changeState(State state) {
+    for (String binding : bindings) {
+      try {
+        bindingsLifecycleController.changeState(binding, state);
+      } catch (RuntimeException e) {
+        log.error("바인딩 상태 변경 실패: binding={}, state={}", binding, state, e);
+      }
+    }
+  }
+}
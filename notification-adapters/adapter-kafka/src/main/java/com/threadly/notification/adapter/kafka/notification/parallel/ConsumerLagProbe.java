@@ -0,0 +1,83 @@
+package com.threadly.notification.adapter.kafka.notification.parallel;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.MetricName;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * notification consumer 의 파티션별 lag 조회
+ * <p>
+ * lag = 파티션의 마지막 offset - consumer 의 현재 position. asyncAcks 에서는 commit offset 이 처리 완료 순서에 따라 늦게
+ * 올라가므로 group 의 commit offset 대신 consumer 가 보고하는 records-lag 지표를 사용한다. 이 노드의 consumer 에 할당된
+ * 파티션만 포함되며, 아직 fetch 하지 않아 lag 을 모르는 파티션은 제외한다.
+ */
+@Component
+@Slf4j
+public class ConsumerLagProbe {
+
+  private static final String RECORDS_LAG_METRIC = "records-lag";
+  private static final String FETCH_MANAGER_GROUP = "consumer-fetch-manager-metrics";
+
+  private final String topic;
+  private final Set<MessageListenerContainer> containers = ConcurrentHashMap.newKeySet();
+
+  public ConsumerLagProbe(
+      @Value("${spring.cloud.stream.bindings.notification-in-0.destination:notification}") String topic) {
+    this.topic = topic;
+  }
+
+  /**
+   * lag 을 조회할 listener container 등록
+   *
+   * @param destination 바인딩의 토픽
+   * @param container
+   */
+  public void register(String destination, MessageListenerContainer container) {
+    if (topic.equals(destination)) {
+      containers.add(container);
+    }
+  }
+
+  /**
+   * 파티션별 lag 조회
+   *
+   * @return partition -> lag, 조회 실패 시 빈 map
+   */
+  public Map<Integer, Long> partitionLag() {
+    Map<Integer, Long> lag = new HashMap<>();
+    try {
+      for (MessageListenerContainer container : containers) {
+        if (!container.isRunning()) {
+          continue;
+        }
+        container.metrics().values().forEach(metrics -> metrics.forEach((name, metric) -> {
+          if (!isRecordsLag(name)) {
+            return;
+          }
+          Object value = metric.metricValue();
+          if (value instanceof Number number && !Double.isNaN(number.doubleValue())) {
+            lag.merge(Integer.parseInt(name.tags().get("partition")),
+                Math.max(0L, number.longValue()), Math::max);
+          }
+        }));
+      }
+      return lag;
+    } catch (RuntimeException e) {
+      log.warn("consumer lag 조회 실패: topic={}, error={}", topic, e.getMessage());
+      return Map.of();
+    }
+  }
+
+  private boolean isRecordsLag(MetricName name) {
+    return RECORDS_LAG_METRIC.equals(name.name())
+        && FETCH_MANAGER_GROUP.equals(name.group())
+        && topic.equals(name.tags().get("topic"))
+        && name.tags().containsKey("partition");
+  }
+}
@@ -0,0 +1,243 @@
+package com.threadly.notification.adapter.kafka.notification.parallel;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * key 기준 순서 보장 병렬 처리기
+ * <p>
+ * 같은 key(receiverUserId)는 항상 같은 lane에서 순차 처리되고, 서로 다른 key는 lane 간에 병렬로 처리된다. lane 큐가 가득 차면
+ * dispatch 호출 스레드(Kafka consumer 스레드)를 block 하여 poll 속도를 자연스럽게 늦춘다.
+ * <p>
+ * lane 은 maxLanes 개까지 미리 만들어 두고 그중 activeLanes 개만 사용한다. 사용하지 않는 lane 의 스레드는 keep-alive 이후
+ * 종료된다. 처리 중인 작업이 있는 key 는 그 작업이 모두 끝날 때까지 적재된 lane 에 고정하므로, lane 수를 바꿔도 적재를 멈추거나
+ * 전체 작업이 비워지기를 기다리지 않는다. 새 매핑은 처리 중인 작업이 없는 key 부터 적용된다.
+ */
+@Component
+@Slf4j
+public class KeyOrderedDispatcher {
+
+  private final ThreadPoolExecutor[] lanes;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final Timer processingTimer;
+
+  /*처리 중인 작업이 있는 key 와 적재된 lane*/
+  private final ConcurrentHashMap<String, KeyPin> pins = new ConcurrentHashMap<>();
+  private volatile int activeLanes;
+
+  private static final long SHUTDOWN_TIMEOUT_SECONDS = 30L;
+  private static final long LANE_KEEP_ALIVE_SECONDS = 60L;
+  private static final String NULL_KEY = "";
+
+  public KeyOrderedDispatcher(MeterRegistry meterRegistry, int laneCount, int laneCapacity) {
+    this(meterRegistry, laneCount, laneCount, laneCapacity);
+  }
+
+  @Autowired
+  public KeyOrderedDispatcher(MeterRegistry meterRegistry,
+      @Value("${notification.consumer.parallel.lanes:8}") int laneCount,
+      @Value("${notification.consumer.parallel.max-lanes:32}") int maxLanes,
+      @Value("${notification.consumer.parallel.lane-capacity:256}") int laneCapacity) {
+
+    int laneLimit = Math.max(laneCount, maxLanes);
+    this.lanes = new ThreadPoolExecutor[laneLimit];
+    for (int i = 0; i < laneLimit; i++) {
+      lanes[i] = newLane(i, laneCapacity);
+    }
+    this.activeLanes = laneCount;
+
+    Gauge.builder("notification_consumer_in_flight", inFlight, AtomicInteger::get)
+        .tag("binding", "notification-in-0")
+        .description("lane에 적재되었지만 처리가 끝나지 않은 알림 수")
+        .register(meterRegistry);
+    this.processingTimer = Timer.builder("notification_consumer_lane_processing")
+        .tag("binding", "notification-in-0")
+        .description("lane 내 알림 처리 시간")
+        .register(meterRegistry);
+    Gauge.builder("notification_consumer_active_lanes", this, KeyOrderedDispatcher::activeLanes)
+        .tag("binding", "notification-in-0")
+        .description("현재 사용 중인 lane 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 주어진 key에 해당하는 lane에 작업 적재
+   * <p>
+   * key 에 처리 중인 작업이 있으면 그 작업이 적재된 lane 에, 없으면 현재 lane 수 기준 lane 에 적재한다.
+   *
+   * @param key
+   * @param task
+   */
+  public void dispatch(String key, Runnable task) {
+    String pinKey = key == null ? NULL_KEY : key;
+    KeyPin pin = pins.compute(pinKey, (k, current) -> current != null
+        ? current.retain() : new KeyPin(laneIndexOf(k)));
+
+    inFlight.incrementAndGet();
+    try {
+      lanes[pin.lane].execute(() -> {
+        try {
+          processingTimer.record(task);
+        } finally {
+          release(pinKey);
+        }
+      });
+    } catch (RuntimeException e) {
+      release(pinKey);
+      throw e;
+    }
+  }
+
+  /**
+   * 사용할 lane 수 변경
+   * <p>
+   * 처리 중인 작업을 기다리지 않고 바로 변경한다. 처리 중인 작업이 있는 key 는 작업이 모두 끝난 뒤 새 lane 으로 옮겨진다.
+   *
+   * @param target 변경할 lane 수(1 ~ maxLanes 로 보정)
+   * @return 변경 여부
+   */
+  public boolean resize(int target) {
+    int bounded = Math.max(1, Math.min(target, lanes.length));
+    if (bounded == activeLanes) {
+      return false;
+    }
+    log.info("lane 수 변경: {} -> {}, 고정된 key 수={}", activeLanes, bounded, pins.size());
+    activeLanes = bounded;
+    return true;
+  }
+
+  /**
+   * 현재 사용 중인 lane 수
+   *
+   * @return
+   */
+  public int activeLanes() {
+    return activeLanes;
+  }
+
+  /**
+   * 사용할 수 있는 최대 lane 수
+   *
+   * @return
+   */
+  public int maxLanes() {
+    return lanes.length;
+  }
+
+  /**
+   * 누적 처리 건수
+   *
+   * @return
+   */
+  public long processedCount() {
+    return processingTimer.count();
+  }
+
+  /**
+   * 누적 처리 시간(ms)
+   *
+   * @return
+   */
+  public double processingTimeMillis() {
+    return processingTimer.totalTime(TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * 처리 중인 작업 수
+   *
+   * @return
+   */
+  public int inFlight() {
+    return inFlight.get();
+  }
+
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    for (ThreadPoolExecutor lane : lanes) {
+      lane.shutdown();
+    }
+    for (ThreadPoolExecutor lane : lanes) {
+      if (!lane.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        log.warn("lane 종료 대기 시간 초과: 남은 작업 수={}", lane.getQueue().size());
+      }
+    }
+  }
+
+  private void release(String pinKey) {
+    inFlight.decrementAndGet();
+    pins.computeIfPresent(pinKey, (k, current) -> current.release() == 0 ? null : current);
+  }
+
+  private int laneIndexOf(String key) {
+    return Math.floorMod(key.hashCode(), activeLanes);
+  }
+
+  private static ThreadPoolExecutor newLane(int index, int capacity) {
+    AtomicInteger sequence = new AtomicInteger();
+    ThreadPoolExecutor lane = new ThreadPoolExecutor(
+        1, 1, LANE_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(capacity),
+        runnable -> {
+          Thread thread = new Thread(runnable,
+              "notification-lane-" + index + "-" + sequence.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        BLOCK_WHEN_FULL
+    );
+    lane.allowCoreThreadTimeOut(true);
+    return lane;
+  }
+
+  /**
+   * key 가 고정된 lane 과 처리 중인 작업 수
+   * <p>
+   * {@link ConcurrentHashMap#compute} 안에서만 변경한다.
+   */
+  private static final class KeyPin {
+
+    private final int lane;
+    private int pending = 1;
+
+    private KeyPin(int lane) {
+      this.lane = lane;
+    }
+
+    private KeyPin retain() {
+      pending++;
+      return this;
+    }
+
+    private int release() {
+      return --pending;
+    }
+  }
+
+  /**
+   * lane 큐가 가득 찬 경우 공간이 생길 때까지 호출 스레드를 대기시킨다.
+   */
+  private static final RejectedExecutionHandler BLOCK_WHEN_FULL = (runnable, executor) -> {
+    if (executor.isShutdown()) {
+      throw new RejectedExecutionException("lane이 종료되었습니다.");
+    }
+    try {
+      executor.getQueue().put(runnable);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RejectedExecutionException("lane 적재 중 인터럽트 발생", e);
+    }
+  };
+}
@@ -0,0 +1,191 @@
+package com.threadly.notification.adapter.kafka.notification.parallel;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * lag 기반 lane 수 조절기
+ * <p>
+ * 주기마다 파티션별 lag 과 직전 주기의 평균 처리 시간을 보고 {@link KeyOrderedDispatcher} 의 lane 수를 min ~ max 사이에서
+ * 조절한다.
+ * <ul>
+ *   <li>lag 이 scale-up-lag 이상이면 lane 을 두 배로 늘린다.</li>
+ *   <li>lag 이 남아 있고 평균 처리 시간이 latency-threshold 이상이면 lane 을 하나 늘린다.</li>
+ *   <li>lag 이 scale-down-lag 이하인 주기가 scale-down-ticks 번 이어지면 lane 을 1/4 만큼 줄인다.</li>
+ * </ul>
+ * 변경 직후 cooldown 동안은 다시 변경하지 않는다.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "notification.consumer.scaling.enabled", havingValue = "true",
+    matchIfMissing = true)
+public class LaneScalingController {
+
+  private final KeyOrderedDispatcher keyOrderedDispatcher;
+  private final ConsumerLagProbe consumerLagProbe;
+  private final ApplicationEventPublisher applicationEventPublisher;
+  private final MeterRegistry meterRegistry;
+
+  private final int minLanes;
+  private final long scaleUpLag;
+  private final long scaleDownLag;
+  private final double latencyThresholdMillis;
+  private final int scaleDownTicks;
+  private final long cooldownMillis;
+
+  private final AtomicLong totalLag = new AtomicLong();
+  private final Map<Integer, AtomicLong> partitionLag = new ConcurrentHashMap<>();
+  private final Counter scaleUpCounter;
+  private final Counter scaleDownCounter;
+
+  private long lastProcessedCount;
+  private double lastProcessingTimeMillis;
+  private long lastScaledAt;
+  private int quietTicks;
+
+  public LaneScalingController(KeyOrderedDispatcher keyOrderedDispatcher,
+      ConsumerLagProbe consumerLagProbe,
+      ApplicationEventPublisher applicationEventPublisher,
+      MeterRegistry meterRegistry,
+      @Value("${notification.consumer.scaling.min-lanes:2}") int minLanes,
+      @Value("${notification.consumer.scaling.scale-up-lag:1000}") long scaleUpLag,
+      @Value("${notification.consumer.scaling.scale-down-lag:100}") long scaleDownLag,
+      @Value("${notification.consumer.scaling.latency-threshold-millis:200}") double latencyThresholdMillis,
+      @Value("${notification.consumer.scaling.scale-down-ticks:3}") int scaleDownTicks,
+      @Value("${notification.consumer.scaling.cooldown-millis:30000}") long cooldownMillis) {
+    this.keyOrderedDispatcher = keyOrderedDispatcher;
+    this.consumerLagProbe = consumerLagProbe;
+    this.applicationEventPublisher = applicationEventPublisher;
+    this.meterRegistry = meterRegistry;
+    this.minLanes = Math.max(1, minLanes);
+    this.scaleUpLag = scaleUpLag;
+    this.scaleDownLag = scaleDownLag;
+    this.latencyThresholdMillis = latencyThresholdMillis;
+    this.scaleDownTicks = scaleDownTicks;
+    this.cooldownMillis = cooldownMillis;
+
+    Gauge.builder("notification_consumer_lag_total", totalLag, AtomicLong::get)
+        .tag("binding", "notification-in-0")
+        .description("notification consumer group 의 전체 lag")
+        .register(meterRegistry);
+    this.scaleUpCounter = Counter.builder("notification_consumer_scaling")
+        .tag("binding", "notification-in-0")
+        .tag("direction", "up")
+        .description("lane 수 변경 횟수")
+        .register(meterRegistry);
+    this.scaleDownCounter = Counter.builder("notification_consumer_scaling")
+        .tag("binding", "notification-in-0")
+        .tag("direction", "down")
+        .description("lane 수 변경 횟수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * lag, 처리 시간 확인 후 lane 수 조절
+   */
+  @Scheduled(fixedDelayString = "${notification.consumer.scaling.interval-millis:10000}",
+      initialDelayString = "${notification.consumer.scaling.interval-millis:10000}")
+  public synchronized void evaluate() {
+    long lag = recordLag(consumerLagProbe.partitionLag());
+    double meanLatencyMillis = meanLatencySinceLastTick();
+
+    int current = keyOrderedDispatcher.activeLanes();
+    int max = keyOrderedDispatcher.maxLanes();
+
+    int target = current;
+    String reason = null;
+    if (lag >= scaleUpLag && current < max) {
+      target = Math.min(max, current * 2);
+      reason = "lag";
+      quietTicks = 0;
+    } else if (lag > scaleDownLag && meanLatencyMillis >= latencyThresholdMillis
+        && current < max) {
+      target = current + 1;
+      reason = "latency";
+      quietTicks = 0;
+    } else if (lag <= scaleDownLag) {
+      quietTicks++;
+      if (quietTicks >= scaleDownTicks && current > minLanes) {
+        target = Math.max(minLanes, current - Math.max(1, current / 4));
+        reason = "idle";
+      }
+    } else {
+      quietTicks = 0;
+    }
+
+    if (target == current || isCoolingDown()) {
+      return;
+    }
+
+    if (!keyOrderedDispatcher.resize(target)) {
+      return;
+    }
+
+    lastScaledAt = System.currentTimeMillis();
+    quietTicks = 0;
+    (target > current ? scaleUpCounter : scaleDownCounter).increment();
+    log.info("lane 수 조절: {} -> {}, reason={}, lag={}, meanLatencyMillis={}",
+        current, target, reason, lag, meanLatencyMillis);
+    applicationEventPublisher.publishEvent(
+        new LaneScalingEvent(current, target, lag, meanLatencyMillis, reason)
+    );
+  }
+
+  /**
+   * 파티션별, 전체 lag 기록
+   *
+   * @param lagByPartition
+   * @return 전체 lag
+   */
+  private long recordLag(Map<Integer, Long> lagByPartition) {
+    long sum = 0L;
+    for (Map.Entry<Integer, Long> entry : lagByPartition.entrySet()) {
+      partitionLag.computeIfAbsent(entry.getKey(), this::registerPartitionGauge)
+          .set(entry.getValue());
+      sum += entry.getValue();
+    }
+    totalLag.set(sum);
+    return sum;
+  }
+
+  private AtomicLong registerPartitionGauge(Integer partition) {
+    AtomicLong value = new AtomicLong();
+    Gauge.builder("notification_consumer_lag", value, AtomicLong::get)
+        .tag("binding", "notification-in-0")
+        .tag("partition", String.valueOf(partition))
+        .description("notification consumer group 의 파티션별 lag")
+        .register(meterRegistry);
+    return value;
+  }
+
+  /**
+   * 직전 주기 이후 평균 처리 시간(ms)
+   *
+   * @return 처리 건이 없으면 0
+   */
+  private double meanLatencySinceLastTick() {
+    long count = keyOrderedDispatcher.processedCount();
+    double totalMillis = keyOrderedDispatcher.processingTimeMillis();
+
+    long countDelta = count - lastProcessedCount;
+    double timeDelta = totalMillis - lastProcessingTimeMillis;
+    lastProcessedCount = count;
+    lastProcessingTimeMillis = totalMillis;
+
+    return countDelta > 0 ? timeDelta / countDelta : 0.0;
+  }
+
+  private boolean isCoolingDown() {
+    return lastScaledAt > 0 && System.currentTimeMillis() - lastScaledAt < cooldownMillis;
+  }
+}
@@ -0,0 +1,20 @@
+package com.threadly.notification.adapter.kafka.notification.parallel;
+
+/**
+ * lane 수 변경 이벤트
+ *
+ * @param previousLanes     변경 전 lane 수
+ * @param currentLanes      변경 후 lane 수
+ * @param totalLag          판단 시점의 전체 lag
+ * @param meanLatencyMillis 직전 주기의 평균 처리 시간(ms)
+ * @param reason            변경 사유
+ */
+public record LaneScalingEvent(
+    int previousLanes,
+    int currentLanes,
+    long totalLag,
+    double meanLatencyMillis,
+    String reason
+) {
+
+}
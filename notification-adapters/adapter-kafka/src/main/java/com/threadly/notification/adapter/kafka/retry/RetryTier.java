@@ -0,0 +1,69 @@
+package com.threadly.notification.adapter.kafka.retry;
+
+import java.util.Optional;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 재시도 토픽 단계
+ * <p>
+ * 실패한 레코드는 원본 토픽에서 제외되어 단계별 대기 시간을 가진 재시도 토픽으로 이동한다. 마지막 단계까지 실패하면 DLT로 이동한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RetryTier {
+  ONE_SECOND("1s", 1_000L),
+  TEN_SECONDS("10s", 10_000L),
+  SIXTY_SECONDS("60s", 60_000L);
+
+  private final String suffix;
+  private final long delayMillis;
+
+  private static final String DEAD_LETTER_SUFFIX = ".DLT";
+
+  /**
+   * 원본 토픽 기준 재시도 토픽명
+   *
+   * @param baseTopic
+   * @return
+   */
+  public String topic(String baseTopic) {
+    return baseTopic + ".retry." + suffix;
+  }
+
+  /**
+   * 실패한 attempt 다음으로 이동할 단계
+   * <p>
+   * 원본 토픽에서의 처리가 attempt 1 이며, attempt n 이 실패하면 n 번째 단계로 이동한다.
+   *
+   * @param failedAttempt
+   * @return 모든 단계를 소진했으면 빈 값
+   */
+  public static Optional<RetryTier> next(int failedAttempt) {
+    RetryTier[] tiers = values();
+    if (failedAttempt < 1 || failedAttempt > tiers.length) {
+      return Optional.empty();
+    }
+    return Optional.of(tiers[failedAttempt - 1]);
+  }
+
+  /**
+   * 원본 토픽 기준 DLT 토픽명
+   *
+   * @param baseTopic
+   * @return
+   */
+  public static String deadLetterTopic(String baseTopic) {
+    return baseTopic + DEAD_LETTER_SUFFIX;
+  }
+
+  /**
+   * DLT 토픽 여부
+   *
+   * @param topic
+   * @return
+   */
+  public static boolean isDeadLetterTopic(String topic) {
+    return topic.endsWith(DEAD_LETTER_SUFFIX);
+  }
+}
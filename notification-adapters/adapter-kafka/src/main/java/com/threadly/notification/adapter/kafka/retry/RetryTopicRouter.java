@@ -0,0 +1,96 @@
+package com.threadly.notification.adapter.kafka.retry;
+
+import com.threadly.notification.adapter.kafka.utils.RetryAttemptUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실패한 레코드를 재시도 토픽 또는 DLT로 이동
+ * <p>
+ * 원본 파티션에서 대기하지 않도록 실패한 레코드를 다음 단계의 재시도 토픽으로 발행하고, attempt 와 처리 가능 시각을 header 로
+ * 전달한다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class RetryTopicRouter {
+
+  private final KafkaTemplate<String, Object> kafkaTemplate;
+  private final MeterRegistry meterRegistry;
+
+  private static final long SEND_TIMEOUT_SECONDS = 10L;
+
+  /**
+   * 실패한 레코드를 다음 단계로 이동
+   *
+   * @param baseTopic     원본 토픽
+   * @param key
+   * @param payload
+   * @param failedAttempt 실패한 attempt
+   * @param cause
+   * @return 이동한 토픽명
+   */
+  public String route(String baseTopic, Object key, Object payload, int failedAttempt,
+      Throwable cause) {
+    RetryTier tier = RetryTier.next(failedAttempt).orElse(null);
+
+    String destination = tier != null ? tier.topic(baseTopic) : RetryTier.deadLetterTopic(baseTopic);
+    long dueAt = System.currentTimeMillis() + (tier != null ? tier.getDelayMillis() : 0L);
+
+    ProducerRecord<String, Object> record = new ProducerRecord<>(
+        destination, key != null ? key.toString() : null, payload);
+    Headers headers = record.headers();
+    addHeader(headers, RetryAttemptUtils.RETRY_ATTEMPT_HEADER, String.valueOf(failedAttempt + 1));
+    addHeader(headers, RetryAttemptUtils.RETRY_DUE_AT_HEADER, String.valueOf(dueAt));
+    addHeader(headers, RetryAttemptUtils.ORIGINAL_TOPIC_HEADER, baseTopic);
+    if (cause != null) {
+      addHeader(headers, RetryAttemptUtils.EXCEPTION_MESSAGE_HEADER, String.valueOf(
+          cause.getMessage()));
+    }
+
+    send(record);
+
+    Counter.builder("kafka_consumer_retry_routed")
+        .tag("destination", destination)
+        .description("재시도 토픽 또는 DLT로 이동한 레코드 수")
+        .register(meterRegistry)
+        .increment();
+
+    log.warn("[{}] 재시도 토픽 이동: destination={}, nextAttempt={}", baseTopic, destination,
+        failedAttempt + 1);
+    return destination;
+  }
+
+  /**
+   * 발행 완료까지 대기
+   * <p>
+   * 이동이 실패한 레코드가 원본에서 ack 되지 않도록 발행 결과를 동기로 확인한다.
+   *
+   * @param record
+   */
+  private void send(ProducerRecord<String, Object> record) {
+    try {
+      kafkaTemplate.send(record).get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new KafkaException("재시도 토픽 발행 중단: " + record.topic(), e);
+    } catch (ExecutionException | TimeoutException e) {
+      throw new KafkaException("재시도 토픽 발행 실패: " + record.topic(), e);
+    }
+  }
+
+  private static void addHeader(Headers headers, String name, String value) {
+    headers.add(name, value.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,139 @@
+package com.threadly.notification.adapter.kafka.serde;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.kafka.common.errors.SerializationException;
+
+/**
+ * Avro 인코딩/디코딩
+ * <p>
+ * 코드 생성 없이 이벤트 클래스 옆의 {@code <클래스명>.avsc} 스키마로 GenericRecord 를 만든다. single-object encoding 을
+ * 사용하므로 메시지 앞에 writer 스키마의 fingerprint 가 붙고, 이전 스키마를 등록해 두면 스키마가 바뀐 뒤에도 예전 producer 의
+ * 메시지를 현재 스키마로 읽을 수 있다.
+ *
+ * @param <T> 이벤트 타입
+ */
+public abstract class AvroCodec<T> {
+
+  private final Schema schema;
+
+  private final BinaryMessageEncoder<GenericRecord> encoder;
+
+  private final BinaryMessageDecoder<GenericRecord> decoder;
+
+  protected AvroCodec(Class<T> type) {
+    this.schema = loadSchema(type);
+    this.encoder = new BinaryMessageEncoder<>(GenericData.get(), schema);
+    this.decoder = new BinaryMessageDecoder<>(GenericData.get(), schema);
+  }
+
+  /**
+   * 현재 스키마
+   *
+   * @return
+   */
+  public Schema getSchema() {
+    return schema;
+  }
+
+  /**
+   * 이전 writer 스키마 등록
+   *
+   * @param previousSchema
+   */
+  public void addPreviousSchema(Schema previousSchema) {
+    decoder.addSchema(previousSchema);
+  }
+
+  /**
+   * event -> bytes
+   *
+   * @param value
+   * @return
+   */
+  public byte[] encode(T value) {
+    try {
+      ByteBuffer buffer = encoder.encode(toRecord(value));
+      byte[] bytes = new byte[buffer.remaining()];
+      buffer.get(bytes);
+      return bytes;
+    } catch (IOException e) {
+      throw new SerializationException("Avro 인코딩 실패: " + schema.getFullName(), e);
+    }
+  }
+
+  /**
+   * bytes -> event
+   *
+   * @param data
+   * @return
+   */
+  public T decode(byte[] data) {
+    try {
+      return fromRecord(decoder.decode(data));
+    } catch (IOException | RuntimeException e) {
+      throw new SerializationException("Avro 디코딩 실패: " + schema.getFullName(), e);
+    }
+  }
+
+  /**
+   * event -> record
+   *
+   * @param value
+   * @return
+   */
+  protected abstract GenericRecord toRecord(T value);
+
+  /**
+   * record -> event
+   *
+   * @param record
+   * @return
+   */
+  protected abstract T fromRecord(GenericRecord record);
+
+  /**
+   * Avro 문자열(Utf8) -> String
+   *
+   * @param value
+   * @return
+   */
+  protected static String asString(Object value) {
+    return value == null ? null : value.toString();
+  }
+
+  /**
+   * nullable union 에서 null 이 아닌 스키마
+   *
+   * @param field
+   * @return
+   */
+  protected Schema fieldSchema(String field) {
+    Schema fieldSchema = schema.getField(field).schema();
+    if (fieldSchema.getType() != Schema.Type.UNION) {
+      return fieldSchema;
+    }
+    return fieldSchema.getTypes().stream()
+        .filter(type -> type.getType() != Schema.Type.NULL)
+        .findFirst()
+        .orElseThrow();
+  }
+
+  private static Schema loadSchema(Class<?> type) {
+    String resource = type.getSimpleName() + ".avsc";
+    try (InputStream in = type.getResourceAsStream(resource)) {
+      if (in == null) {
+        throw new IllegalStateException("Avro 스키마를 찾을 수 없음: " + resource);
+      }
+      return new Schema.Parser().parse(in);
+    } catch (IOException e) {
+      throw new IllegalStateException("Avro 스키마 로드 실패: " + resource, e);
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package com.threadly.notification.adapter.kafka.serde;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+/**
+ * content-type header 로 wire 포맷을 선택하는 역직렬화기
+ * <p>
+ * header 가 Avro 이면 {@link AvroCodec} 으로, 그 외(header 없음 포함)에는 기존 producer 호환을 위해 JSON 으로 읽는다. JSON
+ * 설정(spring.json.*)은 그대로 {@link JsonDeserializer} 에 전달된다.
+ *
+ * @param <T> 이벤트 타입
+ */
+public abstract class ContentTypeDeserializer<T> implements Deserializer<T> {
+
+  /*content-type header*/
+  public static final String CONTENT_TYPE_HEADER = "contentType";
+  public static final String KAFKA_CONTENT_TYPE_HEADER = "content-type";
+
+  /*Avro content-type*/
+  public static final String AVRO_CONTENT_TYPE = "application/avro";
+
+  private final JsonDeserializer<T> jsonDeserializer = new JsonDeserializer<>();
+
+  private final AvroCodec<T> avroCodec;
+
+  protected ContentTypeDeserializer(AvroCodec<T> avroCodec) {
+    this.avroCodec = avroCodec;
+  }
+
+  @Override
+  public void configure(Map<String, ?> configs, boolean isKey) {
+    jsonDeserializer.configure(configs, isKey);
+  }
+
+  @Override
+  public T deserialize(String topic, byte[] data) {
+    return jsonDeserializer.deserialize(topic, data);
+  }
+
+  @Override
+  public T deserialize(String topic, Headers headers, byte[] data) {
+    if (data == null) {
+      return null;
+    }
+    if (isAvro(headers)) {
+      return avroCodec.decode(data);
+    }
+    return jsonDeserializer.deserialize(topic, headers, data);
+  }
+
+  @Override
+  public void close() {
+    jsonDeserializer.close();
+  }
+
+  /**
+   * Avro 메시지 여부
+   * <p>
+   * Spring 의 header mapper 는 문자열 header 를 JSON 문자열로 기록하므로 앞뒤 따옴표를 제거하고 비교한다.
+   *
+   * @param headers
+   * @return
+   */
+  static boolean isAvro(Headers headers) {
+    String contentType = getContentType(headers);
+    if (contentType == null) {
+      return false;
+    }
+    String mimeType = contentType.replace("\"", "").split(";", 2)[0].trim()
+        .toLowerCase(Locale.ROOT);
+    return mimeType.equals(AVRO_CONTENT_TYPE) || mimeType.endsWith("+avro");
+  }
+
+  private static String getContentType(Headers headers) {
+    if (headers == null) {
+      return null;
+    }
+    Header header = headers.lastHeader(CONTENT_TYPE_HEADER);
+    if (header == null) {
+      header = headers.lastHeader(KAFKA_CONTENT_TYPE_HEADER);
+    }
+    return header == null || header.value() == null ? null
+        : new String(header.value(), StandardCharsets.UTF_8);
+  }
+}
@@ -25,8 +25,8 @@ public class KafkaTestProducer implements KafkaTestPort {
         notificationCommand.eventId(),
         notificationCommand.receiverUserId(),
         notificationCommand.notificationType(),
-        notificationCommand.occurredAt(),
         notificationCommand.actorProfile(),
+        notificationCommand.occurredAt(),
         notificationCommand.metadata()
     );
 
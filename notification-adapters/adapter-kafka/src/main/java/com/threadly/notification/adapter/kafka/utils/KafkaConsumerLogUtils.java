@@ -40,6 +40,45 @@ public class KafkaConsumerLogUtils {
     log.info("[{}] 처리 성공: eventId={}", topic, eventId);
   }
 
+  /**
+   * 일괄 처리 결과 로깅
+   *
+   * @param topic
+   * @param total
+   * @param succeeded
+   * @param duplicated
+   * @param failed
+   */
+  public static void logBatchSuccess(String topic, int total, int succeeded, int duplicated,
+      int failed) {
+    log.info("[{}] 일괄 처리 완료: total={}, succeeded={}, duplicated={}, failed={}", topic, total,
+        succeeded, duplicated, failed);
+  }
+
+  /**
+   * 일괄 처리 중 레코드 단위 실패 로깅
+   *
+   * @param topic
+   * @param eventId
+   * @param reason
+   */
+  public static void logBatchFailure(String topic, String eventId, String reason) {
+    log.error("[{}] 일괄 처리 실패: eventId={}, reason={}", topic, eventId, reason);
+  }
+
+  /**
+   * 재시도 소진 후 DLT 이동 로깅
+   *
+   * @param topic
+   * @param eventId
+   * @param payload
+   * @param ex
+   */
+  public static void logDeadLetter(String topic, String eventId, Object payload,
+      Throwable ex) {
+    log.error("[{}] 재시도 소진, DLT 이동: eventId={}, payload={}", topic, eventId, payload, ex);
+  }
+
   /**
    * 최종 실패 로깅
    *
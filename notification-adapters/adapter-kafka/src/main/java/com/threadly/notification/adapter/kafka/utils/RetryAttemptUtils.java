@@ -1,20 +1,91 @@
 package com.threadly.notification.adapter.kafka.utils;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.springframework.integration.IntegrationMessageHeaderAccessor;
 import org.springframework.messaging.Message;
 
 public class RetryAttemptUtils {
 
+  /*재시도 토픽 header*/
+  public static final String RETRY_ATTEMPT_HEADER = "x-retry-attempt";
+  public static final String RETRY_DUE_AT_HEADER = "x-retry-due-at";
+  public static final String ORIGINAL_TOPIC_HEADER = "x-retry-original-topic";
+  public static final String EXCEPTION_MESSAGE_HEADER = "x-retry-exception-message";
+
   /**
    * attemptValue 추출
+   * <p>
+   * 재시도 토픽에서 수신한 경우 header 의 attempt 를, 아니면 binder 의 delivery attempt 를 사용한다.
+   *
    * @param message
    * @return
    */
   public static int getAttemptValue(Message<?> message) {
+    Long retryAttempt = getLongHeader(message, RETRY_ATTEMPT_HEADER);
+    if (retryAttempt != null) {
+      return retryAttempt.intValue();
+    }
+
     AtomicInteger attempt = message.getHeaders()
         .get(IntegrationMessageHeaderAccessor.DELIVERY_ATTEMPT, AtomicInteger.class);
     int attemptValue = attempt != null ? attempt.get() : 1;
     return attemptValue;
   }
+
+  /**
+   * 재시도 처리 가능 시각까지 남은 시간 추출
+   *
+   * @param message
+   * @return 남은 시간(ms), header 가 없거나 이미 지난 경우 0
+   */
+  public static long getRemainingDelayMillis(Message<?> message) {
+    Long dueAt = getLongHeader(message, RETRY_DUE_AT_HEADER);
+    if (dueAt == null) {
+      return 0L;
+    }
+    return Math.max(0L, dueAt - System.currentTimeMillis());
+  }
+
+  /**
+   * header 값을 문자열로 추출
+   *
+   * @param message
+   * @param name
+   * @return header 가 없으면 null
+   */
+  public static String getStringHeader(Message<?> message, String name) {
+    Object value = message.getHeaders().get(name);
+    if (value == null) {
+      return null;
+    }
+    return value instanceof byte[] bytes
+        ? new String(bytes, StandardCharsets.UTF_8)
+        : value.toString();
+  }
+
+  /**
+   * header 값을 long 으로 변환
+   * <p>
+   * Kafka header 는 binder 설정에 따라 byte[] 또는 String 으로 전달된다.
+   *
+   * @param message
+   * @param name
+   * @return
+   */
+  private static Long getLongHeader(Message<?> message, String name) {
+    Object value = message.getHeaders().get(name);
+    if (value == null) {
+      return null;
+    }
+    if (value instanceof Number number) {
+      return number.longValue();
+    }
+
+    try {
+      return Long.parseLong(getStringHeader(message, name).trim());
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
 }
@@ -5,7 +5,7 @@ import static org.mockito.Mockito.verify;
 
 import com.threadly.notification.adapter.kafka.mail.dto.MailEvent;
 import com.threadly.notification.core.domain.mail.MailType;
-import com.threadly.notification.core.port.mail.in.SendMailUseCase;
+import com.threadly.notification.core.port.mail.in.MailOutboxUseCase;
 import com.threadly.notification.core.port.mail.in.dto.SendMailCommand;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -35,13 +35,13 @@ class MailConsumerTest {
   private MailConsumer mailConsumer;
 
   @Mock
-  private SendMailUseCase sendMailUseCase;
+  private MailOutboxUseCase mailOutboxUseCase;
 
   private MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
   @BeforeEach
   void setUp() {
-    mailConsumer = new MailConsumer(sendMailUseCase, meterRegistry);
+    mailConsumer = new MailConsumer(mailOutboxUseCase, meterRegistry);
   }
 
   private MailEvent sampleEvent() {
@@ -61,10 +61,10 @@ class MailConsumerTest {
   @DisplayName("mailEventConsumer 테스트")
   class MailEventConsumerTestCases {
 
-    /*[Case #1] key가 수신자와 일치하면 메일 전송이 수행되어야 한다*/
-    @DisplayName("1. key가 수신자와 일치하면 메일 전송이 수행되는지 검증")
+    /*[Case #1] key가 수신자와 일치하면 메일이 outbox 에 적재되어야 한다*/
+    @DisplayName("1. key가 수신자와 일치하면 메일이 outbox 에 적재되는지 검증")
     @Test
-    void mailEventConsumer_shouldSendMail_whenKeyMatchesReceiver() throws Exception {
+    void mailEventConsumer_shouldEnqueueMail_whenKeyMatchesReceiver() throws Exception {
       //given
       MailEvent event = sampleEvent();
       Message<MailEvent> message = MessageBuilder
@@ -77,15 +77,17 @@ class MailConsumerTest {
       consumer().accept(message);
 
       //then
-      verify(sendMailUseCase).send(captor.capture());
+      verify(mailOutboxUseCase)
+          .enqueue(org.mockito.ArgumentMatchers.eq("event-1"), captor.capture(),
+              org.mockito.ArgumentMatchers.isNull());
       SendMailCommand command = captor.getValue();
       org.assertj.core.api.Assertions.assertThat(command.mailType()).isEqualTo(event.mailType());
       org.assertj.core.api.Assertions.assertThat(command.to()).isEqualTo(event.to());
       org.assertj.core.api.Assertions.assertThat(command.model()).isEqualTo(event.model());
     }
 
-    /*[Case #2] key가 수신자와 다르면 메일 전송이 호출되지 않아야 한다*/
-    @DisplayName("2. key가 수신자와 다르면 메일 전송이 호출되지 않는지 검증")
+    /*[Case #2] key가 수신자와 다르면 메일이 적재되지 않아야 한다*/
+    @DisplayName("2. key가 수신자와 다르면 메일이 적재되지 않는지 검증")
     @Test
     void mailEventConsumer_shouldSkipMail_whenKeyMismatch() throws Exception {
       //given
@@ -99,7 +101,8 @@ class MailConsumerTest {
       consumer().accept(message);
 
       //then
-      verify(sendMailUseCase, never()).send(org.mockito.ArgumentMatchers.any());
+      verify(mailOutboxUseCase, never()).enqueue(org.mockito.ArgumentMatchers.any(),
+          org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any());
     }
   }
 }
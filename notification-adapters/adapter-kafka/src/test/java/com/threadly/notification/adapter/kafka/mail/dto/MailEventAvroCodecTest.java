@@ -0,0 +1,87 @@
+package com.threadly.notification.adapter.kafka.mail.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.threadly.notification.core.domain.mail.MailType;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * MailEventAvroCodec 테스트
+ */
+class MailEventAvroCodecTest {
+
+  private final MailEventAvroCodec codec = new MailEventAvroCodec();
+
+  @Nested
+  @DisplayName("encode/decode 테스트")
+  class RoundTripTest {
+
+    /*[Case #1] 메일 이벤트가 인코딩 후 동일하게 디코딩되어야 한다*/
+    @DisplayName("1. 메일 이벤트가 인코딩 후 동일하게 디코딩되는지 검증")
+    @Test
+    void decode_shouldRestoreEncodedEvent() throws Exception {
+      //given
+      MailEvent event = new MailEvent("event-1", MailType.VERIFICATION, "user@threadly.com",
+          Map.of("userName", "사용자", "verificationUrl", "https://threadly.com/verify"));
+
+      //when
+      MailEvent result = codec.decode(codec.encode(event));
+
+      //then
+      assertThat(result).isEqualTo(event);
+    }
+
+    /*[Case #2] model 이 없어도 디코딩되어야 한다*/
+    @DisplayName("2. model 이 없어도 디코딩되는지 검증")
+    @Test
+    void decode_shouldKeepNullModel() throws Exception {
+      //given
+      MailEvent event = new MailEvent("event-1", MailType.WELCOME, "user@threadly.com", null);
+
+      //when
+      MailEvent result = codec.decode(codec.encode(event));
+
+      //then
+      assertThat(result).isEqualTo(event);
+    }
+
+    /*[Case #3] 요청 발생 시각이 마이크로초까지 유지되어야 한다*/
+    @DisplayName("3. 요청 발생 시각이 마이크로초까지 유지되는지 검증")
+    @Test
+    void decode_shouldRestoreOccurredAt() throws Exception {
+      //given
+      MailEvent event = new MailEvent("event-1", MailType.VERIFICATION, "user@threadly.com",
+          null, LocalDateTime.of(2024, 1, 1, 12, 0, 0, 123_456_000));
+
+      //when
+      MailEvent result = codec.decode(codec.encode(event));
+
+      //then
+      assertThat(result).isEqualTo(event);
+    }
+  }
+
+  @Nested
+  @DisplayName("스키마 호환성 테스트")
+  class CompatibilityTest {
+
+    /*[Case #1] 스키마의 mailType 심볼이 MailType 과 일치해야 한다*/
+    @DisplayName("1. 스키마의 mailType 심볼이 MailType 과 일치하는지 검증")
+    @Test
+    void schema_shouldContainAllMailTypes() throws Exception {
+      //given
+      Schema typeSchema = codec.getSchema().getField("mailType").schema();
+
+      //when
+      //then
+      assertThat(typeSchema.getEnumSymbols()).containsExactlyInAnyOrderElementsOf(
+          Arrays.stream(MailType.values()).map(Enum::name).toList());
+    }
+  }
+}
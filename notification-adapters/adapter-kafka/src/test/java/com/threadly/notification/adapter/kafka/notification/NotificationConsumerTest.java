@@ -1,16 +1,31 @@
 package com.threadly.notification.adapter.kafka.notification;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.threadly.notification.adapter.kafka.notification.dto.NotificationEvent;
+import com.threadly.notification.adapter.kafka.notification.parallel.KeyOrderedDispatcher;
+import com.threadly.notification.adapter.kafka.retry.RetryTopicRouter;
 import com.threadly.notification.core.domain.notification.NotificationType;
+import com.threadly.notification.core.domain.notification.metadata.PostLikeMeta;
 import com.threadly.notification.core.domain.user.ActorProfile;
 import com.threadly.notification.core.port.notification.in.NotificationCommand;
 import com.threadly.notification.core.port.notification.in.NotificationIngestionUseCase;
+import com.threadly.notification.core.port.notification.in.dto.NotificationBatchResult;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,6 +42,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.support.MessageBuilder;
@@ -43,21 +59,32 @@ class NotificationConsumerTest {
   @Mock
   private NotificationIngestionUseCase notificationIngestionUseCase;
 
+  @Mock
+  private KeyOrderedDispatcher keyOrderedDispatcher;
+
+  @Mock
+  private RetryTopicRouter retryTopicRouter;
+
   private MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
   @BeforeEach
   void setUp() {
-    notificationConsumer = new NotificationConsumer(notificationIngestionUseCase, meterRegistry);
+    notificationConsumer = new NotificationConsumer(notificationIngestionUseCase, meterRegistry,
+        keyOrderedDispatcher, retryTopicRouter);
   }
 
   private NotificationEvent sampleEvent() {
+    return sampleEvent("event-1", "receiver-1");
+  }
+
+  private NotificationEvent sampleEvent(String eventId, String receiverId) {
     return new NotificationEvent(
-        "event-1",
-        "receiver-1",
+        eventId,
+        receiverId,
         NotificationType.POST_LIKE,
         new ActorProfile("actor-1", "행위자", "/profile.png"),
         LocalDateTime.of(2024, 1, 1, 12, 0),
-        Map.of("postId", "post-1")
+        new PostLikeMeta("post-1")
     );
   }
 
@@ -115,11 +142,252 @@ class NotificationConsumerTest {
       verify(notificationIngestionUseCase, never()).ingest(org.mockito.ArgumentMatchers.any());
     }
 
+    /*[Case #3] ack 헤더가 있으면 receiver lane으로 위임되고 처리 후 ack 되어야 한다*/
+    @Order(3)
+    @DisplayName("3. ack 헤더가 있으면 receiver lane으로 위임된 뒤 ack 되는지 검증")
+    @Test
+    void notificationEventConsumer_shouldDispatchToLane_whenManualAck() throws Exception {
+      //given
+      Acknowledgment acknowledgment = org.mockito.Mockito.mock(Acknowledgment.class);
+      Message<NotificationEvent> message = MessageBuilder
+          .withPayload(sampleEvent())
+          .setHeader(KafkaHeaders.RECEIVED_KEY, "receiver-1")
+          .setHeader(KafkaHeaders.ACKNOWLEDGMENT, acknowledgment)
+          .build();
+      doAnswer(invocation -> {
+        invocation.<Runnable>getArgument(1).run();
+        return null;
+      }).when(keyOrderedDispatcher).dispatch(eq("receiver-1"), any(Runnable.class));
+
+      //when
+      consumer().accept(message);
+
+      //then
+      verify(keyOrderedDispatcher).dispatch(eq("receiver-1"), any(Runnable.class));
+      verify(notificationIngestionUseCase).ingest(any(NotificationCommand.class));
+      verify(acknowledgment).acknowledge();
+    }
+
+    /*[Case #4] key가 불일치해도 ack 되어야 한다*/
+    @Order(4)
+    @DisplayName("4. key가 불일치해도 lane 위임 없이 ack 되는지 검증")
+    @Test
+    void notificationEventConsumer_shouldAcknowledge_whenKeyMismatch() throws Exception {
+      //given
+      Acknowledgment acknowledgment = org.mockito.Mockito.mock(Acknowledgment.class);
+      Message<NotificationEvent> message = MessageBuilder
+          .withPayload(sampleEvent())
+          .setHeader(KafkaHeaders.RECEIVED_KEY, "other-user")
+          .setHeader(KafkaHeaders.ACKNOWLEDGMENT, acknowledgment)
+          .build();
+
+      //when
+      consumer().accept(message);
+
+      //then
+      verify(keyOrderedDispatcher, never()).dispatch(any(), any());
+      verify(acknowledgment).acknowledge();
+    }
+
+    /*[Case #5] lane 처리에 실패하면 재시도 토픽으로 이동한 뒤 ack 되어야 한다*/
+    @Order(5)
+    @DisplayName("5. lane 처리에 실패하면 재시도 토픽으로 이동한 뒤 ack 되는지 검증")
+    @Test
+    void notificationEventConsumer_shouldRouteToRetryTopic_whenLaneFails() throws Exception {
+      //given
+      Acknowledgment acknowledgment = org.mockito.Mockito.mock(Acknowledgment.class);
+      Message<NotificationEvent> message = MessageBuilder
+          .withPayload(sampleEvent())
+          .setHeader(KafkaHeaders.RECEIVED_KEY, "receiver-1")
+          .setHeader(KafkaHeaders.ACKNOWLEDGMENT, acknowledgment)
+          .build();
+      doAnswer(invocation -> {
+        invocation.<Runnable>getArgument(1).run();
+        return null;
+      }).when(keyOrderedDispatcher).dispatch(eq("receiver-1"), any(Runnable.class));
+      doThrow(new IllegalStateException("mongo down"))
+          .when(notificationIngestionUseCase).ingest(any(NotificationCommand.class));
+      when(retryTopicRouter.route(eq("notification"), eq("receiver-1"), any(), eq(1), any()))
+          .thenReturn("notification.retry.1s");
+
+      //when
+      consumer().accept(message);
+
+      //then
+      verify(retryTopicRouter).route(eq("notification"), eq("receiver-1"), any(), eq(1), any());
+      verify(acknowledgment).acknowledge();
+    }
+
+    /*[Case #6] 재시도 토픽 이동에 실패하면 lane 에서 다시 이동한 뒤 ack 되어야 한다*/
+    @Order(6)
+    @DisplayName("6. 재시도 토픽 이동에 실패하면 다시 이동한 뒤 ack 되는지 검증")
+    @Test
+    void notificationEventConsumer_shouldRetryRouting_whenRoutingFails() throws Exception {
+      //given
+      notificationConsumer = new NotificationConsumer(notificationIngestionUseCase,
+          meterRegistry, keyOrderedDispatcher, retryTopicRouter, 1L);
+      Acknowledgment acknowledgment = org.mockito.Mockito.mock(Acknowledgment.class);
+      Message<NotificationEvent> message = laneMessage(acknowledgment);
+      doThrow(new IllegalStateException("mongo down"))
+          .when(notificationIngestionUseCase).ingest(any(NotificationCommand.class));
+      when(retryTopicRouter.route(any(), any(), any(), anyInt(), any()))
+          .thenThrow(new IllegalStateException("broker down"))
+          .thenReturn("notification.retry.1s");
+
+      //when
+      consumer().accept(message);
+
+      //then
+      verify(retryTopicRouter, times(2)).route(eq("notification"), eq("receiver-1"), any(),
+          eq(1), any());
+      verify(acknowledgment).acknowledge();
+      assertThat(meterRegistry.counter("notification_consumer_route_failure", "binding",
+          "notification-in-0").count()).isEqualTo(1.0);
+    }
+
+    /*[Case #7] 재시도 토픽 이동을 기다리던 중 lane 이 종료되면 ack 되지 않아야 한다*/
+    @Order(7)
+    @DisplayName("7. 재시도 토픽 이동을 기다리던 중 lane 이 종료되면 ack 되지 않는지 검증")
+    @Test
+    void notificationEventConsumer_shouldNotAcknowledge_whenInterruptedWhileRouting()
+        throws Exception {
+      //given
+      Acknowledgment acknowledgment = org.mockito.Mockito.mock(Acknowledgment.class);
+      Message<NotificationEvent> message = laneMessage(acknowledgment);
+      doThrow(new IllegalStateException("mongo down"))
+          .when(notificationIngestionUseCase).ingest(any(NotificationCommand.class));
+      when(retryTopicRouter.route(any(), any(), any(), anyInt(), any()))
+          .thenThrow(new IllegalStateException("broker down"));
+
+      //when
+      Thread.currentThread().interrupt();
+      try {
+        consumer().accept(message);
+      } finally {
+        Thread.interrupted();
+      }
+
+      //then
+      verify(acknowledgment, never()).acknowledge();
+    }
+
+    private Message<NotificationEvent> laneMessage(Acknowledgment acknowledgment) {
+      doAnswer(invocation -> {
+        invocation.<Runnable>getArgument(1).run();
+        return null;
+      }).when(keyOrderedDispatcher).dispatch(eq("receiver-1"), any(Runnable.class));
+      return MessageBuilder
+          .withPayload(sampleEvent())
+          .setHeader(KafkaHeaders.RECEIVED_KEY, "receiver-1")
+          .setHeader(KafkaHeaders.ACKNOWLEDGMENT, acknowledgment)
+          .build();
+    }
+
     private Consumer<Message<NotificationEvent>> consumer() {
       return notificationConsumer.notificationEventConsumer();
     }
   }
 
+  @Order(2)
+  @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+  @Nested
+  @DisplayName("notificationBatchEventConsumer 테스트")
+  class NotificationBatchEventConsumerTestCases {
+
+    /*[Case #1] key가 일치하는 레코드만 ingestBatch로 전달되어야 한다*/
+    @Order(1)
+    @DisplayName("1. key가 일치하는 레코드만 ingestBatch로 전달되는지 검증")
+    @Test
+    @SuppressWarnings("unchecked")
+    void notificationBatchEventConsumer_shouldIngestOnlyMatchedRecords() throws Exception {
+      //given
+      NotificationEvent matched = sampleEvent("event-1", "receiver-1");
+      NotificationEvent mismatched = sampleEvent("event-2", "receiver-2");
+      Message<List<NotificationEvent>> message = MessageBuilder
+          .withPayload(List.of(matched, mismatched))
+          .setHeader(KafkaHeaders.RECEIVED_KEY, List.of("receiver-1", "other-user"))
+          .build();
+      when(notificationIngestionUseCase.ingestBatch(anyList()))
+          .thenReturn(new NotificationBatchResult(List.of("event-1"), List.of(), Map.of()));
+      ArgumentCaptor<List<NotificationCommand>> captor = ArgumentCaptor.forClass(List.class);
+
+      //when
+      batchConsumer().accept(message);
+
+      //then
+      verify(notificationIngestionUseCase).ingestBatch(captor.capture());
+      assertThat(captor.getValue()).extracting(NotificationCommand::eventId)
+          .containsExactly("event-1");
+      assertThat(meterRegistry.counter("notification_consumer_success", "binding",
+          "notification-in-0").count()).isEqualTo(1.0);
+    }
+
+    /*[Case #2] 레코드 단위 실패는 예외 없이 실패 카운터에 기록되고 재시도 토픽으로 이동해야 한다*/
+    @Order(2)
+    @DisplayName("2. 레코드 단위 실패가 실패 카운터에 기록되고 재시도 토픽으로 이동하는지 검증")
+    @Test
+    void notificationBatchEventConsumer_shouldCountFailures_withoutThrowing() throws Exception {
+      //given
+      Message<List<NotificationEvent>> message = MessageBuilder
+          .withPayload(List.of(sampleEvent("event-1", "receiver-1"),
+              sampleEvent("event-2", "receiver-2")))
+          .build();
+      when(notificationIngestionUseCase.ingestBatch(anyList()))
+          .thenReturn(new NotificationBatchResult(List.of("event-1"), List.of(),
+              Map.of("event-2", "write error")));
+
+      //when
+      batchConsumer().accept(message);
+
+      //then
+      assertThat(meterRegistry.counter("notification_consumer_batch_failure", "binding",
+          "notificationBatch-in-0").count()).isEqualTo(1.0);
+      verify(retryTopicRouter).route(eq("notification"), eq("receiver-2"), any(), eq(1), any());
+    }
+
+    /*[Case #3] 모든 레코드의 key가 불일치하면 ingestBatch가 호출되지 않아야 한다*/
+    @Order(3)
+    @DisplayName("3. 모든 레코드의 key가 불일치하면 ingestBatch가 호출되지 않는지 검증")
+    @Test
+    void notificationBatchEventConsumer_shouldSkip_whenAllKeysMismatch() throws Exception {
+      //given
+      Message<List<NotificationEvent>> message = MessageBuilder
+          .withPayload(List.of(sampleEvent()))
+          .setHeader(KafkaHeaders.RECEIVED_KEY, List.of("other-user"))
+          .build();
+
+      //when
+      batchConsumer().accept(message);
+
+      //then
+      verify(notificationIngestionUseCase, never()).ingestBatch(anyList());
+    }
+
+    /*[Case #4] 실패한 레코드의 재시도 토픽 이동에 실패하면 예외가 전파되어야 한다*/
+    @Order(4)
+    @DisplayName("4. 재시도 토픽 이동에 실패하면 예외가 에러 핸들러로 전파되는지 검증")
+    @Test
+    void notificationBatchEventConsumer_shouldThrow_whenRoutingFails() throws Exception {
+      //given
+      Message<List<NotificationEvent>> message = MessageBuilder
+          .withPayload(List.of(sampleEvent("event-1", "receiver-1")))
+          .build();
+      when(notificationIngestionUseCase.ingestBatch(anyList()))
+          .thenReturn(new NotificationBatchResult(List.of(), List.of(),
+              Map.of("event-1", "write error")));
+      when(retryTopicRouter.route(any(), any(), any(), anyInt(), any()))
+          .thenThrow(new IllegalStateException("broker down"));
 
+      //when
+      //then
+      assertThatThrownBy(() -> batchConsumer().accept(message))
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessage("broker down");
+    }
+
+    private Consumer<Message<List<NotificationEvent>>> batchConsumer() {
+      return notificationConsumer.notificationBatchEventConsumer();
+    }
+  }
 
 }
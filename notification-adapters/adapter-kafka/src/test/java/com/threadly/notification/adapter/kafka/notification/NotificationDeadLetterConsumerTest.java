@@ -0,0 +1,85 @@
+package com.threadly.notification.adapter.kafka.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+import com.threadly.notification.adapter.kafka.notification.dto.NotificationEvent;
+import com.threadly.notification.adapter.kafka.utils.RetryAttemptUtils;
+import com.threadly.notification.core.domain.notification.NotificationType;
+import com.threadly.notification.core.domain.notification.metadata.PostLikeMeta;
+import com.threadly.notification.core.domain.user.ActorProfile;
+import com.threadly.notification.core.port.notification.in.NotificationDeadLetterUseCase;
+import com.threadly.notification.core.port.notification.in.dto.NotificationDeadLetterCommand;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+/**
+ * NotificationDeadLetterConsumer 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class NotificationDeadLetterConsumerTest {
+
+  @InjectMocks
+  private NotificationDeadLetterConsumer notificationDeadLetterConsumer;
+
+  @Mock
+  private NotificationDeadLetterUseCase notificationDeadLetterUseCase;
+
+  @Nested
+  @DisplayName("notificationDeadLetterConsumer 테스트")
+  class NotificationDeadLetterConsumerTestCases {
+
+    /*[Case #1] DLT 레코드가 실패 위치, 사유와 함께 보관되어야 한다*/
+    @DisplayName("1. DLT 레코드가 실패 위치, 사유와 함께 보관되는지 검증")
+    @Test
+    void notificationDeadLetterConsumer_shouldRecordWithMetadata() throws Exception {
+      //given
+      Message<NotificationEvent> message = MessageBuilder
+          .withPayload(new NotificationEvent(
+              "event-1",
+              "receiver-1",
+              NotificationType.POST_LIKE,
+              new ActorProfile("actor-1", "행위자", "/profile.png"),
+              LocalDateTime.of(2024, 1, 1, 12, 0),
+              new PostLikeMeta("post-1")
+          ))
+          .setHeader(KafkaHeaders.RECEIVED_TOPIC, "notification.DLT")
+          .setHeader(KafkaHeaders.RECEIVED_PARTITION, 1)
+          .setHeader(KafkaHeaders.OFFSET, 7L)
+          .setHeader(RetryAttemptUtils.RETRY_ATTEMPT_HEADER,
+              "5".getBytes(StandardCharsets.UTF_8))
+          .setHeader(RetryAttemptUtils.ORIGINAL_TOPIC_HEADER,
+              "notification".getBytes(StandardCharsets.UTF_8))
+          .setHeader(RetryAttemptUtils.EXCEPTION_MESSAGE_HEADER,
+              "mongo down".getBytes(StandardCharsets.UTF_8))
+          .build();
+      ArgumentCaptor<NotificationDeadLetterCommand> captor =
+          ArgumentCaptor.forClass(NotificationDeadLetterCommand.class);
+
+      //when
+      notificationDeadLetterConsumer.notificationDeadLetterConsumer().accept(message);
+
+      //then
+      verify(notificationDeadLetterUseCase).record(captor.capture());
+      NotificationDeadLetterCommand command = captor.getValue();
+      assertThat(command.command().eventId()).isEqualTo("event-1");
+      assertThat(command.topic()).isEqualTo("notification.DLT");
+      assertThat(command.partition()).isEqualTo(1);
+      assertThat(command.offset()).isEqualTo(7L);
+      assertThat(command.originalTopic()).isEqualTo("notification");
+      assertThat(command.exceptionMessage()).isEqualTo("mongo down");
+      assertThat(command.attempts()).isEqualTo(4);
+    }
+  }
+}
@@ -0,0 +1,146 @@
+package com.threadly.notification.adapter.kafka.notification;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.threadly.notification.adapter.kafka.notification.dto.NotificationEvent;
+import com.threadly.notification.adapter.kafka.retry.RetryTier;
+import com.threadly.notification.adapter.kafka.retry.RetryTopicRouter;
+import com.threadly.notification.adapter.kafka.utils.RetryAttemptUtils;
+import com.threadly.notification.core.domain.notification.NotificationType;
+import com.threadly.notification.core.domain.notification.metadata.PostLikeMeta;
+import com.threadly.notification.core.domain.user.ActorProfile;
+import com.threadly.notification.core.port.notification.in.NotificationCommand;
+import com.threadly.notification.core.port.notification.in.NotificationIngestionUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+/**
+ * NotificationRetryConsumer 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class NotificationRetryConsumerTest {
+
+  private NotificationRetryConsumer notificationRetryConsumer;
+
+  @Mock
+  private NotificationIngestionUseCase notificationIngestionUseCase;
+
+  @Mock
+  private RetryTopicRouter retryTopicRouter;
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @BeforeEach
+  void setUp() {
+    notificationRetryConsumer = new NotificationRetryConsumer(notificationIngestionUseCase,
+        retryTopicRouter, meterRegistry);
+  }
+
+  private Message<NotificationEvent> retryMessage(int attempt, long dueAt,
+      Acknowledgment acknowledgment) {
+    return MessageBuilder
+        .withPayload(new NotificationEvent(
+            "event-1",
+            "receiver-1",
+            NotificationType.POST_LIKE,
+            new ActorProfile("actor-1", "행위자", "/profile.png"),
+            LocalDateTime.of(2024, 1, 1, 12, 0),
+            new PostLikeMeta("post-1")
+        ))
+        .setHeader(KafkaHeaders.RECEIVED_KEY, "receiver-1")
+        .setHeader(KafkaHeaders.ACKNOWLEDGMENT, acknowledgment)
+        .setHeader(RetryAttemptUtils.RETRY_ATTEMPT_HEADER,
+            String.valueOf(attempt).getBytes(StandardCharsets.UTF_8))
+        .setHeader(RetryAttemptUtils.RETRY_DUE_AT_HEADER,
+            String.valueOf(dueAt).getBytes(StandardCharsets.UTF_8))
+        .build();
+  }
+
+  private Consumer<Message<NotificationEvent>> consumer() {
+    return notificationRetryConsumer.retryConsumer(RetryTier.ONE_SECOND);
+  }
+
+  @Nested
+  @DisplayName("retryConsumer 테스트")
+  class RetryConsumerTest {
+
+    /*[Case #1] 처리 가능 시각 전이면 남은 시간만큼 nack 되어야 한다*/
+    @DisplayName("1. 처리 가능 시각 전이면 처리 없이 nack 되는지 검증")
+    @Test
+    void retryConsumer_shouldNack_whenNotDueYet() throws Exception {
+      //given
+      Acknowledgment acknowledgment = mock(Acknowledgment.class);
+      Message<NotificationEvent> message = retryMessage(2,
+          System.currentTimeMillis() + 60_000L, acknowledgment);
+
+      //when
+      consumer().accept(message);
+
+      //then
+      verify(acknowledgment).nack(any(Duration.class));
+      verify(acknowledgment, never()).acknowledge();
+      verify(notificationIngestionUseCase, never()).ingest(any());
+    }
+
+    /*[Case #2] 처리 가능 시각이 지나면 처리 후 ack 되어야 한다*/
+    @DisplayName("2. 처리 가능 시각이 지나면 처리 후 ack 되는지 검증")
+    @Test
+    void retryConsumer_shouldIngestAndAcknowledge_whenDue() throws Exception {
+      //given
+      Acknowledgment acknowledgment = mock(Acknowledgment.class);
+      Message<NotificationEvent> message = retryMessage(2,
+          System.currentTimeMillis() - 1L, acknowledgment);
+
+      //when
+      consumer().accept(message);
+
+      //then
+      verify(notificationIngestionUseCase).ingest(any(NotificationCommand.class));
+      verify(acknowledgment).acknowledge();
+      verify(retryTopicRouter, never()).route(any(), any(), any(), anyInt(), any());
+    }
+
+    /*[Case #3] 재시도에 실패하면 header 의 attempt 로 다음 단계에 이동해야 한다*/
+    @DisplayName("3. 재시도에 실패하면 header 의 attempt 로 다음 단계에 이동하는지 검증")
+    @Test
+    void retryConsumer_shouldRouteWithHeaderAttempt_whenRetryFails() throws Exception {
+      //given
+      Acknowledgment acknowledgment = mock(Acknowledgment.class);
+      Message<NotificationEvent> message = retryMessage(2,
+          System.currentTimeMillis() - 1L, acknowledgment);
+      doThrow(new IllegalStateException("mongo down"))
+          .when(notificationIngestionUseCase).ingest(any(NotificationCommand.class));
+      when(retryTopicRouter.route(eq("notification"), eq("receiver-1"), any(), eq(2), any()))
+          .thenReturn("notification.retry.10s");
+
+      //when
+      consumer().accept(message);
+
+      //then
+      verify(retryTopicRouter).route(eq("notification"), eq("receiver-1"), any(), eq(2), any());
+      verify(acknowledgment).acknowledge();
+    }
+  }
+}
@@ -0,0 +1,183 @@
+package com.threadly.notification.adapter.kafka.notification.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.threadly.notification.core.domain.notification.NotificationType;
+import com.threadly.notification.core.domain.notification.metadata.CommentLikeMeta;
+import com.threadly.notification.core.domain.notification.metadata.FollowMeta;
+import com.threadly.notification.core.domain.notification.metadata.NotificationMetaData;
+import com.threadly.notification.core.domain.notification.metadata.PostCommentMeta;
+import com.threadly.notification.core.domain.notification.metadata.PostLikeMeta;
+import com.threadly.notification.core.domain.user.ActorProfile;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaCompatibility;
+import org.apache.avro.SchemaCompatibility.SchemaCompatibilityType;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * NotificationEventAvroCodec 테스트
+ */
+class NotificationEventAvroCodecTest {
+
+  private final NotificationEventAvroCodec codec = new NotificationEventAvroCodec();
+
+  /*metadata, actorProfile 이 추가되기 전 형태의 이전 스키마*/
+  private static final Schema PREVIOUS_SCHEMA = new Schema.Parser().parse("""
+      {
+        "type": "record",
+        "name": "NotificationEvent",
+        "namespace": "com.threadly.notification.event",
+        "fields": [
+          {"name": "eventId", "type": "string"},
+          {"name": "receiverUserId", "type": ["null", "string"], "default": null},
+          {
+            "name": "notificationType",
+            "type": {
+              "type": "enum",
+              "name": "NotificationType",
+              "symbols": ["POST_LIKE", "COMMENT_ADDED", "COMMENT_LIKE", "FOLLOW_REQUEST", "FOLLOW", "FOLLOW_ACCEPT"]
+            }
+          }
+        ]
+      }
+      """);
+
+  private static NotificationEvent event(NotificationType type, NotificationMetaData metadata) {
+    return new NotificationEvent(
+        "event-1",
+        "receiver-1",
+        type,
+        new ActorProfile("actor-1", "행위자", "/profile.png"),
+        LocalDateTime.of(2024, 1, 1, 12, 0, 0, 123_456_000),
+        metadata
+    );
+  }
+
+  @Nested
+  @DisplayName("encode/decode 테스트")
+  class RoundTripTest {
+
+    /*[Case #1] 타입별 이벤트가 인코딩 후 동일하게 디코딩되어야 한다*/
+    @DisplayName("1. 타입별 이벤트가 인코딩 후 동일하게 디코딩되는지 검증")
+    @Test
+    void decode_shouldRestoreEncodedEvent() throws Exception {
+      //given
+      NotificationEvent postLike = event(NotificationType.POST_LIKE, new PostLikeMeta("post-1"));
+      NotificationEvent commentAdded = event(NotificationType.COMMENT_ADDED,
+          new PostCommentMeta("post-1", "comment-1", "내용"));
+      NotificationEvent commentLike = event(NotificationType.COMMENT_LIKE,
+          new CommentLikeMeta("post-1", "comment-1", "내용"));
+      NotificationEvent follow = event(NotificationType.FOLLOW, new FollowMeta());
+
+      //when
+      //then
+      assertThat(codec.decode(codec.encode(postLike))).isEqualTo(postLike);
+      assertThat(codec.decode(codec.encode(commentAdded))).isEqualTo(commentAdded);
+      assertThat(codec.decode(codec.encode(commentLike))).isEqualTo(commentLike);
+      assertThat(codec.decode(codec.encode(follow))).isEqualTo(follow);
+    }
+
+    /*[Case #2] nullable 필드가 비어 있어도 디코딩되어야 한다*/
+    @DisplayName("2. nullable 필드가 비어 있어도 디코딩되는지 검증")
+    @Test
+    void decode_shouldKeepNullFields() throws Exception {
+      //given
+      NotificationEvent event = new NotificationEvent(
+          "event-1", null, NotificationType.POST_LIKE, (LocalDateTime) null, null, null);
+
+      //when
+      NotificationEvent result = codec.decode(codec.encode(event));
+
+      //then
+      assertThat(result).isEqualTo(event);
+    }
+  }
+
+  @Nested
+  @DisplayName("스키마 호환성 테스트")
+  class CompatibilityTest {
+
+    /*[Case #1] 스키마의 notificationType 심볼이 NotificationType 과 일치해야 한다*/
+    @DisplayName("1. 스키마의 notificationType 심볼이 NotificationType 과 일치하는지 검증")
+    @Test
+    void schema_shouldContainAllNotificationTypes() throws Exception {
+      //given
+      Schema typeSchema = codec.getSchema().getField("notificationType").schema();
+
+      //when
+      //then
+      assertThat(typeSchema.getEnumSymbols()).containsExactlyElementsOf(
+          Arrays.stream(NotificationType.values()).map(Enum::name).toList());
+    }
+
+    /*[Case #2] 현재 스키마가 이전 스키마로 작성된 메시지를 읽을 수 있어야 한다*/
+    @DisplayName("2. 현재 스키마가 이전 스키마로 작성된 메시지를 읽을 수 있는지 검증")
+    @Test
+    void schema_shouldBeBackwardCompatible() throws Exception {
+      //given
+      //when
+      SchemaCompatibilityType result = SchemaCompatibility.checkReaderWriterCompatibility(
+          codec.getSchema(), PREVIOUS_SCHEMA).getType();
+
+      //then
+      assertThat(result).isEqualTo(SchemaCompatibilityType.COMPATIBLE);
+    }
+
+    /*[Case #3] 등록된 이전 스키마의 메시지는 기본값을 채워 디코딩되어야 한다*/
+    @DisplayName("3. 등록된 이전 스키마의 메시지가 기본값을 채워 디코딩되는지 검증")
+    @Test
+    void decode_shouldResolvePreviousSchema() throws Exception {
+      //given
+      GenericRecord record = new GenericData.Record(PREVIOUS_SCHEMA);
+      record.put("eventId", "event-1");
+      record.put("receiverUserId", "receiver-1");
+      record.put("notificationType", new GenericData.EnumSymbol(
+          PREVIOUS_SCHEMA.getField("notificationType").schema(), "FOLLOW"));
+      ByteBuffer buffer = new BinaryMessageEncoder<GenericRecord>(GenericData.get(),
+          PREVIOUS_SCHEMA).encode(record);
+      byte[] data = new byte[buffer.remaining()];
+      buffer.get(data);
+
+      codec.addPreviousSchema(PREVIOUS_SCHEMA);
+
+      //when
+      NotificationEvent result = codec.decode(data);
+
+      //then
+      assertThat(result.getEventId()).isEqualTo("event-1");
+      assertThat(result.getNotificationType()).isEqualTo(NotificationType.FOLLOW);
+      assertThat(result.getActorProfile()).isNull();
+      assertThat(result.getMetadata()).isNull();
+    }
+
+    /*[Case #4] 등록되지 않은 스키마의 메시지는 SerializationException 이 발생해야 한다*/
+    @DisplayName("4. 등록되지 않은 스키마의 메시지는 SerializationException 이 발생하는지 검증")
+    @Test
+    void decode_shouldThrow_whenSchemaUnknown() throws Exception {
+      //given
+      GenericRecord record = new GenericData.Record(PREVIOUS_SCHEMA);
+      record.put("eventId", "event-1");
+      record.put("notificationType", new GenericData.EnumSymbol(
+          PREVIOUS_SCHEMA.getField("notificationType").schema(), "FOLLOW"));
+      ByteBuffer buffer = new BinaryMessageEncoder<GenericRecord>(GenericData.get(),
+          PREVIOUS_SCHEMA).encode(record);
+      byte[] data = new byte[buffer.remaining()];
+      buffer.get(data);
+
+      //when
+      //then
+      assertThatThrownBy(() -> codec.decode(data))
+          .isInstanceOf(SerializationException.class);
+    }
+  }
+}
@@ -0,0 +1,175 @@
+package com.threadly.notification.adapter.kafka.notification.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.threadly.notification.core.domain.notification.NotificationType;
+import com.threadly.notification.core.domain.notification.metadata.CommentLikeMeta;
+import com.threadly.notification.core.domain.notification.metadata.FollowAcceptMeta;
+import com.threadly.notification.core.domain.notification.metadata.FollowMeta;
+import com.threadly.notification.core.domain.notification.metadata.FollowRequestMeta;
+import com.threadly.notification.core.domain.notification.metadata.PostCommentMeta;
+import com.threadly.notification.core.domain.notification.metadata.PostLikeMeta;
+import com.threadly.notification.core.domain.user.ActorProfile;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.JacksonUtils;
+
+/**
+ * NotificationEventDeserializer 테스트
+ */
+class NotificationEventDeserializerTest {
+
+  private final ObjectMapper objectMapper = JacksonUtils.enhancedObjectMapper();
+
+  private NotificationEvent read(String notificationType, String metadata) throws Exception {
+    return objectMapper.readValue("""
+        {
+          "eventId": "event-1",
+          "receiverUserId": "receiver-1",
+          "notificationType": "%s",
+          "actorProfile": {"userId": "actor-1", "nickname": "행위자", "profileImageUrl": "/profile.png"},
+          "occurredAt": "2024-01-01T12:00:00",
+          "metadata": %s
+        }
+        """.formatted(notificationType, metadata), NotificationEvent.class);
+  }
+
+  @Nested
+  @DisplayName("타입별 metadata 역직렬화 테스트")
+  class TypedMetadataTest {
+
+    /*[Case #1] POST_LIKE 타입이면 PostLikeMeta로 역직렬화되어야 한다*/
+    @DisplayName("1. POST_LIKE 타입이면 PostLikeMeta로 역직렬화되는지 검증")
+    @Test
+    void deserialize_shouldMapToPostLikeMeta() throws Exception {
+      //given
+      //when
+      NotificationEvent event = read("POST_LIKE", "{\"postId\": \"post-1\"}");
+
+      //then
+      assertThat(event.getMetadata()).isEqualTo(new PostLikeMeta("post-1"));
+      assertThat(event.getEventId()).isEqualTo("event-1");
+      assertThat(event.getReceiverUserId()).isEqualTo("receiver-1");
+      assertThat(event.getActorProfile()).isEqualTo(
+          new ActorProfile("actor-1", "행위자", "/profile.png"));
+      assertThat(event.getOccurredAt()).isEqualTo(LocalDateTime.of(2024, 1, 1, 12, 0));
+    }
+
+    /*[Case #2] COMMENT_ADDED 타입이면 PostCommentMeta로 역직렬화되어야 한다*/
+    @DisplayName("2. COMMENT_ADDED 타입이면 PostCommentMeta로 역직렬화되는지 검증")
+    @Test
+    void deserialize_shouldMapToPostCommentMeta() throws Exception {
+      //given
+      //when
+      NotificationEvent event = read("COMMENT_ADDED",
+          "{\"postId\": \"post-1\", \"commentId\": \"comment-1\", \"commentExcerpt\": \"내용\"}");
+
+      //then
+      assertThat(event.getMetadata()).isEqualTo(
+          new PostCommentMeta("post-1", "comment-1", "내용"));
+    }
+
+    /*[Case #3] COMMENT_LIKE 타입이면 CommentLikeMeta로 역직렬화되어야 한다*/
+    @DisplayName("3. COMMENT_LIKE 타입이면 CommentLikeMeta로 역직렬화되는지 검증")
+    @Test
+    void deserialize_shouldMapToCommentLikeMeta() throws Exception {
+      //given
+      //when
+      NotificationEvent event = read("COMMENT_LIKE",
+          "{\"postId\": \"post-1\", \"commentId\": \"comment-1\", \"commentExcerpt\": \"내용\"}");
+
+      //then
+      assertThat(event.getMetadata()).isEqualTo(
+          new CommentLikeMeta("post-1", "comment-1", "내용"));
+    }
+
+    /*[Case #4] 팔로우 계열 타입이면 필드 없는 metadata로 역직렬화되어야 한다*/
+    @DisplayName("4. 팔로우 계열 타입이면 필드 없는 metadata로 역직렬화되는지 검증")
+    @Test
+    void deserialize_shouldMapToFollowMetas() throws Exception {
+      //given
+      //when
+      NotificationEvent followRequest = read("FOLLOW_REQUEST", "{}");
+      NotificationEvent followAccept = read("FOLLOW_ACCEPT", "{}");
+      NotificationEvent follow = read("FOLLOW", "{}");
+
+      //then
+      assertThat(followRequest.getMetadata()).isInstanceOf(FollowRequestMeta.class);
+      assertThat(followAccept.getMetadata()).isInstanceOf(FollowAcceptMeta.class);
+      assertThat(follow.getMetadata()).isInstanceOf(FollowMeta.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("필드 순서 및 예외 입력 테스트")
+  class FieldOrderTest {
+
+    /*[Case #1] metadata가 notificationType보다 먼저 와도 타입에 맞게 역직렬화되어야 한다*/
+    @DisplayName("1. metadata가 notificationType보다 먼저 와도 타입에 맞게 역직렬화되는지 검증")
+    @Test
+    void deserialize_shouldMapMetadata_whenMetadataPrecedesType() throws Exception {
+      //given
+      String json = """
+          {"metadata": {"postId": "post-1"}, "eventId": "event-1", "notificationType": "POST_LIKE"}
+          """;
+
+      //when
+      NotificationEvent event = objectMapper.readValue(json, NotificationEvent.class);
+
+      //then
+      assertThat(event.getNotificationType()).isEqualTo(NotificationType.POST_LIKE);
+      assertThat(event.getMetadata()).isEqualTo(new PostLikeMeta("post-1"));
+    }
+
+    /*[Case #2] 알 수 없는 필드는 무시되어야 한다*/
+    @DisplayName("2. 알 수 없는 필드가 무시되는지 검증")
+    @Test
+    void deserialize_shouldIgnoreUnknownFields() throws Exception {
+      //given
+      //when
+      NotificationEvent event = read("POST_LIKE",
+          "{\"type\": \"POST_LIKE\", \"postId\": \"post-1\", \"extra\": {\"nested\": [1, 2]}}");
+
+      //then
+      assertThat(event.getMetadata()).isEqualTo(new PostLikeMeta("post-1"));
+    }
+
+    /*[Case #3] metadata가 null이면 metadata 없이 역직렬화되어야 한다*/
+    @DisplayName("3. metadata가 null이면 metadata 없이 역직렬화되는지 검증")
+    @Test
+    void deserialize_shouldLeaveMetadataNull_whenMetadataIsNull() throws Exception {
+      //given
+      //when
+      NotificationEvent event = read("POST_LIKE", "null");
+
+      //then
+      assertThat(event.getMetadata()).isNull();
+      assertThat(event.getEventId()).isEqualTo("event-1");
+    }
+
+    /*[Case #4] 직렬화한 이벤트가 동일하게 역직렬화되어야 한다*/
+    @DisplayName("4. 직렬화한 이벤트가 동일하게 역직렬화되는지 검증")
+    @Test
+    void deserialize_shouldRoundTripSerializedEvent() throws Exception {
+      //given
+      NotificationEvent event = new NotificationEvent(
+          "event-1",
+          "receiver-1",
+          NotificationType.COMMENT_ADDED,
+          new ActorProfile("actor-1", "행위자", "/profile.png"),
+          LocalDateTime.of(2024, 1, 1, 12, 0),
+          new PostCommentMeta("post-1", "comment-1", "내용")
+      );
+
+      //when
+      NotificationEvent result = objectMapper.readValue(
+          objectMapper.writeValueAsBytes(event), NotificationEvent.class);
+
+      //then
+      assertThat(result).isEqualTo(event);
+    }
+  }
+}
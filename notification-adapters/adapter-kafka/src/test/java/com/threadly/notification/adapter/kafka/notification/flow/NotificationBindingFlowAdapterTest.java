@@ -0,0 +1,78 @@
+package com.threadly.notification.adapter.kafka.notification.flow;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.stream.binding.BindingsLifecycleController;
+import org.springframework.cloud.stream.binding.BindingsLifecycleController.State;
+
+/**
+ * NotificationBindingFlowAdapter 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class NotificationBindingFlowAdapterTest {
+
+  private NotificationBindingFlowAdapter notificationBindingFlowAdapter;
+
+  @Mock
+  private BindingsLifecycleController bindingsLifecycleController;
+
+  @BeforeEach
+  void setUp() {
+    notificationBindingFlowAdapter = new NotificationBindingFlowAdapter(
+        bindingsLifecycleController, new String[]{"notification-in-0", "notificationBatch-in-0"});
+  }
+
+  @Nested
+  @DisplayName("pause/resume 테스트")
+  class PauseResumeTest {
+
+    /*[Case #1] pause 시 단건/배치 바인딩이 모두 PAUSED 상태로 변경되어야 한다*/
+    @DisplayName("1. pause 시 단건/배치 바인딩이 모두 PAUSED 상태로 변경되는지 검증")
+    @Test
+    void pause_shouldPauseNotificationBinding() throws Exception {
+      //given
+      //when
+      notificationBindingFlowAdapter.pause();
+
+      //then
+      verify(bindingsLifecycleController).changeState("notification-in-0", State.PAUSED);
+      verify(bindingsLifecycleController).changeState("notificationBatch-in-0", State.PAUSED);
+    }
+
+    /*[Case #2] resume 시 단건/배치 바인딩이 모두 RESUMED 상태로 변경되어야 한다*/
+    @DisplayName("2. resume 시 단건/배치 바인딩이 모두 RESUMED 상태로 변경되는지 검증")
+    @Test
+    void resume_shouldResumeNotificationBinding() throws Exception {
+      //given
+      //when
+      notificationBindingFlowAdapter.resume();
+
+      //then
+      verify(bindingsLifecycleController).changeState("notification-in-0", State.RESUMED);
+      verify(bindingsLifecycleController).changeState("notificationBatch-in-0", State.RESUMED);
+    }
+
+    /*[Case #3] 한 바인딩의 상태 변경에 실패해도 예외 없이 나머지 바인딩이 변경되어야 한다*/
+    @DisplayName("3. 한 바인딩의 상태 변경에 실패해도 예외 없이 나머지 바인딩이 변경되는지 검증")
+    @Test
+    void pause_shouldSwallowFailure() throws Exception {
+      //given
+      doThrow(new IllegalStateException("binding not found"))
+          .when(bindingsLifecycleController).changeState("notification-in-0", State.PAUSED);
+
+      //when
+      //then
+      assertThatCode(() -> notificationBindingFlowAdapter.pause()).doesNotThrowAnyException();
+      verify(bindingsLifecycleController).changeState("notificationBatch-in-0", State.PAUSED);
+    }
+  }
+}
@@ -0,0 +1,199 @@
+package com.threadly.notification.adapter.kafka.notification.parallel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * KeyOrderedDispatcher 테스트
+ */
+class KeyOrderedDispatcherTest {
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final KeyOrderedDispatcher keyOrderedDispatcher =
+      new KeyOrderedDispatcher(meterRegistry, 4, 16);
+
+  @AfterEach
+  void tearDown() throws Exception {
+    keyOrderedDispatcher.shutdown();
+  }
+
+  /*[Case #1] 같은 key의 작업은 적재 순서대로 처리되어야 한다*/
+  @DisplayName("1. 같은 key의 작업이 적재 순서대로 처리되는지 검증")
+  @Test
+  void dispatch_shouldKeepOrder_forSameKey() throws Exception {
+    //given
+    List<Integer> processed = new CopyOnWriteArrayList<>();
+    CountDownLatch done = new CountDownLatch(100);
+
+    //when
+    for (int i = 0; i < 100; i++) {
+      int sequence = i;
+      keyOrderedDispatcher.dispatch("receiver-1", () -> {
+        processed.add(sequence);
+        done.countDown();
+      });
+    }
+
+    //then
+    assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(processed).isSorted().hasSize(100);
+  }
+
+  /*[Case #2] 다른 key의 작업은 느린 작업에 막히지 않아야 한다*/
+  @DisplayName("2. 다른 key의 작업이 느린 작업에 막히지 않는지 검증")
+  @Test
+  void dispatch_shouldNotBlockOtherKeys_whenOneLaneIsSlow() throws Exception {
+    //given
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch fastDone = new CountDownLatch(1);
+    String slowKey = "receiver-slow";
+    String fastKey = keyOnOtherLane(slowKey);
+
+    keyOrderedDispatcher.dispatch(slowKey, () -> {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+
+    //when
+    keyOrderedDispatcher.dispatch(fastKey, fastDone::countDown);
+
+    //then
+    assertThat(fastDone.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(keyOrderedDispatcher.inFlight()).isEqualTo(1);
+
+    release.countDown();
+  }
+
+  /*[Case #3] 처리 완료 후 in-flight 지표가 0으로 돌아와야 한다*/
+  @DisplayName("3. 처리 완료 후 in-flight 지표가 0으로 돌아오는지 검증")
+  @Test
+  void dispatch_shouldReleaseInFlight_afterCompletion() throws Exception {
+    //given
+    CountDownLatch done = new CountDownLatch(10);
+
+    //when
+    for (int i = 0; i < 10; i++) {
+      keyOrderedDispatcher.dispatch("receiver-" + i, done::countDown);
+    }
+
+    //then
+    assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    keyOrderedDispatcher.shutdown();
+    assertThat(meterRegistry.get("notification_consumer_in_flight").gauge().value()).isZero();
+  }
+
+  /*[Case #4] 처리 중인 작업이 없으면 lane 수가 변경되어야 한다*/
+  @DisplayName("4. 처리 중인 작업이 없으면 lane 수가 변경되는지 검증")
+  @Test
+  void resize_shouldChangeActiveLanes_whenIdle() throws Exception {
+    //given
+    MeterRegistry registry = new SimpleMeterRegistry();
+    KeyOrderedDispatcher dispatcher = new KeyOrderedDispatcher(registry, 2, 8, 16);
+
+    try {
+      //when
+      boolean resized = dispatcher.resize(6);
+
+      //then
+      assertThat(resized).isTrue();
+      assertThat(dispatcher.activeLanes()).isEqualTo(6);
+      assertThat(registry.get("notification_consumer_active_lanes").gauge().value())
+          .isEqualTo(6.0);
+    } finally {
+      dispatcher.shutdown();
+    }
+  }
+
+  /*[Case #5] 처리 중인 작업이 있어도 lane 수가 바로 변경되고, 그 key 는 작업이 끝날 때까지 같은 lane 에서 순서대로 처리되어야 한다*/
+  @DisplayName("5. 처리 중인 작업이 있어도 lane 수가 바로 변경되고 같은 key 의 순서가 유지되는지 검증")
+  @Test
+  void resize_shouldKeepKeyOnLane_whileInFlight() throws Exception {
+    //given
+    KeyOrderedDispatcher dispatcher = new KeyOrderedDispatcher(new SimpleMeterRegistry(), 2, 8, 16);
+    String key = keyMovedByResize(2, 5);
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(2);
+    List<String> processed = new CopyOnWriteArrayList<>();
+    dispatcher.dispatch(key, () -> {
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      processed.add("first:" + Thread.currentThread().getName());
+      done.countDown();
+    });
+
+    try {
+      //when
+      boolean resized = dispatcher.resize(5);
+      dispatcher.dispatch(key, () -> {
+        processed.add("second:" + Thread.currentThread().getName());
+        done.countDown();
+      });
+      release.countDown();
+
+      //then
+      assertThat(resized).isTrue();
+      assertThat(dispatcher.activeLanes()).isEqualTo(5);
+      assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+      assertThat(processed).hasSize(2);
+      assertThat(processed.get(0)).startsWith("first:");
+      assertThat(processed.get(1)).startsWith("second:");
+      assertThat(processed.get(0).substring("first:".length()))
+          .isEqualTo(processed.get(1).substring("second:".length()));
+    } finally {
+      release.countDown();
+      dispatcher.shutdown();
+    }
+  }
+
+  /*[Case #6] lane 수는 최대 lane 수를 넘지 않아야 한다*/
+  @DisplayName("6. lane 수가 최대 lane 수를 넘지 않는지 검증")
+  @Test
+  void resize_shouldBoundToMaxLanes() throws Exception {
+    //given
+    KeyOrderedDispatcher dispatcher = new KeyOrderedDispatcher(new SimpleMeterRegistry(), 2, 8, 16);
+
+    try {
+      //when
+      dispatcher.resize(100);
+
+      //then
+      assertThat(dispatcher.activeLanes()).isEqualTo(8);
+    } finally {
+      dispatcher.shutdown();
+    }
+  }
+
+  private static String keyMovedByResize(int from, int to) {
+    for (int i = 0; ; i++) {
+      String candidate = "receiver-" + i;
+      if (Math.floorMod(candidate.hashCode(), from) != Math.floorMod(candidate.hashCode(), to)) {
+        return candidate;
+      }
+    }
+  }
+
+  private static String keyOnOtherLane(String key) {
+    for (int i = 0; ; i++) {
+      String candidate = "receiver-" + i;
+      if (Math.floorMod(candidate.hashCode(), 4) != Math.floorMod(key.hashCode(), 4)) {
+        return candidate;
+      }
+    }
+  }
+}
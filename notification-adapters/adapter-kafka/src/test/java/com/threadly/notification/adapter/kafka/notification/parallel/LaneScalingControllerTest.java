@@ -0,0 +1,161 @@
+package com.threadly.notification.adapter.kafka.notification.parallel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * LaneScalingController 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class LaneScalingControllerTest {
+
+  @Mock
+  private KeyOrderedDispatcher keyOrderedDispatcher;
+
+  @Mock
+  private ConsumerLagProbe consumerLagProbe;
+
+  @Mock
+  private ApplicationEventPublisher applicationEventPublisher;
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private LaneScalingController laneScalingController;
+
+  @BeforeEach
+  void setUp() {
+    laneScalingController = new LaneScalingController(
+        keyOrderedDispatcher, consumerLagProbe, applicationEventPublisher, meterRegistry,
+        2, 1000L, 100L, 200.0, 3, 0L
+    );
+  }
+
+  @Nested
+  @DisplayName("evaluate 테스트")
+  class EvaluateTest {
+
+    /*[Case #1] lag 이 scale-up-lag 이상이면 lane 을 두 배로 늘리고 이벤트를 발행해야 한다*/
+    @DisplayName("1. lag 이 scale-up-lag 이상이면 lane 을 두 배로 늘리고 이벤트를 발행하는지 검증")
+    @Test
+    void evaluate_shouldDoubleLanes_whenLagIsHigh() throws Exception {
+      //given
+      when(consumerLagProbe.partitionLag()).thenReturn(Map.of(0, 800L, 1, 700L));
+      when(keyOrderedDispatcher.activeLanes()).thenReturn(4);
+      when(keyOrderedDispatcher.maxLanes()).thenReturn(32);
+      when(keyOrderedDispatcher.resize(eq(8))).thenReturn(true);
+
+      ArgumentCaptor<LaneScalingEvent> eventCaptor = ArgumentCaptor.forClass(LaneScalingEvent.class);
+
+      //when
+      laneScalingController.evaluate();
+
+      //then
+      verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
+      LaneScalingEvent event = eventCaptor.getValue();
+      assertThat(event.previousLanes()).isEqualTo(4);
+      assertThat(event.currentLanes()).isEqualTo(8);
+      assertThat(event.totalLag()).isEqualTo(1500L);
+      assertThat(event.reason()).isEqualTo("lag");
+      assertThat(meterRegistry.get("notification_consumer_lag_total").gauge().value())
+          .isEqualTo(1500.0);
+      assertThat(meterRegistry.get("notification_consumer_lag").tag("partition", "0").gauge()
+          .value()).isEqualTo(800.0);
+      assertThat(meterRegistry.get("notification_consumer_scaling").tag("direction", "up")
+          .counter().count()).isEqualTo(1.0);
+    }
+
+    /*[Case #2] lag 이 남아 있고 처리 시간이 길면 lane 을 하나 늘려야 한다*/
+    @DisplayName("2. lag 이 남아 있고 처리 시간이 길면 lane 을 하나 늘리는지 검증")
+    @Test
+    void evaluate_shouldAddLane_whenLatencyIsHigh() throws Exception {
+      //given
+      when(consumerLagProbe.partitionLag()).thenReturn(Map.of(0, 500L));
+      when(keyOrderedDispatcher.activeLanes()).thenReturn(4);
+      when(keyOrderedDispatcher.maxLanes()).thenReturn(32);
+      when(keyOrderedDispatcher.processedCount()).thenReturn(10L);
+      when(keyOrderedDispatcher.processingTimeMillis()).thenReturn(5000.0);
+      when(keyOrderedDispatcher.resize(eq(5))).thenReturn(true);
+
+      //when
+      laneScalingController.evaluate();
+
+      //then
+      verify(keyOrderedDispatcher).resize(eq(5));
+    }
+
+    /*[Case #3] lag 이 낮은 주기가 이어지면 lane 을 줄여야 한다*/
+    @DisplayName("3. lag 이 낮은 주기가 이어지면 lane 을 줄이는지 검증")
+    @Test
+    void evaluate_shouldShrinkLanes_afterQuietTicks() throws Exception {
+      //given
+      when(consumerLagProbe.partitionLag()).thenReturn(Map.of(0, 10L));
+      when(keyOrderedDispatcher.activeLanes()).thenReturn(8);
+      when(keyOrderedDispatcher.maxLanes()).thenReturn(32);
+      when(keyOrderedDispatcher.resize(eq(6))).thenReturn(true);
+
+      //when
+      laneScalingController.evaluate();
+      laneScalingController.evaluate();
+      verify(keyOrderedDispatcher, never()).resize(anyInt());
+      laneScalingController.evaluate();
+
+      //then
+      verify(keyOrderedDispatcher).resize(eq(6));
+      assertThat(meterRegistry.get("notification_consumer_scaling").tag("direction", "down")
+          .counter().count()).isEqualTo(1.0);
+    }
+
+    /*[Case #4] 최소 lane 수 이하로는 줄이지 않아야 한다*/
+    @DisplayName("4. 최소 lane 수 이하로는 줄이지 않는지 검증")
+    @Test
+    void evaluate_shouldNotShrinkBelowMinLanes() throws Exception {
+      //given
+      when(consumerLagProbe.partitionLag()).thenReturn(Map.of());
+      when(keyOrderedDispatcher.activeLanes()).thenReturn(2);
+      when(keyOrderedDispatcher.maxLanes()).thenReturn(32);
+
+      //when
+      for (int i = 0; i < 5; i++) {
+        laneScalingController.evaluate();
+      }
+
+      //then
+      verify(keyOrderedDispatcher, never()).resize(anyInt());
+    }
+
+    /*[Case #5] lane 수 변경에 실패하면 이벤트를 발행하지 않아야 한다*/
+    @DisplayName("5. lane 수 변경에 실패하면 이벤트를 발행하지 않는지 검증")
+    @Test
+    void evaluate_shouldNotPublish_whenResizeFails() throws Exception {
+      //given
+      when(consumerLagProbe.partitionLag()).thenReturn(Map.of(0, 5000L));
+      when(keyOrderedDispatcher.activeLanes()).thenReturn(4);
+      when(keyOrderedDispatcher.maxLanes()).thenReturn(32);
+      when(keyOrderedDispatcher.resize(eq(8))).thenReturn(false);
+
+      //when
+      laneScalingController.evaluate();
+
+      //then
+      verify(applicationEventPublisher, never()).publishEvent(any());
+    }
+  }
+}
@@ -0,0 +1,120 @@
+package com.threadly.notification.adapter.kafka.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.threadly.notification.adapter.kafka.utils.RetryAttemptUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+/**
+ * RetryTopicRouter 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class RetryTopicRouterTest {
+
+  private RetryTopicRouter retryTopicRouter;
+
+  @Mock
+  private KafkaTemplate<String, Object> kafkaTemplate;
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @BeforeEach
+  void setUp() {
+    retryTopicRouter = new RetryTopicRouter(kafkaTemplate, meterRegistry);
+  }
+
+  @SuppressWarnings("unchecked")
+  private ProducerRecord<String, Object> sentRecord() {
+    ArgumentCaptor<ProducerRecord<String, Object>> captor =
+        ArgumentCaptor.forClass(ProducerRecord.class);
+    verify(kafkaTemplate).send(captor.capture());
+    return captor.getValue();
+  }
+
+  private static String header(ProducerRecord<String, Object> record, String name) {
+    return new String(record.headers().lastHeader(name).value(), StandardCharsets.UTF_8);
+  }
+
+  @Nested
+  @DisplayName("route 테스트")
+  class RouteTest {
+
+    /*[Case #1] 첫 실패는 1s 재시도 토픽으로 attempt 2 와 함께 이동해야 한다*/
+    @DisplayName("1. 첫 실패가 1s 재시도 토픽으로 attempt header 와 함께 이동하는지 검증")
+    @Test
+    void route_shouldSendToFirstTier_whenFirstAttemptFails() throws Exception {
+      //given
+      when(kafkaTemplate.send(any(ProducerRecord.class)))
+          .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+      long before = System.currentTimeMillis();
+
+      //when
+      String destination = retryTopicRouter.route("notification", "receiver-1", "payload", 1,
+          new IllegalStateException("mongo down"));
+
+      //then
+      ProducerRecord<String, Object> record = sentRecord();
+      assertThat(destination).isEqualTo("notification.retry.1s");
+      assertThat(record.topic()).isEqualTo("notification.retry.1s");
+      assertThat(record.key()).isEqualTo("receiver-1");
+      assertThat(header(record, RetryAttemptUtils.RETRY_ATTEMPT_HEADER)).isEqualTo("2");
+      assertThat(Long.parseLong(header(record, RetryAttemptUtils.RETRY_DUE_AT_HEADER)))
+          .isGreaterThanOrEqualTo(before + 1_000L);
+      assertThat(header(record, RetryAttemptUtils.EXCEPTION_MESSAGE_HEADER))
+          .isEqualTo("mongo down");
+    }
+
+    /*[Case #2] 모든 단계를 소진하면 DLT로 이동해야 한다*/
+    @DisplayName("2. 모든 단계를 소진하면 DLT로 이동하는지 검증")
+    @Test
+    void route_shouldSendToDeadLetter_whenAllTiersExhausted() throws Exception {
+      //given
+      when(kafkaTemplate.send(any(ProducerRecord.class)))
+          .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+
+      //when
+      String destination = retryTopicRouter.route("mail", "user@threadly.io", "payload", 4,
+          new IllegalStateException("smtp down"));
+
+      //then
+      assertThat(destination).isEqualTo("mail.DLT");
+      assertThat(RetryTier.isDeadLetterTopic(destination)).isTrue();
+      assertThat(sentRecord().topic()).isEqualTo("mail.DLT");
+      assertThat(meterRegistry.get("kafka_consumer_retry_routed").tag("destination", "mail.DLT")
+          .counter().count()).isEqualTo(1.0);
+    }
+
+    /*[Case #3] 발행에 실패하면 예외가 전파되어야 한다*/
+    @DisplayName("3. 발행에 실패하면 예외가 전파되는지 검증")
+    @Test
+    void route_shouldThrow_whenSendFails() throws Exception {
+      //given
+      when(kafkaTemplate.send(any(ProducerRecord.class)))
+          .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+      //when & then
+      assertThatThrownBy(() -> retryTopicRouter.route("notification", "receiver-1", "payload", 2,
+          null))
+          .isInstanceOf(KafkaException.class);
+    }
+  }
+}
@@ -0,0 +1,126 @@
+package com.threadly.notification.adapter.kafka.serde;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.threadly.notification.adapter.kafka.notification.dto.NotificationEvent;
+import com.threadly.notification.adapter.kafka.notification.dto.NotificationEventAvroCodec;
+import com.threadly.notification.adapter.kafka.notification.dto.NotificationEventKafkaDeserializer;
+import com.threadly.notification.core.domain.notification.NotificationType;
+import com.threadly.notification.core.domain.notification.metadata.PostLikeMeta;
+import com.threadly.notification.core.domain.user.ActorProfile;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.JacksonUtils;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+/**
+ * ContentTypeDeserializer 테스트
+ */
+class ContentTypeDeserializerTest {
+
+  private NotificationEventKafkaDeserializer deserializer;
+
+  private final NotificationEventAvroCodec codec = new NotificationEventAvroCodec();
+
+  private final NotificationEvent event = new NotificationEvent(
+      "event-1",
+      "receiver-1",
+      NotificationType.POST_LIKE,
+      new ActorProfile("actor-1", "행위자", "/profile.png"),
+      LocalDateTime.of(2024, 1, 1, 12, 0),
+      new PostLikeMeta("post-1")
+  );
+
+  @BeforeEach
+  void setUp() {
+    deserializer = new NotificationEventKafkaDeserializer();
+    deserializer.configure(Map.of(
+        JsonDeserializer.TRUSTED_PACKAGES, NotificationEvent.class.getPackageName(),
+        JsonDeserializer.USE_TYPE_INFO_HEADERS, false,
+        JsonDeserializer.VALUE_DEFAULT_TYPE, NotificationEvent.class.getName()
+    ), false);
+  }
+
+  private static Headers contentType(String header, String value) {
+    Headers headers = new RecordHeaders();
+    headers.add(header, value.getBytes(StandardCharsets.UTF_8));
+    return headers;
+  }
+
+  @Nested
+  @DisplayName("deserialize 테스트")
+  class DeserializeTest {
+
+    /*[Case #1] Avro content-type 이면 Avro 로 읽어야 한다*/
+    @DisplayName("1. Avro content-type 이면 Avro 로 읽는지 검증")
+    @Test
+    void deserialize_shouldDecodeAvro_whenContentTypeIsAvro() throws Exception {
+      //given
+      Headers headers = contentType(ContentTypeDeserializer.CONTENT_TYPE_HEADER,
+          "application/avro");
+
+      //when
+      NotificationEvent result = deserializer.deserialize("notification", headers,
+          codec.encode(event));
+
+      //then
+      assertThat(result).isEqualTo(event);
+    }
+
+    /*[Case #2] JSON 문자열로 기록된 header 와 vendor 타입도 Avro 로 인식해야 한다*/
+    @DisplayName("2. JSON 문자열로 기록된 header 와 vendor 타입도 Avro 로 인식하는지 검증")
+    @Test
+    void deserialize_shouldDecodeAvro_whenHeaderIsQuotedOrVendorType() throws Exception {
+      //given
+      Headers quoted = contentType(ContentTypeDeserializer.CONTENT_TYPE_HEADER,
+          "\"application/avro\"");
+      Headers vendor = contentType(ContentTypeDeserializer.KAFKA_CONTENT_TYPE_HEADER,
+          "application/vnd.threadly.notification+avro; charset=binary");
+
+      //when
+      //then
+      assertThat(deserializer.deserialize("notification", quoted, codec.encode(event)))
+          .isEqualTo(event);
+      assertThat(deserializer.deserialize("notification", vendor, codec.encode(event)))
+          .isEqualTo(event);
+    }
+
+    /*[Case #3] content-type header 가 없으면 JSON 으로 읽어야 한다*/
+    @DisplayName("3. content-type header 가 없으면 JSON 으로 읽는지 검증")
+    @Test
+    void deserialize_shouldFallbackToJson_whenHeaderMissing() throws Exception {
+      //given
+      byte[] json = JacksonUtils.enhancedObjectMapper().writeValueAsBytes(event);
+
+      //when
+      NotificationEvent result = deserializer.deserialize("notification", new RecordHeaders(),
+          json);
+
+      //then
+      assertThat(result).isEqualTo(event);
+    }
+
+    /*[Case #4] JSON content-type 이면 JSON 으로 읽어야 한다*/
+    @DisplayName("4. JSON content-type 이면 JSON 으로 읽는지 검증")
+    @Test
+    void deserialize_shouldReadJson_whenContentTypeIsJson() throws Exception {
+      //given
+      Headers headers = contentType(ContentTypeDeserializer.CONTENT_TYPE_HEADER,
+          "application/json");
+      byte[] json = JacksonUtils.enhancedObjectMapper().writeValueAsBytes(event);
+
+      //when
+      NotificationEvent result = deserializer.deserialize("notification", headers, json);
+
+      //then
+      assertThat(result).isEqualTo(event);
+    }
+  }
+}
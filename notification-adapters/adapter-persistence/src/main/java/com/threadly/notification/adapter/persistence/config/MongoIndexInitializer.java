@@ -0,0 +1,49 @@
+package com.threadly.notification.adapter.persistence.config;
+
+import com.threadly.notification.adapter.persistence.deadletter.doc.NotificationDeadLetterDoc;
+import com.threadly.notification.adapter.persistence.notification.doc.NotificationDoc;
+import com.threadly.notification.adapter.persistence.outbox.doc.MailOutboxDoc;
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 시작 시 doc 인덱스 생성
+ * <p>
+ * auto-index-creation 이 꺼져 있으므로 doc 에 선언된 인덱스를 직접 생성한다. 인덱스 정의는 doc 의 annotation 에서 읽으며,
+ * 이미 같은 정의의 인덱스가 있으면 변경하지 않는다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class MongoIndexInitializer {
+
+  private static final List<Class<?>> DOCUMENTS = List.of(
+      NotificationDoc.class,
+      NotificationDeadLetterDoc.class,
+      MailOutboxDoc.class
+  );
+
+  private final MongoTemplate mongoTemplate;
+
+  @PostConstruct
+  public void ensureIndexes() {
+    IndexResolver resolver = new MongoPersistentEntityIndexResolver(
+        mongoTemplate.getConverter().getMappingContext());
+
+    for (Class<?> document : DOCUMENTS) {
+      IndexOperations indexOperations = mongoTemplate.indexOps(document);
+      resolver.resolveIndexFor(document).forEach(index -> {
+        String name = indexOperations.ensureIndex(index);
+        log.info("Mongo 인덱스 확인: collection={}, index={}",
+            mongoTemplate.getCollectionName(document), name);
+      });
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package com.threadly.notification.adapter.persistence.deadletter.adapter;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.threadly.notification.adapter.persistence.deadletter.doc.NotificationDeadLetterDoc;
+import com.threadly.notification.adapter.persistence.deadletter.doc.NotificationDeadLetterDoc.DeadLetterStatus;
+import com.threadly.notification.adapter.persistence.deadletter.repository.NotificationDeadLetterRepository;
+import com.threadly.notification.core.domain.notification.NotificationType;
+import com.threadly.notification.core.domain.notification.metadata.NotificationMetaData;
+import com.threadly.notification.core.port.notification.in.NotificationCommand;
+import com.threadly.notification.core.port.notification.in.dto.NotificationDeadLetterCommand;
+import com.threadly.notification.core.port.notification.out.NotificationDeadLetterPort;
+import com.threadly.notification.core.port.notification.out.dto.PendingDeadLetter;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class NotificationDeadLetterPersistenceAdapter implements NotificationDeadLetterPort {
+
+  private static final TypeReference<Map<String, Object>> METADATA_MAP_TYPE = new TypeReference<>() {
+  };
+
+  private final NotificationDeadLetterRepository notificationDeadLetterRepository;
+
+  private final ObjectMapper objectMapper;
+
+  @Override
+  public void save(NotificationDeadLetterCommand command) {
+    NotificationCommand notification = command.command();
+
+    /*DLT 레코드 재전달 시 같은 이벤트가 두 번 재처리되지 않도록 eventId 당 하나만 저장*/
+    boolean inserted = notificationDeadLetterRepository.insertIfAbsent(
+        NotificationDeadLetterDoc.builder()
+            .eventId(notification.eventId())
+            .receiverId(notification.receiverId())
+            .notificationType(notification.notificationType())
+            .metadata(toMetadataMap(notification.metadata()))
+            .occurredAt(notification.occurredAt())
+            .actorProfile(notification.actorProfile())
+            .topic(command.topic())
+            .partition(command.partition())
+            .offset(command.offset())
+            .originalTopic(command.originalTopic())
+            .exceptionMessage(command.exceptionMessage())
+            .attempts(command.attempts())
+            .status(DeadLetterStatus.PENDING)
+            .failedAt(LocalDateTime.now())
+            .build()
+    );
+    if (!inserted) {
+      log.info("이미 저장된 최종 실패 알림: eventId={}, topic={}, offset={}",
+          notification.eventId(), command.topic(), command.offset());
+    }
+  }
+
+  @Override
+  public List<PendingDeadLetter> fetchPending(String cursorId, int limit) {
+    return notificationDeadLetterRepository.findPendingAfter(cursorId, limit).stream()
+        .map(doc -> new PendingDeadLetter(
+            doc.getId(),
+            new NotificationCommand(
+                doc.getEventId(),
+                doc.getReceiverId(),
+                doc.getNotificationType(),
+                toTypeMeta(doc.getNotificationType(), doc.getMetadata()),
+                doc.getOccurredAt(),
+                doc.getActorProfile()
+            )
+        ))
+        .toList();
+  }
+
+  @Override
+  public void markReplayed(String id) {
+    notificationDeadLetterRepository.updateReplayed(id);
+  }
+
+  @Override
+  public void markReplayFailed(String id, String reason) {
+    notificationDeadLetterRepository.updateReplayFailed(id, reason);
+  }
+
+  /**
+   * metadata -> Map
+   * <p>
+   * 재처리 전용 컬렉션이라 타입 정보 없이 필드만 보관하고, 복원 시 notificationType 으로 타입을 정한다.
+   *
+   * @param metadata
+   * @return
+   */
+  private Map<String, Object> toMetadataMap(NotificationMetaData metadata) {
+    return metadata == null ? null : objectMapper.convertValue(metadata, METADATA_MAP_TYPE);
+  }
+
+  /**
+   * Map -> 주어진 type에 해당하는 metadata
+   *
+   * @param type
+   * @param raw
+   * @return
+   */
+  private NotificationMetaData toTypeMeta(NotificationType type, Map<String, Object> raw) {
+    return raw == null ? null : objectMapper.convertValue(raw, type.getMetadataType());
+  }
+}
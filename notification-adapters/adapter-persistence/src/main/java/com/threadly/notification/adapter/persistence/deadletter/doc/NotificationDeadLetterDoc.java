@@ -0,0 +1,95 @@
+package com.threadly.notification.adapter.persistence.deadletter.doc;
+
+import com.threadly.notification.core.domain.notification.NotificationType;
+import com.threadly.notification.core.domain.user.ActorProfile;
+import java.time.LocalDateTime;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+
+/**
+ * 최종 실패 알림 doc
+ * <p>
+ * 재처리 시 원본 이벤트를 그대로 복원할 수 있도록 command 필드와 실패 위치(topic/partition/offset)를 함께 보관한다.
+ * DLT 레코드가 재전달되어도 한 번만 저장되도록 event_id 는 unique 이다.
+ */
+@Data
+@Document(collection = "notification_dead_letters")
+@CompoundIndex(name = "status_id_idx", def = "{'status': 1, '_id': 1}")
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationDeadLetterDoc {
+
+  @Id
+  @Field(targetType = FieldType.OBJECT_ID)
+  private String id;
+
+  @Indexed(name = "event_id_unique_idx", unique = true)
+  @Field("event_id")
+  private String eventId;
+
+  @Field("receiver_id")
+  private String receiverId;
+
+  @Field("notification_type")
+  private NotificationType notificationType;
+
+  @Field("metadata")
+  private Map<String, Object> metadata;
+
+  @Field("occurred_at")
+  private LocalDateTime occurredAt;
+
+  @Field("actor_profile")
+  private ActorProfile actorProfile;
+
+  @Field("topic")
+  private String topic;
+
+  @Field("partition")
+  private Integer partition;
+
+  @Field("offset")
+  private Long offset;
+
+  @Field("original_topic")
+  private String originalTopic;
+
+  @Field("exception_message")
+  private String exceptionMessage;
+
+  @Field("attempts")
+  private int attempts;
+
+  @Field("status")
+  private DeadLetterStatus status;
+
+  @Field("replay_attempts")
+  private int replayAttempts;
+
+  @Field("last_replay_error")
+  private String lastReplayError;
+
+  @Field("failed_at")
+  private LocalDateTime failedAt;
+
+  @Field("replayed_at")
+  private LocalDateTime replayedAt;
+
+  /**
+   * 최종 실패 알림 처리 상태
+   */
+  public enum DeadLetterStatus {
+    PENDING, //재처리 대기
+    REPLAYED //재처리 완료
+  }
+}
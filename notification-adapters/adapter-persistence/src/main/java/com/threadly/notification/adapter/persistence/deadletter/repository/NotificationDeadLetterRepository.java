@@ -0,0 +1,91 @@
+package com.threadly.notification.adapter.persistence.deadletter.repository;
+
+import com.threadly.notification.adapter.persistence.deadletter.doc.NotificationDeadLetterDoc;
+import com.threadly.notification.adapter.persistence.deadletter.doc.NotificationDeadLetterDoc.DeadLetterStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 최종 실패 알림 repository
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationDeadLetterRepository {
+
+  private final MongoTemplate mongoTemplate;
+
+  /**
+   * 같은 eventId 의 최종 실패 알림이 없을 때만 저장
+   *
+   * @param doc
+   * @return 이미 저장되어 있으면 false
+   */
+  public boolean insertIfAbsent(NotificationDeadLetterDoc doc) {
+    try {
+      mongoTemplate.insert(doc);
+      return true;
+    } catch (DuplicateKeyException e) {
+      return false;
+    }
+  }
+
+  /**
+   * 재처리 대기 중인 알림을 id 오름차순으로 조회
+   *
+   * @param cursorId
+   * @param limit
+   * @return
+   */
+  public List<NotificationDeadLetterDoc> findPendingAfter(String cursorId, int limit) {
+    Criteria criteria = Criteria.where("status").is(DeadLetterStatus.PENDING);
+    if (cursorId != null) {
+      criteria = criteria.and("_id").gt(new ObjectId(cursorId));
+    }
+
+    Query query = new Query(criteria)
+        .with(Sort.by(Direction.ASC, "_id"))
+        .limit(limit);
+
+    return mongoTemplate.find(query, NotificationDeadLetterDoc.class);
+  }
+
+  /**
+   * 재처리 완료 처리
+   *
+   * @param id
+   */
+  public void updateReplayed(String id) {
+    Query query = new Query(Criteria.where("_id").is(new ObjectId(id)));
+    Update update = new Update()
+        .set("status", DeadLetterStatus.REPLAYED)
+        .set("replayed_at", LocalDateTime.now())
+        .inc("replay_attempts", 1);
+
+    mongoTemplate.updateFirst(query, update, NotificationDeadLetterDoc.class);
+  }
+
+  /**
+   * 재처리 실패 기록
+   *
+   * @param id
+   * @param reason
+   */
+  public void updateReplayFailed(String id, String reason) {
+    Query query = new Query(Criteria.where("_id").is(new ObjectId(id)));
+    Update update = new Update()
+        .set("last_replay_error", reason)
+        .inc("replay_attempts", 1);
+
+    mongoTemplate.updateFirst(query, update, NotificationDeadLetterDoc.class);
+  }
+}
@@ -1,5 +1,6 @@
 package com.threadly.notification.adapter.persistence.notification.adapter;
 
+import com.mongodb.bulk.BulkWriteError;
 import com.threadly.notification.adapter.persistence.notification.doc.NotificationDoc;
 import com.threadly.notification.adapter.persistence.notification.mapper.NotificationMapper;
 import com.threadly.notification.adapter.persistence.notification.repository.MongoNotificationRepository;
@@ -9,9 +10,15 @@ import com.threadly.notification.core.port.notification.in.dto.GetNotificationsQ
 import com.threadly.notification.core.port.notification.in.dto.NotificationDetails;
 import com.threadly.notification.core.port.notification.out.NotificationCommandPort;
 import com.threadly.notification.core.port.notification.out.NotificationQueryPort;
+import com.threadly.notification.core.port.notification.out.dto.ReplayNotification;
+import com.threadly.notification.core.port.notification.out.dto.SavedNotificationBatch;
 import com.threadly.notification.core.port.notification.out.dto.SavedNotificationEventDoc;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,27 +34,60 @@ public class NotificationPersistenceAdapter implements NotificationCommandPort,
   private final MongoNotificationRepository mongoNotificationRepository;
   private final NotificationCustomRepository notificationCustomRepository;
 
+  private static final int DUPLICATE_KEY_ERROR_CODE = 11000;
+
   @Override
   public SavedNotificationEventDoc save(Notification notification) {
-    NotificationDoc saved = mongoNotificationRepository.save(
-        NotificationDoc.newDoc(
-            notification.getEventId(),
-            notification.getReceiverId(),
-            new ObjectId().toHexString(),
-            notification.getNotificationType(),
-            notification.getMetadata(),
-            notification.getOccurredAt(),
-            notification.getActorProfile()
-        )
-    );
+    NotificationDoc saved = mongoNotificationRepository.save(toNewDoc(notification));
 
-    return new SavedNotificationEventDoc(
-        saved.getEventId(),
-        saved.getSortId(),
-        saved.getNotificationType(),
-        saved.getMetadata(),
-        saved.getOccurredAt()
-    );
+    return toSavedDoc(saved);
+  }
+
+  @Override
+  public Optional<SavedNotificationEventDoc> saveIfAbsent(Notification notification) {
+    NotificationDoc doc = toNewDoc(notification);
+
+    if (!notificationCustomRepository.insertIfAbsent(doc)) {
+      return Optional.empty();
+    }
+
+    return Optional.of(toSavedDoc(doc));
+  }
+
+  @Override
+  public SavedNotificationBatch saveAll(List<Notification> notifications) {
+    List<NotificationDoc> docs = notifications.stream()
+        .map(NotificationPersistenceAdapter::toNewDoc)
+        .toList();
+
+    /*index 기준 write error 매핑*/
+    Map<Integer, BulkWriteError> errors = notificationCustomRepository.insertAllUnordered(docs)
+        .stream()
+        .collect(Collectors.toMap(BulkWriteError::getIndex, Function.identity()));
+
+    List<SavedNotificationEventDoc> saved = new ArrayList<>(docs.size());
+    List<String> duplicated = new ArrayList<>();
+    Map<String, String> failures = new LinkedHashMap<>();
+
+    for (int i = 0; i < docs.size(); i++) {
+      NotificationDoc doc = docs.get(i);
+      BulkWriteError error = errors.get(i);
+
+      if (error == null) {
+        saved.add(toSavedDoc(doc));
+      } else if (error.getCode() == DUPLICATE_KEY_ERROR_CODE) {
+        duplicated.add(doc.getEventId());
+      } else {
+        failures.put(doc.getEventId(), error.getMessage());
+      }
+    }
+
+    if (!errors.isEmpty()) {
+      log.warn("알림 일괄 저장 일부 실패: total={}, duplicated={}, failed={}", docs.size(),
+          duplicated.size(), failures.size());
+    }
+
+    return new SavedNotificationBatch(saved, duplicated, failures);
   }
 
   @Override
@@ -110,6 +150,20 @@ public class NotificationPersistenceAdapter implements NotificationCommandPort,
         .map(NotificationMapper::toDomain);
   }
 
+  @Override
+  public List<ReplayNotification> fetchAfterSortId(String receiverId, String afterSortId,
+      int limit) {
+    return notificationCustomRepository.findAfterSortId(receiverId, afterSortId, limit).stream()
+        .map(doc -> new ReplayNotification(NotificationMapper.toDomain(doc), doc.getSortId()))
+        .toList();
+  }
+
+  @Override
+  public Optional<String> fetchSortIdByEventIdAndReceiverId(String eventId, String receiverId) {
+    return mongoNotificationRepository.findByEventIdAndReceiverId(eventId, receiverId)
+        .map(NotificationDoc::getSortId);
+  }
+
   @Override
   public void markAsRead(Notification notification) {
     notificationCustomRepository.updateIsReadByEventId(notification.getEventId(),
@@ -120,4 +174,32 @@ public class NotificationPersistenceAdapter implements NotificationCommandPort,
   public void markAllAsRead(String receiverId) {
     notificationCustomRepository.updateAllIsReadByReceiverId(receiverId);
   }
+
+  /**
+   * 신규 저장용 doc 생성
+   *
+   * @param notification
+   * @return
+   */
+  private static NotificationDoc toNewDoc(Notification notification) {
+    return NotificationDoc.newDoc(
+        notification.getEventId(),
+        notification.getReceiverId(),
+        new ObjectId().toHexString(),
+        notification.getNotificationType(),
+        notification.getMetadata(),
+        notification.getOccurredAt(),
+        notification.getActorProfile()
+    );
+  }
+
+  private static SavedNotificationEventDoc toSavedDoc(NotificationDoc doc) {
+    return new SavedNotificationEventDoc(
+        doc.getEventId(),
+        doc.getSortId(),
+        doc.getNotificationType(),
+        doc.getMetadata(),
+        doc.getOccurredAt()
+    );
+  }
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import lombok.Data;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
@@ -28,6 +29,7 @@ import org.springframework.data.mongodb.core.mapping.FieldType;
 
 @Data
 @Document(collection = "notifications")
+@CompoundIndex(name = "receiver_id_sort_id_idx", def = "{'receiver_id': 1, 'sort_id': 1}")
 @Builder
 @AllArgsConstructor
 public class NotificationDoc {
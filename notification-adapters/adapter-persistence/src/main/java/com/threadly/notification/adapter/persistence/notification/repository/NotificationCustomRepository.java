@@ -1,12 +1,19 @@
 package com.threadly.notification.adapter.persistence.notification.repository;
 
+import com.mongodb.bulk.BulkWriteError;
 import com.threadly.notification.adapter.persistence.notification.doc.NotificationDoc;
 import com.threadly.notification.core.port.notification.in.dto.GetNotificationsQuery;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -22,6 +29,42 @@ public class NotificationCustomRepository {
 
   private final MongoTemplate mongoTemplate;
 
+  /**
+   * 알림 데이터가 없을 때만 insert
+   * <p>
+   * upsert 대신 insert 를 사용해 이미 저장된 eventId 의 doc 과 sortId 를 덮어쓰지 않는다.
+   *
+   * @param doc
+   * @return 저장되었으면 true, 이미 존재하는 eventId 이면 false
+   */
+  public boolean insertIfAbsent(NotificationDoc doc) {
+    try {
+      mongoTemplate.insert(doc);
+      return true;
+    } catch (DuplicateKeyException e) {
+      return false;
+    }
+  }
+
+  /**
+   * 알림 데이터 unordered bulk insert
+   * <p>
+   * 실패한 doc이 있어도 나머지 doc은 저장되며, 실패 정보는 index 기준으로 반환한다.
+   *
+   * @param docs
+   * @return 실패한 doc의 write error 목록
+   */
+  public List<BulkWriteError> insertAllUnordered(List<NotificationDoc> docs) {
+    try {
+      mongoTemplate.bulkOps(BulkMode.UNORDERED, NotificationDoc.class)
+          .insert(docs)
+          .execute();
+      return List.of();
+    } catch (BulkOperationException e) {
+      return e.getErrors();
+    }
+  }
+
   /**
    * 주어진 eventId에 해당하는 알림 데이터릐 isRead 업데이트
    *
@@ -76,6 +119,38 @@ public class NotificationCustomRepository {
         NotificationDoc.class);
   }
 
+  /**
+   * 주어진 sortId 이후 알림 목록을 sortId 오름차순으로 조회
+   * <p>
+   * receiver_id, sort_id 복합 index 의 range scan 으로 처리된다. afterSortId 가 없으면 가장 최근 limit 건을
+   * 오름차순으로 반환한다.
+   *
+   * @param receiverId
+   * @param afterSortId
+   * @param limit
+   * @return
+   */
+  public List<NotificationDoc> findAfterSortId(String receiverId, String afterSortId, int limit) {
+    Criteria criteria = Criteria.where("receiverId").is(receiverId);
+
+    if (afterSortId == null) {
+      Query latest = new Query(criteria)
+          .with(Sort.by(Direction.DESC, "sortId"))
+          .limit(limit);
+
+      List<NotificationDoc> docs = new ArrayList<>(
+          mongoTemplate.find(latest, NotificationDoc.class));
+      Collections.reverse(docs);
+      return docs;
+    }
+
+    Query query = new Query(criteria.and("sortId").gt(new ObjectId(afterSortId)))
+        .with(Sort.by(Direction.ASC, "sortId"))
+        .limit(limit);
+
+    return mongoTemplate.find(query, NotificationDoc.class);
+  }
+
   private Query applyCursorCriteria(LocalDateTime cursorTimestamp, String cursorId, int limit,
       Criteria base) {
     Criteria root = base;
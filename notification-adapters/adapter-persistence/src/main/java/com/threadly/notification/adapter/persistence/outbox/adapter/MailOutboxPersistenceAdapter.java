@@ -0,0 +1,108 @@
+package com.threadly.notification.adapter.persistence.outbox.adapter;
+
+import com.threadly.notification.adapter.persistence.outbox.doc.MailOutboxDoc;
+import com.threadly.notification.adapter.persistence.outbox.doc.MailOutboxDoc.OutboxStatus;
+import com.threadly.notification.adapter.persistence.outbox.repository.MailOutboxRepository;
+import com.threadly.notification.core.domain.mail.MailType;
+import com.threadly.notification.core.port.mail.in.dto.SendMailCommand;
+import com.threadly.notification.core.port.mail.out.MailOutboxPort;
+import com.threadly.notification.core.port.mail.out.dto.OutboxMail;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class MailOutboxPersistenceAdapter implements MailOutboxPort {
+
+  private final MailOutboxRepository mailOutboxRepository;
+
+  @Override
+  public boolean append(String eventId, SendMailCommand command, Duration delay,
+      LocalDateTime occurredAt) {
+    LocalDateTime now = LocalDateTime.now();
+
+    return mailOutboxRepository.insertIfAbsent(
+        MailOutboxDoc.builder()
+            .eventId(eventId)
+            .mailType(command.mailType())
+            .to(command.to())
+            .model(command.model())
+            .status(OutboxStatus.PENDING)
+            .priority(priorityOf(command.mailType()))
+            .attempts(0)
+            .nextAttemptAt(now.plus(delay))
+            .occurredAt(occurredAt)
+            .createdAt(now)
+            .build()
+    );
+  }
+
+  @Override
+  public boolean hasNewer(MailType mailType, String to, LocalDateTime occurredAt,
+      String eventId) {
+    return mailOutboxRepository.existsNewer(mailType, to, occurredAt, eventId);
+  }
+
+  @Override
+  public long supersedePending(MailType mailType, String to) {
+    return mailOutboxRepository.updateSuperseded(mailType, to);
+  }
+
+  /**
+   * findAndModify 는 한 doc 씩만 원자적으로 변경하므로 limit 번까지 반복해서 가져온다.
+   */
+  @Override
+  public List<OutboxMail> claim(int limit, Duration lease) {
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime lockedUntil = now.plus(lease);
+
+    List<OutboxMail> claimed = new ArrayList<>(limit);
+    while (claimed.size() < limit) {
+      MailOutboxDoc doc = mailOutboxRepository.claimNext(now, lockedUntil);
+      if (doc == null) {
+        break;
+      }
+      claimed.add(new OutboxMail(
+          doc.getId(),
+          doc.getEventId(),
+          new SendMailCommand(doc.getMailType(), doc.getTo(), doc.getModel()),
+          doc.getAttempts()
+      ));
+    }
+    return claimed;
+  }
+
+  @Override
+  public void markSent(String id) {
+    mailOutboxRepository.updateSent(id);
+  }
+
+  @Override
+  public void markRetry(String id, LocalDateTime nextAttemptAt, String reason) {
+    mailOutboxRepository.updateRetry(id, nextAttemptAt, reason);
+  }
+
+  @Override
+  public void markThrottled(String id, LocalDateTime nextAttemptAt) {
+    mailOutboxRepository.updateThrottled(id, nextAttemptAt);
+  }
+
+  @Override
+  public void markFailed(String id, String reason) {
+    mailOutboxRepository.updateFailed(id, reason);
+  }
+
+  /**
+   * 메일 타입별 전송 우선순위, 작을수록 먼저 전송
+   *
+   * @param mailType
+   * @return
+   */
+  static int priorityOf(MailType mailType) {
+    return mailType == MailType.VERIFICATION ? 0 : 1;
+  }
+}
@@ -0,0 +1,99 @@
+package com.threadly.notification.adapter.persistence.outbox.doc;
+
+import com.threadly.notification.core.domain.mail.MailType;
+import java.time.LocalDateTime;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+
+/**
+ * 메일 outbox doc
+ * <p>
+ * event_id 로 중복 적재를 막고, status, priority, next_attempt_at 으로 전송할 메일을 고른다. mail_type, to 와
+ * occurred_at, event_id 순서는 같은 수신자의 이전 메일을 대체할 때 쓴다. 전송 완료, 최종 실패, 대체된 메일은
+ * finished_at 을 남기고 TTL 인덱스로 7일 뒤 삭제된다.
+ */
+@Data
+@Document(collection = "mail_outbox")
+@CompoundIndexes({
+    @CompoundIndex(name = "status_priority_next_attempt_idx",
+        def = "{'status': 1, 'priority': 1, 'next_attempt_at': 1}"),
+    @CompoundIndex(name = "mail_type_to_occurred_idx",
+        def = "{'mail_type': 1, 'to': 1, 'occurred_at': -1, 'event_id': -1}")
+})
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MailOutboxDoc {
+
+  @Id
+  @Field(targetType = FieldType.OBJECT_ID)
+  private String id;
+
+  @Indexed(unique = true)
+  @Field("event_id")
+  private String eventId;
+
+  @Field("mail_type")
+  private MailType mailType;
+
+  @Field("to")
+  private String to;
+
+  @Field("model")
+  private Map<String, Object> model;
+
+  @Field("status")
+  private OutboxStatus status;
+
+  /*전송 우선순위, 작을수록 먼저 전송*/
+  @Field("priority")
+  private int priority;
+
+  @Field("attempts")
+  private int attempts;
+
+  @Field("next_attempt_at")
+  private LocalDateTime nextAttemptAt;
+
+  @Field("locked_until")
+  private LocalDateTime lockedUntil;
+
+  @Field("last_error")
+  private String lastError;
+
+  /*요청 발생 시각, 같은 수신자의 메일 중 최신 메일을 고를 때 쓴다*/
+  @Field("occurred_at")
+  private LocalDateTime occurredAt;
+
+  @Field("created_at")
+  private LocalDateTime createdAt;
+
+  @Field("sent_at")
+  private LocalDateTime sentAt;
+
+  /*더 이상 전송하지 않는 상태가 된 시각, 대기, 전송 중인 메일에는 없다*/
+  @Indexed(name = "finished_at_ttl_idx", expireAfter = "7d")
+  @Field("finished_at")
+  private LocalDateTime finishedAt;
+
+  /**
+   * outbox 메일 상태
+   */
+  public enum OutboxStatus {
+    PENDING, //전송 대기
+    SENDING, //전송 중
+    SENT, //전송 완료
+    FAILED, //최종 실패
+    SUPERSEDED //같은 수신자의 최신 메일로 대체
+  }
+}
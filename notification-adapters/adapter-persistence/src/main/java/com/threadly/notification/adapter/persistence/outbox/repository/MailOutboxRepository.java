@@ -0,0 +1,213 @@
+package com.threadly.notification.adapter.persistence.outbox.repository;
+
+import com.mongodb.client.result.UpdateResult;
+import com.threadly.notification.adapter.persistence.outbox.doc.MailOutboxDoc;
+import com.threadly.notification.adapter.persistence.outbox.doc.MailOutboxDoc.OutboxStatus;
+import com.threadly.notification.core.domain.mail.MailType;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 메일 outbox repository
+ */
+@Repository
+@RequiredArgsConstructor
+public class MailOutboxRepository {
+
+  private final MongoTemplate mongoTemplate;
+
+  /**
+   * event_id 가 없을 때만 저장
+   *
+   * @param doc
+   * @return 새로 저장한 경우 true
+   */
+  public boolean insertIfAbsent(MailOutboxDoc doc) {
+    Query query = new Query(Criteria.where("event_id").is(doc.getEventId()));
+    Update update = new Update()
+        .setOnInsert("mail_type", doc.getMailType())
+        .setOnInsert("to", doc.getTo())
+        .setOnInsert("model", doc.getModel())
+        .setOnInsert("status", doc.getStatus())
+        .setOnInsert("priority", doc.getPriority())
+        .setOnInsert("attempts", doc.getAttempts())
+        .setOnInsert("next_attempt_at", doc.getNextAttemptAt())
+        .setOnInsert("occurred_at", doc.getOccurredAt())
+        .setOnInsert("created_at", doc.getCreatedAt());
+
+    try {
+      UpdateResult result = mongoTemplate.upsert(query, update, MailOutboxDoc.class);
+      return result.getUpsertedId() != null;
+    } catch (DuplicateKeyException e) {
+      /*동시에 같은 event_id 가 적재된 경우*/
+      return false;
+    }
+  }
+
+  /**
+   * 전송 시각이 된 대기 메일 또는 lease 가 만료된 전송 중 메일 하나를 전송 중으로 변경 후 조회
+   * <p>
+   * priority 가 작은 메일부터, 같은 priority 에서는 next_attempt_at 이 이른 메일부터 가져온다.
+   *
+   * @param now
+   * @param lockedUntil
+   * @return 없으면 null
+   */
+  public MailOutboxDoc claimNext(LocalDateTime now, LocalDateTime lockedUntil) {
+    Query query = new Query(new Criteria().orOperator(
+        Criteria.where("status").is(OutboxStatus.PENDING).and("next_attempt_at").lte(now),
+        Criteria.where("status").is(OutboxStatus.SENDING).and("locked_until").lt(now)
+    )).with(Sort.by(Direction.ASC, "priority", "next_attempt_at"));
+
+    Update update = new Update()
+        .set("status", OutboxStatus.SENDING)
+        .set("locked_until", lockedUntil)
+        .inc("attempts", 1);
+
+    return mongoTemplate.findAndModify(query, update,
+        FindAndModifyOptions.options().returnNew(true), MailOutboxDoc.class);
+  }
+
+  /**
+   * 같은 메일 타입, 수신자에게 occurred_at, event_id 순서로 더 최신인 메일이 있는지 조회
+   *
+   * @param mailType
+   * @param to
+   * @param occurredAt
+   * @param eventId
+   * @return
+   */
+  public boolean existsNewer(MailType mailType, String to, LocalDateTime occurredAt,
+      String eventId) {
+    Query query = new Query(Criteria.where("mail_type").is(mailType)
+        .and("to").is(to)
+        .orOperator(
+            Criteria.where("occurred_at").gt(occurredAt),
+            Criteria.where("occurred_at").is(occurredAt).and("event_id").gt(eventId)
+        ));
+
+    return mongoTemplate.exists(query, MailOutboxDoc.class);
+  }
+
+  /**
+   * 같은 메일 타입, 수신자의 가장 최신 메일보다 오래된 전송 대기 메일을 대체 상태로 변경
+   * <p>
+   * 최신 메일 자신은 변경하지 않으므로 동시에 적재된 메일이 서로를 대체해 모두 전송되지 않는 일은 없다. occurred_at 이 없는
+   * 이전 메일은 가장 오래된 메일로 본다.
+   *
+   * @param mailType
+   * @param to
+   * @return 변경한 메일 수
+   */
+  public long updateSuperseded(MailType mailType, String to) {
+    Query latestQuery = new Query(Criteria.where("mail_type").is(mailType).and("to").is(to))
+        .with(Sort.by(Direction.DESC, "occurred_at", "event_id"));
+    latestQuery.fields().include("event_id", "occurred_at");
+
+    MailOutboxDoc latest = mongoTemplate.findOne(latestQuery, MailOutboxDoc.class);
+    if (latest == null) {
+      return 0L;
+    }
+
+    Criteria sameOccurredAt = Criteria.where("occurred_at").is(latest.getOccurredAt())
+        .and("event_id").lt(latest.getEventId());
+    Criteria older = latest.getOccurredAt() == null ? sameOccurredAt
+        : new Criteria().orOperator(
+            Criteria.where("occurred_at").is(null),
+            Criteria.where("occurred_at").lt(latest.getOccurredAt()),
+            sameOccurredAt
+        );
+
+    Query query = new Query(new Criteria().andOperator(
+        Criteria.where("mail_type").is(mailType)
+            .and("to").is(to)
+            .and("status").is(OutboxStatus.PENDING),
+        older
+    ));
+    Update update = new Update()
+        .set("status", OutboxStatus.SUPERSEDED)
+        .set("last_error", "superseded by " + latest.getEventId())
+        .set("finished_at", LocalDateTime.now());
+
+    return mongoTemplate.updateMulti(query, update, MailOutboxDoc.class).getModifiedCount();
+  }
+
+  /**
+   * 전송 완료 처리
+   *
+   * @param id
+   */
+  public void updateSent(String id) {
+    LocalDateTime now = LocalDateTime.now();
+    Update update = new Update()
+        .set("status", OutboxStatus.SENT)
+        .set("sent_at", now)
+        .set("finished_at", now)
+        .unset("locked_until");
+
+    mongoTemplate.updateFirst(byId(id), update, MailOutboxDoc.class);
+  }
+
+  /**
+   * 재시도 예약
+   *
+   * @param id
+   * @param nextAttemptAt
+   * @param reason
+   */
+  public void updateRetry(String id, LocalDateTime nextAttemptAt, String reason) {
+    Update update = new Update()
+        .set("status", OutboxStatus.PENDING)
+        .set("next_attempt_at", nextAttemptAt)
+        .set("last_error", reason)
+        .unset("locked_until");
+
+    mongoTemplate.updateFirst(byId(id), update, MailOutboxDoc.class);
+  }
+
+  /**
+   * 전송 속도 제한으로 보내지 못한 메일을 시도 횟수를 되돌려 다시 전송 대기로 변경
+   *
+   * @param id
+   * @param nextAttemptAt
+   */
+  public void updateThrottled(String id, LocalDateTime nextAttemptAt) {
+    Update update = new Update()
+        .set("status", OutboxStatus.PENDING)
+        .set("next_attempt_at", nextAttemptAt)
+        .inc("attempts", -1)
+        .unset("locked_until");
+
+    mongoTemplate.updateFirst(byId(id), update, MailOutboxDoc.class);
+  }
+
+  /**
+   * 최종 실패 처리
+   *
+   * @param id
+   * @param reason
+   */
+  public void updateFailed(String id, String reason) {
+    Update update = new Update()
+        .set("status", OutboxStatus.FAILED)
+        .set("last_error", reason)
+        .set("finished_at", LocalDateTime.now())
+        .unset("locked_until");
+
+    mongoTemplate.updateFirst(byId(id), update, MailOutboxDoc.class);
+  }
+
+  private static Query byId(String id) {
+    return new Query(Criteria.where("_id").is(new ObjectId(id)));
+  }
+}
@@ -0,0 +1,137 @@
+package com.threadly.notification.adapter.persistence.deadletter.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.threadly.notification.adapter.persistence.deadletter.doc.NotificationDeadLetterDoc;
+import com.threadly.notification.adapter.persistence.deadletter.doc.NotificationDeadLetterDoc.DeadLetterStatus;
+import com.threadly.notification.adapter.persistence.deadletter.repository.NotificationDeadLetterRepository;
+import com.threadly.notification.core.domain.notification.NotificationType;
+import com.threadly.notification.core.domain.notification.metadata.PostLikeMeta;
+import com.threadly.notification.core.domain.user.ActorProfile;
+import com.threadly.notification.core.port.notification.in.NotificationCommand;
+import com.threadly.notification.core.port.notification.in.dto.NotificationDeadLetterCommand;
+import com.threadly.notification.core.port.notification.out.dto.PendingDeadLetter;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * NotificationDeadLetterPersistenceAdapter 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class NotificationDeadLetterPersistenceAdapterTest {
+
+  @InjectMocks
+  private NotificationDeadLetterPersistenceAdapter notificationDeadLetterPersistenceAdapter;
+
+  @Mock
+  private NotificationDeadLetterRepository notificationDeadLetterRepository;
+
+  @Spy
+  private ObjectMapper objectMapper = new ObjectMapper();
+
+  private static NotificationCommand sampleCommand() {
+    return new NotificationCommand(
+        "event-1",
+        "receiver-1",
+        NotificationType.POST_LIKE,
+        new PostLikeMeta("post-1"),
+        LocalDateTime.of(2024, 1, 1, 12, 0),
+        new ActorProfile("actor-1", "행위자", "/profile.png")
+    );
+  }
+
+  @Nested
+  @DisplayName("save 테스트")
+  class SaveTest {
+
+    /*[Case #1] 실패 위치와 원본 이벤트가 대기 상태로 저장되어야 한다*/
+    @DisplayName("1. 실패 위치와 원본 이벤트가 대기 상태로 저장되는지 검증")
+    @Test
+    void save_shouldInsertPendingDoc() throws Exception {
+      //given
+      NotificationDeadLetterCommand command = new NotificationDeadLetterCommand(
+          sampleCommand(), "notification.DLT", 2, 42L, "notification", "mongo down", 4);
+      ArgumentCaptor<NotificationDeadLetterDoc> captor =
+          ArgumentCaptor.forClass(NotificationDeadLetterDoc.class);
+
+      //when
+      notificationDeadLetterPersistenceAdapter.save(command);
+
+      //then
+      verify(notificationDeadLetterRepository).insertIfAbsent(captor.capture());
+      NotificationDeadLetterDoc doc = captor.getValue();
+      assertThat(doc.getEventId()).isEqualTo("event-1");
+      assertThat(doc.getMetadata()).containsEntry("postId", "post-1");
+      assertThat(doc.getTopic()).isEqualTo("notification.DLT");
+      assertThat(doc.getPartition()).isEqualTo(2);
+      assertThat(doc.getOffset()).isEqualTo(42L);
+      assertThat(doc.getExceptionMessage()).isEqualTo("mongo down");
+      assertThat(doc.getStatus()).isEqualTo(DeadLetterStatus.PENDING);
+      assertThat(doc.getFailedAt()).isNotNull();
+    }
+
+    /*[Case #2] 이미 저장된 이벤트가 재전달되면 예외 없이 무시되어야 한다*/
+    @DisplayName("2. 이미 저장된 이벤트가 재전달되면 예외 없이 무시되는지 검증")
+    @Test
+    void save_shouldIgnoreRedelivery_whenAlreadySaved() throws Exception {
+      //given
+      NotificationDeadLetterCommand command = new NotificationDeadLetterCommand(
+          sampleCommand(), "notification.DLT", 2, 42L, "notification", "mongo down", 4);
+      when(notificationDeadLetterRepository.insertIfAbsent(any(NotificationDeadLetterDoc.class)))
+          .thenReturn(false);
+
+      //when
+      notificationDeadLetterPersistenceAdapter.save(command);
+
+      //then
+      verify(notificationDeadLetterRepository).insertIfAbsent(any(NotificationDeadLetterDoc.class));
+    }
+  }
+
+  @Nested
+  @DisplayName("fetchPending 테스트")
+  class FetchPendingTest {
+
+    /*[Case #1] 저장된 doc 이 재처리용 command 로 복원되어야 한다*/
+    @DisplayName("1. 저장된 doc 이 재처리용 command 로 복원되는지 검증")
+    @Test
+    void fetchPending_shouldRestoreCommand() throws Exception {
+      //given
+      NotificationCommand command = sampleCommand();
+      when(notificationDeadLetterRepository.findPendingAfter("cursor-id", 10))
+          .thenReturn(List.of(NotificationDeadLetterDoc.builder()
+              .id("dead-letter-1")
+              .eventId(command.eventId())
+              .receiverId(command.receiverId())
+              .notificationType(command.notificationType())
+              .metadata(Map.of("postId", "post-1"))
+              .occurredAt(command.occurredAt())
+              .actorProfile(command.actorProfile())
+              .status(DeadLetterStatus.PENDING)
+              .build()));
+
+      //when
+      List<PendingDeadLetter> pending = notificationDeadLetterPersistenceAdapter.fetchPending(
+          "cursor-id", 10);
+
+      //then
+      assertThat(pending).hasSize(1);
+      assertThat(pending.get(0).id()).isEqualTo("dead-letter-1");
+      assertThat(pending.get(0).command()).isEqualTo(command);
+    }
+  }
+}
@@ -2,10 +2,12 @@ package com.threadly.notification.adapter.persistence.notification.adapter;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.mongodb.bulk.BulkWriteError;
 import com.threadly.notification.adapter.persistence.notification.doc.NotificationDoc;
 import com.threadly.notification.adapter.persistence.notification.repository.MongoNotificationRepository;
 import com.threadly.notification.adapter.persistence.notification.repository.NotificationCustomRepository;
@@ -15,10 +17,13 @@ import com.threadly.notification.core.domain.notification.metadata.PostLikeMeta;
 import com.threadly.notification.core.domain.user.ActorProfile;
 import com.threadly.notification.core.port.notification.in.dto.GetNotificationsQuery;
 import com.threadly.notification.core.port.notification.in.dto.NotificationDetails;
+import com.threadly.notification.core.port.notification.out.dto.ReplayNotification;
+import com.threadly.notification.core.port.notification.out.dto.SavedNotificationBatch;
 import com.threadly.notification.core.port.notification.out.dto.SavedNotificationEventDoc;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.bson.BsonDocument;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -44,8 +49,12 @@ class NotificationPersistenceAdapterTest {
   private NotificationCustomRepository notificationCustomRepository;
 
   private Notification sampleDomain() {
+    return sampleDomain("event-1");
+  }
+
+  private Notification sampleDomain(String eventId) {
     return Notification.newNotification(
-        "event-1",
+        eventId,
         "receiver-1",
         NotificationType.POST_LIKE,
         LocalDateTime.of(2024, 1, 1, 12, 0),
@@ -94,6 +103,71 @@ class NotificationPersistenceAdapterTest {
     }
   }
 
+  @Nested
+  @DisplayName("saveIfAbsent 테스트")
+  class SaveIfAbsentTest {
+
+    /*[Case #1] 새로운 eventId 이면 저장 결과가 반환되어야 한다*/
+    @DisplayName("1. 새로운 eventId 이면 저장 결과가 반환되는지 검증")
+    @Test
+    void saveIfAbsent_shouldReturnSaved_whenEventIdIsNew() throws Exception {
+      //given
+      when(notificationCustomRepository.insertIfAbsent(any(NotificationDoc.class))).thenReturn(true);
+
+      //when
+      Optional<SavedNotificationEventDoc> saved = notificationPersistenceAdapter.saveIfAbsent(
+          sampleDomain("event-1"));
+
+      //then
+      assertThat(saved).isPresent();
+      assertThat(saved.get().eventId()).isEqualTo("event-1");
+      assertThat(saved.get().sortId()).isNotBlank();
+    }
+
+    /*[Case #2] 이미 저장된 eventId 이면 빈 값이 반환되어야 한다*/
+    @DisplayName("2. 이미 저장된 eventId 이면 빈 값이 반환되는지 검증")
+    @Test
+    void saveIfAbsent_shouldReturnEmpty_whenEventIdExists() throws Exception {
+      //given
+      when(notificationCustomRepository.insertIfAbsent(any(NotificationDoc.class))).thenReturn(false);
+
+      //when
+      Optional<SavedNotificationEventDoc> saved = notificationPersistenceAdapter.saveIfAbsent(
+          sampleDomain("event-1"));
+
+      //then
+      assertThat(saved).isEmpty();
+    }
+  }
+
+  @Nested
+  @DisplayName("saveAll 테스트")
+  class SaveAllTest {
+
+    /*[Case #1] write error가 index 기준으로 중복/실패로 분류되어야 한다*/
+    @DisplayName("1. write error가 index 기준으로 중복/실패로 분류되는지 검증")
+    @Test
+    void saveAll_shouldClassifyWriteErrorsByIndex() throws Exception {
+      //given
+      when(notificationCustomRepository.insertAllUnordered(anyList()))
+          .thenReturn(List.of(
+              new BulkWriteError(11000, "E11000 duplicate key", new BsonDocument(), 1),
+              new BulkWriteError(121, "validation failed", new BsonDocument(), 2)
+          ));
+
+      //when
+      SavedNotificationBatch result = notificationPersistenceAdapter.saveAll(
+          List.of(sampleDomain("event-1"), sampleDomain("event-2"), sampleDomain("event-3")));
+
+      //then
+      assertThat(result.saved()).extracting(SavedNotificationEventDoc::eventId)
+          .containsExactly("event-1");
+      assertThat(result.saved().get(0).sortId()).isNotBlank();
+      assertThat(result.duplicatedEventIds()).containsExactly("event-2");
+      assertThat(result.failures()).containsEntry("event-3", "validation failed");
+    }
+  }
+
   @Nested
   @DisplayName("fetchByEventId 테스트")
   class FetchByEventIdTest {
@@ -143,6 +217,46 @@ class NotificationPersistenceAdapterTest {
     }
   }
 
+  @Nested
+  @DisplayName("fetchAfterSortId 테스트")
+  class FetchAfterSortIdTest {
+
+    /*[Case #1] sortId 이후 조회 결과가 도메인과 sortId 쌍으로 매핑되어야 한다*/
+    @DisplayName("1. sortId 이후 조회 결과가 도메인과 sortId 쌍으로 매핑되는지 검증")
+    @Test
+    void fetchAfterSortId_shouldMapDocsToReplayNotifications() throws Exception {
+      //given
+      NotificationDoc doc = sampleDoc();
+      when(notificationCustomRepository.findAfterSortId("receiver-1", "sort-0", 50))
+          .thenReturn(List.of(doc));
+
+      //when
+      List<ReplayNotification> result = notificationPersistenceAdapter.fetchAfterSortId(
+          "receiver-1", "sort-0", 50);
+
+      //then
+      assertThat(result).hasSize(1);
+      assertThat(result.get(0).sortId()).isEqualTo("sort-1");
+      assertThat(result.get(0).notification().getEventId()).isEqualTo(doc.getEventId());
+    }
+
+    /*[Case #2] eventId 로 sortId 를 조회할 수 있어야 한다*/
+    @DisplayName("2. eventId 로 sortId 가 조회되는지 검증")
+    @Test
+    void fetchSortIdByEventIdAndReceiverId_shouldReturnSortId() throws Exception {
+      //given
+      when(mongoNotificationRepository.findByEventIdAndReceiverId("event-1", "receiver-1"))
+          .thenReturn(Optional.of(sampleDoc()));
+
+      //when
+      Optional<String> result = notificationPersistenceAdapter.fetchSortIdByEventIdAndReceiverId(
+          "event-1", "receiver-1");
+
+      //then
+      assertThat(result).contains("sort-1");
+    }
+  }
+
   @Nested
   @DisplayName("markAsRead 테스트")
   class MarkAsReadTest {
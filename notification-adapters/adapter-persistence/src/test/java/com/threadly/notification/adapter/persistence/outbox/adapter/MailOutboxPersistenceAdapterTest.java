@@ -0,0 +1,237 @@
+package com.threadly.notification.adapter.persistence.outbox.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.threadly.notification.adapter.persistence.outbox.doc.MailOutboxDoc;
+import com.threadly.notification.adapter.persistence.outbox.doc.MailOutboxDoc.OutboxStatus;
+import com.threadly.notification.adapter.persistence.outbox.repository.MailOutboxRepository;
+import com.threadly.notification.core.domain.mail.MailType;
+import com.threadly.notification.core.port.mail.in.dto.SendMailCommand;
+import com.threadly.notification.core.port.mail.out.dto.OutboxMail;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * MailOutboxPersistenceAdapter 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class MailOutboxPersistenceAdapterTest {
+
+  @InjectMocks
+  private MailOutboxPersistenceAdapter mailOutboxPersistenceAdapter;
+
+  @Mock
+  private MailOutboxRepository mailOutboxRepository;
+
+  private final SendMailCommand command = new SendMailCommand(
+      MailType.WELCOME,
+      "welcome@threadly.io",
+      Map.of("userName", "홍길동", "loginUrl", "https://threadly.io/login")
+  );
+
+  @Nested
+  @DisplayName("append 테스트")
+  class AppendTest {
+
+    /*[Case #1] 전송 대기 상태로 저장되어야 한다*/
+    @DisplayName("1. 전송 대기 상태로 저장되는지 검증")
+    @Test
+    void append_shouldInsertPendingDoc() throws Exception {
+      //given
+      ArgumentCaptor<MailOutboxDoc> captor = ArgumentCaptor.forClass(MailOutboxDoc.class);
+      when(mailOutboxRepository.insertIfAbsent(captor.capture())).thenReturn(true);
+
+      //when
+      LocalDateTime before = LocalDateTime.now();
+      LocalDateTime occurredAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+      boolean result = mailOutboxPersistenceAdapter.append("event-1", command,
+          Duration.ofSeconds(5), occurredAt);
+
+      //then
+      assertThat(result).isTrue();
+      MailOutboxDoc doc = captor.getValue();
+      assertThat(doc.getEventId()).isEqualTo("event-1");
+      assertThat(doc.getMailType()).isEqualTo(MailType.WELCOME);
+      assertThat(doc.getTo()).isEqualTo("welcome@threadly.io");
+      assertThat(doc.getModel()).isEqualTo(command.model());
+      assertThat(doc.getStatus()).isEqualTo(OutboxStatus.PENDING);
+      assertThat(doc.getAttempts()).isZero();
+      assertThat(doc.getPriority()).isEqualTo(1);
+      assertThat(doc.getOccurredAt()).isEqualTo(occurredAt);
+      assertThat(doc.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(5));
+    }
+
+    /*[Case #3] 인증 메일은 가입 환영 메일보다 높은 우선순위로 저장되어야 한다*/
+    @DisplayName("3. 인증 메일이 가입 환영 메일보다 높은 우선순위로 저장되는지 검증")
+    @Test
+    void append_shouldPrioritizeVerification() throws Exception {
+      //given
+      SendMailCommand verification = new SendMailCommand(MailType.VERIFICATION,
+          "verify@threadly.io", Map.of("verificationUrl", "https://threadly.io/verify"));
+      ArgumentCaptor<MailOutboxDoc> captor = ArgumentCaptor.forClass(MailOutboxDoc.class);
+      when(mailOutboxRepository.insertIfAbsent(captor.capture())).thenReturn(true);
+
+      //when
+      LocalDateTime now = LocalDateTime.now();
+      mailOutboxPersistenceAdapter.append("event-1", verification, Duration.ZERO, now);
+      mailOutboxPersistenceAdapter.append("event-2", command, Duration.ZERO, now);
+
+      //then
+      List<MailOutboxDoc> docs = captor.getAllValues();
+      assertThat(docs.get(0).getPriority()).isLessThan(docs.get(1).getPriority());
+    }
+
+    /*[Case #2] 이미 같은 eventId 가 있으면 false를 반환해야 한다*/
+    @DisplayName("2. 이미 같은 eventId 가 있으면 false를 반환하는지 검증")
+    @Test
+    void append_shouldReturnFalse_whenDuplicate() throws Exception {
+      //given
+      when(mailOutboxRepository.insertIfAbsent(any(MailOutboxDoc.class))).thenReturn(false);
+
+      //when
+      boolean result = mailOutboxPersistenceAdapter.append("event-1", command, Duration.ZERO,
+          LocalDateTime.now());
+
+      //then
+      assertThat(result).isFalse();
+    }
+  }
+
+  @Nested
+  @DisplayName("claim 테스트")
+  class ClaimTest {
+
+    /*[Case #1] 가져온 doc 이 전송 command 로 복원되어야 한다*/
+    @DisplayName("1. 가져온 doc 이 전송 command 로 복원되는지 검증")
+    @Test
+    void claim_shouldRestoreCommand() throws Exception {
+      //given
+      MailOutboxDoc doc = MailOutboxDoc.builder()
+          .id("outbox-1")
+          .eventId("event-1")
+          .mailType(MailType.WELCOME)
+          .to("welcome@threadly.io")
+          .model(command.model())
+          .status(OutboxStatus.SENDING)
+          .attempts(2)
+          .build();
+      ArgumentCaptor<LocalDateTime> nowCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+      ArgumentCaptor<LocalDateTime> lockedUntilCaptor = ArgumentCaptor.forClass(
+          LocalDateTime.class);
+      when(mailOutboxRepository.claimNext(nowCaptor.capture(), lockedUntilCaptor.capture()))
+          .thenReturn(doc)
+          .thenReturn(null);
+
+      //when
+      List<OutboxMail> result = mailOutboxPersistenceAdapter.claim(10, Duration.ofMinutes(1));
+
+      //then
+      assertThat(result).containsExactly(new OutboxMail("outbox-1", "event-1", command, 2));
+      assertThat(lockedUntilCaptor.getValue())
+          .isEqualTo(nowCaptor.getValue().plusMinutes(1));
+    }
+
+    /*[Case #2] 가져올 doc 이 없으면 빈 값을 반환해야 한다*/
+    @DisplayName("2. 가져올 doc 이 없으면 빈 값을 반환하는지 검증")
+    @Test
+    void claim_shouldReturnEmpty_whenNothingToClaim() throws Exception {
+      //given
+      when(mailOutboxRepository.claimNext(any(), any())).thenReturn(null);
+
+      //when
+      List<OutboxMail> result = mailOutboxPersistenceAdapter.claim(10, Duration.ofMinutes(1));
+
+      //then
+      assertThat(result).isEmpty();
+    }
+
+    /*[Case #3] limit 개까지만 가져와야 한다*/
+    @DisplayName("3. limit 개까지만 가져오는지 검증")
+    @Test
+    void claim_shouldStopAtLimit() throws Exception {
+      //given
+      MailOutboxDoc doc = MailOutboxDoc.builder()
+          .id("outbox-1")
+          .eventId("event-1")
+          .mailType(MailType.WELCOME)
+          .to("welcome@threadly.io")
+          .model(command.model())
+          .status(OutboxStatus.SENDING)
+          .attempts(1)
+          .build();
+      when(mailOutboxRepository.claimNext(any(), any())).thenReturn(doc);
+
+      //when
+      List<OutboxMail> result = mailOutboxPersistenceAdapter.claim(3, Duration.ofMinutes(1));
+
+      //then
+      assertThat(result).hasSize(3);
+      verify(mailOutboxRepository, times(3)).claimNext(any(), any());
+    }
+  }
+
+  @Nested
+  @DisplayName("상태 변경 테스트")
+  class MarkTest {
+
+    /*[Case #1] 재시도 예약 시 다음 시도 시각과 사유가 전달되어야 한다*/
+    @DisplayName("1. 재시도 예약 시 다음 시도 시각과 사유가 전달되는지 검증")
+    @Test
+    void markRetry_shouldDelegateToRepository() throws Exception {
+      //given
+      LocalDateTime nextAttemptAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+      //when
+      mailOutboxPersistenceAdapter.markRetry("outbox-1", nextAttemptAt, "smtp down");
+
+      //then
+      verify(mailOutboxRepository).updateRetry(eq("outbox-1"), eq(nextAttemptAt),
+          eq("smtp down"));
+    }
+
+    /*[Case #2] 이전 대기 메일 대체 시 변경 건수가 반환되어야 한다*/
+    @DisplayName("2. 이전 대기 메일 대체 시 변경 건수가 반환되는지 검증")
+    @Test
+    void supersedePending_shouldReturnModifiedCount() throws Exception {
+      //given
+      when(mailOutboxRepository.updateSuperseded(MailType.VERIFICATION, "verify@threadly.io"))
+          .thenReturn(3L);
+
+      //when
+      long result = mailOutboxPersistenceAdapter.supersedePending(MailType.VERIFICATION,
+          "verify@threadly.io");
+
+      //then
+      assertThat(result).isEqualTo(3L);
+    }
+
+    /*[Case #3] 전송 속도 제한 시 다음 시도 시각이 전달되어야 한다*/
+    @DisplayName("3. 전송 속도 제한 시 다음 시도 시각이 전달되는지 검증")
+    @Test
+    void markThrottled_shouldDelegateToRepository() throws Exception {
+      //given
+      LocalDateTime nextAttemptAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+      //when
+      mailOutboxPersistenceAdapter.markThrottled("outbox-1", nextAttemptAt);
+
+      //then
+      verify(mailOutboxRepository).updateThrottled("outbox-1", nextAttemptAt);
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package com.threadly.notification.adapter.redis.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 푸시 frame 노드 간 전달용 Redis pub/sub Config
+ */
+@Configuration
+@Slf4j
+@ConditionalOnProperty(name = "notification.push.fanout.type", havingValue = "redis")
+public class RedisPushFanoutConfig {
+
+  /**
+   * 수신한 frame 을 전달하는 executor
+   * <p>
+   * 노드 채널 하나의 frame 이 발행 순서대로 전달되도록 스레드 하나로 처리한다. 기본 executor 처럼 메시지마다 스레드를 만들지
+   * 않으며, 큐가 가득 차면 순서를 지키기 위해 구독 스레드에서 실행하지 않고 frame 을 버린다. pub/sub 은 원래 전달을 보장하지
+   * 않으므로 유실된 frame 은 클라이언트의 RESYNC 로 복구한다.
+   *
+   * @param meterRegistry
+   * @param queueCapacity
+   * @return
+   */
+  @Bean
+  public ThreadPoolTaskExecutor pushFanoutListenerExecutor(MeterRegistry meterRegistry,
+      @Value("${notification.push.fanout.listener.queue-capacity:10000}") int queueCapacity) {
+    Counter droppedCounter = Counter.builder("notification_push_fanout_dropped")
+        .description("fanout 수신 큐가 가득 차 전달하지 못한 frame 수")
+        .register(meterRegistry);
+
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("push-fanout-");
+    executor.setRejectedExecutionHandler((runnable, pool) -> {
+      droppedCounter.increment();
+      log.warn("fanout 수신 큐 초과로 frame 버림: queueCapacity={}", queueCapacity);
+    });
+    executor.initialize();
+
+    Gauge.builder("notification_push_fanout_queue_depth", executor,
+            ThreadPoolTaskExecutor::getQueueSize)
+        .description("fanout 수신 큐에 대기 중인 frame 수")
+        .register(meterRegistry);
+    return executor;
+  }
+
+  @Bean
+  public RedisMessageListenerContainer pushFanoutListenerContainer(
+      RedisConnectionFactory redisConnectionFactory,
+      @Qualifier("pushFanoutListenerExecutor") ThreadPoolTaskExecutor pushFanoutListenerExecutor) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(redisConnectionFactory);
+    container.setTaskExecutor(pushFanoutListenerExecutor);
+    return container;
+  }
+}
@@ -0,0 +1,153 @@
+package com.threadly.notification.adapter.redis.fanout;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.threadly.notification.core.port.notification.out.PushFanoutPort;
+import com.threadly.notification.core.port.notification.out.dto.PushFrame;
+import com.threadly.notification.core.port.notification.out.dto.PushPayload;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis pub/sub 푸시 frame 전달 adapter
+ * <p>
+ * 노드마다 {channel-prefix}:{nodeId} 채널을 구독하고, frame 은 수신 노드의 채널에만 발행한다. pub/sub 은 전달을 보장하지
+ * 않으므로 구독이 끊긴 동안 발행된 frame 은 유실된다.
+ * <p>
+ * 메시지는 frame 정보 JSON header 한 줄 뒤에 인코딩된 payload 를 그대로 붙인 형태다. payload 를 JSON 문자열로 다시
+ * escape 하지 않고, 수신 노드도 payload 를 파싱하지 않고 그대로 세션에 전송한다.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "notification.push.fanout.type", havingValue = "redis")
+public class RedisPushFanoutAdapter implements PushFanoutPort {
+
+  private static final byte HEADER_DELIMITER = '\n';
+
+  private final RedisMessageListenerContainer pushFanoutListenerContainer;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final ObjectMapper objectMapper;
+  private final String channelPrefix;
+
+  public RedisPushFanoutAdapter(RedisMessageListenerContainer pushFanoutListenerContainer,
+      StringRedisTemplate stringRedisTemplate,
+      ObjectMapper objectMapper,
+      @Value("${notification.push.fanout.channel-prefix:notification:push:fanout}") String channelPrefix) {
+    this.pushFanoutListenerContainer = pushFanoutListenerContainer;
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.objectMapper = objectMapper;
+    this.channelPrefix = channelPrefix;
+  }
+
+  @Override
+  public void publish(String nodeId, PushFrame frame) {
+    byte[] channel = channel(nodeId).getBytes(StandardCharsets.UTF_8);
+    byte[] body = encode(frame);
+    stringRedisTemplate.execute(
+        (RedisCallback<Long>) connection -> connection.publish(channel, body));
+  }
+
+  @Override
+  public void subscribe(String nodeId, Consumer<PushFrame> subscriber) {
+    pushFanoutListenerContainer.addMessageListener(
+        (message, pattern) -> onMessage(message, subscriber), new ChannelTopic(channel(nodeId)));
+  }
+
+  private void onMessage(Message message, Consumer<PushFrame> subscriber) {
+    PushFrame frame;
+    try {
+      frame = decode(message.getBody());
+    } catch (Exception e) {
+      log.warn("푸시 frame 역직렬화 실패: channel={}, error={}",
+          new String(message.getChannel(), StandardCharsets.UTF_8), e.getMessage());
+      return;
+    }
+
+    try {
+      subscriber.accept(frame);
+    } catch (Exception e) {
+      log.warn("푸시 frame 전달 실패: userId={}, error={}", frame.userId(), e.getMessage());
+    }
+  }
+
+  /**
+   * frame -> header JSON + '\n' + payload
+   *
+   * @param frame
+   * @return
+   */
+  private byte[] encode(PushFrame frame) {
+    byte[] header;
+    try {
+      header = objectMapper.writeValueAsBytes(new FrameHeader(frame.userId(), frame.sortId(),
+          frame.originNodeId(), frame.publishedAtMillis()));
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("푸시 frame 직렬화 실패", e);
+    }
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream(
+        header.length + 1 + frame.payload().length());
+    out.writeBytes(header);
+    out.write(HEADER_DELIMITER);
+    out.writeBytes(frame.payload().bytes());
+    return out.toByteArray();
+  }
+
+  /**
+   * header JSON + '\n' + payload -> frame
+   * <p>
+   * header JSON 은 줄바꿈을 escape 하므로 첫 줄바꿈이 구분자다.
+   *
+   * @param body
+   * @return
+   * @throws IOException
+   */
+  private PushFrame decode(byte[] body) throws IOException {
+    int delimiter = -1;
+    for (int i = 0; i < body.length; i++) {
+      if (body[i] == HEADER_DELIMITER) {
+        delimiter = i;
+        break;
+      }
+    }
+    if (delimiter < 0) {
+      throw new IOException("frame header 구분자 없음");
+    }
+
+    FrameHeader header = objectMapper.readValue(body, 0, delimiter, FrameHeader.class);
+    return new PushFrame(header.userId(), header.sortId(),
+        PushPayload.wrap(Arrays.copyOfRange(body, delimiter + 1, body.length)),
+        header.originNodeId(), header.publishedAtMillis());
+  }
+
+  /**
+   * payload 를 제외한 frame 정보
+   */
+  record FrameHeader(
+      String userId,
+      String sortId,
+      String originNodeId,
+      long publishedAtMillis
+  ) {
+
+  }
+
+  /*
+   * channel : {channel-prefix}:{nodeId}
+   * */
+  private String channel(String nodeId) {
+    return channelPrefix + ":" + nodeId;
+  }
+}
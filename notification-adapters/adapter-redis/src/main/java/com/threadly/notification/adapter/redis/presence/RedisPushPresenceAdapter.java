@@ -0,0 +1,80 @@
+package com.threadly.notification.adapter.redis.presence;
+
+import com.threadly.notification.core.port.notification.out.PushPresencePort;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 푸시 presence redis 저장 repository
+ * <p>
+ * userId 별 sorted set 에 nodeId 를 lease 만료 시각(score)과 함께 저장한다. 조회 시 만료되지 않은 nodeId 만 반환하고, 만료된
+ * nodeId 는 heartbeat 시 정리한다. key 자체도 마지막 갱신 후 lease 가 지나면 만료된다.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "notification.push.fanout.type", havingValue = "redis")
+public class RedisPushPresenceAdapter implements PushPresencePort {
+
+  private final StringRedisTemplate stringRedisTemplate;
+
+  @Override
+  public void register(String userId, String nodeId, Duration lease) {
+    long now = System.currentTimeMillis();
+    stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      renew((StringRedisConnection) connection, userId, nodeId, lease, now);
+      return null;
+    });
+  }
+
+  @Override
+  public void unregister(String userId, String nodeId) {
+    stringRedisTemplate.opsForZSet().remove(generatePresenceKey(userId), nodeId);
+  }
+
+  @Override
+  public void heartbeat(String nodeId, Collection<String> userIds, Duration lease) {
+    long now = System.currentTimeMillis();
+    stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      StringRedisConnection stringConnection = (StringRedisConnection) connection;
+      for (String userId : userIds) {
+        renew(stringConnection, userId, nodeId, lease, now);
+        stringConnection.zRemRangeByScore(generatePresenceKey(userId), 0, now);
+      }
+      return null;
+    });
+    log.debug("presence lease 갱신: nodeId={}, users={}", nodeId, userIds.size());
+  }
+
+  @Override
+  public Set<String> nodesOf(String userId) {
+    Set<String> nodes = stringRedisTemplate.opsForZSet()
+        .rangeByScore(generatePresenceKey(userId), System.currentTimeMillis(),
+            Double.POSITIVE_INFINITY);
+    return nodes == null ? Set.of() : nodes;
+  }
+
+  private static void renew(StringRedisConnection connection, String userId, String nodeId,
+      Duration lease, long now) {
+    String key = generatePresenceKey(userId);
+    connection.zAdd(key, now + lease.toMillis(), nodeId);
+    connection.pExpire(key, lease.toMillis());
+  }
+
+  /*
+   * key : notification:presence:{userId}
+   * member : {nodeId}
+   * score : lease 만료 시각(epoch millis)
+   * */
+  private static String generatePresenceKey(String userId) {
+    return "notification:presence:" + userId;
+  }
+}
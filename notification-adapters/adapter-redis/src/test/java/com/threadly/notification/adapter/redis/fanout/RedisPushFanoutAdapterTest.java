@@ -0,0 +1,164 @@
+package com.threadly.notification.adapter.redis.fanout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.threadly.notification.core.port.notification.out.dto.PushFrame;
+import com.threadly.notification.core.port.notification.out.dto.PushPayload;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+
+/**
+ * RedisPushFanoutAdapter 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class RedisPushFanoutAdapterTest {
+
+  private static final String CHANNEL_PREFIX = "notification:push:fanout";
+  private static final String CHANNEL = CHANNEL_PREFIX + ":node-1";
+
+  @Mock
+  private RedisMessageListenerContainer pushFanoutListenerContainer;
+
+  @Mock
+  private StringRedisTemplate stringRedisTemplate;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private RedisPushFanoutAdapter redisPushFanoutAdapter;
+
+  @BeforeEach
+  void setUp() {
+    redisPushFanoutAdapter = new RedisPushFanoutAdapter(pushFanoutListenerContainer,
+        stringRedisTemplate, objectMapper, CHANNEL_PREFIX);
+  }
+
+  private MessageListener subscribe(List<PushFrame> received) {
+    ArgumentCaptor<MessageListener> listenerCaptor = ArgumentCaptor.forClass(
+        MessageListener.class);
+    redisPushFanoutAdapter.subscribe("node-1", received::add);
+    ArgumentCaptor<Topic> topicCaptor = ArgumentCaptor.forClass(Topic.class);
+    verify(pushFanoutListenerContainer).addMessageListener(listenerCaptor.capture(),
+        topicCaptor.capture());
+    assertThat(topicCaptor.getValue().getTopic()).isEqualTo(CHANNEL);
+    return listenerCaptor.getValue();
+  }
+
+  @SuppressWarnings("unchecked")
+  private byte[] published(String channel) {
+    ArgumentCaptor<RedisCallback<Long>> callbackCaptor = ArgumentCaptor.forClass(
+        RedisCallback.class);
+    verify(stringRedisTemplate).execute(callbackCaptor.capture());
+
+    RedisConnection connection = mock(RedisConnection.class);
+    callbackCaptor.getValue().doInRedis(connection);
+
+    ArgumentCaptor<byte[]> bodyCaptor = ArgumentCaptor.forClass(byte[].class);
+    verify(connection).publish(eq(channel.getBytes(StandardCharsets.UTF_8)), bodyCaptor.capture());
+    return bodyCaptor.getValue();
+  }
+
+  private static PushFrame sampleFrame() {
+    return new PushFrame("user-1", "sort-1", PushPayload.of("{\"payload\":\"내용\"}"), "node-2",
+        1000L);
+  }
+
+  @Nested
+  @DisplayName("publish 테스트")
+  class PublishTest {
+
+    /*[Case #1] frame 이 header 와 인코딩된 payload 로 수신 노드 채널에 발행되어야 한다*/
+    @DisplayName("1. frame 이 header 와 인코딩된 payload 로 수신 노드 채널에 발행되는지 검증")
+    @Test
+    void publish_shouldSendHeaderAndRawPayloadToChannel() throws Exception {
+      //given
+      PushFrame frame = sampleFrame();
+
+      //when
+      redisPushFanoutAdapter.publish("node-1", frame);
+
+      //then
+      String body = new String(published(CHANNEL), StandardCharsets.UTF_8);
+      String[] parts = body.split("\n", 2);
+      assertThat(objectMapper.readTree(parts[0]).get("sortId").asText()).isEqualTo("sort-1");
+      assertThat(parts[1]).isEqualTo("{\"payload\":\"내용\"}");
+    }
+
+    /*[Case #2] 발행한 메시지를 수신하면 같은 frame 으로 복원되어야 한다*/
+    @DisplayName("2. 발행한 메시지를 수신하면 같은 frame 으로 복원되는지 검증")
+    @Test
+    void publish_shouldRoundTripThroughSubscriber() throws Exception {
+      //given
+      PushFrame frame = sampleFrame();
+      List<PushFrame> received = new ArrayList<>();
+      MessageListener listener = subscribe(received);
+      redisPushFanoutAdapter.publish("node-1", frame);
+
+      //when
+      listener.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8),
+          published(CHANNEL)), null);
+
+      //then
+      assertThat(received).containsExactly(frame);
+    }
+  }
+
+  @Nested
+  @DisplayName("subscribe 테스트")
+  class SubscribeTest {
+
+    /*[Case #1] 이 노드 채널에서 수신한 frame 이 subscriber 에 전달되어야 한다*/
+    @DisplayName("1. 이 노드 채널에서 수신한 frame 이 subscriber 에 전달되는지 검증")
+    @Test
+    void subscribe_shouldDeliverReceivedFrame() throws Exception {
+      //given
+      List<PushFrame> received = new ArrayList<>();
+      MessageListener listener = subscribe(received);
+      PushFrame frame = sampleFrame();
+      byte[] body = ("{\"userId\":\"user-1\",\"sortId\":\"sort-1\",\"originNodeId\":\"node-2\","
+          + "\"publishedAtMillis\":1000}\n{\"payload\":\"내용\"}")
+          .getBytes(StandardCharsets.UTF_8);
+
+      //when
+      listener.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body), null);
+
+      //then
+      assertThat(received).containsExactly(frame);
+    }
+
+    /*[Case #2] 역직렬화할 수 없는 메시지는 무시되어야 한다*/
+    @DisplayName("2. 역직렬화할 수 없는 메시지는 무시되는지 검증")
+    @Test
+    void subscribe_shouldIgnoreMalformedMessage() throws Exception {
+      //given
+      List<PushFrame> received = new ArrayList<>();
+      MessageListener listener = subscribe(received);
+
+      //when
+      listener.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8),
+          "not-json".getBytes(StandardCharsets.UTF_8)), null);
+
+      //then
+      assertThat(received).isEmpty();
+    }
+  }
+}
@@ -0,0 +1,151 @@
+package com.threadly.notification.adapter.redis.presence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+/**
+ * RedisPushPresenceAdapter 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class RedisPushPresenceAdapterTest {
+
+  @Mock
+  private StringRedisTemplate stringRedisTemplate;
+
+  @Mock
+  private ZSetOperations<String, String> zSetOperations;
+
+  private RedisPushPresenceAdapter redisPushPresenceAdapter;
+
+  @BeforeEach
+  void setUp() {
+    redisPushPresenceAdapter = new RedisPushPresenceAdapter(stringRedisTemplate);
+  }
+
+  @SuppressWarnings("unchecked")
+  private StringRedisConnection runPipeline() {
+    ArgumentCaptor<RedisCallback<Object>> callbackCaptor = ArgumentCaptor.forClass(
+        RedisCallback.class);
+    verify(stringRedisTemplate).executePipelined(callbackCaptor.capture());
+    StringRedisConnection connection = mock(StringRedisConnection.class);
+    callbackCaptor.getValue().doInRedis(connection);
+    return connection;
+  }
+
+  @Nested
+  @DisplayName("등록/갱신/제거 테스트")
+  class RegisterTest {
+
+    /*[Case #1] nodeId 가 lease 만료 시각과 함께 저장되어야 한다*/
+    @DisplayName("1. nodeId 가 lease 만료 시각과 함께 저장되는지 검증")
+    @Test
+    void register_shouldAddNodeWithLeaseExpiry() throws Exception {
+      //given
+      long before = System.currentTimeMillis();
+
+      //when
+      redisPushPresenceAdapter.register("user-1", "node-1", Duration.ofSeconds(30));
+
+      //then
+      StringRedisConnection connection = runPipeline();
+      ArgumentCaptor<Double> scoreCaptor = ArgumentCaptor.forClass(Double.class);
+      verify(connection).zAdd(eq("notification:presence:user-1"), scoreCaptor.capture(),
+          eq("node-1"));
+      verify(connection).pExpire("notification:presence:user-1", 30000L);
+      assertThat(scoreCaptor.getValue()).isGreaterThanOrEqualTo(before + 30000.0);
+    }
+
+    /*[Case #2] heartbeat 시 lease 갱신과 함께 만료된 nodeId 가 정리되어야 한다*/
+    @DisplayName("2. heartbeat 시 lease 갱신과 함께 만료된 nodeId 가 정리되는지 검증")
+    @Test
+    void heartbeat_shouldRenewLeasesAndPurgeExpiredNodes() throws Exception {
+      //given
+      //when
+      redisPushPresenceAdapter.heartbeat("node-1", List.of("user-1", "user-2"),
+          Duration.ofSeconds(30));
+
+      //then
+      StringRedisConnection connection = runPipeline();
+      for (String userId : List.of("user-1", "user-2")) {
+        String key = "notification:presence:" + userId;
+        verify(connection).zAdd(eq(key), anyDouble(), eq("node-1"));
+        verify(connection).pExpire(key, 30000L);
+        verify(connection).zRemRangeByScore(eq(key), eq(0.0), anyDouble());
+      }
+    }
+
+    /*[Case #3] 등록 제거 시 nodeId 가 삭제되어야 한다*/
+    @DisplayName("3. 등록 제거 시 nodeId 가 삭제되는지 검증")
+    @Test
+    void unregister_shouldRemoveNode() throws Exception {
+      //given
+      when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+      //when
+      redisPushPresenceAdapter.unregister("user-1", "node-1");
+
+      //then
+      verify(zSetOperations).remove("notification:presence:user-1", "node-1");
+    }
+  }
+
+  @Nested
+  @DisplayName("nodesOf 테스트")
+  class NodesOfTest {
+
+    /*[Case #1] lease 가 유효한 nodeId 만 조회되어야 한다*/
+    @DisplayName("1. lease 가 유효한 nodeId 만 조회되는지 검증")
+    @Test
+    void nodesOf_shouldQueryUnexpiredNodes() throws Exception {
+      //given
+      long before = System.currentTimeMillis();
+      when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+      when(zSetOperations.rangeByScore(eq("notification:presence:user-1"), anyDouble(),
+          eq(Double.POSITIVE_INFINITY))).thenReturn(Set.of("node-1"));
+      ArgumentCaptor<Double> minCaptor = ArgumentCaptor.forClass(Double.class);
+
+      //when
+      Set<String> nodes = redisPushPresenceAdapter.nodesOf("user-1");
+
+      //then
+      assertThat(nodes).containsExactly("node-1");
+      verify(zSetOperations).rangeByScore(eq("notification:presence:user-1"),
+          minCaptor.capture(), eq(Double.POSITIVE_INFINITY));
+      assertThat(minCaptor.getValue()).isGreaterThanOrEqualTo((double) before);
+    }
+
+    /*[Case #2] 등록된 노드가 없으면 빈 Set 이 반환되어야 한다*/
+    @DisplayName("2. 등록된 노드가 없으면 빈 Set 이 반환되는지 검증")
+    @Test
+    void nodesOf_shouldReturnEmpty_whenNoPresence() throws Exception {
+      //given
+      when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+      //when
+      Set<String> nodes = redisPushPresenceAdapter.nodesOf("user-1");
+
+      //then
+      assertThat(nodes).isEmpty();
+    }
+  }
+}
@@ -8,4 +8,7 @@ dependencies {
     /*mail*/
     implementation("org.springframework.boot:spring-boot-starter-mail")
 
+    /*metrics*/
+    implementation("io.micrometer:micrometer-core")
+
 }
\ No newline at end of file
@@ -1,11 +1,24 @@
 package com.threadly.notification.adapter.smtp.client;
 
 import com.threadly.notification.commons.exception.ErrorCode;
+import com.threadly.notification.adapter.smtp.ratelimit.MailPriority;
+import com.threadly.notification.adapter.smtp.ratelimit.MailRateLimitExceededException;
+import com.threadly.notification.adapter.smtp.ratelimit.MailRateLimiter;
 import com.threadly.notification.commons.exception.mail.EmailVerificationException;
+import com.threadly.notification.core.domain.mail.MailType;
+import com.threadly.notification.core.port.mail.in.dto.MailBatchResult;
+import com.threadly.notification.core.port.mail.out.dto.MailContent;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
@@ -16,25 +29,26 @@ import org.springframework.stereotype.Component;
 public class MailClient {
 
   private final JavaMailSender mailSender;
+  private final MailRateLimiter mailRateLimiter;
 
   /**
    * 메일 전송
+   * <p>
+   * provider 전송 속도 제한 토큰을 받은 뒤 전송한다.
    *
+   * @param mailType
+   * @param from
    * @param to
    * @param subject
    * @param context
    * @throws MessagingException
    */
-  public void sendMail(String from, String to, String subject, String context) {
+  public void sendMail(MailType mailType, String from, String to, String subject,
+      String context) {
     try {
-      MimeMessage mimeMessage = mailSender.createMimeMessage();
-      MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
-      helper.setFrom(from);
-      helper.setTo(to);
-      helper.setSubject(subject);
-      helper.setText(context, true);
+      mailRateLimiter.acquire(MailPriority.of(mailType));
 
-      mailSender.send(mimeMessage);
+      mailSender.send(createMessage(from, to, subject, context));
 
       log.debug("mail 전송, to: {}", to);
     } catch (Exception e) {
@@ -42,4 +56,80 @@ public class MailClient {
       throw new EmailVerificationException(ErrorCode.EMAIL_SENDING_FAILED);
     }
   }
+
+  /**
+   * 여러 메일을 하나의 SMTP 연결로 연속 전송
+   * <p>
+   * 메일마다 provider 전송 속도 제한 토큰을 받은 뒤, 토큰을 받은 메일을 {@link JavaMailSender#send(MimeMessage...)} 한 번으로
+   * 전송한다. 실패한 메일은 예외 없이 결과에 순번으로 남긴다.
+   * <p>
+   * 토큰을 제한 시간 안에 받지 못하면 그 메일과 남은 메일은 기다리지 않고 속도 제한으로 보내지 않은 메일로 남긴다. 이 메일은
+   * 전송 실패가 아니므로 호출자가 시도 횟수를 늘리지 않고 다시 전송하도록 한다.
+   *
+   * @param from
+   * @param mails
+   * @return
+   */
+  public MailBatchResult sendMails(String from, List<MailContent> mails) {
+    Map<Integer, String> failures = new HashMap<>();
+    Set<Integer> throttled = new HashSet<>();
+    List<MimeMessage> messages = new ArrayList<>(mails.size());
+    List<Integer> indexes = new ArrayList<>(mails.size());
+
+    for (int i = 0; i < mails.size(); i++) {
+      MailContent mail = mails.get(i);
+      if (!throttled.isEmpty()) {
+        throttled.add(i);
+        continue;
+      }
+      try {
+        mailRateLimiter.acquire(MailPriority.of(mail.mailType()));
+        messages.add(createMessage(from, mail.to(), mail.subject(), mail.context()));
+        indexes.add(i);
+      } catch (MailRateLimitExceededException e) {
+        log.warn("mail 전송 속도 제한, to: {}, error: {}", mail.to(), e.getMessage());
+        throttled.add(i);
+      } catch (Exception e) {
+        log.error("mail 전송 준비 실패, to: {}, error: {}", mail.to(), e.getMessage());
+        failures.put(i, e.getMessage());
+      }
+    }
+    if (messages.isEmpty()) {
+      return new MailBatchResult(failures, throttled);
+    }
+
+    try {
+      mailSender.send(messages.toArray(MimeMessage[]::new));
+
+    } catch (MailSendException e) {
+      /*메시지별 실패 원인이 없으면 연결 실패 등으로 전체가 전송되지 않은 것*/
+      Map<Object, Exception> failedMessages = e.getFailedMessages();
+      for (int j = 0; j < messages.size(); j++) {
+        Exception cause = failedMessages.isEmpty() ? e : failedMessages.get(messages.get(j));
+        if (cause != null) {
+          failures.put(indexes.get(j), cause.getMessage());
+        }
+      }
+      log.error("mail 일괄 전송 중 실패: total={}, failed={}", mails.size(), failures.size(), e);
+
+    } catch (Exception e) {
+      log.error(e.getMessage(), e);
+      indexes.forEach(index -> failures.put(index, e.getMessage()));
+    }
+
+    log.debug("mail 일괄 전송, total: {}, failed: {}, throttled: {}", mails.size(),
+        failures.size(), throttled.size());
+    return new MailBatchResult(failures, throttled);
+  }
+
+  private MimeMessage createMessage(String from, String to, String subject, String context)
+      throws MessagingException {
+    MimeMessage mimeMessage = mailSender.createMimeMessage();
+    MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
+    helper.setFrom(from);
+    helper.setTo(to);
+    helper.setSubject(subject);
+    helper.setText(context, true);
+    return mimeMessage;
+  }
 }
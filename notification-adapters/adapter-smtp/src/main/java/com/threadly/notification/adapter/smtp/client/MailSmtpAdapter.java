@@ -1,6 +1,10 @@
 package com.threadly.notification.adapter.smtp.client;
 
+import com.threadly.notification.core.domain.mail.MailType;
+import com.threadly.notification.core.port.mail.in.dto.MailBatchResult;
 import com.threadly.notification.core.port.mail.out.SendMailPort;
+import com.threadly.notification.core.port.mail.out.dto.MailContent;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
@@ -16,7 +20,12 @@ public class MailSmtpAdapter implements SendMailPort {
   private final MailClient mailClient;
 
   @Override
-  public void sendMail(String to, String subject, String context) {
-    mailClient.sendMail(FROM, to, subject, context);
+  public void sendMail(MailType mailType, String to, String subject, String context) {
+    mailClient.sendMail(mailType, FROM, to, subject, context);
+  }
+
+  @Override
+  public MailBatchResult sendMails(List<MailContent> mails) {
+    return mailClient.sendMails(FROM, mails);
   }
 }
@@ -1,6 +1,10 @@
 package com.threadly.notification.adapter.smtp.client;
 
+import com.threadly.notification.core.domain.mail.MailType;
+import com.threadly.notification.core.port.mail.in.dto.MailBatchResult;
 import com.threadly.notification.core.port.mail.out.SendMailPort;
+import com.threadly.notification.core.port.mail.out.dto.MailContent;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
@@ -19,8 +23,15 @@ public class SandBoxMailSmtpAdapter implements SendMailPort {
   private static String TO = "rlarbqor00@naver.com";
 
   @Override
-  public void sendMail(String to, String subject, String context) {
-    mailClient.sendMail(FROM, TO, subject, context);
+  public void sendMail(MailType mailType, String to, String subject, String context) {
+    mailClient.sendMail(mailType, FROM, TO, subject, context);
 
   }
+
+  @Override
+  public MailBatchResult sendMails(List<MailContent> mails) {
+    return mailClient.sendMails(FROM, mails.stream()
+        .map(mail -> new MailContent(mail.mailType(), TO, mail.subject(), mail.context()))
+        .toList());
+  }
 }
@@ -0,0 +1,50 @@
+package com.threadly.notification.adapter.smtp.config;
+
+import com.threadly.notification.adapter.smtp.ratelimit.MailRateLimitProperties;
+import com.threadly.notification.adapter.smtp.transport.PooledJavaMailSender;
+import java.util.Properties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mail.MailProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mail.javamail.JavaMailSender;
+
+/**
+ * SMTP Config
+ * <p>
+ * spring.mail 설정으로 {@link PooledJavaMailSender} 를 생성해 기본 JavaMailSender 를 대체한다.
+ */
+@Configuration
+@EnableConfigurationProperties({MailProperties.class, MailRateLimitProperties.class})
+public class SmtpConfig {
+
+  @Bean
+  public JavaMailSender javaMailSender(
+      MailProperties mailProperties,
+      @Value("${notification.mail.smtp.pool.max-connections:4}") int maxConnections,
+      @Value("${notification.mail.smtp.pool.max-idle-millis:60000}") long maxIdleMillis,
+      @Value("${notification.mail.smtp.pool.validate-after-idle-millis:5000}") long validateAfterIdleMillis,
+      @Value("${notification.mail.smtp.pool.borrow-timeout-millis:10000}") long borrowTimeoutMillis
+  ) {
+    PooledJavaMailSender sender = new PooledJavaMailSender(
+        maxConnections, maxIdleMillis, validateAfterIdleMillis, borrowTimeoutMillis
+    );
+    sender.setHost(mailProperties.getHost());
+    if (mailProperties.getPort() != null) {
+      sender.setPort(mailProperties.getPort());
+    }
+    sender.setUsername(mailProperties.getUsername());
+    sender.setPassword(mailProperties.getPassword());
+    sender.setProtocol(mailProperties.getProtocol());
+    if (mailProperties.getDefaultEncoding() != null) {
+      sender.setDefaultEncoding(mailProperties.getDefaultEncoding().name());
+    }
+    if (!mailProperties.getProperties().isEmpty()) {
+      Properties properties = new Properties();
+      properties.putAll(mailProperties.getProperties());
+      sender.setJavaMailProperties(properties);
+    }
+    return sender;
+  }
+}
@@ -0,0 +1,23 @@
+package com.threadly.notification.adapter.smtp.ratelimit;
+
+import com.threadly.notification.core.domain.mail.MailType;
+
+/**
+ * 메일 전송 우선순위
+ * <p>
+ * 선언 순서가 앞설수록 먼저 토큰을 받는다.
+ */
+public enum MailPriority {
+  HIGH, //인증 메일
+  NORMAL; //그 외 메일
+
+  /**
+   * 메일 타입별 우선순위
+   *
+   * @param mailType
+   * @return
+   */
+  public static MailPriority of(MailType mailType) {
+    return mailType == MailType.VERIFICATION ? HIGH : NORMAL;
+  }
+}
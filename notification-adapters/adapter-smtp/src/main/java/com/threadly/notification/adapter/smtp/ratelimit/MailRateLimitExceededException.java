@@ -0,0 +1,17 @@
+package com.threadly.notification.adapter.smtp.ratelimit;
+
+import lombok.Getter;
+
+/**
+ * 메일 전송 토큰을 제한 시간 안에 얻지 못한 경우
+ */
+@Getter
+public class MailRateLimitExceededException extends RuntimeException {
+
+  private final String provider;
+
+  public MailRateLimitExceededException(String provider, String message) {
+    super(message + ", provider=" + provider);
+    this.provider = provider;
+  }
+}
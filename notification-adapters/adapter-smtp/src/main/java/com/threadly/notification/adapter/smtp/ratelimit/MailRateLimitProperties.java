@@ -0,0 +1,49 @@
+package com.threadly.notification.adapter.smtp.ratelimit;
+
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 메일 provider 별 전송 속도 제한 설정
+ * <p>
+ * providers 의 key 는 SMTP host(ex. smtp.naver.com)이며, 등록되지 않은 host 는 defaults 를 따른다.
+ *
+ * @param defaults
+ * @param providers
+ * @param maxWaitMillis 토큰을 기다리는 최대 시간
+ */
+@ConfigurationProperties(prefix = "notification.mail.rate-limit")
+public record MailRateLimitProperties(
+    @DefaultValue Limit defaults,
+    Map<String, Limit> providers,
+    @DefaultValue("30000") long maxWaitMillis
+) {
+
+  public MailRateLimitProperties {
+    providers = providers == null ? Map.of() : Map.copyOf(providers);
+  }
+
+  /**
+   * provider 별 설정, 없으면 기본값
+   *
+   * @param provider
+   * @return
+   */
+  public Limit limitOf(String provider) {
+    return providers.getOrDefault(provider, defaults);
+  }
+
+  /**
+   * 전송 속도 제한
+   *
+   * @param permitsPerSecond 초당 전송 수
+   * @param burst            순간 최대 전송 수
+   */
+  public record Limit(
+      @DefaultValue("5") double permitsPerSecond,
+      @DefaultValue("10") int burst
+  ) {
+
+  }
+}
@@ -0,0 +1,118 @@
+package com.threadly.notification.adapter.smtp.ratelimit;
+
+import com.threadly.notification.adapter.smtp.ratelimit.MailRateLimitProperties.Limit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * provider 별 메일 전송 속도 제한기
+ * <p>
+ * SMTP provider(host)마다 token bucket 을 두고, 전송 전에 토큰을 받을 때까지 기다린다. 인증 메일은 가입 환영 메일보다
+ * 먼저 토큰을 받는다. 대기 시간이 max-wait 를 넘으면 {@link MailRateLimitExceededException} 이 발생한다.
+ * <p>
+ * 대기 시간, 거부 수 지표는 provider 의 bucket 을 만들 때 우선순위별로 한 번만 등록한다.
+ */
+@Component
+@Slf4j
+public class MailRateLimiter {
+
+  private final MailRateLimitProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final String provider;
+
+  private final Map<String, ProviderLimit> limits = new ConcurrentHashMap<>();
+
+  public MailRateLimiter(MailRateLimitProperties properties, MeterRegistry meterRegistry,
+      @Value("${spring.mail.host:default}") String provider) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    this.provider = provider;
+    this.limits.put(provider, createLimit(provider));
+  }
+
+  /**
+   * 현재 SMTP provider 의 토큰 획득
+   *
+   * @param priority
+   */
+  public void acquire(MailPriority priority) {
+    acquire(provider, priority);
+  }
+
+  /**
+   * 주어진 provider 의 토큰 획득
+   *
+   * @param provider
+   * @param priority
+   */
+  public void acquire(String provider, MailPriority priority) {
+    ProviderLimit limit = limits.computeIfAbsent(provider, this::createLimit);
+
+    long startedAt = System.nanoTime();
+    boolean acquired;
+    try {
+      acquired = limit.bucket().acquire(priority,
+          TimeUnit.MILLISECONDS.toNanos(properties.maxWaitMillis()));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new MailRateLimitExceededException(provider, "토큰 대기 중 인터럽트 발생");
+    }
+    long waitedNanos = System.nanoTime() - startedAt;
+
+    limit.waitTimers().get(priority).record(waitedNanos, TimeUnit.NANOSECONDS);
+
+    if (!acquired) {
+      limit.rejectedCounters().get(priority).increment();
+      throw new MailRateLimitExceededException(provider,
+          "토큰 대기 시간 초과: " + properties.maxWaitMillis() + "ms");
+    }
+  }
+
+  private ProviderLimit createLimit(String provider) {
+    Limit limit = properties.limitOf(provider);
+    log.info("메일 전송 속도 제한 적용: provider={}, permitsPerSecond={}, burst={}", provider,
+        limit.permitsPerSecond(), limit.burst());
+
+    TokenBucket bucket = new TokenBucket(limit.permitsPerSecond(), limit.burst());
+    Gauge.builder("mail_rate_limit_waiting", bucket, TokenBucket::waiting)
+        .tag("provider", provider)
+        .description("토큰을 기다리는 메일 수")
+        .register(meterRegistry);
+
+    Map<MailPriority, Timer> waitTimers = new EnumMap<>(MailPriority.class);
+    Map<MailPriority, Counter> rejectedCounters = new EnumMap<>(MailPriority.class);
+    for (MailPriority priority : MailPriority.values()) {
+      waitTimers.put(priority, Timer.builder("mail_rate_limit_wait")
+          .tag("provider", provider)
+          .tag("priority", priority.name())
+          .description("메일 전송 토큰 대기 시간")
+          .register(meterRegistry));
+      rejectedCounters.put(priority, Counter.builder("mail_rate_limit_rejected")
+          .tag("provider", provider)
+          .tag("priority", priority.name())
+          .description("대기 시간 초과로 전송하지 못한 메일 수")
+          .register(meterRegistry));
+    }
+    return new ProviderLimit(bucket, waitTimers, rejectedCounters);
+  }
+
+  /**
+   * provider 의 token bucket 과 우선순위별 지표
+   */
+  private record ProviderLimit(
+      TokenBucket bucket,
+      Map<MailPriority, Timer> waitTimers,
+      Map<MailPriority, Counter> rejectedCounters
+  ) {
+
+  }
+}
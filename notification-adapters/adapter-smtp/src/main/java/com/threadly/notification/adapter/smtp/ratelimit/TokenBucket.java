@@ -0,0 +1,110 @@
+package com.threadly.notification.adapter.smtp.ratelimit;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 우선순위 대기열을 가진 token bucket
+ * <p>
+ * 초당 permitsPerSecond 개씩 최대 burst 개까지 토큰이 쌓인다. 토큰은 대기열의 맨 앞(우선순위, 도착 순) 요청만 가져갈 수
+ * 있으므로 높은 우선순위 요청이 먼저 기다리던 낮은 우선순위 요청보다 앞선다.
+ */
+class TokenBucket {
+
+  private final double permitsPerNano;
+  private final double burst;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition changed = lock.newCondition();
+  private final PriorityQueue<Waiter> waiters = new PriorityQueue<>();
+
+  private double tokens;
+  private long lastRefillNanos;
+  private long sequence;
+
+  TokenBucket(double permitsPerSecond, int burst) {
+    if (permitsPerSecond <= 0 || burst <= 0) {
+      throw new IllegalArgumentException(
+          "permitsPerSecond, burst 는 0보다 커야 합니다: " + permitsPerSecond + ", " + burst);
+    }
+    this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+    this.burst = burst;
+    this.tokens = burst;
+    this.lastRefillNanos = System.nanoTime();
+  }
+
+  /**
+   * 토큰 하나 획득
+   *
+   * @param priority
+   * @param timeoutNanos 최대 대기 시간
+   * @return 토큰을 얻은 경우 true, 대기 시간을 넘긴 경우 false
+   * @throws InterruptedException
+   */
+  boolean acquire(MailPriority priority, long timeoutNanos) throws InterruptedException {
+    lock.lock();
+    Waiter waiter = new Waiter(priority.ordinal(), sequence++);
+    waiters.add(waiter);
+    try {
+      long deadline = System.nanoTime() + timeoutNanos;
+      while (true) {
+        long now = System.nanoTime();
+        refill(now);
+
+        boolean head = waiters.peek() == waiter;
+        if (head && tokens >= 1.0) {
+          tokens -= 1.0;
+          return true;
+        }
+
+        long remaining = deadline - now;
+        if (remaining <= 0) {
+          return false;
+        }
+
+        /*맨 앞 요청은 다음 토큰까지, 나머지는 앞 요청이 빠질 때까지 대기*/
+        long waitNanos = head
+            ? Math.max(1L, (long) Math.ceil((1.0 - tokens) / permitsPerNano))
+            : remaining;
+        changed.awaitNanos(Math.min(waitNanos, remaining));
+      }
+    } finally {
+      waiters.remove(waiter);
+      changed.signalAll();
+      lock.unlock();
+    }
+  }
+
+  /**
+   * 대기 중인 요청 수
+   *
+   * @return
+   */
+  int waiting() {
+    lock.lock();
+    try {
+      return waiters.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void refill(long now) {
+    long elapsed = now - lastRefillNanos;
+    if (elapsed > 0) {
+      tokens = Math.min(burst, tokens + elapsed * permitsPerNano);
+      lastRefillNanos = now;
+    }
+  }
+
+  private record Waiter(int priority, long sequence) implements Comparable<Waiter> {
+
+    @Override
+    public int compareTo(Waiter other) {
+      int byPriority = Integer.compare(priority, other.priority);
+      return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+    }
+  }
+}
@@ -0,0 +1,151 @@
+package com.threadly.notification.adapter.smtp.transport;
+
+import com.threadly.notification.adapter.smtp.transport.SmtpConnectionPool.PooledTransport;
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+/**
+ * 연결을 재사용하는 JavaMailSender
+ * <p>
+ * {@link JavaMailSenderImpl} 은 send 호출마다 연결, STARTTLS, AUTH 를 새로 하지만, 이 구현은 {@link SmtpConnectionPool} 의
+ * 인증된 연결을 빌려 보낸다. send(MimeMessage...) 로 여러 메시지를 넘기면 하나의 연결로 연속 전송한다.
+ * <p>
+ * 재사용한 연결이 서버 쪽에서 끊겨 있던 경우 새 연결로 한 번 더 보낸다. 수신자 주소 오류처럼 연결이 살아 있는 실패는
+ * 해당 메시지만 실패로 기록하고 연결은 계속 사용한다.
+ */
+@Slf4j
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+
+  private final int maxConnections;
+  private final long maxIdleMillis;
+  private final long validateAfterIdleMillis;
+  private final long borrowTimeoutMillis;
+
+  private volatile SmtpConnectionPool pool;
+
+  public PooledJavaMailSender(int maxConnections, long maxIdleMillis, long validateAfterIdleMillis,
+      long borrowTimeoutMillis) {
+    this.maxConnections = maxConnections;
+    this.maxIdleMillis = maxIdleMillis;
+    this.validateAfterIdleMillis = validateAfterIdleMillis;
+    this.borrowTimeoutMillis = borrowTimeoutMillis;
+  }
+
+  @Override
+  protected void doSend(MimeMessage[] mimeMessages, @Nullable Object[] originalMessages)
+      throws MailException {
+    Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+
+    PooledTransport pooled = null;
+    try {
+      for (int i = 0; i < mimeMessages.length; i++) {
+        MimeMessage mimeMessage = mimeMessages[i];
+        Object original = originalMessages != null ? originalMessages[i] : mimeMessage;
+        try {
+          prepare(mimeMessage);
+          if (pooled == null) {
+            pooled = borrow();
+          }
+          try {
+            sendMessage(pooled, mimeMessage);
+          } catch (MessagingException e) {
+            if (!pooled.isReused() || isAlive(pooled)) {
+              throw e;
+            }
+            log.debug("재사용한 SMTP 연결이 끊겨 새 연결로 재전송: {}", e.getMessage());
+            getPool().release(pooled, true);
+            pooled = null;
+            pooled = borrow();
+            sendMessage(pooled, mimeMessage);
+          }
+        } catch (MessagingException | RuntimeException e) {
+          failedMessages.put(original, e);
+          if (pooled != null && !isAlive(pooled)) {
+            getPool().release(pooled, true);
+            pooled = null;
+          }
+        }
+      }
+    } finally {
+      if (pooled != null) {
+        getPool().release(pooled, false);
+      }
+    }
+
+    if (!failedMessages.isEmpty()) {
+      throw new MailSendException(failedMessages);
+    }
+  }
+
+  @Override
+  public void destroy() {
+    if (pool != null) {
+      pool.close();
+    }
+  }
+
+  private PooledTransport borrow() {
+    try {
+      return getPool().borrow(borrowTimeoutMillis);
+    } catch (MessagingException e) {
+      throw new MailSendException("SMTP 연결 실패", e);
+    }
+  }
+
+  /**
+   * 전송 실패 후 연결이 아직 살아 있는지 확인
+   * <p>
+   * 수신자 주소 오류처럼 서버가 응답한 실패는 연결을 계속 쓸 수 있으므로 NOOP 으로 확인한다.
+   *
+   * @param pooled
+   * @return
+   */
+  private static boolean isAlive(PooledTransport pooled) {
+    return pooled.transport().isConnected();
+  }
+
+  private static void sendMessage(PooledTransport pooled, MimeMessage mimeMessage)
+      throws MessagingException {
+    Address[] addresses = mimeMessage.getAllRecipients();
+    pooled.transport().sendMessage(mimeMessage, addresses != null ? addresses : new Address[0]);
+  }
+
+  /**
+   * JavaMailSenderImpl 과 동일하게 발송 시각, Message-ID 를 보존하며 헤더 확정
+   *
+   * @param mimeMessage
+   * @throws MessagingException
+   */
+  private static void prepare(MimeMessage mimeMessage) throws MessagingException {
+    if (mimeMessage.getSentDate() == null) {
+      mimeMessage.setSentDate(new Date());
+    }
+    String messageId = mimeMessage.getMessageID();
+    mimeMessage.saveChanges();
+    if (messageId != null) {
+      mimeMessage.setHeader("Message-ID", messageId);
+    }
+  }
+
+  private SmtpConnectionPool getPool() {
+    if (pool == null) {
+      synchronized (this) {
+        if (pool == null) {
+          pool = new SmtpConnectionPool(this::connectTransport, maxConnections, maxIdleMillis,
+              validateAfterIdleMillis);
+        }
+      }
+    }
+    return pool;
+  }
+}
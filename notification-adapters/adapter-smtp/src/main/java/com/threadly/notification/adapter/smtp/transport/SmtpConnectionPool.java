@@ -0,0 +1,164 @@
+package com.threadly.notification.adapter.smtp.transport;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인증된 SMTP 연결 pool
+ * <p>
+ * 연결, STARTTLS, AUTH 를 마친 Transport 를 재사용한다. 동시에 열 수 있는 연결 수는 maxConnections 로 제한하고, 가장
+ * 최근에 쓴 연결부터 꺼낸다(LIFO). 유휴 시간이 maxIdleMillis 를 넘은 연결은 닫고, validateAfterIdleMillis 를 넘은 연결은
+ * 꺼낼 때 NOOP 으로 살아 있는지 확인한다.
+ */
+@Slf4j
+public class SmtpConnectionPool implements AutoCloseable {
+
+  /**
+   * 연결, 인증까지 마친 Transport 생성
+   */
+  @FunctionalInterface
+  public interface TransportConnector {
+
+    Transport connect() throws MessagingException;
+  }
+
+  private final TransportConnector connector;
+  private final Semaphore permits;
+  private final long maxIdleMillis;
+  private final long validateAfterIdleMillis;
+
+  private final Deque<PooledTransport> idle = new ConcurrentLinkedDeque<>();
+  private volatile boolean closed;
+
+  public SmtpConnectionPool(TransportConnector connector, int maxConnections, long maxIdleMillis,
+      long validateAfterIdleMillis) {
+    this.connector = connector;
+    this.permits = new Semaphore(maxConnections);
+    this.maxIdleMillis = maxIdleMillis;
+    this.validateAfterIdleMillis = validateAfterIdleMillis;
+  }
+
+  /**
+   * 연결 대여
+   *
+   * @param timeoutMillis pool 이 가득 찬 경우 대기 시간
+   * @return
+   * @throws MessagingException 대기 시간 초과 또는 연결 실패
+   */
+  public PooledTransport borrow(long timeoutMillis) throws MessagingException {
+    if (closed) {
+      throw new MessagingException("SMTP 연결 pool 이 종료되었습니다.");
+    }
+    try {
+      if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+        throw new MessagingException("SMTP 연결 대기 시간 초과: " + timeoutMillis + "ms");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new MessagingException("SMTP 연결 대기 중 인터럽트 발생", e);
+    }
+
+    try {
+      PooledTransport pooled;
+      while ((pooled = idle.pollFirst()) != null) {
+        if (isUsable(pooled)) {
+          pooled.reused = true;
+          return pooled;
+        }
+        closeQuietly(pooled);
+      }
+      return new PooledTransport(connector.connect());
+    } catch (MessagingException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  /**
+   * 연결 반납
+   *
+   * @param pooled
+   * @param broken 전송 중 연결 오류가 발생한 경우 true, 재사용하지 않고 닫는다.
+   */
+  public void release(PooledTransport pooled, boolean broken) {
+    try {
+      if (broken || closed) {
+        closeQuietly(pooled);
+      } else {
+        pooled.lastUsedAt = System.currentTimeMillis();
+        idle.offerFirst(pooled);
+      }
+    } finally {
+      permits.release();
+    }
+  }
+
+  /**
+   * 유휴 연결 수
+   *
+   * @return
+   */
+  public int idleCount() {
+    return idle.size();
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    PooledTransport pooled;
+    while ((pooled = idle.pollFirst()) != null) {
+      closeQuietly(pooled);
+    }
+  }
+
+  private boolean isUsable(PooledTransport pooled) {
+    long idleMillis = System.currentTimeMillis() - pooled.lastUsedAt;
+    if (idleMillis > maxIdleMillis) {
+      return false;
+    }
+    if (idleMillis > validateAfterIdleMillis) {
+      return pooled.transport.isConnected();
+    }
+    return true;
+  }
+
+  private static void closeQuietly(PooledTransport pooled) {
+    try {
+      pooled.transport.close();
+    } catch (MessagingException e) {
+      log.debug("SMTP 연결 종료 실패: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * pool 에서 대여한 연결
+   */
+  public static final class PooledTransport {
+
+    private final Transport transport;
+    private long lastUsedAt = System.currentTimeMillis();
+    private boolean reused;
+
+    private PooledTransport(Transport transport) {
+      this.transport = transport;
+    }
+
+    public Transport transport() {
+      return transport;
+    }
+
+    /**
+     * pool 에 있던 연결을 다시 꺼낸 것인지 여부
+     *
+     * @return
+     */
+    public boolean isReused() {
+      return reused;
+    }
+  }
+}
@@ -1,14 +1,27 @@
 package com.threadly.notification.adapter.smtp.client;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.threadly.notification.adapter.smtp.ratelimit.MailPriority;
+import com.threadly.notification.adapter.smtp.ratelimit.MailRateLimitExceededException;
+import com.threadly.notification.adapter.smtp.ratelimit.MailRateLimiter;
 import com.threadly.notification.commons.exception.ErrorCode;
 import com.threadly.notification.commons.exception.mail.EmailVerificationException;
+import com.threadly.notification.core.domain.mail.MailType;
+import com.threadly.notification.core.port.mail.in.dto.MailBatchResult;
+import com.threadly.notification.core.port.mail.out.dto.MailContent;
 import jakarta.mail.Session;
 import jakarta.mail.internet.MimeMessage;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -16,6 +29,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 
 /**
@@ -30,6 +44,9 @@ class MailClientTest {
   @Mock
   private JavaMailSender javaMailSender;
 
+  @Mock
+  private MailRateLimiter mailRateLimiter;
+
   private MimeMessage mimeMessage() {
     return new MimeMessage((Session) null);
   }
@@ -47,9 +64,11 @@ class MailClientTest {
       when(javaMailSender.createMimeMessage()).thenReturn(mimeMessage);
 
       //when
-      mailClient.sendMail("threadly@naver.com", "user@threadly.io", "subject", "<p>body</p>");
+      mailClient.sendMail(MailType.WELCOME, "threadly@naver.com", "user@threadly.io", "subject",
+          "<p>body</p>");
 
       //then
+      verify(mailRateLimiter).acquire(MailPriority.NORMAL);
       verify(javaMailSender).send(mimeMessage);
     }
 
@@ -63,10 +82,118 @@ class MailClientTest {
       doThrow(new IllegalStateException("smtp error")).when(javaMailSender).send(mimeMessage);
 
       //when & then
-      assertThatThrownBy(() -> mailClient.sendMail("threadly@naver.com", "user@threadly.io", "subject", "body"))
+      assertThatThrownBy(() -> mailClient.sendMail(MailType.WELCOME, "threadly@naver.com",
+          "user@threadly.io", "subject", "body"))
+          .isInstanceOf(EmailVerificationException.class)
+          .extracting("errorCode")
+          .isEqualTo(ErrorCode.EMAIL_SENDING_FAILED);
+    }
+
+    /*[Case #3] 전송 속도 제한에 걸리면 전송하지 않고 EMAIL_SENDING_FAILED 예외가 발생해야 한다*/
+    @DisplayName("3. 전송 속도 제한에 걸리면 전송하지 않고 EMAIL_SENDING_FAILED 예외가 발생하는지 검증")
+    @Test
+    void sendMail_shouldNotSend_whenRateLimitExceeded() throws Exception {
+      //given
+      doThrow(new MailRateLimitExceededException("smtp.naver.com", "토큰 대기 시간 초과"))
+          .when(mailRateLimiter).acquire(MailPriority.HIGH);
+
+      //when & then
+      assertThatThrownBy(() -> mailClient.sendMail(MailType.VERIFICATION, "threadly@naver.com",
+          "user@threadly.io", "subject", "body"))
           .isInstanceOf(EmailVerificationException.class)
           .extracting("errorCode")
           .isEqualTo(ErrorCode.EMAIL_SENDING_FAILED);
+      verify(javaMailSender, never()).send(any(MimeMessage.class));
+    }
+  }
+
+  @Nested
+  @DisplayName("sendMails 테스트")
+  class SendMailsTest {
+
+    /*[Case #1] 토큰을 받은 메일을 send(MimeMessage...) 한 번으로 전송해야 한다*/
+    @DisplayName("1. 토큰을 받은 메일을 한 번의 send 호출로 전송하는지 검증")
+    @Test
+    void sendMails_shouldSendAllMessagesAtOnce() throws Exception {
+      //given
+      MimeMessage first = mimeMessage();
+      MimeMessage second = mimeMessage();
+      when(javaMailSender.createMimeMessage()).thenReturn(first, second);
+
+      //when
+      MailBatchResult result = mailClient.sendMails("threadly@naver.com", List.of(
+          new MailContent(MailType.WELCOME, "a@threadly.io", "subject", "body"),
+          new MailContent(MailType.VERIFICATION, "b@threadly.io", "subject", "body")));
+
+      //then
+      verify(mailRateLimiter).acquire(MailPriority.NORMAL);
+      verify(mailRateLimiter).acquire(MailPriority.HIGH);
+      verify(javaMailSender).send(first, second);
+      assertThat(result.failures()).isEmpty();
+      assertThat(result.throttled()).isEmpty();
+    }
+
+    /*[Case #2] 메시지별 실패는 해당 메일의 순번으로 남아야 한다*/
+    @DisplayName("2. 메시지별 실패가 해당 메일의 순번으로 남는지 검증")
+    @Test
+    void sendMails_shouldMapFailedMessages() throws Exception {
+      //given
+      MimeMessage first = mimeMessage();
+      MimeMessage second = mimeMessage();
+      when(javaMailSender.createMimeMessage()).thenReturn(first, second);
+      doThrow(new MailSendException(Map.of(second, new IllegalStateException("550 no mailbox"))))
+          .when(javaMailSender).send(first, second);
+
+      //when
+      MailBatchResult result = mailClient.sendMails("threadly@naver.com", List.of(
+          new MailContent(MailType.WELCOME, "a@threadly.io", "subject", "body"),
+          new MailContent(MailType.WELCOME, "b@threadly.io", "subject", "body")));
+
+      //then
+      assertThat(result.failures()).containsOnly(entry(1, "550 no mailbox"));
+    }
+
+    /*[Case #3] 연결 실패처럼 메시지별 원인이 없으면 모든 메일이 실패로 남아야 한다*/
+    @DisplayName("3. 메시지별 원인이 없는 실패면 모든 메일이 실패로 남는지 검증")
+    @Test
+    void sendMails_shouldFailAll_whenConnectionFails() throws Exception {
+      //given
+      MimeMessage first = mimeMessage();
+      MimeMessage second = mimeMessage();
+      when(javaMailSender.createMimeMessage()).thenReturn(first, second);
+      doThrow(new MailSendException("SMTP 연결 실패"))
+          .when(javaMailSender).send(first, second);
+
+      //when
+      MailBatchResult result = mailClient.sendMails("threadly@naver.com", List.of(
+          new MailContent(MailType.WELCOME, "a@threadly.io", "subject", "body"),
+          new MailContent(MailType.WELCOME, "b@threadly.io", "subject", "body")));
+
+      //then
+      assertThat(result.failures()).containsOnlyKeys(0, 1);
+    }
+
+    /*[Case #4] 전송 속도 제한에 걸린 메일과 남은 메일은 실패가 아닌 속도 제한으로 남아야 한다*/
+    @DisplayName("4. 전송 속도 제한에 걸린 메일과 남은 메일이 실패가 아닌 속도 제한으로 남는지 검증")
+    @Test
+    void sendMails_shouldMarkThrottled_whenRateLimitExceeded() throws Exception {
+      //given
+      MimeMessage first = mimeMessage();
+      when(javaMailSender.createMimeMessage()).thenReturn(first);
+      doThrow(new MailRateLimitExceededException("smtp.naver.com", "토큰 대기 시간 초과"))
+          .when(mailRateLimiter).acquire(MailPriority.HIGH);
+
+      //when
+      MailBatchResult result = mailClient.sendMails("threadly@naver.com", List.of(
+          new MailContent(MailType.WELCOME, "a@threadly.io", "subject", "body"),
+          new MailContent(MailType.VERIFICATION, "b@threadly.io", "subject", "body"),
+          new MailContent(MailType.WELCOME, "c@threadly.io", "subject", "body")));
+
+      //then
+      verify(mailRateLimiter, times(1)).acquire(MailPriority.NORMAL);
+      verify(javaMailSender).send(first);
+      assertThat(result.failures()).isEmpty();
+      assertThat(result.throttled()).containsExactlyInAnyOrder(1, 2);
     }
   }
 }
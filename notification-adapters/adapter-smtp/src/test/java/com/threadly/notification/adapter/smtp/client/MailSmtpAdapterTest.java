@@ -2,6 +2,7 @@ package com.threadly.notification.adapter.smtp.client;
 
 import static org.mockito.Mockito.verify;
 
+import com.threadly.notification.core.domain.mail.MailType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,9 +27,10 @@ class MailSmtpAdapterTest {
   @Test
   void sendMail_shouldDelegateToMailClient() throws Exception {
     //when
-    mailSmtpAdapter.sendMail("user@threadly.io", "subject", "body");
+    mailSmtpAdapter.sendMail(MailType.WELCOME, "user@threadly.io", "subject", "body");
 
     //then
-    verify(mailClient).sendMail("threadly@naver.com", "user@threadly.io", "subject", "body");
+    verify(mailClient).sendMail(MailType.WELCOME, "threadly@naver.com", "user@threadly.io",
+        "subject", "body");
   }
 }
@@ -2,6 +2,7 @@ package com.threadly.notification.adapter.smtp.client;
 
 import static org.mockito.Mockito.verify;
 
+import com.threadly.notification.core.domain.mail.MailType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,10 +27,11 @@ class SandBoxMailSmtpAdapterTest {
   @Test
   void sendMail_shouldDelegateToMailClientWithFixedRecipient() throws Exception {
     //when
-    sandBoxMailSmtpAdapter.sendMail("user@threadly.io", "subject", "body");
+    sandBoxMailSmtpAdapter.sendMail(MailType.WELCOME, "user@threadly.io", "subject", "body");
 
     //then
-    verify(mailClient).sendMail("rlarbqor00@naver.com", "rlarbqor00@naver.com", "subject", "body");
+    verify(mailClient).sendMail(MailType.WELCOME, "rlarbqor00@naver.com", "rlarbqor00@naver.com",
+        "subject", "body");
   }
 
   /*[Case #2] 다른 수신자를 전달해도 고정된 수신자로 메일이 전송되어야 한다*/
@@ -37,9 +39,11 @@ class SandBoxMailSmtpAdapterTest {
   @Test
   void sendMail_shouldAlwaysUseFixedRecipient() throws Exception {
     //when
-    sandBoxMailSmtpAdapter.sendMail("another@example.com", "test subject", "test body");
+    sandBoxMailSmtpAdapter.sendMail(MailType.WELCOME, "another@example.com", "test subject",
+        "test body");
 
     //then
-    verify(mailClient).sendMail("rlarbqor00@naver.com", "rlarbqor00@naver.com", "test subject", "test body");
+    verify(mailClient).sendMail(MailType.WELCOME, "rlarbqor00@naver.com", "rlarbqor00@naver.com",
+        "test subject", "test body");
   }
 }
@@ -0,0 +1,139 @@
+package com.threadly.notification.adapter.smtp.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.threadly.notification.adapter.smtp.ratelimit.MailRateLimitProperties.Limit;
+import com.threadly.notification.core.domain.mail.MailType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * MailRateLimiter 테스트
+ */
+class MailRateLimiterTest {
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private MailRateLimiter limiter(long maxWaitMillis) {
+    MailRateLimitProperties properties = new MailRateLimitProperties(
+        new Limit(100.0, 5),
+        Map.of("smtp.naver.com", new Limit(1.0, 1)),
+        maxWaitMillis
+    );
+    return new MailRateLimiter(properties, meterRegistry, "smtp.naver.com");
+  }
+
+  @Nested
+  @DisplayName("acquire 테스트")
+  class AcquireTest {
+
+    /*[Case #1] provider 별 설정이 적용되고 대기 시간이 기록되어야 한다*/
+    @DisplayName("1. provider 별 설정이 적용되고 대기 시간이 기록되는지 검증")
+    @Test
+    void acquire_shouldApplyProviderLimit() throws Exception {
+      //given
+      MailRateLimiter mailRateLimiter = limiter(0L);
+
+      //when
+      mailRateLimiter.acquire(MailPriority.HIGH);
+
+      //then
+      assertThatThrownBy(() -> mailRateLimiter.acquire(MailPriority.HIGH))
+          .isInstanceOf(MailRateLimitExceededException.class);
+      assertThat(meterRegistry.get("mail_rate_limit_wait")
+          .tag("provider", "smtp.naver.com")
+          .tag("priority", "HIGH")
+          .timer().count()).isEqualTo(2L);
+      assertThat(meterRegistry.get("mail_rate_limit_rejected")
+          .tag("provider", "smtp.naver.com")
+          .tag("priority", "HIGH")
+          .counter().count()).isEqualTo(1.0);
+    }
+
+    /*[Case #2] 설정이 없는 provider 는 기본 설정을 따라야 한다*/
+    @DisplayName("2. 설정이 없는 provider 는 기본 설정을 따르는지 검증")
+    @Test
+    void acquire_shouldUseDefaults_whenProviderIsNotConfigured() throws Exception {
+      //given
+      MailRateLimiter mailRateLimiter = limiter(0L);
+
+      //when
+      //then
+      for (int i = 0; i < 5; i++) {
+        mailRateLimiter.acquire("smtp.gmail.com", MailPriority.NORMAL);
+      }
+      assertThatThrownBy(() -> mailRateLimiter.acquire("smtp.gmail.com", MailPriority.NORMAL))
+          .isInstanceOf(MailRateLimitExceededException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("지표 등록 테스트")
+  class MeterTest {
+
+    /*[Case #1] 현재 provider 의 우선순위별 지표는 생성 시점에 등록되어야 한다*/
+    @DisplayName("1. 현재 provider 의 우선순위별 지표가 생성 시점에 등록되는지 검증")
+    @Test
+    void constructor_shouldRegisterMeters() throws Exception {
+      //given
+      //when
+      limiter(0L);
+
+      //then
+      for (MailPriority priority : MailPriority.values()) {
+        assertThat(meterRegistry.get("mail_rate_limit_wait")
+            .tag("provider", "smtp.naver.com")
+            .tag("priority", priority.name())
+            .timer().count()).isZero();
+        assertThat(meterRegistry.get("mail_rate_limit_rejected")
+            .tag("provider", "smtp.naver.com")
+            .tag("priority", priority.name())
+            .counter().count()).isZero();
+      }
+    }
+
+    /*[Case #2] 반복 호출해도 같은 지표가 재사용되어야 한다*/
+    @DisplayName("2. 반복 호출해도 provider, 우선순위별 지표가 하나씩만 있는지 검증")
+    @Test
+    void acquire_shouldReuseMeters() throws Exception {
+      //given
+      MailRateLimiter mailRateLimiter = limiter(0L);
+
+      //when
+      for (int i = 0; i < 3; i++) {
+        mailRateLimiter.acquire("smtp.gmail.com", MailPriority.NORMAL);
+      }
+
+      //then
+      assertThat(meterRegistry.get("mail_rate_limit_wait")
+          .tag("provider", "smtp.gmail.com")
+          .tag("priority", "NORMAL")
+          .timers()).hasSize(1)
+          .first().extracting(Timer::count).isEqualTo(3L);
+    }
+  }
+
+  @Nested
+  @DisplayName("MailPriority 테스트")
+  class MailPriorityTest {
+
+    /*[Case #1] 인증 메일은 높은 우선순위여야 한다*/
+    @DisplayName("1. 인증 메일은 높은 우선순위, 가입 환영 메일은 일반 우선순위인지 검증")
+    @Test
+    void of_shouldPrioritizeVerification() throws Exception {
+      //given
+      //when
+      //then
+      assertThat(MailPriority.of(MailType.VERIFICATION))
+          .isEqualTo(MailPriority.HIGH);
+      assertThat(MailPriority.of(MailType.WELCOME))
+          .isEqualTo(MailPriority.NORMAL);
+    }
+  }
+}
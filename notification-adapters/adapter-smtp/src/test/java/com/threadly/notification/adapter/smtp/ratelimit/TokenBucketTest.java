@@ -0,0 +1,116 @@
+package com.threadly.notification.adapter.smtp.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * TokenBucket 테스트
+ */
+class TokenBucketTest {
+
+  private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  @Nested
+  @DisplayName("acquire 테스트")
+  class AcquireTest {
+
+    /*[Case #1] burst 만큼은 대기 없이 토큰을 얻어야 한다*/
+    @DisplayName("1. burst 만큼은 대기 없이 토큰을 얻는지 검증")
+    @Test
+    void acquire_shouldGrantBurstImmediately() throws Exception {
+      //given
+      TokenBucket bucket = new TokenBucket(1.0, 3);
+
+      //when
+      //then
+      for (int i = 0; i < 3; i++) {
+        assertThat(bucket.acquire(MailPriority.NORMAL, 0L)).isTrue();
+      }
+      assertThat(bucket.acquire(MailPriority.NORMAL, 0L)).isFalse();
+    }
+
+    /*[Case #2] 토큰이 없으면 채워질 때까지 기다렸다가 얻어야 한다*/
+    @DisplayName("2. 토큰이 없으면 채워질 때까지 기다렸다가 얻는지 검증")
+    @Test
+    void acquire_shouldWaitForRefill() throws Exception {
+      //given
+      TokenBucket bucket = new TokenBucket(20.0, 1);
+      bucket.acquire(MailPriority.NORMAL, 0L);
+
+      //when
+      long startedAt = System.nanoTime();
+      boolean acquired = bucket.acquire(MailPriority.NORMAL, ONE_SECOND);
+      long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+      //then
+      assertThat(acquired).isTrue();
+      assertThat(waitedMillis).isBetween(30L, 500L);
+    }
+
+    /*[Case #3] 높은 우선순위 요청이 먼저 기다리던 낮은 우선순위 요청보다 먼저 토큰을 얻어야 한다*/
+    @DisplayName("3. 높은 우선순위 요청이 먼저 기다리던 낮은 우선순위 요청보다 먼저 토큰을 얻는지 검증")
+    @Test
+    void acquire_shouldServeHighPriorityFirst() throws Exception {
+      //given
+      TokenBucket bucket = new TokenBucket(5.0, 1);
+      bucket.acquire(MailPriority.NORMAL, 0L);
+
+      List<MailPriority> order = new CopyOnWriteArrayList<>();
+      CountDownLatch done = new CountDownLatch(2);
+
+      Thread normal = new Thread(() -> acquireAndRecord(bucket, MailPriority.NORMAL, order, done));
+      normal.start();
+      waitUntilWaiting(bucket, 1);
+
+      //when
+      Thread high = new Thread(() -> acquireAndRecord(bucket, MailPriority.HIGH, order, done));
+      high.start();
+
+      //then
+      assertThat(done.await(3, TimeUnit.SECONDS)).isTrue();
+      assertThat(order).containsExactly(MailPriority.HIGH, MailPriority.NORMAL);
+    }
+
+    /*[Case #4] 설정값이 0 이하면 예외가 발생해야 한다*/
+    @DisplayName("4. 설정값이 0 이하면 예외가 발생하는지 검증")
+    @Test
+    void constructor_shouldRejectNonPositiveSettings() throws Exception {
+      //given
+      //when
+      //then
+      assertThatThrownBy(() -> new TokenBucket(0.0, 1))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> new TokenBucket(1.0, 0))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  private static void acquireAndRecord(TokenBucket bucket, MailPriority priority,
+      List<MailPriority> order, CountDownLatch done) {
+    try {
+      if (bucket.acquire(priority, ONE_SECOND * 2)) {
+        order.add(priority);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      done.countDown();
+    }
+  }
+
+  private static void waitUntilWaiting(TokenBucket bucket, int expected)
+      throws InterruptedException {
+    long deadline = System.nanoTime() + ONE_SECOND;
+    while (bucket.waiting() < expected && System.nanoTime() < deadline) {
+      Thread.sleep(1L);
+    }
+  }
+}
@@ -0,0 +1,126 @@
+package com.threadly.notification.adapter.smtp.transport;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 in-process SMTP 서버
+ * <p>
+ * EHLO/HELO, MAIL, RCPT, DATA, NOOP, RSET, QUIT 만 처리하고 메시지 본문은 버린다. 연결 수와 수신 메시지 수를 기록하며,
+ * 연결마다 greetingDelayMillis 만큼 지연해 실제 서버의 연결 비용을 흉내낸다. 종료 시 열려 있는 연결도 모두 끊는다.
+ */
+class FakeSmtpServer implements AutoCloseable {
+
+  private final ServerSocket serverSocket;
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+  private final long greetingDelayMillis;
+
+  private final AtomicInteger connectionCount = new AtomicInteger();
+  private final AtomicInteger messageCount = new AtomicInteger();
+
+  private final Set<Socket> sockets = ConcurrentHashMap.newKeySet();
+
+  FakeSmtpServer(long greetingDelayMillis) throws IOException {
+    this(greetingDelayMillis, 0);
+  }
+
+  FakeSmtpServer(long greetingDelayMillis, int port) throws IOException {
+    this.greetingDelayMillis = greetingDelayMillis;
+    this.serverSocket = new ServerSocket();
+    this.serverSocket.setReuseAddress(true);
+    this.serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 50);
+    executor.submit(this::acceptLoop);
+  }
+
+  int port() {
+    return serverSocket.getLocalPort();
+  }
+
+  int connectionCount() {
+    return connectionCount.get();
+  }
+
+  int messageCount() {
+    return messageCount.get();
+  }
+
+  private void acceptLoop() {
+    while (!serverSocket.isClosed()) {
+      try {
+        Socket socket = serverSocket.accept();
+        connectionCount.incrementAndGet();
+        sockets.add(socket);
+        executor.submit(() -> handle(socket));
+      } catch (IOException e) {
+        return;
+      }
+    }
+  }
+
+  private void handle(Socket socket) {
+    try (socket;
+        BufferedReader reader = new BufferedReader(
+            new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII))) {
+      OutputStream out = socket.getOutputStream();
+      if (greetingDelayMillis > 0) {
+        Thread.sleep(greetingDelayMillis);
+      }
+      reply(out, "220 localhost fake smtp");
+
+      String line;
+      while ((line = reader.readLine()) != null) {
+        String command = line.length() >= 4 ? line.substring(0, 4).toUpperCase() : line;
+        switch (command) {
+          case "EHLO", "HELO" -> reply(out, "250 localhost");
+          case "MAIL", "RCPT", "NOOP", "RSET" -> reply(out, "250 OK");
+          case "DATA" -> {
+            reply(out, "354 End data with <CR><LF>.<CR><LF>");
+            String data;
+            while ((data = reader.readLine()) != null && !data.equals(".")) {
+              // 본문은 버린다
+            }
+            messageCount.incrementAndGet();
+            reply(out, "250 OK queued");
+          }
+          case "QUIT" -> {
+            reply(out, "221 Bye");
+            return;
+          }
+          default -> reply(out, "502 Command not implemented");
+        }
+      }
+    } catch (IOException e) {
+      // 클라이언트가 연결을 끊은 경우
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      sockets.remove(socket);
+    }
+  }
+
+  private static void reply(OutputStream out, String line) throws IOException {
+    out.write((line + "\r\n").getBytes(StandardCharsets.US_ASCII));
+    out.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    serverSocket.close();
+    for (Socket socket : sockets) {
+      socket.close();
+    }
+    executor.shutdownNow();
+  }
+}
@@ -0,0 +1,148 @@
+package com.threadly.notification.adapter.smtp.transport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+/**
+ * PooledJavaMailSender 테스트
+ * <p>
+ * in-process SMTP 서버로 실제 SMTP 대화를 거쳐 연결 재사용 여부를 확인한다.
+ */
+class PooledJavaMailSenderTest {
+
+  private static final int MESSAGE_COUNT = 30;
+  private static final long GREETING_DELAY_MILLIS = 20L;
+
+  private FakeSmtpServer server;
+  private PooledJavaMailSender pooledSender;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    server = new FakeSmtpServer(GREETING_DELAY_MILLIS);
+    pooledSender = new PooledJavaMailSender(2, 60_000L, 5_000L, 1_000L);
+    configure(pooledSender);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    pooledSender.destroy();
+    server.close();
+  }
+
+  private void configure(JavaMailSenderImpl sender) {
+    sender.setHost("localhost");
+    sender.setPort(server.port());
+    sender.setDefaultEncoding("UTF-8");
+  }
+
+  private MimeMessage message(JavaMailSender sender, int index) throws Exception {
+    MimeMessage mimeMessage = sender.createMimeMessage();
+    MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+    helper.setFrom("threadly@naver.com");
+    helper.setTo("user" + index + "@threadly.io");
+    helper.setSubject("subject " + index);
+    helper.setText("<p>body " + index + "</p>", true);
+    return mimeMessage;
+  }
+
+  private MimeMessage[] messages(JavaMailSender sender, int count) throws Exception {
+    List<MimeMessage> messages = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      messages.add(message(sender, i));
+    }
+    return messages.toArray(MimeMessage[]::new);
+  }
+
+  @Nested
+  @DisplayName("send 테스트")
+  class SendTest {
+
+    /*[Case #1] 연속 전송 시 하나의 연결을 재사용해야 한다*/
+    @DisplayName("1. 연속 전송 시 하나의 연결을 재사용하는지 검증")
+    @Test
+    void send_shouldReuseConnection_acrossSends() throws Exception {
+      //given
+      //when
+      for (int i = 0; i < 5; i++) {
+        pooledSender.send(message(pooledSender, i));
+      }
+
+      //then
+      assertThat(server.messageCount()).isEqualTo(5);
+      assertThat(server.connectionCount()).isEqualTo(1);
+    }
+
+    /*[Case #2] 여러 메시지를 한 번에 넘기면 하나의 연결로 전송해야 한다*/
+    @DisplayName("2. 여러 메시지를 한 번에 넘기면 하나의 연결로 전송하는지 검증")
+    @Test
+    void send_shouldSendBatchOverOneConnection() throws Exception {
+      //given
+      MimeMessage[] batch = messages(pooledSender, 10);
+
+      //when
+      pooledSender.send(batch);
+
+      //then
+      assertThat(server.messageCount()).isEqualTo(10);
+      assertThat(server.connectionCount()).isEqualTo(1);
+    }
+
+    /*[Case #3] 서버가 연결을 끊은 뒤에도 새 연결로 재전송해야 한다*/
+    @DisplayName("3. pool 의 연결이 끊겨 있으면 새 연결로 재전송하는지 검증")
+    @Test
+    void send_shouldRetryOnFreshConnection_whenPooledConnectionIsStale() throws Exception {
+      //given
+      pooledSender.send(message(pooledSender, 0));
+      int port = server.port();
+      server.close();
+      server = new FakeSmtpServer(0L, port);
+
+      //when
+      pooledSender.send(message(pooledSender, 1));
+
+      //then
+      assertThat(server.messageCount()).isEqualTo(1);
+    }
+  }
+
+  @Nested
+  @DisplayName("연결 수 비교 테스트")
+  class ConnectionCountTest {
+
+    /*[Case #1] 연결을 재사용하면 메시지마다 연결하는 경우보다 연결 수가 적어야 한다*/
+    @DisplayName("1. 연결 재사용 시 메시지마다 연결하는 경우보다 연결 수가 적은지 검증")
+    @Test
+    void pooledSender_shouldOpenFewerConnections_thanConnectPerMessage() throws Exception {
+      //given
+      JavaMailSenderImpl plainSender = new JavaMailSenderImpl();
+      configure(plainSender);
+
+      //when
+      for (int i = 0; i < MESSAGE_COUNT; i++) {
+        plainSender.send(message(plainSender, i));
+      }
+      int plainConnections = server.connectionCount();
+
+      for (int i = 0; i < MESSAGE_COUNT; i++) {
+        pooledSender.send(message(pooledSender, i));
+      }
+      int pooledConnections = server.connectionCount() - plainConnections;
+
+      //then
+      assertThat(server.messageCount()).isEqualTo(MESSAGE_COUNT * 2);
+      assertThat(plainConnections).isEqualTo(MESSAGE_COUNT);
+      assertThat(pooledConnections).isEqualTo(1);
+    }
+  }
+}
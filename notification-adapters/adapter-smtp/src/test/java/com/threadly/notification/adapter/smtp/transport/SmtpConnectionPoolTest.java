@@ -0,0 +1,161 @@
+package com.threadly.notification.adapter.smtp.transport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.threadly.notification.adapter.smtp.transport.SmtpConnectionPool.PooledTransport;
+import com.threadly.notification.adapter.smtp.transport.SmtpConnectionPool.TransportConnector;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * SmtpConnectionPool 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class SmtpConnectionPoolTest {
+
+  @Mock
+  private TransportConnector transportConnector;
+
+  @Nested
+  @DisplayName("borrow 테스트")
+  class BorrowTest {
+
+    /*[Case #1] 반납한 연결은 다시 연결하지 않고 재사용해야 한다*/
+    @DisplayName("1. 반납한 연결을 다시 연결하지 않고 재사용하는지 검증")
+    @Test
+    void borrow_shouldReuseReleasedConnection() throws Exception {
+      //given
+      Transport transport = mock(Transport.class);
+      when(transportConnector.connect()).thenReturn(transport);
+      SmtpConnectionPool pool = new SmtpConnectionPool(transportConnector, 2, 60_000L, 5_000L);
+
+      PooledTransport first = pool.borrow(100L);
+      pool.release(first, false);
+
+      //when
+      PooledTransport second = pool.borrow(100L);
+
+      //then
+      assertThat(first.isReused()).isFalse();
+      assertThat(second.transport()).isSameAs(transport);
+      assertThat(second.isReused()).isTrue();
+      verify(transportConnector, times(1)).connect();
+    }
+
+    /*[Case #2] 오류로 반납한 연결은 닫고 새로 연결해야 한다*/
+    @DisplayName("2. 오류로 반납한 연결을 닫고 새로 연결하는지 검증")
+    @Test
+    void borrow_shouldReconnect_whenReleasedAsBroken() throws Exception {
+      //given
+      Transport broken = mock(Transport.class);
+      Transport fresh = mock(Transport.class);
+      when(transportConnector.connect()).thenReturn(broken, fresh);
+      SmtpConnectionPool pool = new SmtpConnectionPool(transportConnector, 2, 60_000L, 5_000L);
+
+      pool.release(pool.borrow(100L), true);
+
+      //when
+      PooledTransport result = pool.borrow(100L);
+
+      //then
+      verify(broken).close();
+      assertThat(result.transport()).isSameAs(fresh);
+      assertThat(pool.idleCount()).isZero();
+    }
+
+    /*[Case #3] 유휴 시간이 validate-after-idle 을 넘으면 연결 상태를 확인해야 한다*/
+    @DisplayName("3. 유휴 시간이 길면 연결 상태를 확인하고 끊긴 연결은 버리는지 검증")
+    @Test
+    void borrow_shouldValidateIdleConnection() throws Exception {
+      //given
+      Transport stale = mock(Transport.class);
+      Transport fresh = mock(Transport.class);
+      when(transportConnector.connect()).thenReturn(stale, fresh);
+      when(stale.isConnected()).thenReturn(false);
+      SmtpConnectionPool pool = new SmtpConnectionPool(transportConnector, 2, 60_000L, 0L);
+
+      pool.release(pool.borrow(100L), false);
+      Thread.sleep(5L);
+
+      //when
+      PooledTransport result = pool.borrow(100L);
+
+      //then
+      verify(stale).isConnected();
+      verify(stale).close();
+      assertThat(result.transport()).isSameAs(fresh);
+    }
+
+    /*[Case #4] 최대 연결 수를 모두 빌려간 경우 대기 시간 초과 예외가 발생해야 한다*/
+    @DisplayName("4. 최대 연결 수를 모두 빌려간 경우 대기 시간 초과 예외가 발생하는지 검증")
+    @Test
+    void borrow_shouldThrow_whenPoolExhausted() throws Exception {
+      //given
+      when(transportConnector.connect()).thenReturn(mock(Transport.class));
+      SmtpConnectionPool pool = new SmtpConnectionPool(transportConnector, 1, 60_000L, 5_000L);
+      pool.borrow(100L);
+
+      //when
+      //then
+      assertThatThrownBy(() -> pool.borrow(10L))
+          .isInstanceOf(MessagingException.class);
+    }
+
+    /*[Case #5] 연결에 실패하면 대여 허용 수를 돌려줘야 한다*/
+    @DisplayName("5. 연결에 실패해도 대여 허용 수가 줄지 않는지 검증")
+    @Test
+    void borrow_shouldReleasePermit_whenConnectFails() throws Exception {
+      //given
+      Transport transport = mock(Transport.class);
+      when(transportConnector.connect())
+          .thenThrow(new MessagingException("connect failed"))
+          .thenReturn(transport);
+      SmtpConnectionPool pool = new SmtpConnectionPool(transportConnector, 1, 60_000L, 5_000L);
+
+      //when
+      assertThatThrownBy(() -> pool.borrow(10L)).isInstanceOf(MessagingException.class);
+      PooledTransport result = pool.borrow(10L);
+
+      //then
+      assertThat(result.transport()).isSameAs(transport);
+    }
+  }
+
+  @Nested
+  @DisplayName("close 테스트")
+  class CloseTest {
+
+    /*[Case #1] 종료 시 유휴 연결을 모두 닫아야 한다*/
+    @DisplayName("1. 종료 시 유휴 연결을 모두 닫는지 검증")
+    @Test
+    void close_shouldCloseIdleConnections() throws Exception {
+      //given
+      Transport transport = mock(Transport.class);
+      when(transportConnector.connect()).thenReturn(transport);
+      SmtpConnectionPool pool = new SmtpConnectionPool(transportConnector, 2, 60_000L, 5_000L);
+      pool.release(pool.borrow(100L), false);
+
+      //when
+      pool.close();
+
+      //then
+      verify(transport).close();
+      assertThat(pool.idleCount()).isZero();
+      assertThatThrownBy(() -> pool.borrow(10L)).isInstanceOf(MessagingException.class);
+      verify(transportConnector, times(1)).connect();
+      verify(transport, never()).isConnected();
+    }
+  }
+}
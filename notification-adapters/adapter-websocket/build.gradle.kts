@@ -7,8 +7,13 @@ dependencies {
 
     implementation("org.springframework:spring-websocket")
     implementation("org.springframework:spring-messaging")
+    implementation("org.springframework.boot:spring-boot-autoconfigure")
     implementation("com.fasterxml.jackson.core:jackson-databind")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
     implementation("org.slf4j:slf4j-api")
+
+    /*metrics*/
+    implementation("io.micrometer:micrometer-core")
     
     compileOnly("org.projectlombok:lombok")
     annotationProcessor("org.projectlombok:lombok")
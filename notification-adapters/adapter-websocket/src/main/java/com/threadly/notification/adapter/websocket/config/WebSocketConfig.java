@@ -1,7 +1,12 @@
 package com.threadly.notification.adapter.websocket.config;
 
+import com.threadly.notification.adapter.websocket.interceptor.DeviceHandshakeInterceptor;
 import com.threadly.notification.adapter.websocket.interceptor.JwtHandshakeInterceptor;
+import com.threadly.notification.adapter.websocket.interceptor.PushSchemaHandshakeInterceptor;
 import com.threadly.notification.adapter.websocket.notification.NotificationWebSocketHandler;
+import com.threadly.notification.adapter.websocket.notification.codec.PushCodecs;
+import com.threadly.notification.adapter.websocket.notification.compression.DeflateHandshakeHandler;
+import com.threadly.notification.adapter.websocket.notification.compression.WsCompressionPolicy;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.socket.config.annotation.EnableWebSocket;
@@ -16,11 +21,21 @@ public class WebSocketConfig implements WebSocketConfigurer {
 
   private final NotificationWebSocketHandler handler;
   private final JwtHandshakeInterceptor jwtHandshakeInterceptor;
+  private final PushSchemaHandshakeInterceptor pushSchemaHandshakeInterceptor;
+  private final DeviceHandshakeInterceptor deviceHandshakeInterceptor;
+  private final WsCompressionPolicy wsCompressionPolicy;
+  private final PushCodecs pushCodecs;
 
   @Override
   public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+    /*Sec-WebSocket-Protocol 로 frame 형식 협상, 요청하지 않으면 JSON*/
+    DeflateHandshakeHandler handshakeHandler = new DeflateHandshakeHandler(wsCompressionPolicy);
+    handshakeHandler.setSupportedProtocols(pushCodecs.subprotocols());
+
     registry.addHandler(handler, "/ws/notifications")
-        .addInterceptors(jwtHandshakeInterceptor)
+        .setHandshakeHandler(handshakeHandler)
+        .addInterceptors(jwtHandshakeInterceptor, pushSchemaHandshakeInterceptor,
+            deviceHandshakeInterceptor)
         .setAllowedOriginPatterns(
             "https://threadly.kr",
             "http://localhost:*",
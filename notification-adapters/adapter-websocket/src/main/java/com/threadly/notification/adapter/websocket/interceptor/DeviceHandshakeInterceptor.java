@@ -0,0 +1,39 @@
+package com.threadly.notification.adapter.websocket.interceptor;
+
+import com.threadly.notification.adapter.websocket.notification.resync.DeliveryWatermarks;
+import java.util.Map;
+import java.util.regex.Pattern;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * 기기 식별 인터셉터
+ * <p>
+ * query 의 device 값(ex. device=ios-3f2a)을 세션 attribute 에 저장한다. 전달 확인 watermark 를 기기별로 보관하는 데만
+ * 사용하며, 형식에 맞지 않거나 지정하지 않으면 저장하지 않는다.
+ */
+@Component
+public class DeviceHandshakeInterceptor implements HandshakeInterceptor {
+
+  private static final Pattern DEVICE_PATTERN = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+  @Override
+  public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+      WebSocketHandler wsHandler, Map<String, Object> attributes) {
+    String device = UriComponentsBuilder.fromUri(request.getURI()).build().getQueryParams()
+        .getFirst("device");
+    if (device != null && DEVICE_PATTERN.matcher(device).matches()) {
+      attributes.put(DeliveryWatermarks.DEVICE_ATTRIBUTE, device);
+    }
+    return true;
+  }
+
+  @Override
+  public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+      WebSocketHandler wsHandler, Exception exception) {
+  }
+}
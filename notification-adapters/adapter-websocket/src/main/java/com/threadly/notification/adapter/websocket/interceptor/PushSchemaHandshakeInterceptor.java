@@ -0,0 +1,33 @@
+package com.threadly.notification.adapter.websocket.interceptor;
+
+import com.threadly.notification.adapter.websocket.notification.schema.PushSchema;
+import java.util.Map;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * 푸시 schema 협상 인터셉터
+ * <p>
+ * query 의 schema 값(ex. schema=v2)을 세션 attribute 에 저장한다. 지정하지 않은 클라이언트는 기존 v1 을 받는다.
+ */
+@Component
+public class PushSchemaHandshakeInterceptor implements HandshakeInterceptor {
+
+  @Override
+  public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+      WebSocketHandler wsHandler, Map<String, Object> attributes) {
+    String schema = UriComponentsBuilder.fromUri(request.getURI()).build().getQueryParams()
+        .getFirst("schema");
+    attributes.put(PushSchema.ATTRIBUTE, PushSchema.fromQuery(schema));
+    return true;
+  }
+
+  @Override
+  public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+      WebSocketHandler wsHandler, Exception exception) {
+  }
+}
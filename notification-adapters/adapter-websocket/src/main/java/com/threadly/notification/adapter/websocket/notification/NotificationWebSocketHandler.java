@@ -1,17 +1,27 @@
 package com.threadly.notification.adapter.websocket.notification;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.threadly.notification.adapter.websocket.notification.codec.JsonPushCodec;
+import com.threadly.notification.adapter.websocket.notification.codec.PushCodec;
+import com.threadly.notification.adapter.websocket.notification.codec.PushCodecs;
+import com.threadly.notification.adapter.websocket.notification.compression.WsCompressionPolicy;
+import com.threadly.notification.adapter.websocket.notification.dto.WsInboundMessage;
+import com.threadly.notification.adapter.websocket.notification.heartbeat.WsHeartbeatWheel;
+import com.threadly.notification.adapter.websocket.notification.outbound.QueuedWebSocketSessionFactory;
+import com.threadly.notification.adapter.websocket.notification.presence.PushPresenceDirectory;
+import com.threadly.notification.adapter.websocket.notification.replay.WsReplayBuffer;
+import com.threadly.notification.adapter.websocket.notification.resync.DeliveryWatermark;
+import com.threadly.notification.adapter.websocket.notification.resync.DeliveryWatermarks;
+import com.threadly.notification.adapter.websocket.notification.resync.WsInboundDispatcher;
+import com.threadly.notification.adapter.websocket.notification.resync.WsResyncHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import java.nio.ByteBuffer;
 import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.CloseStatus;
-import org.springframework.web.socket.PingMessage;
 import org.springframework.web.socket.PongMessage;
+import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
@@ -20,27 +30,42 @@ import org.springframework.web.socket.handler.TextWebSocketHandler;
 @Slf4j
 public class NotificationWebSocketHandler extends TextWebSocketHandler {
 
-  private final WsSessionRegistry wsSessionRegistry;
-  private final ObjectMapper objectMapper;
-
-  private final Map<String, Long> lastPongAt = new ConcurrentHashMap<>();
+  private static final String OUTBOUND_SESSION_ATTRIBUTE = "outboundSession";
+  private static final String WATERMARK_ATTRIBUTE = "deliveryWatermark";
 
-  private final ScheduledExecutorService pingPongExecutor = Executors.newScheduledThreadPool(1);
-
-  private final static long PING_INTERVAL_SECONDS = 15L;
-  private final static long PONG_TIMEOUT_SECONDS = 45L;
+  private final WsSessionRegistry wsSessionRegistry;
+  private final PushPresenceDirectory pushPresenceDirectory;
+  private final WsHeartbeatWheel wsHeartbeatWheel;
+  private final QueuedWebSocketSessionFactory queuedWebSocketSessionFactory;
+  private final WsResyncHandler wsResyncHandler;
+  private final WsInboundDispatcher wsInboundDispatcher;
+  private final DeliveryWatermarks deliveryWatermarks;
+  private final WsReplayBuffer wsReplayBuffer;
+  private final WsCompressionPolicy wsCompressionPolicy;
+  private final JsonPushCodec jsonPushCodec;
+  private final PushCodecs pushCodecs;
 
   @Override
   public void afterConnectionEstablished(WebSocketSession session) throws Exception {
     try {
+      /*뒤 단계가 실패해도 예약한 압축 slot 이 남지 않도록 협상 결과부터 기록*/
+      wsCompressionPolicy.opened(session);
+
       String userId = getUserId(session);
 
-      wsSessionRegistry.add(userId, session);
+      /*푸시, ping 모두 세션별 송신 큐를 거쳐 전송*/
+      WebSocketSession outbound = queuedWebSocketSessionFactory.decorate(session);
+      session.getAttributes().put(OUTBOUND_SESSION_ATTRIBUTE, outbound);
+
+      /*watermark 는 사용자, 기기 단위로 보관해 재연결해도 이어서 사용*/
+      session.getAttributes().put(WATERMARK_ATTRIBUTE, deliveryWatermarks.of(userId,
+          (String) session.getAttributes().get(DeliveryWatermarks.DEVICE_ATTRIBUTE)));
 
-      lastPongAt.put(session.getId(), System.currentTimeMillis());
+      wsSessionRegistry.add(userId, outbound);
+      pushPresenceDirectory.connected(userId);
 
-      /*ping 전송*/
-      startPing(session);
+      /*ping 전송, pong 타임아웃 대상 등록*/
+      wsHeartbeatWheel.register(outbound);
 
       log.info("웹소켓 연결 성공 userId={}, sessionId={}", userId, session.getId());
     } catch (Exception e) {
@@ -49,9 +74,54 @@ public class NotificationWebSocketHandler extends TextWebSocketHandler {
     }
   }
 
+  @Override
+  protected void handleTextMessage(WebSocketSession session, TextMessage message)
+      throws Exception {
+    handleInbound(session, message.asBytes(), jsonPushCodec);
+  }
+
+  /**
+   * binary subprotocol 을 협상한 세션의 수신 메시지는 협상된 codec 으로 디코딩
+   */
+  @Override
+  protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message)
+      throws Exception {
+    ByteBuffer buffer = message.getPayload();
+    byte[] payload = new byte[buffer.remaining()];
+    buffer.get(payload);
+    handleInbound(session, payload, pushCodecs.of(session));
+  }
+
+  private void handleInbound(WebSocketSession session, byte[] payload, PushCodec codec)
+      throws Exception {
+    String userId = getUserId(session);
+
+    WsInboundMessage inbound;
+    try {
+      inbound = codec.decode(payload, WsInboundMessage.class);
+    } catch (JsonProcessingException e) {
+      log.warn("수신 메시지 해석 실패 userId={}, sessionId={}, error={}", userId, session.getId(),
+          e.getOriginalMessage());
+      wsResyncHandler.rejected();
+      return;
+    }
+
+    WebSocketSession outbound = (WebSocketSession) session.getAttributes()
+        .get(OUTBOUND_SESSION_ATTRIBUTE);
+    DeliveryWatermark watermark = (DeliveryWatermark) session.getAttributes()
+        .get(WATERMARK_ATTRIBUTE);
+    if (outbound == null || watermark == null) {
+      return;
+    }
+
+    /*ACK 의 eventId 조회, RESYNC 의 Mongo 조회가 컨테이너 스레드를 막지 않도록 분리*/
+    wsInboundDispatcher.dispatch(session.getId(),
+        () -> wsResyncHandler.handle(userId, outbound, watermark, inbound));
+  }
+
   @Override
   protected void handlePongMessage(WebSocketSession session, PongMessage message) throws Exception {
-    lastPongAt.put(session.getId(), System.currentTimeMillis());
+    wsHeartbeatWheel.onPong(session);
 
     log.debug("pong 수신: sessionId={}", session.getId());
   }
@@ -60,8 +130,11 @@ public class NotificationWebSocketHandler extends TextWebSocketHandler {
   public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
     String userId = getUserId(session);
     wsSessionRegistry.remove(userId, session);
+    pushPresenceDirectory.disconnected(userId);
+    discardReplayBufferIfIdle(userId);
     log.info("웹소켓 연결 종료 userId={}, sessionId={}, status={}", userId, session.getId(), status);
-    lastPongAt.remove(session.getId());
+    wsHeartbeatWheel.unregister(session);
+    wsCompressionPolicy.closed(session);
   }
 
 
@@ -77,38 +150,26 @@ public class NotificationWebSocketHandler extends TextWebSocketHandler {
     }
 
     wsSessionRegistry.remove(userId, session);
-    lastPongAt.remove(session.getId());
+    pushPresenceDirectory.disconnected(userId);
+    discardReplayBufferIfIdle(userId);
+    wsHeartbeatWheel.unregister(session);
+    wsCompressionPolicy.closed(session);
   }
 
 
-  private void startPing(WebSocketSession session) {
-    pingPongExecutor.scheduleAtFixedRate(() -> {
-      /*세션이 닫혀있는 경우*/
-      if (!session.isOpen()) {
-        return;
-      }
-
-      /*타임아웃 체크*/
-      Long last = lastPongAt.get(session.getId());
-      if (last != null && (System.currentTimeMillis() - last) > PONG_TIMEOUT_SECONDS * 1000) {
-        log.warn("pong 타임 아웃: sessionId={}", session.getId());
-        try {
-          session.close(CloseStatus.SESSION_NOT_RELIABLE.withReason("pont timeout"));
-        } catch (Exception e) {
-          log.error("session close 실패: sessionId={}, errorMessage={}", session.getId(), e);
-          return;
-        }
-      }
-      try {
-        log.debug("ping 전송: sessionId={}", session.getId());
-        session.sendMessage(new PingMessage());
-      } catch (Exception e) {
-        log.error("ping 전송 실패: sessionId={}, errorMessage={}", session.getId(), e);
-      }
-    }, PING_INTERVAL_SECONDS, PING_INTERVAL_SECONDS, TimeUnit.SECONDS);
+  /**
+   * 이 노드에 남은 세션이 없으면 재전송 버퍼 제거
+   * <p>
+   * 세션이 없는 동안의 푸시는 이 노드로 오지 않으므로 버퍼가 빠짐없이 보관했다고 볼 수 없다.
+   *
+   * @param userId
+   */
+  private void discardReplayBufferIfIdle(String userId) {
+    if (wsSessionRegistry.activeCount(userId) == 0) {
+      wsReplayBuffer.discard(userId);
+    }
   }
 
-
   /**
    * session attribute에서 userId 추출
    *
@@ -2,8 +2,10 @@ package com.threadly.notification.adapter.websocket.notification;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.threadly.notification.adapter.websocket.notification.dto.OutEvent;
+import com.threadly.notification.adapter.websocket.notification.fanout.PushFanoutRelay;
 import com.threadly.notification.core.port.notification.out.NotificationPushPort;
 import com.threadly.notification.core.port.notification.out.dto.NotificationMessage;
+import com.threadly.notification.core.port.notification.out.dto.PushPayload;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -13,22 +15,30 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class WebSocketPushAdapter implements NotificationPushPort {
 
-  private final WsSessionRegistry wsSessionRegistry;
+  private static final PushPayload FALLBACK_PAYLOAD = PushPayload.of("{\"type\":\"NOTIFICATION\"}");
+
+  private final PushFanoutRelay pushFanoutRelay;
   private final ObjectMapper objectMapper;
 
   @Override
   public void pushToUser(String userId, NotificationMessage payload) {
-    String json = toOutboundJson(payload);
-
-    wsSessionRegistry.emit(userId, json);
+    pushFanoutRelay.route(userId, payload.sortId(), () -> toOutboundJson(payload));
   }
 
-  private String toOutboundJson(NotificationMessage payload) {
+  /**
+   * OutEvent 를 UTF-8 로 한 번만 직렬화
+   * <p>
+   * 중간 문자열 없이 바로 byte 배열로 쓰고, 이 배열을 세션 전송, 재전송 버퍼, 노드 간 전달에서 그대로 공유한다.
+   *
+   * @param payload
+   * @return
+   */
+  private PushPayload toOutboundJson(NotificationMessage payload) {
     try {
-      return objectMapper.writeValueAsString(new OutEvent(payload));
+      return PushPayload.wrap(objectMapper.writeValueAsBytes(new OutEvent(payload)));
     } catch (Exception e) {
       log.error("Failed to serialize notification payload", e);
-      return "{\"type\":\"NOTIFICATION\"}";
+      return FALLBACK_PAYLOAD;
     }
   }
 
@@ -1,63 +1,256 @@
 package com.threadly.notification.adapter.websocket.notification;
 
+import com.threadly.notification.adapter.websocket.notification.outbound.QueuedWebSocketSession;
+import com.threadly.notification.adapter.websocket.notification.schema.PushMessages;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.io.IOException;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
 import org.springframework.web.socket.WebSocketSession;
 
+/**
+ * 이 노드에 연결된 사용자별 웹소켓 세션 저장소
+ * <p>
+ * userId 해시로 나눈 shard 마다 {@link ConcurrentHashMap} 을 두고, 사용자별 세션도 세션 id 로 찾는 ConcurrentHashMap 에
+ * 보관한다. 연결, 종료만 shard lock 을 잡아 세션 수 집계와 마지막 세션 제거 시 사용자 항목 제거를 함께 처리하며, 서로 다른
+ * shard 끼리는 경쟁하지 않는다. 전송과 조회는 lock 없이 읽고, 순회 중 추가, 제거된 세션은 반영되지 않을 수 있다.
+ * <p>
+ * 전체 세션 수와 사용자 수는 변경 시 함께 갱신해 조회가 O(1) 이다.
+ */
 @Component
 @Slf4j
 public class WsSessionRegistry {
 
-  private final ConcurrentHashMap<String, CopyOnWriteArrayList<WebSocketSession>> sessions = new ConcurrentHashMap<>();
+  private final Shard[] shards;
+  private final int mask;
 
-  public void add(String userId, WebSocketSession session) {
-    sessions.computeIfAbsent(userId, k -> new CopyOnWriteArrayList<>()).add(session);
-    log.info("웹소켓 세션 추가 userId={}, sessionId={}", userId, session.getId());
-  }
+  private final AtomicInteger sessionCount = new AtomicInteger();
+  private final AtomicInteger userCount = new AtomicInteger();
 
-  public void remove(String userId, WebSocketSession session) {
-    var list = sessions.get(userId);
-    if (list != null) {
-      list.remove(session);
-      log.info("웹소켓 세션 제거 userId={}, sessionId={}", userId, session.getId());
+  public WsSessionRegistry(MeterRegistry meterRegistry,
+      @Value("${notification.websocket.registry.shards:64}") int shards) {
+    int size = shards <= 1 ? 1 : Integer.highestOneBit(shards - 1) << 1;
+    this.shards = new Shard[size];
+    for (int i = 0; i < size; i++) {
+      this.shards[i] = new Shard();
     }
+    this.mask = size - 1;
+
+    Gauge.builder("notification_ws_sessions", sessionCount, AtomicInteger::get)
+        .description("이 노드에 등록된 웹소켓 세션 수")
+        .register(meterRegistry);
+    Gauge.builder("notification_ws_session_users", userCount, AtomicInteger::get)
+        .description("이 노드에 세션이 있는 사용자 수")
+        .register(meterRegistry);
   }
 
-  public void emit(String userId, String json) {
-    var list = sessions.get(userId);
-    if (list == null) {
-      return;
+  /**
+   * 세션 등록
+   * <p>
+   * 같은 id 의 세션이 이미 있으면 새 세션으로 교체한다.
+   *
+   * @param userId
+   * @param session
+   */
+  public void add(String userId, WebSocketSession session) {
+    Shard shard = shardOf(userId);
+    int remaining;
+    synchronized (shard) {
+      Map<String, WebSocketSession> sessions = shard.sessions.get(userId);
+      if (sessions == null) {
+        sessions = new ConcurrentHashMap<>(4);
+        shard.sessions.put(userId, sessions);
+        userCount.incrementAndGet();
+      }
+      if (sessions.put(session.getId(), session) == null) {
+        sessionCount.incrementAndGet();
+      }
+      remaining = sessions.size();
     }
+    log.info("웹소켓 세션 추가 userId={}, sessionId={}, sessions={}", userId, session.getId(),
+        remaining);
+  }
+
+  /**
+   * 세션 제거
+   * <p>
+   * 송신 큐로 감싼 세션도 제거되도록 id 로 비교하고, 마지막 세션이면 사용자 항목도 제거한다.
+   *
+   * @param userId
+   * @param session
+   */
+  public void remove(String userId, WebSocketSession session) {
+    int remaining = removeById(userId, session.getId());
+    log.info("웹소켓 세션 제거 userId={}, sessionId={}, remaining={}", userId, session.getId(),
+        remaining);
+  }
 
-    list.removeIf(session -> {
+  /**
+   * 이 노드에 연결된 userId 의 세션에 메시지 전송
+   * <p>
+   * {@link TextMessage} 는 불변이므로 세션마다 새로 만들지 않고 같은 schema, codec 의 세션에는 같은 인스턴스를 전송한다. 송신
+   * 큐 세션에는 푸시로 넣어 batching 대상이 되게 한다. 닫혔거나 전송에 실패한 세션은 제거한다. 세션의 codec 으로 인코딩하지
+   * 못한 경우는 세션 문제가 아니므로 그 세션만 건너뛰고 나머지 세션에는 계속 전송한다.
+   *
+   * @param userId
+   * @param messages
+   * @return 송신 큐에 넣은 세션 수
+   */
+  public int emit(String userId, PushMessages messages) {
+    int sent = 0;
+    for (WebSocketSession session : sessionsOf(userId)) {
 
       /*닫힌 세션 제거*/
       if (!session.isOpen()) {
-        return true;
+        removeById(userId, session.getId());
+        continue;
       }
 
       try {
-        session.sendMessage(new TextMessage(json));
+        messages.introduceActor(session);
+        WebSocketMessage<?> message = messages.forSession(session);
+        if (session instanceof QueuedWebSocketSession queued) {
+          queued.sendPush(message);
+        } else {
+          session.sendMessage(message);
+        }
         log.debug("메세지 전송: userId={}, sessionId={}", userId, session.getId());
-        return false;
+        sent++;
       } catch (IOException e) {
         log.warn("메시지 전송 실패 userId={}, sessionId={}, error={}", userId, session.getId(),
             e.getMessage());
 
         /*전송 실패한 세션 제거*/
-        sessions.remove(userId, session);
-        return true;
+        removeById(userId, session.getId());
+      } catch (RuntimeException e) {
+        log.warn("메시지 인코딩 실패 userId={}, sessionId={}, error={}", userId, session.getId(),
+            e.getMessage());
       }
-    });
+    }
+    return sent;
+  }
+
+  /**
+   * 이 노드에 세션이 있는 userId 목록
+   *
+   * @return 호출 시점의 복사본
+   */
+  public Set<String> userIds() {
+    Set<String> userIds = new HashSet<>(Math.max(16, userCount.get() * 2));
+    for (Shard shard : shards) {
+      userIds.addAll(shard.sessions.keySet());
+    }
+    return userIds;
   }
 
+  /**
+   * userId 의 등록된 세션 수
+   * <p>
+   * 닫힌 세션은 연결 종료 처리나 전송 시 제거되므로 세션마다 isOpen 을 확인하지 않고 사용자별 map 크기를 반환한다.
+   *
+   * @param userId
+   * @return
+   */
   public int activeCount(String userId) {
-    List<WebSocketSession> list = sessions.get(userId);
-    return list == null ? 0 : (int) list.stream().filter(WebSocketSession::isOpen).count();
+    Map<String, WebSocketSession> sessions = shardOf(userId).sessions.get(userId);
+    return sessions == null ? 0 : sessions.size();
+  }
+
+  /**
+   * userId 에 열린 세션이 하나라도 있는지 여부
+   * <p>
+   * 아직 제거되지 않은 닫힌 세션을 걸러야 하는 주기 작업용이며, 첫 열린 세션에서 순회를 멈춘다.
+   *
+   * @param userId
+   * @return
+   */
+  public boolean hasOpenSession(String userId) {
+    for (WebSocketSession session : sessionsOf(userId)) {
+      if (session.isOpen()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 등록된 전체 세션 수
+   *
+   * @return
+   */
+  public int sessionCount() {
+    return sessionCount.get();
+  }
+
+  /**
+   * 세션이 있는 사용자 수
+   *
+   * @return
+   */
+  public int userCount() {
+    return userCount.get();
+  }
+
+  /**
+   * userId 의 세션 목록
+   * <p>
+   * lock 없이 읽으며, 순회 중 세션이 제거되어도 예외 없이 계속 순회한다.
+   *
+   * @param userId
+   * @return
+   */
+  private Collection<WebSocketSession> sessionsOf(String userId) {
+    Map<String, WebSocketSession> sessions = shardOf(userId).sessions.get(userId);
+    return sessions == null ? List.of() : sessions.values();
+  }
+
+  /**
+   * @param userId
+   * @param sessionId
+   * @return 남은 세션 수
+   */
+  private int removeById(String userId, String sessionId) {
+    Shard shard = shardOf(userId);
+    synchronized (shard) {
+      Map<String, WebSocketSession> sessions = shard.sessions.get(userId);
+      if (sessions == null) {
+        return 0;
+      }
+      if (sessions.remove(sessionId) == null) {
+        return sessions.size();
+      }
+
+      sessionCount.decrementAndGet();
+      if (sessions.isEmpty()) {
+        shard.sessions.remove(userId);
+        userCount.decrementAndGet();
+      }
+      return sessions.size();
+    }
+  }
+
+  private Shard shardOf(String userId) {
+    int hash = userId.hashCode();
+    return shards[(hash ^ (hash >>> 16)) & mask];
+  }
+
+  /**
+   * 변경 시 같은 lock 을 쓰는 사용자 묶음
+   */
+  private static final class Shard {
+
+    private final Map<String, Map<String, WebSocketSession>> sessions =
+        new ConcurrentHashMap<>();
   }
 }
@@ -0,0 +1,64 @@
+package com.threadly.notification.adapter.websocket.notification.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.WebSocketMessage;
+
+/**
+ * CBOR binary frame codec
+ * <p>
+ * JSON 과 같은 구조를 CBOR 로 인코딩해 binary frame 으로 보낸다. 애플리케이션 ObjectMapper 의 module, 설정을 그대로
+ * 사용하므로 필드 이름과 값 형식은 JSON frame 과 같다.
+ */
+@Component
+public class CborPushCodec implements PushCodec {
+
+  public static final String SUBPROTOCOL = "notification.cbor";
+
+  private final ObjectMapper jsonMapper;
+  private final ObjectMapper cborMapper;
+
+  public CborPushCodec(ObjectMapper objectMapper) {
+    this.jsonMapper = objectMapper;
+    this.cborMapper = objectMapper.copyWith(new CBORFactory());
+  }
+
+  @Override
+  public String subprotocol() {
+    return SUBPROTOCOL;
+  }
+
+  @Override
+  public byte[] fromJson(byte[] json) {
+    try {
+      return cborMapper.writeValueAsBytes(jsonMapper.readTree(json));
+    } catch (IOException e) {
+      throw new IllegalStateException("CBOR frame 변환 실패", e);
+    }
+  }
+
+  /**
+   * {@link BinaryMessage} 는 전송하면서 buffer position 이 바뀌므로 배열은 공유하되 세션마다 새로 만들어야 한다.
+   *
+   * @param encoded
+   * @return
+   */
+  @Override
+  public WebSocketMessage<?> message(byte[] encoded) {
+    return new BinaryMessage(ByteBuffer.wrap(encoded));
+  }
+
+  @Override
+  public byte[] encode(Object value) throws IOException {
+    return cborMapper.writeValueAsBytes(value);
+  }
+
+  @Override
+  public <T> T decode(byte[] payload, Class<T> type) throws IOException {
+    return cborMapper.readValue(payload, type);
+  }
+}
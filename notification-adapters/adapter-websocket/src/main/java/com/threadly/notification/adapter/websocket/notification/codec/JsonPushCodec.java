@@ -0,0 +1,47 @@
+package com.threadly.notification.adapter.websocket.notification.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+
+/**
+ * JSON text frame codec
+ * <p>
+ * subprotocol 을 협상하지 않은 세션의 기본 형식이다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonPushCodec implements PushCodec {
+
+  public static final String SUBPROTOCOL = "notification.json";
+
+  private final ObjectMapper objectMapper;
+
+  @Override
+  public String subprotocol() {
+    return SUBPROTOCOL;
+  }
+
+  @Override
+  public byte[] fromJson(byte[] json) {
+    return json;
+  }
+
+  @Override
+  public WebSocketMessage<?> message(byte[] encoded) {
+    return new TextMessage(encoded);
+  }
+
+  @Override
+  public byte[] encode(Object value) throws IOException {
+    return objectMapper.writeValueAsBytes(value);
+  }
+
+  @Override
+  public <T> T decode(byte[] payload, Class<T> type) throws IOException {
+    return objectMapper.readValue(payload, type);
+  }
+}
@@ -0,0 +1,55 @@
+package com.threadly.notification.adapter.websocket.notification.codec;
+
+import java.io.IOException;
+import org.springframework.web.socket.WebSocketMessage;
+
+/**
+ * 웹소켓 frame 인코딩 형식
+ * <p>
+ * 핸드셰이크의 Sec-WebSocket-Protocol 로 세션마다 정하며, 협상하지 않은 세션은 {@link JsonPushCodec} 을 사용한다. 노드 간
+ * 전달과 재전송 버퍼의 frame 은 항상 JSON 이므로 각 codec 은 JSON frame 을 자신의 형식으로 변환할 수 있어야 한다.
+ */
+public interface PushCodec {
+
+  /**
+   * 협상에 사용하는 subprotocol 이름
+   *
+   * @return
+   */
+  String subprotocol();
+
+  /**
+   * 직렬화된 JSON frame 을 이 형식으로 변환
+   *
+   * @param json UTF-8 JSON
+   * @return
+   */
+  byte[] fromJson(byte[] json);
+
+  /**
+   * 인코딩된 frame 의 전송 메시지 생성
+   *
+   * @param encoded
+   * @return
+   */
+  WebSocketMessage<?> message(byte[] encoded);
+
+  /**
+   * 객체를 이 형식으로 인코딩
+   *
+   * @param value
+   * @return
+   * @throws IOException
+   */
+  byte[] encode(Object value) throws IOException;
+
+  /**
+   * 이 형식의 payload 를 객체로 디코딩
+   *
+   * @param payload
+   * @param type
+   * @return
+   * @throws IOException
+   */
+  <T> T decode(byte[] payload, Class<T> type) throws IOException;
+}
@@ -0,0 +1,75 @@
+package com.threadly.notification.adapter.websocket.notification.codec;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * 등록된 {@link PushCodec} 목록
+ * <p>
+ * 핸드셰이크에서 협상된 subprotocol 로 세션의 codec 을 찾으며, 협상하지 않았거나 알 수 없는 subprotocol 이면 JSON codec 을
+ * 사용한다. 새 형식은 {@link PushCodec} 빈을 추가하면 협상 대상에 포함된다.
+ */
+@Component
+public class PushCodecs {
+
+  private final List<PushCodec> codecs;
+  private final Map<String, Integer> indexes = new HashMap<>();
+  private final int defaultIndex;
+
+  public PushCodecs(JsonPushCodec jsonPushCodec, List<PushCodec> codecs) {
+    this.codecs = new ArrayList<>(codecs);
+    if (!this.codecs.contains(jsonPushCodec)) {
+      this.codecs.add(jsonPushCodec);
+    }
+    for (int i = 0; i < this.codecs.size(); i++) {
+      indexes.put(this.codecs.get(i).subprotocol(), i);
+    }
+    this.defaultIndex = this.codecs.indexOf(jsonPushCodec);
+  }
+
+  /**
+   * 핸드셰이크에서 지원하는 subprotocol 목록
+   *
+   * @return
+   */
+  public String[] subprotocols() {
+    return codecs.stream().map(PushCodec::subprotocol).toArray(String[]::new);
+  }
+
+  /**
+   * 세션에 협상된 codec
+   *
+   * @param session
+   * @return
+   */
+  public PushCodec of(WebSocketSession session) {
+    return codecs.get(indexOf(session));
+  }
+
+  /**
+   * 세션에 협상된 codec 의 순번
+   *
+   * @param session
+   * @return 0 이상 {@link #size()} 미만
+   */
+  public int indexOf(WebSocketSession session) {
+    String protocol = session.getAcceptedProtocol();
+    if (!StringUtils.hasText(protocol)) {
+      return defaultIndex;
+    }
+    return indexes.getOrDefault(protocol, defaultIndex);
+  }
+
+  public PushCodec get(int index) {
+    return codecs.get(index);
+  }
+
+  public int size() {
+    return codecs.size();
+  }
+}
@@ -0,0 +1,96 @@
+package com.threadly.notification.adapter.websocket.notification.compression;
+
+import java.util.List;
+import java.util.Map;
+import org.springframework.context.Lifecycle;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeFailureException;
+import org.springframework.web.socket.server.HandshakeHandler;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+/**
+ * permessage-deflate 협상 핸드셰이크 핸들러
+ * <p>
+ * 클라이언트가 요청하고 컨테이너가 지원하는 확장 중 permessage-deflate 는 {@link WsCompressionPolicy} 에서 slot 을 예약했을
+ * 때만 남긴다. {@link DefaultHandshakeHandler} 의 확장 선택 단계에는 핸드셰이크 attribute 가 전달되지 않으므로, 핸드셰이크를
+ * 처리하는 동안 현재 스레드에 attribute 를 보관해 예약을 표시하고, 핸드셰이크가 실패하면 예약을 반납한다.
+ */
+public class DeflateHandshakeHandler implements HandshakeHandler, Lifecycle {
+
+  private static final ThreadLocal<Map<String, Object>> HANDSHAKE_ATTRIBUTES = new ThreadLocal<>();
+
+  private final WsCompressionPolicy wsCompressionPolicy;
+  private final DefaultHandshakeHandler delegate = new DefaultHandshakeHandler() {
+    @Override
+    protected List<WebSocketExtension> filterRequestedExtensions(ServerHttpRequest request,
+        List<WebSocketExtension> requestedExtensions,
+        List<WebSocketExtension> supportedExtensions) {
+      return filterDeflate(super.filterRequestedExtensions(request, requestedExtensions,
+          supportedExtensions));
+    }
+  };
+
+  public DeflateHandshakeHandler(WsCompressionPolicy wsCompressionPolicy) {
+    this.wsCompressionPolicy = wsCompressionPolicy;
+  }
+
+  /**
+   * 협상할 subprotocol 목록
+   *
+   * @param protocols
+   */
+  public void setSupportedProtocols(String... protocols) {
+    delegate.setSupportedProtocols(protocols);
+  }
+
+  @Override
+  public boolean doHandshake(ServerHttpRequest request, ServerHttpResponse response,
+      WebSocketHandler wsHandler, Map<String, Object> attributes)
+      throws HandshakeFailureException {
+    boolean upgraded = false;
+    HANDSHAKE_ATTRIBUTES.set(attributes);
+    try {
+      upgraded = delegate.doHandshake(request, response, wsHandler, attributes);
+      return upgraded;
+    } finally {
+      HANDSHAKE_ATTRIBUTES.remove();
+      if (!upgraded) {
+        wsCompressionPolicy.cancel(attributes);
+      }
+    }
+  }
+
+  private List<WebSocketExtension> filterDeflate(List<WebSocketExtension> extensions) {
+    boolean deflateRequested = extensions.stream()
+        .anyMatch(DeflateHandshakeHandler::isDeflate);
+    Map<String, Object> attributes = HANDSHAKE_ATTRIBUTES.get();
+    if (!deflateRequested || (attributes != null && wsCompressionPolicy.reserve(attributes))) {
+      return extensions;
+    }
+    return extensions.stream()
+        .filter(extension -> !isDeflate(extension))
+        .toList();
+  }
+
+  private static boolean isDeflate(WebSocketExtension extension) {
+    return WsCompressionPolicy.PERMESSAGE_DEFLATE.equals(extension.getName());
+  }
+
+  @Override
+  public void start() {
+    delegate.start();
+  }
+
+  @Override
+  public void stop() {
+    delegate.stop();
+  }
+
+  @Override
+  public boolean isRunning() {
+    return delegate.isRunning();
+  }
+}
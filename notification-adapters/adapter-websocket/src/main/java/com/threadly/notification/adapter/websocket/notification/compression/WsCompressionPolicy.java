@@ -0,0 +1,120 @@
+package com.threadly.notification.adapter.websocket.notification.compression;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * permessage-deflate 적용 기준
+ * <p>
+ * 압축을 협상한 세션은 연결마다 deflate/inflate context 를 가지므로, 압축 세션 수가 max-sessions 에 도달하면 이후 핸드셰이크는
+ * 압축 없이 연결한다. 협상된 뒤에는 컨테이너가 모든 메시지를 압축하므로 메시지 크기 기준은 두지 않는다.
+ * <p>
+ * 동시에 들어온 핸드셰이크가 한도를 함께 넘지 않도록 핸드셰이크 시점에 slot 을 원자적으로 예약하고, 세션 attribute 에 예약을
+ * 표시한다. 압축 없이 연결되었거나 핸드셰이크가 실패하면 예약을 반납하고, 압축 세션은 종료될 때 반납한다.
+ */
+@Component
+@Slf4j
+public class WsCompressionPolicy {
+
+  public static final String PERMESSAGE_DEFLATE = "permessage-deflate";
+  public static final String RESERVED_ATTRIBUTE = "compressionReserved";
+
+  private final boolean enabled;
+  private final int maxSessions;
+
+  private final AtomicInteger reserved = new AtomicInteger();
+  private final Set<String> compressedSessions = ConcurrentHashMap.newKeySet();
+  private final Counter declinedCounter;
+
+  public WsCompressionPolicy(MeterRegistry meterRegistry,
+      @Value("${notification.websocket.compression.enabled:true}") boolean enabled,
+      @Value("${notification.websocket.compression.max-sessions:10000}") int maxSessions) {
+    this.enabled = enabled;
+    this.maxSessions = maxSessions;
+
+    Gauge.builder("notification_ws_compressed_sessions", compressedSessions, Set::size)
+        .description("permessage-deflate 를 협상한 웹소켓 세션 수")
+        .register(meterRegistry);
+    this.declinedCounter = Counter.builder("notification_ws_compression_declined")
+        .description("압축을 요청했지만 압축 없이 연결한 핸드셰이크 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 새 핸드셰이크의 압축 slot 예약
+   *
+   * @param attributes 핸드셰이크 attribute, 예약하면 표시
+   * @return 예약하지 못했으면 false
+   */
+  public boolean reserve(Map<String, Object> attributes) {
+    if (enabled && reserved.getAndUpdate(count -> count < maxSessions ? count + 1 : count)
+        < maxSessions) {
+      attributes.put(RESERVED_ATTRIBUTE, Boolean.TRUE);
+      return true;
+    }
+    declinedCounter.increment();
+    return false;
+  }
+
+  /**
+   * 연결되지 않은 핸드셰이크의 예약 반납
+   *
+   * @param attributes 핸드셰이크 attribute
+   */
+  public void cancel(Map<String, Object> attributes) {
+    if (attributes.remove(RESERVED_ATTRIBUTE) != null) {
+      reserved.decrementAndGet();
+    }
+  }
+
+  /**
+   * 연결된 세션의 압축 협상 결과 기록
+   * <p>
+   * 예약했지만 압축 없이 연결된 세션은 예약을 반납한다.
+   *
+   * @param session
+   */
+  public void opened(WebSocketSession session) {
+    boolean compressed = session.getExtensions().stream()
+        .anyMatch(extension -> PERMESSAGE_DEFLATE.equals(extension.getName()));
+    boolean reservedSlot = session.getAttributes().remove(RESERVED_ATTRIBUTE) != null;
+    if (!compressed) {
+      if (reservedSlot) {
+        reserved.decrementAndGet();
+      }
+      return;
+    }
+
+    /*예약 없이 압축된 세션(ex. 정책을 거치지 않은 핸드셰이크)도 한도에 포함*/
+    if (compressedSessions.add(session.getId())) {
+      if (!reservedSlot) {
+        reserved.incrementAndGet();
+      }
+    } else if (reservedSlot) {
+      reserved.decrementAndGet();
+    }
+  }
+
+  /**
+   * 종료된 세션 제거
+   * <p>
+   * {@link #opened} 전에 종료된 세션이 예약을 가지고 있으면 함께 반납한다.
+   *
+   * @param session
+   */
+  public void closed(WebSocketSession session) {
+    if (compressedSessions.remove(session.getId())) {
+      reserved.decrementAndGet();
+    }
+    cancel(session.getAttributes());
+  }
+}
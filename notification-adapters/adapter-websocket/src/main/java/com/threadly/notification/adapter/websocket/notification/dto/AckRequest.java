@@ -2,10 +2,13 @@ package com.threadly.notification.adapter.websocket.notification.dto;
 
 /**
  * ACK dto
+ * <p>
+ * sortId 가 없으면 eventId 로 sortId 를 조회한다.
  */
 public record AckRequest(
     InboundMessageType type,
-    String eventId
+    String eventId,
+    String sortId
 
 ) implements WsInboundMessage {
 
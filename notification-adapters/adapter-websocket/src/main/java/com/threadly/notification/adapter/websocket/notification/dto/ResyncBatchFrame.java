@@ -0,0 +1,25 @@
+package com.threadly.notification.adapter.websocket.notification.dto;
+
+import com.threadly.notification.core.port.notification.in.dto.ReplayBatch;
+import java.util.List;
+
+/**
+ * RESYNC 응답 frame
+ *
+ * @param type       frame 타입 (RESYNC_BATCH)
+ * @param events     sortId 오름차순으로 정렬된 알림 목록
+ * @param lastSortId 다음 RESYNC 요청의 afterId 로 사용할 sortId
+ * @param done       요청한 범위의 마지막 frame 인지 여부
+ */
+public record ResyncBatchFrame(
+    String type,
+    List<OutEvent> events,
+    String lastSortId,
+    boolean done
+) {
+
+  public ResyncBatchFrame(ReplayBatch batch) {
+    this("RESYNC_BATCH", batch.messages().stream().map(OutEvent::new).toList(),
+        batch.lastSortId(), batch.done());
+  }
+}
@@ -0,0 +1,43 @@
+package com.threadly.notification.adapter.websocket.notification.fanout;
+
+import com.threadly.notification.core.port.notification.out.PushFanoutPort;
+import com.threadly.notification.core.port.notification.out.dto.PushFrame;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로세스 내 푸시 frame 전달 adapter
+ * <p>
+ * 단일 노드 실행, 테스트용. 발행 스레드에서 수신 노드의 subscriber 에 바로 전달한다. 하나의 인스턴스를 여러 relay 가 공유하면 여러
+ * 노드를 흉내낼 수 있다.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "notification.push.fanout.type", havingValue = "memory",
+    matchIfMissing = true)
+public class InMemoryPushFanoutAdapter implements PushFanoutPort {
+
+  private final Map<String, List<Consumer<PushFrame>>> subscribers = new ConcurrentHashMap<>();
+
+  @Override
+  public void publish(String nodeId, PushFrame frame) {
+    for (Consumer<PushFrame> subscriber : subscribers.getOrDefault(nodeId, List.of())) {
+      try {
+        subscriber.accept(frame);
+      } catch (Exception e) {
+        log.warn("푸시 frame 전달 실패: userId={}, error={}", frame.userId(), e.getMessage());
+      }
+    }
+  }
+
+  @Override
+  public void subscribe(String nodeId, Consumer<PushFrame> subscriber) {
+    subscribers.computeIfAbsent(nodeId, k -> new CopyOnWriteArrayList<>()).add(subscriber);
+  }
+}
@@ -0,0 +1,141 @@
+package com.threadly.notification.adapter.websocket.notification.fanout;
+
+import com.threadly.notification.adapter.websocket.notification.WsSessionRegistry;
+import com.threadly.notification.adapter.websocket.notification.codec.PushCodecs;
+import com.threadly.notification.adapter.websocket.notification.presence.PushPresenceDirectory;
+import com.threadly.notification.adapter.websocket.notification.replay.WsReplayBuffer;
+import com.threadly.notification.adapter.websocket.notification.schema.CompactPushTranscoder;
+import com.threadly.notification.adapter.websocket.notification.schema.PushMessages;
+import com.threadly.notification.core.port.notification.out.PushFanoutPort;
+import com.threadly.notification.core.port.notification.out.dto.PushFrame;
+import com.threadly.notification.core.port.notification.out.dto.PushPayload;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 간 푸시 frame 중계기
+ * <p>
+ * {@link PushPresenceDirectory} 로 사용자의 세션을 가진 노드를 찾아 그 노드에만 frame 을 발행하고, 각 노드는 수신한 frame 을
+ * 자신에게 연결된 세션에 전송한다. 이벤트를 소비한 노드와 사용자가 연결된 노드가 달라도(blue/green 등) 푸시가 전달된다. 세션을 가진
+ * 노드가 없으면 직렬화하지 않는다. 로컬 세션에 전송한 frame 은 RESYNC 용 {@link WsReplayBuffer} 에 보관한다.
+ * <p>
+ * 발행 시각부터 로컬 세션 전송까지의 지연을 origin(local/remote) 별로 기록한다. remote 는 노드 간 시계 차이가 포함된다.
+ */
+@Component
+@Slf4j
+public class PushFanoutRelay implements InitializingBean {
+
+  private final PushFanoutPort pushFanoutPort;
+  private final WsSessionRegistry wsSessionRegistry;
+  private final PushPresenceDirectory pushPresenceDirectory;
+  private final WsReplayBuffer wsReplayBuffer;
+  private final CompactPushTranscoder compactPushTranscoder;
+  private final PushCodecs pushCodecs;
+
+  private final Timer localLatencyTimer;
+  private final Timer remoteLatencyTimer;
+  private final Counter deliveredCounter;
+  private final Counter skippedCounter;
+  private final Counter offlineCounter;
+  private final Counter publishFailedCounter;
+
+  public PushFanoutRelay(PushFanoutPort pushFanoutPort, WsSessionRegistry wsSessionRegistry,
+      PushPresenceDirectory pushPresenceDirectory, WsReplayBuffer wsReplayBuffer,
+      CompactPushTranscoder compactPushTranscoder, PushCodecs pushCodecs,
+      MeterRegistry meterRegistry) {
+    this.pushFanoutPort = pushFanoutPort;
+    this.wsSessionRegistry = wsSessionRegistry;
+    this.pushPresenceDirectory = pushPresenceDirectory;
+    this.wsReplayBuffer = wsReplayBuffer;
+    this.compactPushTranscoder = compactPushTranscoder;
+    this.pushCodecs = pushCodecs;
+
+    this.localLatencyTimer = latencyTimer(meterRegistry, "local");
+    this.remoteLatencyTimer = latencyTimer(meterRegistry, "remote");
+    this.deliveredCounter = frameCounter(meterRegistry, "delivered");
+    this.skippedCounter = frameCounter(meterRegistry, "skipped");
+    this.offlineCounter = frameCounter(meterRegistry, "offline");
+    this.publishFailedCounter = frameCounter(meterRegistry, "publish_failed");
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    pushFanoutPort.subscribe(pushPresenceDirectory.nodeId(), this::deliver);
+  }
+
+  /**
+   * 사용자의 세션을 가진 노드에 푸시 frame 전달
+   *
+   * @param userId
+   * @param sortId
+   * @param serializer 세션을 가진 노드가 있을 때만 호출된다
+   */
+  public void route(String userId, String sortId, Supplier<PushPayload> serializer) {
+    Set<String> nodes = pushPresenceDirectory.nodesOf(userId);
+    if (nodes.isEmpty()) {
+      offlineCounter.increment();
+      return;
+    }
+
+    String nodeId = pushPresenceDirectory.nodeId();
+    PushFrame frame = new PushFrame(userId, sortId, serializer.get(), nodeId,
+        System.currentTimeMillis());
+    for (String target : nodes) {
+      if (target.equals(nodeId)) {
+        deliver(frame);
+        continue;
+      }
+      try {
+        pushFanoutPort.publish(target, frame);
+      } catch (Exception e) {
+        publishFailedCounter.increment();
+        log.warn("푸시 frame 발행 실패: userId={}, nodeId={}, error={}", userId, target,
+            e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * 수신한 frame 을 이 노드의 세션에 전송
+   * <p>
+   * 인코딩된 배열을 같은 schema, codec 의 세션이 공유하고, v2 와 binary 형식은 해당 세션이 있을 때만 변환한다. 재전송
+   * 버퍼에는 v1 JSON frame 을 보관한다.
+   *
+   * @param frame
+   */
+  void deliver(PushFrame frame) {
+    int sent = wsSessionRegistry.emit(frame.userId(),
+        new PushMessages(frame.payload(), compactPushTranscoder, pushCodecs));
+    if (sent == 0) {
+      skippedCounter.increment();
+      return;
+    }
+
+    wsReplayBuffer.record(frame.userId(), frame.sortId(), frame.payload());
+    deliveredCounter.increment();
+    long latencyMillis = Math.max(0L, System.currentTimeMillis() - frame.publishedAtMillis());
+    (pushPresenceDirectory.nodeId().equals(frame.originNodeId()) ? localLatencyTimer
+        : remoteLatencyTimer).record(latencyMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private static Timer latencyTimer(MeterRegistry meterRegistry, String origin) {
+    return Timer.builder("notification_push_fanout_latency")
+        .tag("origin", origin)
+        .description("푸시 frame 발행부터 로컬 세션 전송까지 걸린 시간")
+        .register(meterRegistry);
+  }
+
+  private static Counter frameCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("notification_push_fanout_frames")
+        .tag("result", result)
+        .description("노드에서 처리한 푸시 frame 수")
+        .register(meterRegistry);
+  }
+}
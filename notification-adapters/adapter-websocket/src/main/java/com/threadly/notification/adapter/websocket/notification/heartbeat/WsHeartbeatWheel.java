@@ -0,0 +1,243 @@
+package com.threadly.notification.adapter.websocket.notification.heartbeat;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * 웹소켓 세션 heartbeat timing wheel
+ * <p>
+ * ping-interval 을 tick 단위 bucket 으로 나눈 wheel 을 하나의 스레드가 tick 마다 한 칸씩 돌며, 해당 bucket 의 세션에 ping 을
+ * 보내고 pong-timeout 이 지난 세션은 닫는다. 세션은 등록 시점의 직전 bucket 에 들어가므로 등록 후 약 ping-interval 뒤 첫
+ * ping 을 받고, 이후 wheel 이 한 바퀴 돌 때마다 ping 을 받는다.
+ * <p>
+ * 등록/제거/pong 기록은 O(1) 이고 세션별 예약 작업이 없으므로, 닫힌 세션은 제거되거나 다음 순회 때 정리된다. 응답 없는
+ * 세션은 닫기도 막힐 수 있으므로 tick 스레드에서는 wheel 에서 빼기만 하고 닫는 작업은 별도 executor 에 넘긴다.
+ */
+@Component
+@Slf4j
+public class WsHeartbeatWheel implements SmartLifecycle, DisposableBean {
+
+  private final long tickMillis;
+  private final long pongTimeoutMillis;
+
+  private final Set<Entry>[] buckets;
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private final AtomicLong ticks = new AtomicLong();
+
+  private final Counter pingCounter;
+  private final Counter timeoutCounter;
+  private final Counter closedCounter;
+  private final Counter failedCounter;
+
+  private final ExecutorService closeExecutor;
+
+  private volatile boolean running;
+  private ScheduledExecutorService ticker;
+
+  @SuppressWarnings("unchecked")
+  public WsHeartbeatWheel(MeterRegistry meterRegistry,
+      @Value("${notification.websocket.heartbeat.tick-millis:1000}") long tickMillis,
+      @Value("${notification.websocket.heartbeat.ping-interval-millis:15000}") long pingIntervalMillis,
+      @Value("${notification.websocket.heartbeat.pong-timeout-millis:45000}") long pongTimeoutMillis) {
+    this.tickMillis = Math.max(1L, tickMillis);
+    this.pongTimeoutMillis = pongTimeoutMillis;
+
+    int wheelSize = (int) Math.max(1L, pingIntervalMillis / this.tickMillis);
+    this.buckets = new Set[wheelSize];
+    for (int i = 0; i < wheelSize; i++) {
+      buckets[i] = ConcurrentHashMap.newKeySet();
+    }
+
+    Gauge.builder("notification_ws_heartbeat_sessions", entries, Map::size)
+        .description("heartbeat 대상 웹소켓 세션 수")
+        .register(meterRegistry);
+    this.pingCounter = heartbeatCounter(meterRegistry, "ping");
+    this.timeoutCounter = heartbeatCounter(meterRegistry, "timeout");
+    this.closedCounter = heartbeatCounter(meterRegistry, "closed");
+    this.failedCounter = heartbeatCounter(meterRegistry, "failed");
+
+    this.closeExecutor = Executors.newCachedThreadPool(runnable -> {
+      Thread thread = new Thread(runnable, "ws-heartbeat-close");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @Override
+  public synchronized void start() {
+    if (running) {
+      return;
+    }
+    running = true;
+    ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "ws-heartbeat");
+      thread.setDaemon(true);
+      return thread;
+    });
+    ticker.scheduleAtFixedRate(this::safeTick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    log.info("웹소켓 heartbeat 시작: tickMillis={}, wheelSize={}", tickMillis, buckets.length);
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (!running) {
+      return;
+    }
+    running = false;
+    ticker.shutdownNow();
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public void destroy() {
+    closeExecutor.shutdownNow();
+  }
+
+  /**
+   * heartbeat 대상 세션 등록
+   *
+   * @param session
+   */
+  public void register(WebSocketSession session) {
+    int bucket = (int) ((ticks.get() + buckets.length - 1) % buckets.length);
+    Entry entry = new Entry(session, bucket, System.currentTimeMillis());
+    Entry previous = entries.put(session.getId(), entry);
+    if (previous != null) {
+      buckets[previous.bucket].remove(previous);
+    }
+    buckets[bucket].add(entry);
+  }
+
+  /**
+   * heartbeat 대상 세션 제거
+   *
+   * @param session
+   */
+  public void unregister(WebSocketSession session) {
+    Entry entry = entries.remove(session.getId());
+    if (entry != null) {
+      buckets[entry.bucket].remove(entry);
+    }
+  }
+
+  /**
+   * pong 수신 시각 기록
+   *
+   * @param session
+   */
+  public void onPong(WebSocketSession session) {
+    Entry entry = entries.get(session.getId());
+    if (entry != null) {
+      entry.lastPongAt = System.currentTimeMillis();
+    }
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * wheel 을 한 칸 진행하며 해당 bucket 의 세션 heartbeat 처리
+   */
+  void tick() {
+    int bucket = (int) (ticks.getAndIncrement() % buckets.length);
+    long now = System.currentTimeMillis();
+
+    for (Entry entry : buckets[bucket]) {
+      WebSocketSession session = entry.session;
+
+      /*닫힌 세션 정리*/
+      if (!session.isOpen()) {
+        remove(entry);
+        closedCounter.increment();
+        continue;
+      }
+
+      /*타임아웃 체크*/
+      if (now - entry.lastPongAt > pongTimeoutMillis) {
+        log.warn("pong 타임 아웃: sessionId={}", session.getId());
+        remove(entry);
+        timeoutCounter.increment();
+        try {
+          closeExecutor.execute(() -> closeTimedOut(session));
+        } catch (RejectedExecutionException e) {
+          closeTimedOut(session);
+        }
+        continue;
+      }
+
+      try {
+        session.sendMessage(new PingMessage());
+        pingCounter.increment();
+      } catch (Exception e) {
+        failedCounter.increment();
+        log.error("ping 전송 실패: sessionId={}, errorMessage={}", session.getId(),
+            e.getMessage());
+      }
+    }
+  }
+
+  private void safeTick() {
+    try {
+      tick();
+    } catch (Exception e) {
+      log.error("웹소켓 heartbeat 처리 중 오류 발생", e);
+    }
+  }
+
+  private void closeTimedOut(WebSocketSession session) {
+    try {
+      session.close(CloseStatus.SESSION_NOT_RELIABLE.withReason("pong timeout"));
+    } catch (Exception e) {
+      log.error("session close 실패: sessionId={}, errorMessage={}", session.getId(),
+          e.getMessage());
+    }
+  }
+
+  private void remove(Entry entry) {
+    entries.remove(entry.session.getId(), entry);
+    buckets[entry.bucket].remove(entry);
+  }
+
+  private static Counter heartbeatCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("notification_ws_heartbeat")
+        .tag("result", result)
+        .description("웹소켓 heartbeat 처리 수")
+        .register(meterRegistry);
+  }
+
+  private static final class Entry {
+
+    private final WebSocketSession session;
+    private final int bucket;
+    private volatile long lastPongAt;
+
+    private Entry(WebSocketSession session, int bucket, long lastPongAt) {
+      this.session = session;
+      this.bucket = bucket;
+      this.lastPongAt = lastPongAt;
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package com.threadly.notification.adapter.websocket.notification.outbound;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 세션 송신 큐 metric
+ */
+class OutboundQueueMetrics {
+
+  /*세션 종료 사유*/
+  static final String SEND_TIME_LIMIT = "send_time_limit";
+  static final String BUFFER_LIMIT = "buffer_limit";
+  static final String SEND_FAILED = "send_failed";
+  static final String REJECTED = "rejected";
+
+  private static final List<String> EVICT_REASONS =
+      List.of(SEND_TIME_LIMIT, BUFFER_LIMIT, SEND_FAILED, REJECTED);
+
+  private final AtomicLong depth = new AtomicLong();
+  private final Counter droppedCounter;
+  private final Counter pushFramesCounter;
+  private final Counter otherFramesCounter;
+  private final DistributionSummary batchSizeSummary;
+  private final Map<String, Counter> evictedCounters;
+
+  OutboundQueueMetrics(MeterRegistry meterRegistry) {
+    Gauge.builder("notification_ws_outbound_queue_depth", depth, AtomicLong::get)
+        .description("전체 세션 송신 큐에 대기 중인 메시지 수")
+        .register(meterRegistry);
+    this.droppedCounter = Counter.builder("notification_ws_outbound_dropped")
+        .description("세션 종료로 버려진 송신 대기 메시지 수")
+        .register(meterRegistry);
+    this.pushFramesCounter = framesCounter(meterRegistry, "push");
+    this.otherFramesCounter = framesCounter(meterRegistry, "other");
+    this.batchSizeSummary = DistributionSummary.builder("notification_ws_outbound_batch_size")
+        .description("푸시 frame 하나에 담긴 알림 수")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+
+    Map<String, Counter> evictedCounters = new HashMap<>();
+    for (String reason : EVICT_REASONS) {
+      evictedCounters.put(reason, Counter.builder("notification_ws_outbound_evicted")
+          .tag("reason", reason)
+          .description("송신 한도 초과로 종료된 세션 수")
+          .register(meterRegistry));
+    }
+    this.evictedCounters = Map.copyOf(evictedCounters);
+  }
+
+  void enqueued() {
+    depth.incrementAndGet();
+  }
+
+  void dequeued() {
+    depth.decrementAndGet();
+  }
+
+  /**
+   * frame 전송 기록
+   *
+   * @param pushes frame 에 담긴 알림 푸시 수, 푸시가 아니면 0
+   */
+  void sent(int pushes) {
+    if (pushes == 0) {
+      otherFramesCounter.increment();
+      return;
+    }
+    pushFramesCounter.increment();
+    batchSizeSummary.record(pushes);
+  }
+
+  /**
+   * 세션 종료 기록
+   *
+   * @param reason  {@link #EVICT_REASONS} 중 하나
+   * @param dropped 버린 송신 대기 메시지 수
+   */
+  void evicted(String reason, int dropped) {
+    evictedCounters.get(reason).increment();
+    droppedCounter.increment(dropped);
+  }
+
+  long depth() {
+    return depth.get();
+  }
+
+  private static Counter framesCounter(MeterRegistry meterRegistry, String kind) {
+    return Counter.builder("notification_ws_outbound_frames")
+        .tag("kind", kind)
+        .description("세션에 실제로 전송한 frame 수")
+        .register(meterRegistry);
+  }
+}
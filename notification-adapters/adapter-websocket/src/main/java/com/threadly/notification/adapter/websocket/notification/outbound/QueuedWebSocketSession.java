@@ -0,0 +1,345 @@
+package com.threadly.notification.adapter.websocket.notification.outbound;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+/**
+ * 송신 큐를 가진 웹소켓 세션
+ * <p>
+ * {@link #sendMessage} 는 메시지를 세션별 큐에 넣고 바로 반환하며, 공용 executor 에서 세션당 하나의 drain 작업만 실제 세션에
+ * 순서대로 전송한다. 따라서 푸시와 ping 이 동시에 호출되어도 하나의 세션에 동시에 쓰지 않고, 느린 클라이언트가 호출 스레드를 막지
+ * 않는다.
+ * <p>
+ * 큐에 쌓인 크기가 buffer-size-limit 을 넘거나 하나의 전송이 send-time-limit 보다 오래 걸리는 세션은 쌓인 메시지를 버리고 닫는다.
+ * 전송이 멈춘 세션은 다음 메시지가 들어올 때와 {@link QueuedWebSocketSessionFactory} 의 감시 작업이
+ * {@link #evictIfSendTimedOut} 을 호출할 때 확인한다.
+ * <p>
+ * batching 이 켜져 있으면 {@link #sendPush} 로 들어온 푸시는 batch-window 동안 모았다가, 큐에 연달아 쌓인 푸시를
+ * max-frame-bytes 를 넘지 않는 만큼 하나의 NOTIFICATIONS frame 으로 합쳐 보낸다. ping, RESYNC 응답, binary 푸시 등 다른
+ * 메시지는 합치지 않으며 순서도 바뀌지 않는다.
+ */
+@Slf4j
+public class QueuedWebSocketSession extends WebSocketSessionDecorator {
+
+  private static final byte[] NOTIFICATIONS_PREFIX =
+      "{\"type\":\"NOTIFICATIONS\",\"events\":[".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] NOTIFICATIONS_SUFFIX = "]}".getBytes(StandardCharsets.UTF_8);
+
+  private final Executor executor;
+  private final long sendTimeLimitNanos;
+  private final int bufferSizeLimit;
+  private final OutboundQueueMetrics metrics;
+  private final ScheduledExecutorService batchScheduler;
+  private final long batchWindowNanos;
+  private final int maxFrameBytes;
+
+  private final Queue<Pending> queue = new ConcurrentLinkedQueue<>();
+  private final AtomicLong bufferedBytes = new AtomicLong();
+  private final AtomicBoolean draining = new AtomicBoolean();
+  private final AtomicBoolean evicted = new AtomicBoolean();
+
+  private volatile long sendStartedAt;
+
+  QueuedWebSocketSession(WebSocketSession delegate, Executor executor, long sendTimeLimitMillis,
+      int bufferSizeLimit, OutboundQueueMetrics metrics) {
+    this(delegate, executor, sendTimeLimitMillis, bufferSizeLimit, metrics, null, 0L, 0);
+  }
+
+  QueuedWebSocketSession(WebSocketSession delegate, Executor executor, long sendTimeLimitMillis,
+      int bufferSizeLimit, OutboundQueueMetrics metrics, ScheduledExecutorService batchScheduler,
+      long batchWindowMillis, int maxFrameBytes) {
+    super(delegate);
+    this.executor = executor;
+    this.sendTimeLimitNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeLimitMillis);
+    this.bufferSizeLimit = bufferSizeLimit;
+    this.metrics = metrics;
+    this.batchScheduler = batchWindowMillis > 0 ? batchScheduler : null;
+    this.batchWindowNanos = TimeUnit.MILLISECONDS.toNanos(batchWindowMillis);
+    this.maxFrameBytes = maxFrameBytes;
+  }
+
+  /**
+   * 송신 큐에 메시지 추가
+   *
+   * @param message
+   * @throws IOException 한도를 넘어 세션을 닫았거나 이미 닫힌 경우
+   */
+  @Override
+  public void sendMessage(WebSocketMessage<?> message) throws IOException {
+    enqueue(message, false);
+  }
+
+  /**
+   * 송신 큐에 알림 푸시 추가
+   * <p>
+   * batching 이 켜져 있으면 JSON text 푸시는 batch-window 뒤에 연달아 쌓인 푸시와 함께 하나의 frame 으로 전송한다.
+   *
+   * @param message 인코딩된 알림 푸시
+   * @throws IOException 한도를 넘어 세션을 닫았거나 이미 닫힌 경우
+   */
+  public void sendPush(WebSocketMessage<?> message) throws IOException {
+    enqueue(message, true);
+  }
+
+  private void enqueue(WebSocketMessage<?> message, boolean push) throws IOException {
+    if (evicted.get()) {
+      throw new IOException("송신 큐가 닫힌 세션: " + getId());
+    }
+
+    if (isSendTimedOut()) {
+      evict(OutboundQueueMetrics.SEND_TIME_LIMIT);
+      throw new IOException("전송 시간 한도 초과: " + getId());
+    }
+
+    int size = message.getPayloadLength();
+    if (bufferedBytes.addAndGet(size) > bufferSizeLimit) {
+      bufferedBytes.addAndGet(-size);
+      evict(OutboundQueueMetrics.BUFFER_LIMIT);
+      throw new IOException("송신 버퍼 한도 초과: " + getId());
+    }
+
+    Pending pending = new Pending(message, push, size);
+    queue.add(pending);
+    metrics.enqueued();
+
+    /*추가하는 사이 세션이 닫힌 경우*/
+    if (evicted.get()) {
+      if (queue.remove(pending)) {
+        bufferedBytes.addAndGet(-size);
+        metrics.dequeued();
+      }
+      throw new IOException("송신 큐가 닫힌 세션: " + getId());
+    }
+    scheduleDrain(pending.batchable() && batchScheduler != null);
+  }
+
+  @Override
+  public boolean isOpen() {
+    return !evicted.get() && super.isOpen();
+  }
+
+  /**
+   * 전송 중인 메시지가 send-time-limit 을 넘었으면 쌓인 메시지를 버리고 세션 종료
+   * <p>
+   * 막힌 전송은 세션이 닫혀 소켓이 닫히면 실패로 끝나고 drain 스레드가 풀려난다. 닫는 작업도 막힐 수 있으므로 closer 에서 닫는다.
+   *
+   * @param closer 세션을 닫을 executor
+   * @return 이번 호출로 종료한 경우 true
+   */
+  public boolean evictIfSendTimedOut(Executor closer) {
+    return isSendTimedOut() && evict(OutboundQueueMetrics.SEND_TIME_LIMIT, closer);
+  }
+
+  private boolean isSendTimedOut() {
+    long started = sendStartedAt;
+    return started != 0L && System.nanoTime() - started > sendTimeLimitNanos;
+  }
+
+  /**
+   * 송신 큐에 쌓인 크기(byte)
+   *
+   * @return
+   */
+  public long bufferedBytes() {
+    return bufferedBytes.get();
+  }
+
+  /**
+   * drain 작업 예약
+   * <p>
+   * 이미 예약되어 있으면 그 drain 이 함께 전송한다. 따라서 batch-window 대기 중에 들어온 ping 등도 최대 batch-window 만큼
+   * 늦게 전송된다.
+   *
+   * @param delayed batch-window 뒤에 drain 할지 여부
+   */
+  private void scheduleDrain(boolean delayed) {
+    if (!draining.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      if (delayed) {
+        batchScheduler.schedule(this::submitDrain, batchWindowNanos, TimeUnit.NANOSECONDS);
+      } else {
+        executor.execute(this::drain);
+      }
+    } catch (RejectedExecutionException e) {
+      draining.set(false);
+      evict(OutboundQueueMetrics.REJECTED);
+    }
+  }
+
+  private void submitDrain() {
+    try {
+      executor.execute(this::drain);
+    } catch (RejectedExecutionException e) {
+      draining.set(false);
+      evict(OutboundQueueMetrics.REJECTED);
+    }
+  }
+
+  private void drain() {
+    try {
+      Pending head;
+      while (!evicted.get() && (head = queue.poll()) != null) {
+        List<Pending> batch = head.batchable() && batchScheduler != null
+            ? collectBatch(head) : List.of(head);
+        sendStartedAt = System.nanoTime();
+        try {
+          if (!evicted.get()) {
+            getDelegate().sendMessage(
+                batch.size() == 1 ? head.message() : notificationsFrame(batch));
+            metrics.sent(head.push() ? batch.size() : 0);
+          }
+        } catch (Exception e) {
+          log.warn("메시지 전송 실패 sessionId={}, error={}", getId(), e.getMessage());
+          evict(OutboundQueueMetrics.SEND_FAILED);
+          return;
+        } finally {
+          sendStartedAt = 0L;
+          for (Pending pending : batch) {
+            bufferedBytes.addAndGet(-pending.size());
+            metrics.dequeued();
+          }
+        }
+      }
+    } finally {
+      draining.set(false);
+      if (!evicted.get() && !queue.isEmpty()) {
+        scheduleDrain(false);
+      }
+    }
+  }
+
+  /**
+   * 큐 앞쪽에 연달아 쌓인 푸시를 max-frame-bytes 안에서 모으기
+   *
+   * @param head 이미 꺼낸 첫 푸시
+   * @return
+   */
+  private List<Pending> collectBatch(Pending head) {
+    List<Pending> batch = new ArrayList<>();
+    batch.add(head);
+    int frameBytes = NOTIFICATIONS_PREFIX.length + NOTIFICATIONS_SUFFIX.length + head.size();
+
+    Pending next;
+    while ((next = queue.peek()) != null && next.batchable()
+        && frameBytes + 1 + next.size() <= maxFrameBytes) {
+      Pending polled = queue.poll();
+      if (polled == null) {
+        break;
+      }
+      batch.add(polled);
+      frameBytes += 1 + polled.size();
+    }
+    return batch;
+  }
+
+  /**
+   * 푸시 목록을 하나의 NOTIFICATIONS frame 으로 합치기
+   * <p>
+   * 각 푸시는 이미 직렬화된 UTF-8 JSON 이므로 다시 직렬화하지 않고 byte 단위로 이어 붙인다.
+   *
+   * @param batch
+   * @return
+   */
+  private static TextMessage notificationsFrame(List<Pending> batch) {
+    int size = NOTIFICATIONS_PREFIX.length + NOTIFICATIONS_SUFFIX.length + batch.size();
+    for (Pending pending : batch) {
+      size += pending.size();
+    }
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream(size);
+    out.writeBytes(NOTIFICATIONS_PREFIX);
+    for (int i = 0; i < batch.size(); i++) {
+      if (i > 0) {
+        out.write(',');
+      }
+      out.writeBytes(((TextMessage) batch.get(i).message()).asBytes());
+    }
+    out.writeBytes(NOTIFICATIONS_SUFFIX);
+    return new TextMessage(out.toByteArray());
+  }
+
+  /**
+   * 쌓인 메시지를 버리고 호출 스레드에서 세션 종료
+   *
+   * @param reason
+   */
+  private void evict(String reason) {
+    evict(reason, Runnable::run);
+  }
+
+  /**
+   * 쌓인 메시지를 버리고 세션 종료
+   *
+   * @param reason
+   * @param closer 세션을 닫을 executor
+   * @return 이번 호출로 종료한 경우 true
+   */
+  private boolean evict(String reason, Executor closer) {
+    if (!evicted.compareAndSet(false, true)) {
+      return false;
+    }
+
+    int dropped = 0;
+    Pending pending;
+    while ((pending = queue.poll()) != null) {
+      bufferedBytes.addAndGet(-pending.size());
+      metrics.dequeued();
+      dropped++;
+    }
+    metrics.evicted(reason, dropped);
+    log.warn("느린 세션 종료 sessionId={}, reason={}, dropped={}", getId(), reason, dropped);
+
+    try {
+      closer.execute(() -> closeDelegate(reason));
+    } catch (RejectedExecutionException e) {
+      closeDelegate(reason);
+    }
+    return true;
+  }
+
+  private void closeDelegate(String reason) {
+    try {
+      getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE.withReason(reason));
+    } catch (Exception e) {
+      log.error("session close 실패: sessionId={}, errorMessage={}", getId(), e.getMessage());
+    }
+  }
+
+  /**
+   * 송신 대기 메시지
+   *
+   * @param message
+   * @param push    알림 푸시인지 여부
+   * @param size    넣을 때의 payload 크기, binary 메시지는 전송 후 남은 크기가 0 이 되므로 미리 기록한다
+   */
+  private record Pending(WebSocketMessage<?> message, boolean push, int size) {
+
+    /**
+     * NOTIFICATIONS frame 으로 합칠 수 있는 JSON text 푸시인지 여부
+     *
+     * @return
+     */
+    boolean batchable() {
+      return push && message instanceof TextMessage;
+    }
+  }
+}
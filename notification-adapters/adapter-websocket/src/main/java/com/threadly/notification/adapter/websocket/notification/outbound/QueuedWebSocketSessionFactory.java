@@ -0,0 +1,142 @@
+package com.threadly.notification.adapter.websocket.notification.outbound;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * {@link QueuedWebSocketSession} 생성기
+ * <p>
+ * 모든 세션의 송신 큐는 하나의 executor 를 공유한다. 전송이 멈춘 세션은 drain 스레드 하나를 붙잡으므로, 감시 작업이
+ * watchdog-interval 마다 세션을 확인해 send-time-limit 을 넘긴 세션을 닫는다. 따라서 drain 스레드는 최대
+ * send-time-limit + watchdog-interval 동안만 붙잡힌다.
+ * <p>
+ * batch.enabled 이면 푸시를 batch.window-millis 동안 모아 NOTIFICATIONS frame 으로 보낸다. 클라이언트가 배열 frame 을
+ * 처리할 수 있어야 하므로 기본값은 꺼져 있다.
+ */
+@Component
+@Slf4j
+public class QueuedWebSocketSessionFactory implements DisposableBean {
+
+  private final long sendTimeLimitMillis;
+  private final int bufferSizeLimit;
+  private final OutboundQueueMetrics metrics;
+  private final long batchWindowMillis;
+  private final int batchMaxFrameBytes;
+  private final ExecutorService executor;
+  private final ScheduledExecutorService batchScheduler;
+  private final ScheduledExecutorService watchdog;
+  private final ExecutorService closeExecutor;
+
+  private final Set<QueuedWebSocketSession> sessions = ConcurrentHashMap.newKeySet();
+
+  public QueuedWebSocketSessionFactory(MeterRegistry meterRegistry,
+      @Value("${notification.websocket.outbound.threads:8}") int threads,
+      @Value("${notification.websocket.outbound.send-time-limit-millis:10000}") long sendTimeLimitMillis,
+      @Value("${notification.websocket.outbound.watchdog-interval-millis:1000}") long watchdogIntervalMillis,
+      @Value("${notification.websocket.outbound.buffer-size-limit:524288}") int bufferSizeLimit,
+      @Value("${notification.websocket.outbound.batch.enabled:false}") boolean batchEnabled,
+      @Value("${notification.websocket.outbound.batch.window-millis:5}") long batchWindowMillis,
+      @Value("${notification.websocket.outbound.batch.max-frame-bytes:65536}") int batchMaxFrameBytes) {
+    this.sendTimeLimitMillis = sendTimeLimitMillis;
+    this.bufferSizeLimit = bufferSizeLimit;
+    this.batchWindowMillis = batchEnabled ? batchWindowMillis : 0L;
+    this.batchMaxFrameBytes = batchMaxFrameBytes;
+    this.metrics = new OutboundQueueMetrics(meterRegistry);
+
+    AtomicInteger sequence = new AtomicInteger();
+    this.executor = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+      Thread thread = new Thread(runnable, "ws-outbound-" + sequence.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    /*batch-window 가 지나면 drain 을 executor 에 넘기기만 하므로 스레드 하나로 충분*/
+    this.batchScheduler = this.batchWindowMillis > 0
+        ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+          Thread thread = new Thread(runnable, "ws-outbound-batch");
+          thread.setDaemon(true);
+          return thread;
+        })
+        : null;
+    if (batchScheduler != null) {
+      log.info("웹소켓 푸시 batching 사용: windowMillis={}, maxFrameBytes={}", batchWindowMillis,
+          batchMaxFrameBytes);
+    }
+
+    /*막힌 전송이 있는 세션을 닫는 작업은 닫기도 막힐 수 있으므로 감시 스레드와 분리*/
+    this.closeExecutor = Executors.newCachedThreadPool(runnable -> {
+      Thread thread = new Thread(runnable, "ws-outbound-close");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "ws-outbound-watchdog");
+      thread.setDaemon(true);
+      return thread;
+    });
+    long interval = Math.max(1L, watchdogIntervalMillis);
+    watchdog.scheduleWithFixedDelay(this::safeEvictStalled, interval, interval,
+        TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * 송신 큐를 가진 세션으로 감싸기
+   *
+   * @param session
+   * @return
+   */
+  public QueuedWebSocketSession decorate(WebSocketSession session) {
+    QueuedWebSocketSession queued = new QueuedWebSocketSession(session, executor,
+        sendTimeLimitMillis, bufferSizeLimit, metrics, batchScheduler, batchWindowMillis,
+        batchMaxFrameBytes);
+    sessions.add(queued);
+    return queued;
+  }
+
+  /**
+   * send-time-limit 을 넘긴 세션 종료, 닫힌 세션은 감시 대상에서 제거
+   *
+   * @return 종료한 세션 수
+   */
+  int evictStalled() {
+    int evicted = 0;
+    for (QueuedWebSocketSession session : sessions) {
+      if (session.evictIfSendTimedOut(closeExecutor)) {
+        evicted++;
+      }
+      if (!session.isOpen()) {
+        sessions.remove(session);
+      }
+    }
+    return evicted;
+  }
+
+  private void safeEvictStalled() {
+    try {
+      evictStalled();
+    } catch (Exception e) {
+      log.error("웹소켓 송신 감시 중 오류 발생", e);
+    }
+  }
+
+  @Override
+  public void destroy() {
+    watchdog.shutdownNow();
+    closeExecutor.shutdownNow();
+    executor.shutdownNow();
+    if (batchScheduler != null) {
+      batchScheduler.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package com.threadly.notification.adapter.websocket.notification.presence;
+
+import com.threadly.notification.core.port.notification.out.PushPresencePort;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로세스 내 푸시 presence adapter
+ * <p>
+ * 단일 노드 실행, 테스트용. 하나의 인스턴스를 여러 directory 가 공유하면 여러 노드를 흉내낼 수 있다.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.push.fanout.type", havingValue = "memory",
+    matchIfMissing = true)
+public class InMemoryPushPresenceAdapter implements PushPresencePort {
+
+  /*userId -> (nodeId -> lease 만료 시각)*/
+  private final Map<String, Map<String, Long>> presence = new ConcurrentHashMap<>();
+
+  @Override
+  public void register(String userId, String nodeId, Duration lease) {
+    presence.computeIfAbsent(userId, k -> new ConcurrentHashMap<>())
+        .put(nodeId, System.currentTimeMillis() + lease.toMillis());
+  }
+
+  @Override
+  public void unregister(String userId, String nodeId) {
+    presence.computeIfPresent(userId, (k, nodes) -> {
+      nodes.remove(nodeId);
+      return nodes.isEmpty() ? null : nodes;
+    });
+  }
+
+  @Override
+  public void heartbeat(String nodeId, Collection<String> userIds, Duration lease) {
+    userIds.forEach(userId -> register(userId, nodeId, lease));
+  }
+
+  @Override
+  public Set<String> nodesOf(String userId) {
+    Map<String, Long> nodes = presence.get(userId);
+    if (nodes == null) {
+      return Set.of();
+    }
+    long now = System.currentTimeMillis();
+    return nodes.entrySet().stream()
+        .filter(entry -> entry.getValue() > now)
+        .map(Map.Entry::getKey)
+        .collect(Collectors.toUnmodifiableSet());
+  }
+}
@@ -0,0 +1,187 @@
+package com.threadly.notification.adapter.websocket.notification.presence;
+
+import com.threadly.notification.adapter.websocket.notification.WsSessionRegistry;
+import com.threadly.notification.core.port.notification.out.PushPresencePort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 푸시 presence directory
+ * <p>
+ * 세션 연결/종료 시 이 노드를 userId 의 세션 보유 노드로 등록/제거하고, 주기적으로 lease 를 갱신한다. 다른 노드의 presence 는
+ * cache-ttl 동안 로컬에 캐시하므로 다른 노드에 새로 연결된 세션은 최대 cache-ttl 만큼 늦게 반영된다. 이 노드의 세션 여부는 항상
+ * {@link WsSessionRegistry} 기준으로 판단한다.
+ */
+@Component
+@Slf4j
+public class PushPresenceDirectory implements DisposableBean {
+
+  private final PushPresencePort pushPresencePort;
+  private final WsSessionRegistry wsSessionRegistry;
+
+  private final String nodeId = UUID.randomUUID().toString();
+  private final Duration lease;
+  private final long cacheTtlMillis;
+
+  private final Map<String, CachedNodes> cache = new ConcurrentHashMap<>();
+
+  private final Counter cacheHitCounter;
+  private final Counter cacheMissCounter;
+  private final Counter lookupErrorCounter;
+
+  public PushPresenceDirectory(PushPresencePort pushPresencePort,
+      WsSessionRegistry wsSessionRegistry,
+      MeterRegistry meterRegistry,
+      @Value("${notification.push.presence.lease-millis:30000}") long leaseMillis,
+      @Value("${notification.push.presence.cache-ttl-millis:1000}") long cacheTtlMillis) {
+    this.pushPresencePort = pushPresencePort;
+    this.wsSessionRegistry = wsSessionRegistry;
+    this.lease = Duration.ofMillis(leaseMillis);
+    this.cacheTtlMillis = cacheTtlMillis;
+
+    this.cacheHitCounter = lookupCounter(meterRegistry, "hit");
+    this.cacheMissCounter = lookupCounter(meterRegistry, "miss");
+    this.lookupErrorCounter = lookupCounter(meterRegistry, "error");
+  }
+
+  public String nodeId() {
+    return nodeId;
+  }
+
+  /**
+   * 세션 연결 시 이 노드를 userId 의 세션 보유 노드로 등록
+   *
+   * @param userId
+   */
+  public void connected(String userId) {
+    try {
+      pushPresencePort.register(userId, nodeId, lease);
+    } catch (Exception e) {
+      log.warn("presence 등록 실패: userId={}, error={}", userId, e.getMessage());
+    }
+  }
+
+  /**
+   * 세션 종료 시 이 노드에 남은 세션이 없으면 등록 제거
+   *
+   * @param userId
+   */
+  public void disconnected(String userId) {
+    if (wsSessionRegistry.activeCount(userId) > 0) {
+      return;
+    }
+    try {
+      pushPresencePort.unregister(userId, nodeId);
+    } catch (Exception e) {
+      log.warn("presence 제거 실패: userId={}, error={}", userId, e.getMessage());
+    }
+  }
+
+  /**
+   * userId 의 세션을 가진 노드 조회
+   * <p>
+   * presence 조회에 실패하면 이 노드의 세션 여부만 반영한다.
+   *
+   * @param userId
+   * @return 세션을 가진 노드 id, 없으면 빈 Set
+   */
+  public Set<String> nodesOf(String userId) {
+    Set<String> nodes = cachedNodes(userId);
+    boolean local = wsSessionRegistry.activeCount(userId) > 0;
+    if (local == nodes.contains(nodeId)) {
+      return nodes;
+    }
+
+    Set<String> corrected = new HashSet<>(nodes);
+    if (local) {
+      corrected.add(nodeId);
+    } else {
+      corrected.remove(nodeId);
+    }
+    return corrected;
+  }
+
+  /**
+   * 이 노드에 세션이 있는 userId 들의 lease 갱신, 만료된 캐시 제거
+   */
+  @Scheduled(fixedDelayString = "${notification.push.presence.heartbeat-millis:10000}",
+      initialDelayString = "${notification.push.presence.heartbeat-millis:10000}")
+  public void heartbeat() {
+    List<String> userIds = wsSessionRegistry.userIds().stream()
+        .filter(wsSessionRegistry::hasOpenSession)
+        .toList();
+    if (!userIds.isEmpty()) {
+      try {
+        pushPresencePort.heartbeat(nodeId, userIds, lease);
+      } catch (Exception e) {
+        log.warn("presence lease 갱신 실패: users={}, error={}", userIds.size(), e.getMessage());
+      }
+    }
+
+    long now = System.currentTimeMillis();
+    cache.values().removeIf(cached -> cached.expiresAt() <= now);
+  }
+
+  /**
+   * 종료 시 이 노드의 presence 제거
+   * <p>
+   * 제거하지 못한 presence 는 lease 만료 후 조회되지 않는다.
+   */
+  @Override
+  public void destroy() {
+    for (String userId : wsSessionRegistry.userIds()) {
+      try {
+        pushPresencePort.unregister(userId, nodeId);
+      } catch (Exception e) {
+        log.warn("presence 제거 실패: userId={}, error={}", userId, e.getMessage());
+        return;
+      }
+    }
+  }
+
+  private Set<String> cachedNodes(String userId) {
+    long now = System.currentTimeMillis();
+    CachedNodes cached = cache.get(userId);
+    if (cached != null && cached.expiresAt() > now) {
+      cacheHitCounter.increment();
+      return cached.nodes();
+    }
+
+    cacheMissCounter.increment();
+    Set<String> nodes;
+    try {
+      nodes = Set.copyOf(pushPresencePort.nodesOf(userId));
+    } catch (Exception e) {
+      lookupErrorCounter.increment();
+      log.warn("presence 조회 실패: userId={}, error={}", userId, e.getMessage());
+      return Set.of();
+    }
+    if (cacheTtlMillis > 0) {
+      cache.put(userId, new CachedNodes(nodes, now + cacheTtlMillis));
+    }
+    return nodes;
+  }
+
+  private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("notification_push_presence_lookup")
+        .tag("result", result)
+        .description("푸시 presence 조회 수")
+        .register(meterRegistry);
+  }
+
+  private record CachedNodes(Set<String> nodes, long expiresAt) {
+
+  }
+}
@@ -0,0 +1,24 @@
+package com.threadly.notification.adapter.websocket.notification.replay;
+
+import com.threadly.notification.core.port.notification.out.dto.PushPayload;
+
+/**
+ * 재전송 버퍼에 보관된 푸시 frame
+ *
+ * @param sortId  알림 정렬 기준 id (ObjectId hex)
+ * @param payload 세션에 전송했던 인코딩된 메시지, 세션 전송에 쓴 배열을 그대로 공유한다
+ */
+public record ReplayFrame(
+    String sortId,
+    PushPayload payload
+) {
+
+  /*
+   * sortId 문자열, 배열 header, 객체 header, 참조를 더한 추정치
+   * */
+  private static final long OVERHEAD_BYTES = 144L;
+
+  long estimatedBytes() {
+    return OVERHEAD_BYTES + payload.length();
+  }
+}
@@ -0,0 +1,116 @@
+package com.threadly.notification.adapter.websocket.notification.replay;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자별 최근 푸시 frame 고정 크기 ring
+ * <p>
+ * frame 은 sortId 오름차순으로 유지한다. 노드마다 발행 순서가 달라 늦게 도착한 frame 은 뒤에서부터 자리를 찾아 끼워 넣는다.
+ * <p>
+ * floor 는 이 ring 이 빠짐없이 보관하고 있다고 보장하는 범위의 하한이다. 처음 보관한 frame 의 sortId 로 시작해 가장 오래된
+ * frame 을 밀어낼 때마다 밀려난 sortId 로 올라간다. afterSortId 가 floor 이상이면 그 이후 frame 은 모두 ring 안에 있다.
+ * <p>
+ * {@link WsReplayBuffer} 의 lock 안에서만 사용한다.
+ */
+class UserReplayRing {
+
+  private final ReplayFrame[] slots;
+  private final long acceptFromMillis;
+
+  private int head;
+  private int size;
+  private String floor;
+  private long bytes;
+
+  UserReplayRing(int capacity, long acceptFromMillis) {
+    this.slots = new ReplayFrame[capacity];
+    this.acceptFromMillis = acceptFromMillis;
+  }
+
+  /**
+   * frame 보관
+   *
+   * @param frame
+   * @param nowMillis
+   * @return 보관 전후 추정 메모리 변화량
+   */
+  long add(ReplayFrame frame, long nowMillis) {
+    /*세션 연결 직후에는 다른 노드의 라우팅이 아직 이 노드를 모를 수 있어 보관하지 않는다*/
+    if (nowMillis < acceptFromMillis) {
+      return 0L;
+    }
+    if (floor == null) {
+      floor = frame.sortId();
+    } else if (frame.sortId().compareTo(floor) <= 0) {
+      return 0L;
+    }
+
+    int position = size;
+    while (position > 0 && get(position - 1).sortId().compareTo(frame.sortId()) > 0) {
+      position--;
+    }
+    if (position > 0 && get(position - 1).sortId().equals(frame.sortId())) {
+      return 0L;
+    }
+
+    long delta = 0L;
+    if (size == slots.length) {
+      /*가장 오래된 frame 보다도 앞선 frame 은 보관하지 않고 floor 만 올린다*/
+      if (position == 0) {
+        floor = frame.sortId();
+        return 0L;
+      }
+      ReplayFrame oldest = get(0);
+      slots[head] = null;
+      head = (head + 1) % slots.length;
+      size--;
+      position--;
+      floor = oldest.sortId();
+      delta -= oldest.estimatedBytes();
+    }
+
+    for (int i = size; i > position; i--) {
+      set(i, get(i - 1));
+    }
+    set(position, frame);
+    size++;
+
+    bytes += delta + frame.estimatedBytes();
+    return delta + frame.estimatedBytes();
+  }
+
+  /**
+   * 주어진 sortId 이후 frame 조회
+   *
+   * @param afterSortId
+   * @param limit
+   * @return ring 이 afterSortId 이후를 모두 보관하고 있지 않으면 null
+   */
+  List<ReplayFrame> after(String afterSortId, int limit) {
+    if (floor == null || afterSortId.compareTo(floor) < 0) {
+      return null;
+    }
+
+    List<ReplayFrame> frames = new ArrayList<>(Math.min(limit, size));
+    for (int i = 0; i < size && frames.size() < limit; i++) {
+      ReplayFrame frame = get(i);
+      if (frame.sortId().compareTo(afterSortId) > 0) {
+        frames.add(frame);
+      }
+    }
+    return frames;
+  }
+
+  long bytes() {
+    return bytes;
+  }
+
+  private ReplayFrame get(int index) {
+    return slots[(head + index) % slots.length];
+  }
+
+  private void set(int index, ReplayFrame frame) {
+    slots[(head + index) % slots.length] = frame;
+  }
+}
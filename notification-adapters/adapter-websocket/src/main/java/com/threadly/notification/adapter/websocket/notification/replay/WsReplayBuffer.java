@@ -0,0 +1,135 @@
+package com.threadly.notification.adapter.websocket.notification.replay;
+
+import com.threadly.notification.core.port.notification.out.dto.PushPayload;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 노드의 세션에 전송한 최근 푸시 frame 재전송 버퍼
+ * <p>
+ * 사용자별로 frames-per-user 개의 인코딩된 frame 을 보관해 RESYNC 를 Mongo 조회 없이 처리한다. 전체 추정 메모리가
+ * max-bytes 를 넘으면 가장 오래 사용되지 않은 사용자의 버퍼부터 제거한다.
+ * <p>
+ * 사용자의 세션이 이 노드에 남아 있는 동안에만 모든 푸시가 이 노드로 오므로, 마지막 세션이 종료되면 버퍼를 버린다. 세션 연결 직후
+ * grace 동안은 다른 노드의 presence cache 가 갱신되지 않았을 수 있어 보관을 시작하지 않는다.
+ */
+@Component
+@Slf4j
+public class WsReplayBuffer {
+
+  private final int framesPerUser;
+  private final long maxBytes;
+  private final long graceMillis;
+
+  private final LinkedHashMap<String, UserReplayRing> rings =
+      new LinkedHashMap<>(256, 0.75f, true);
+  private final AtomicLong totalBytes = new AtomicLong();
+
+  private final Counter hitCounter;
+  private final Counter missCounter;
+  private final Counter evictedCounter;
+
+  public WsReplayBuffer(MeterRegistry meterRegistry,
+      @Value("${notification.websocket.replay-buffer.frames-per-user:64}") int framesPerUser,
+      @Value("${notification.websocket.replay-buffer.max-bytes:67108864}") long maxBytes,
+      @Value("${notification.websocket.replay-buffer.grace-millis:${notification.push.presence.cache-ttl-millis:1000}}") long graceMillis) {
+    this.framesPerUser = Math.max(1, framesPerUser);
+    this.maxBytes = maxBytes;
+    this.graceMillis = graceMillis;
+
+    this.hitCounter = lookupCounter(meterRegistry, "hit");
+    this.missCounter = lookupCounter(meterRegistry, "miss");
+    this.evictedCounter = Counter.builder("notification_ws_replay_buffer_evicted")
+        .description("메모리 한도로 제거된 사용자 버퍼 수")
+        .register(meterRegistry);
+    Gauge.builder("notification_ws_replay_buffer_bytes", totalBytes, AtomicLong::get)
+        .description("재전송 버퍼의 추정 메모리 사용량")
+        .baseUnit("bytes")
+        .register(meterRegistry);
+    Gauge.builder("notification_ws_replay_buffer_users", this, WsReplayBuffer::userCount)
+        .description("재전송 버퍼를 가진 사용자 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 이 노드의 세션에 전송한 frame 보관
+   *
+   * @param userId
+   * @param sortId
+   * @param payload
+   */
+  public synchronized void record(String userId, String sortId, PushPayload payload) {
+    if (sortId == null) {
+      return;
+    }
+
+    long now = System.currentTimeMillis();
+    UserReplayRing ring = rings.computeIfAbsent(userId,
+        k -> new UserReplayRing(framesPerUser, now + graceMillis));
+    long delta = ring.add(new ReplayFrame(sortId, payload), now);
+    if (delta != 0L && totalBytes.addAndGet(delta) > maxBytes) {
+      evictLeastRecentlyUsed();
+    }
+  }
+
+  /**
+   * 주어진 sortId 이후 frame 조회
+   *
+   * @param userId
+   * @param afterSortId
+   * @param limit
+   * @return 버퍼가 afterSortId 이후를 모두 보관하고 있지 않으면 empty
+   */
+  public synchronized Optional<List<ReplayFrame>> framesAfter(String userId, String afterSortId,
+      int limit) {
+    UserReplayRing ring = afterSortId == null ? null : rings.get(userId);
+    List<ReplayFrame> frames = ring == null ? null : ring.after(afterSortId, limit);
+
+    (frames == null ? missCounter : hitCounter).increment();
+    return Optional.ofNullable(frames);
+  }
+
+  /**
+   * 사용자 버퍼 제거
+   *
+   * @param userId
+   */
+  public synchronized void discard(String userId) {
+    UserReplayRing ring = rings.remove(userId);
+    if (ring != null) {
+      totalBytes.addAndGet(-ring.bytes());
+    }
+  }
+
+  private synchronized int userCount() {
+    return rings.size();
+  }
+
+  private void evictLeastRecentlyUsed() {
+    Iterator<Map.Entry<String, UserReplayRing>> iterator = rings.entrySet().iterator();
+    while (totalBytes.get() > maxBytes && iterator.hasNext()) {
+      Map.Entry<String, UserReplayRing> eldest = iterator.next();
+      iterator.remove();
+      totalBytes.addAndGet(-eldest.getValue().bytes());
+      evictedCounter.increment();
+      log.debug("재전송 버퍼 제거: userId={}", eldest.getKey());
+    }
+  }
+
+  private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("notification_ws_replay_buffer_lookup")
+        .tag("result", result)
+        .description("재전송 버퍼 조회 결과")
+        .register(meterRegistry);
+  }
+}
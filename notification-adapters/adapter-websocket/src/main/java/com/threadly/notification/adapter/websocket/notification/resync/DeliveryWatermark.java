@@ -0,0 +1,35 @@
+package com.threadly.notification.adapter.websocket.notification.resync;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 사용자, 기기별 전달 확인 watermark
+ * <p>
+ * 클라이언트가 ACK 한 알림 중 가장 큰 sortId 를 보관한다. sortId 는 같은 길이의 ObjectId hex 이므로 문자열 비교가 생성 순서와
+ * 같다. 순서가 뒤바뀐 ACK 가 와도 watermark 는 뒤로 가지 않는다. {@link DeliveryWatermarks} 가 사용자, 기기별로
+ * 보관한다.
+ */
+public class DeliveryWatermark {
+
+  private final AtomicReference<String> sortId = new AtomicReference<>();
+
+  /**
+   * 주어진 sortId 가 현재 watermark 보다 크면 갱신
+   *
+   * @param ackedSortId
+   * @return 갱신 후 watermark
+   */
+  public String advance(String ackedSortId) {
+    return sortId.accumulateAndGet(ackedSortId,
+        (current, acked) -> current == null || acked.compareTo(current) > 0 ? acked : current);
+  }
+
+  /**
+   * 현재 watermark
+   *
+   * @return ACK 한 알림이 없으면 null
+   */
+  public String current() {
+    return sortId.get();
+  }
+}
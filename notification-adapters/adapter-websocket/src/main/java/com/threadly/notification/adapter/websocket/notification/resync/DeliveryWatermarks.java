@@ -0,0 +1,61 @@
+package com.threadly.notification.adapter.websocket.notification.resync;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자, 기기별 {@link DeliveryWatermark} 저장소
+ * <p>
+ * watermark 를 세션이 아니라 userId, 기기 id 로 보관해 같은 기기가 이 노드에 재연결하면 이전 세션에서 ACK 한 위치를 이어서
+ * 사용한다. 기기 id 는 핸드셰이크 query 의 device 값이며, 없으면 사용자의 모든 기기가 하나의 watermark 를 쓴다.
+ * <p>
+ * watermark 는 이 노드의 메모리에만 있고 max-entries 를 넘으면 가장 오래 사용되지 않은 항목부터 버린다. 다른 노드로 재연결했거나
+ * 항목이 버려진 경우 afterId 없는 RESYNC 는 처음부터 재전송하므로, 클라이언트는 재연결 후 마지막으로 받은 sortId 를 afterId 로
+ * 보내야 한다.
+ */
+@Component
+public class DeliveryWatermarks {
+
+  public static final String DEVICE_ATTRIBUTE = "deviceId";
+
+  private final int maxEntries;
+  private final LinkedHashMap<String, DeliveryWatermark> watermarks;
+
+  public DeliveryWatermarks(MeterRegistry meterRegistry,
+      @Value("${notification.replay.watermark.max-entries:100000}") int maxEntries) {
+    this.maxEntries = Math.max(1, maxEntries);
+    this.watermarks = new LinkedHashMap<>(256, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, DeliveryWatermark> eldest) {
+        return size() > DeliveryWatermarks.this.maxEntries;
+      }
+    };
+
+    Gauge.builder("notification_ws_watermarks", this, DeliveryWatermarks::size)
+        .description("보관 중인 사용자, 기기별 watermark 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * userId, 기기의 watermark 조회, 없으면 생성
+   *
+   * @param userId
+   * @param deviceId null 이면 사용자 단위
+   * @return
+   */
+  public synchronized DeliveryWatermark of(String userId, String deviceId) {
+    return watermarks.computeIfAbsent(key(userId, deviceId), k -> new DeliveryWatermark());
+  }
+
+  public synchronized int size() {
+    return watermarks.size();
+  }
+
+  private static String key(String userId, String deviceId) {
+    return deviceId == null ? userId : userId + '\n' + deviceId;
+  }
+}
@@ -0,0 +1,86 @@
+package com.threadly.notification.adapter.websocket.notification.resync;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수신 메시지 처리 executor
+ * <p>
+ * ACK 의 eventId 조회, RESYNC 의 Mongo 조회는 웹소켓 컨테이너 스레드를 막지 않도록 이 executor 에서 처리한다. 세션 id 로
+ * 단일 스레드 executor 를 골라 같은 세션의 메시지는 받은 순서대로 처리되므로, ACK 직후의 afterId 없는 RESYNC 도 그 ACK 가
+ * 반영된 watermark 를 본다.
+ * <p>
+ * 스레드마다 대기 큐 한도가 있고, 가득 차면 메시지를 버린다. 버려진 RESYNC 는 클라이언트가 다시 요청한다.
+ */
+@Component
+@Slf4j
+public class WsInboundDispatcher implements DisposableBean {
+
+  private final ExecutorService[] executors;
+  private final Counter droppedCounter;
+
+  public WsInboundDispatcher(MeterRegistry meterRegistry,
+      @Value("${notification.replay.inbound.threads:4}") int threads,
+      @Value("${notification.replay.inbound.queue-capacity:1000}") int queueCapacity) {
+    this.executors = new ExecutorService[Math.max(1, threads)];
+    for (int i = 0; i < executors.length; i++) {
+      String name = "ws-inbound-" + (i + 1);
+      executors[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+          new LinkedBlockingQueue<>(Math.max(1, queueCapacity)), runnable -> {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+    this.droppedCounter = Counter.builder("notification_ws_inbound_dropped")
+        .description("처리 대기 큐가 가득 차 버린 웹소켓 수신 메시지 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 세션의 수신 메시지 처리 예약
+   *
+   * @param sessionId 같은 세션의 작업은 순서대로 실행
+   * @param task
+   * @return 대기 큐가 가득 차 버렸으면 false
+   */
+  public boolean dispatch(String sessionId, Runnable task) {
+    try {
+      executorOf(sessionId).execute(() -> run(sessionId, task));
+      return true;
+    } catch (RejectedExecutionException e) {
+      droppedCounter.increment();
+      log.warn("수신 메시지 처리 대기 큐 초과로 버림: sessionId={}", sessionId);
+      return false;
+    }
+  }
+
+  private void run(String sessionId, Runnable task) {
+    try {
+      task.run();
+    } catch (RuntimeException e) {
+      log.error("수신 메시지 처리 중 오류 발생: sessionId={}", sessionId, e);
+    }
+  }
+
+  private ExecutorService executorOf(String sessionId) {
+    int hash = sessionId.hashCode();
+    return executors[Math.floorMod(hash ^ (hash >>> 16), executors.length)];
+  }
+
+  @Override
+  public void destroy() {
+    for (ExecutorService executor : executors) {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,283 @@
+package com.threadly.notification.adapter.websocket.notification.resync;
+
+import com.threadly.notification.adapter.websocket.notification.codec.PushCodec;
+import com.threadly.notification.adapter.websocket.notification.codec.PushCodecs;
+import com.threadly.notification.adapter.websocket.notification.dto.AckRequest;
+import com.threadly.notification.adapter.websocket.notification.dto.OutEvent;
+import com.threadly.notification.adapter.websocket.notification.dto.ResyncBatchFrame;
+import com.threadly.notification.adapter.websocket.notification.dto.ResyncRequest;
+import com.threadly.notification.adapter.websocket.notification.dto.WsInboundMessage;
+import com.threadly.notification.adapter.websocket.notification.replay.ReplayFrame;
+import com.threadly.notification.adapter.websocket.notification.replay.WsReplayBuffer;
+import com.threadly.notification.adapter.websocket.notification.schema.ActorDictionary;
+import com.threadly.notification.adapter.websocket.notification.schema.CompactPush;
+import com.threadly.notification.adapter.websocket.notification.schema.CompactPushTranscoder;
+import com.threadly.notification.adapter.websocket.notification.schema.PushSchema;
+import com.threadly.notification.core.port.notification.in.NotificationReplayUseCase;
+import com.threadly.notification.core.port.notification.in.dto.ReplayBatch;
+import com.threadly.notification.core.port.notification.out.dto.PushPayload;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * ACK/RESYNC 수신 메시지 처리기
+ * <p>
+ * ACK 는 사용자, 기기의 {@link DeliveryWatermark} 를 올리고, RESYNC 는 afterId(없으면 watermark) 이후 알림을 sortId 순서의
+ * batch frame 으로 재전송한다. frame 은 세션 송신 큐를 거쳐 실시간 푸시와 같은 순서 보장, 제한을 받는다.
+ * <p>
+ * {@link WsReplayBuffer} 가 afterId 이후를 모두 보관하고 있으면 보관된 UTF-8 frame 을 다시 직렬화하지 않고 byte 단위로
+ * 이어 붙여 보내고, 그렇지 않을 때만 Mongo 에서 조회한다. v2 schema 세션에는 각 알림을 v2 로 변환해 같은 형태로 이어 붙이고,
+ * 세션이 받지 않은 행위자 프로필은 batch frame 보다 먼저 보낸다.
+ * <p>
+ * frame 은 세션에 협상된 {@link PushCodec} 으로 인코딩한다.
+ */
+@Component
+@Slf4j
+public class WsResyncHandler {
+
+  private static final Pattern SORT_ID_PATTERN = Pattern.compile("[0-9a-f]{24}");
+
+  private static final byte[] RAW_BATCH_PREFIX =
+      "{\"type\":\"RESYNC_BATCH\",\"events\":[".getBytes(StandardCharsets.UTF_8);
+
+  private final NotificationReplayUseCase notificationReplayUseCase;
+  private final WsReplayBuffer wsReplayBuffer;
+  private final CompactPushTranscoder compactPushTranscoder;
+  private final PushCodecs pushCodecs;
+
+  private final int batchSize;
+  private final int maxLimit;
+
+  private final Counter ackCounter;
+  private final Counter resyncCounter;
+  private final Counter invalidCounter;
+  private final Counter bufferReplayedCounter;
+  private final Counter databaseReplayedCounter;
+
+  public WsResyncHandler(NotificationReplayUseCase notificationReplayUseCase,
+      WsReplayBuffer wsReplayBuffer, CompactPushTranscoder compactPushTranscoder,
+      PushCodecs pushCodecs, MeterRegistry meterRegistry,
+      @Value("${notification.replay.batch-size:50}") int batchSize,
+      @Value("${notification.replay.max-limit:500}") int maxLimit) {
+    this.notificationReplayUseCase = notificationReplayUseCase;
+    this.wsReplayBuffer = wsReplayBuffer;
+    this.compactPushTranscoder = compactPushTranscoder;
+    this.pushCodecs = pushCodecs;
+    this.batchSize = Math.max(1, batchSize);
+    this.maxLimit = Math.max(1, maxLimit);
+    this.ackCounter = inboundCounter(meterRegistry, "ack");
+    this.resyncCounter = inboundCounter(meterRegistry, "resync");
+    this.invalidCounter = inboundCounter(meterRegistry, "invalid");
+    this.bufferReplayedCounter = replayedCounter(meterRegistry, "buffer");
+    this.databaseReplayedCounter = replayedCounter(meterRegistry, "database");
+  }
+
+  /**
+   * 수신 메시지 처리
+   *
+   * @param userId
+   * @param outbound  송신 큐를 가진 세션
+   * @param watermark
+   * @param message
+   */
+  public void handle(String userId, WebSocketSession outbound, DeliveryWatermark watermark,
+      WsInboundMessage message) {
+    if (message instanceof AckRequest ack) {
+      ack(userId, watermark, ack);
+    } else if (message instanceof ResyncRequest resync) {
+      resync(userId, outbound, watermark, resync);
+    }
+  }
+
+  /**
+   * 해석할 수 없는 수신 메시지 기록
+   */
+  public void rejected() {
+    invalidCounter.increment();
+  }
+
+  private void ack(String userId, DeliveryWatermark watermark, AckRequest ack) {
+    String sortId = isSortId(ack.sortId()) ? ack.sortId()
+        : ack.eventId() == null ? null
+            : notificationReplayUseCase.findSortId(userId, ack.eventId()).orElse(null);
+
+    if (sortId == null) {
+      log.debug("ACK 대상 알림 없음: userId={}, eventId={}", userId, ack.eventId());
+      invalidCounter.increment();
+      return;
+    }
+
+    watermark.advance(sortId);
+    ackCounter.increment();
+  }
+
+  private void resync(String userId, WebSocketSession outbound, DeliveryWatermark watermark,
+      ResyncRequest resync) {
+    String afterId = resync.afterId() != null ? resync.afterId() : watermark.current();
+
+    if (afterId != null && !isSortId(afterId)) {
+      log.warn("잘못된 RESYNC afterId: userId={}, afterId={}", userId, afterId);
+      invalidCounter.increment();
+      return;
+    }
+    resyncCounter.increment();
+    PushSchema schema = PushSchema.of(outbound);
+    PushCodec codec = pushCodecs.of(outbound);
+
+    try {
+      int limit = resync.limit() <= 0 ? maxLimit : Math.min(resync.limit(), maxLimit);
+
+      Optional<List<ReplayFrame>> buffered = wsReplayBuffer.framesAfter(userId, afterId, limit);
+      if (buffered.isPresent()) {
+        sendBuffered(outbound, schema, codec, afterId, buffered.get());
+        return;
+      }
+
+      notificationReplayUseCase.replayAfter(userId, afterId, limit,
+          batch -> send(outbound, schema, codec, batch));
+    } catch (UncheckedIOException e) {
+      /*송신 큐 한도 초과 등으로 세션이 정리된 경우, 클라이언트가 재연결 후 다시 요청한다*/
+      log.warn("RESYNC 전송 중단: userId={}, sessionId={}, error={}", userId, outbound.getId(),
+          e.getMessage());
+    }
+  }
+
+  private void send(WebSocketSession outbound, PushSchema schema, PushCodec codec,
+      ReplayBatch batch) {
+    byte[] frame;
+    if (schema == PushSchema.V2) {
+      List<PushPayload> events = compactEvents(outbound, codec, batch.messages().stream()
+          .map(message -> compactPushTranscoder.toV2(new OutEvent(message)))
+          .toList());
+      frame = codec.fromJson(rawBatchFrame(events, batch.lastSortId(), batch.done()));
+    } else {
+      try {
+        frame = codec.encode(new ResyncBatchFrame(batch));
+      } catch (IOException e) {
+        throw new IllegalStateException("RESYNC frame 직렬화 실패", e);
+      }
+    }
+
+    try {
+      outbound.sendMessage(codec.message(frame));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    databaseReplayedCounter.increment(batch.messages().size());
+  }
+
+  /**
+   * 버퍼에 보관된 frame 을 batch-size 단위 frame 으로 전송
+   *
+   * @param outbound
+   * @param schema
+   * @param codec
+   * @param afterId
+   * @param frames
+   */
+  private void sendBuffered(WebSocketSession outbound, PushSchema schema, PushCodec codec,
+      String afterId, List<ReplayFrame> frames) {
+    int from = 0;
+    do {
+      int to = Math.min(from + batchSize, frames.size());
+      List<ReplayFrame> chunk = frames.subList(from, to);
+      String lastSortId = chunk.isEmpty() ? afterId : chunk.get(chunk.size() - 1).sortId();
+      boolean done = to == frames.size();
+
+      List<PushPayload> events = schema == PushSchema.V2
+          ? compactEvents(outbound, codec, chunk.stream()
+              .map(frame -> compactPushTranscoder.toV2(frame.payload()))
+              .toList())
+          : chunk.stream().map(ReplayFrame::payload).toList();
+      try {
+        outbound.sendMessage(
+            codec.message(codec.fromJson(rawBatchFrame(events, lastSortId, done))));
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      bufferReplayedCounter.increment(chunk.size());
+      from = to;
+    } while (from < frames.size());
+  }
+
+  /**
+   * 세션이 받지 않은 행위자 프로필을 먼저 보내고 v2 frame 목록 반환
+   *
+   * @param outbound
+   * @param codec
+   * @param pushes
+   * @return
+   */
+  private static List<PushPayload> compactEvents(WebSocketSession outbound, PushCodec codec,
+      List<CompactPush> pushes) {
+    ActorDictionary actorDictionary = ActorDictionary.of(outbound);
+    try {
+      for (CompactPush push : pushes) {
+        actorDictionary.introduce(outbound, codec, push);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return pushes.stream().map(CompactPush::event).toList();
+  }
+
+  /**
+   * 인코딩된 frame 을 다시 직렬화하지 않고 {@link ResyncBatchFrame} 과 같은 형태로 이어 붙이기
+   * <p>
+   * lastSortId 는 형식을 검증한 ObjectId hex 라 escape 가 필요 없다.
+   *
+   * @param events
+   * @param lastSortId
+   * @param done
+   * @return
+   */
+  private static byte[] rawBatchFrame(List<PushPayload> events, String lastSortId,
+      boolean done) {
+    int size = RAW_BATCH_PREFIX.length + 64;
+    for (PushPayload event : events) {
+      size += event.length() + 1;
+    }
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream(size);
+    out.writeBytes(RAW_BATCH_PREFIX);
+    for (int i = 0; i < events.size(); i++) {
+      if (i > 0) {
+        out.write(',');
+      }
+      out.writeBytes(events.get(i).bytes());
+    }
+    String quotedSortId = lastSortId == null ? "null" : "\"" + lastSortId + "\"";
+    out.writeBytes(("],\"lastSortId\":" + quotedSortId + ",\"done\":" + done + "}")
+        .getBytes(StandardCharsets.UTF_8));
+    return out.toByteArray();
+  }
+
+  private static boolean isSortId(String value) {
+    return value != null && SORT_ID_PATTERN.matcher(value).matches();
+  }
+
+  private static Counter inboundCounter(MeterRegistry meterRegistry, String type) {
+    return Counter.builder("notification_ws_inbound")
+        .tag("type", type)
+        .description("처리한 웹소켓 수신 메시지 수")
+        .register(meterRegistry);
+  }
+
+  private static Counter replayedCounter(MeterRegistry meterRegistry, String source) {
+    return Counter.builder("notification_ws_resync_events")
+        .tag("source", source)
+        .description("RESYNC 로 재전송한 알림 수")
+        .register(meterRegistry);
+  }
+}
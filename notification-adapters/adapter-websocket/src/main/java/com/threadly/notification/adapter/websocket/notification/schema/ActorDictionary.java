@@ -0,0 +1,59 @@
+package com.threadly.notification.adapter.websocket.notification.schema;
+
+import com.threadly.notification.adapter.websocket.notification.codec.PushCodec;
+import com.threadly.notification.core.port.notification.out.dto.PushPayload;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * v2 세션이 받은 행위자 프로필 목록
+ * <p>
+ * v2 알림 frame 은 행위자를 id 로만 참조하므로, 세션이 아직 받지 않았거나 바뀐 프로필은 알림보다 먼저 프로필 frame 으로 한 번
+ * 보낸다. 세션 attribute 에 보관하며, 최근 max-actors 명만 기억하고 잊은 행위자는 다시 보낸다.
+ */
+public final class ActorDictionary {
+
+  public static final String ATTRIBUTE = "actorDictionary";
+
+  private static final int MAX_ACTORS = 256;
+
+  private final LinkedHashMap<String, PushPayload> profiles =
+      new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, PushPayload> eldest) {
+          return size() > MAX_ACTORS;
+        }
+      };
+
+  /**
+   * 세션의 행위자 목록 조회, 없으면 생성
+   *
+   * @param session
+   * @return
+   */
+  public static ActorDictionary of(WebSocketSession session) {
+    return (ActorDictionary) session.getAttributes()
+        .computeIfAbsent(ATTRIBUTE, key -> new ActorDictionary());
+  }
+
+  /**
+   * 세션이 받지 않은 행위자 프로필이면 프로필 frame 전송
+   * <p>
+   * 확인, 전송, 기록을 한 lock 안에서 해 다른 스레드가 같은 세션에 보내는 알림이 프로필 frame 보다 앞서지 않는다.
+   *
+   * @param session 송신 큐를 가진 세션
+   * @param codec   세션에 협상된 codec
+   * @param push
+   * @throws IOException 전송 실패
+   */
+  public synchronized void introduce(WebSocketSession session, PushCodec codec, CompactPush push)
+      throws IOException {
+    if (push.actorId() == null || push.actorFrame().equals(profiles.get(push.actorId()))) {
+      return;
+    }
+    session.sendMessage(codec.message(codec.fromJson(push.actorFrame().bytes())));
+    profiles.put(push.actorId(), push.actorFrame());
+  }
+}
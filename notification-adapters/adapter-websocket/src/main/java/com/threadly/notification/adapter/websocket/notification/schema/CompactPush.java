@@ -0,0 +1,18 @@
+package com.threadly.notification.adapter.websocket.notification.schema;
+
+import com.threadly.notification.core.port.notification.out.dto.PushPayload;
+
+/**
+ * v2 로 변환한 푸시
+ *
+ * @param event      행위자를 id 로만 참조하는 v2 frame
+ * @param actorId    행위자가 없으면 null
+ * @param actorFrame 행위자 프로필 frame, 행위자가 없으면 null
+ */
+public record CompactPush(
+    PushPayload event,
+    String actorId,
+    PushPayload actorFrame
+) {
+
+}
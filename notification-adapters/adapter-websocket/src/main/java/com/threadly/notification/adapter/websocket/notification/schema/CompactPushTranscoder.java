@@ -0,0 +1,117 @@
+package com.threadly.notification.adapter.websocket.notification.schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.threadly.notification.adapter.websocket.notification.dto.OutEvent;
+import com.threadly.notification.core.port.notification.out.dto.PushPayload;
+import java.io.IOException;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * v1 푸시 frame 을 v2 compact schema 로 변환
+ * <p>
+ * v2 는 key 를 줄이고, preview 에 다시 들어 있던 metadata 와 행위자 정보로 만든 title/body/imageUrl 을 빼며, 행위자는 id
+ * 로만 참조한다. 행위자 프로필은 {@link ActorDictionary} 가 세션마다 처음 볼 때만 별도 frame 으로 보낸다.
+ * <pre>
+ * {"t":"N","id":eventId,"s":sortId,"at":occurredAt,"k":notificationType,"a":userId,
+ *  "m":{"p":postId,"c":commentId,"x":commentExcerpt}}
+ * {"t":"A","id":userId,"n":nickname,"i":profileImageUrl}
+ * </pre>
+ * 노드 간 전달과 재전송 버퍼는 v1 frame 을 그대로 쓰고, v2 세션이 있는 노드에서만 푸시당 한 번 변환한다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class CompactPushTranscoder {
+
+  private static final CompactPush FALLBACK_PUSH =
+      new CompactPush(PushPayload.of("{\"t\":\"N\"}"), null, null);
+
+  private static final Map<String, String> METADATA_KEYS = Map.of(
+      "postId", "p",
+      "commentId", "c",
+      "commentExcerpt", "x"
+  );
+
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 직렬화된 v1 frame 을 v2 로 변환
+   *
+   * @param v1
+   * @return
+   */
+  public CompactPush toV2(PushPayload v1) {
+    try {
+      return compact(objectMapper.readTree(v1.bytes()));
+    } catch (IOException e) {
+      log.error("v2 푸시 frame 변환 실패", e);
+      return FALLBACK_PUSH;
+    }
+  }
+
+  /**
+   * OutEvent 를 v2 로 직렬화
+   *
+   * @param event
+   * @return
+   */
+  public CompactPush toV2(OutEvent event) {
+    try {
+      return compact(objectMapper.valueToTree(event));
+    } catch (IOException e) {
+      log.error("v2 푸시 frame 변환 실패", e);
+      return FALLBACK_PUSH;
+    }
+  }
+
+  private CompactPush compact(JsonNode event) throws IOException {
+    ObjectNode compact = objectMapper.createObjectNode();
+    compact.put("t", "N");
+    copy(event, "eventId", compact, "id");
+    copy(event, "sortId", compact, "s");
+    copy(event, "occurredAt", compact, "at");
+
+    JsonNode payload = event.path("payload");
+    copy(payload, "notificationType", compact, "k");
+
+    JsonNode actor = payload.path("preview").path("actorProfile");
+    JsonNode actorId = actor.get("userId");
+    PushPayload actorFrame = null;
+    if (actorId != null && !actorId.isNull()) {
+      compact.set("a", actorId);
+
+      ObjectNode profile = objectMapper.createObjectNode();
+      profile.put("t", "A");
+      profile.set("id", actorId);
+      copy(actor, "nickname", profile, "n");
+      copy(actor, "profileImageUrl", profile, "i");
+      actorFrame = PushPayload.wrap(objectMapper.writeValueAsBytes(profile));
+    }
+
+    /*팔로우 계열은 metadata 필드가 없으므로 생략*/
+    JsonNode metadata = payload.path("metadata");
+    if (metadata.isObject() && !metadata.isEmpty()) {
+      ObjectNode compactMetadata = compact.putObject("m");
+      metadata.fields().forEachRemaining(field -> {
+        if (!field.getValue().isNull()) {
+          compactMetadata.set(METADATA_KEYS.getOrDefault(field.getKey(), field.getKey()),
+              field.getValue());
+        }
+      });
+    }
+    return new CompactPush(PushPayload.wrap(objectMapper.writeValueAsBytes(compact)),
+        actorFrame == null ? null : actorId.asText(), actorFrame);
+  }
+
+  private static void copy(JsonNode source, String field, ObjectNode target, String key) {
+    JsonNode value = source.get(field);
+    if (value != null && !value.isNull()) {
+      target.set(key, value);
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package com.threadly.notification.adapter.websocket.notification.schema;
+
+import com.threadly.notification.adapter.websocket.notification.codec.PushCodec;
+import com.threadly.notification.adapter.websocket.notification.codec.PushCodecs;
+import com.threadly.notification.core.port.notification.out.dto.PushPayload;
+import java.io.IOException;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * 푸시 하나의 schema, codec 별 전송 메시지
+ * <p>
+ * 세션이 요청한 schema, codec 의 frame 만 처음 요청될 때 한 번 인코딩하고, 같은 조합의 세션은 같은 배열을 공유한다.
+ * {@link TextMessage} 는 인스턴스까지 공유한다. v2 세션에는 {@link #introduceActor} 로 처음 보는 행위자 프로필을 먼저
+ * 보낸다. 하나의 전송 스레드에서만 사용한다.
+ */
+public final class PushMessages {
+
+  private final PushPayload payload;
+  private final CompactPushTranscoder compactPushTranscoder;
+  private final PushCodecs pushCodecs;
+
+  private final byte[][] encoded;
+  private final WebSocketMessage<?>[] shared;
+  private CompactPush v2;
+
+  /**
+   * @param payload               v1 JSON 으로 직렬화된 푸시
+   * @param compactPushTranscoder
+   * @param pushCodecs
+   */
+  public PushMessages(PushPayload payload, CompactPushTranscoder compactPushTranscoder,
+      PushCodecs pushCodecs) {
+    this.payload = payload;
+    this.compactPushTranscoder = compactPushTranscoder;
+    this.pushCodecs = pushCodecs;
+    this.encoded = new byte[PushSchema.values().length * pushCodecs.size()][];
+    this.shared = new WebSocketMessage<?>[encoded.length];
+  }
+
+  /**
+   * 세션의 schema, codec 에 맞는 전송 메시지
+   *
+   * @param session
+   * @return
+   */
+  public WebSocketMessage<?> forSession(WebSocketSession session) {
+    PushSchema schema = PushSchema.of(session);
+    int codecIndex = pushCodecs.indexOf(session);
+    int slot = schema.ordinal() * pushCodecs.size() + codecIndex;
+
+    WebSocketMessage<?> message = shared[slot];
+    if (message != null) {
+      return message;
+    }
+
+    PushCodec codec = pushCodecs.get(codecIndex);
+    byte[] frame = encoded[slot];
+    if (frame == null) {
+      frame = codec.fromJson(json(schema).bytes());
+      encoded[slot] = frame;
+    }
+
+    message = codec.message(frame);
+    if (message instanceof TextMessage) {
+      shared[slot] = message;
+    }
+    return message;
+  }
+
+  /**
+   * v2 세션이 받지 않은 행위자 프로필이면 프로필 frame 을 먼저 전송
+   *
+   * @param session
+   * @throws IOException 전송 실패
+   */
+  public void introduceActor(WebSocketSession session) throws IOException {
+    if (PushSchema.of(session) == PushSchema.V2) {
+      ActorDictionary.of(session).introduce(session, pushCodecs.of(session), v2());
+    }
+  }
+
+  private PushPayload json(PushSchema schema) {
+    return schema == PushSchema.V2 ? v2().event() : payload;
+  }
+
+  private CompactPush v2() {
+    if (v2 == null) {
+      v2 = compactPushTranscoder.toV2(payload);
+    }
+    return v2;
+  }
+}
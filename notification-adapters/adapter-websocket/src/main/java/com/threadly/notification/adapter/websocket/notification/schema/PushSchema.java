@@ -0,0 +1,40 @@
+package com.threadly.notification.adapter.websocket.notification.schema;
+
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * 푸시 frame schema
+ * <p>
+ * 핸드셰이크 query 의 schema 값으로 세션마다 정하며, 지정하지 않으면 V1 이다.
+ */
+public enum PushSchema {
+
+  /*OutEvent 그대로 직렬화*/
+  V1,
+
+  /*짧은 key, metadata 와 행위자 중복 제거*/
+  V2;
+
+  public static final String ATTRIBUTE = "pushSchema";
+
+  /**
+   * 핸드셰이크 query 값으로 schema 결정
+   *
+   * @param value ex) v2
+   * @return 알 수 없는 값이면 V1
+   */
+  public static PushSchema fromQuery(String value) {
+    return "v2".equalsIgnoreCase(value) || "2".equals(value) ? V2 : V1;
+  }
+
+  /**
+   * 세션에 정해진 schema 조회
+   *
+   * @param session
+   * @return
+   */
+  public static PushSchema of(WebSocketSession session) {
+    Object schema = session.getAttributes().get(ATTRIBUTE);
+    return schema instanceof PushSchema pushSchema ? pushSchema : V1;
+  }
+}
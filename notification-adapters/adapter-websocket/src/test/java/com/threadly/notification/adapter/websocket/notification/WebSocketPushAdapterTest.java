@@ -1,25 +1,33 @@
 package com.threadly.notification.adapter.websocket.notification;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.threadly.notification.adapter.websocket.notification.dto.OutEvent;
+import com.threadly.notification.adapter.websocket.notification.fanout.PushFanoutRelay;
 import com.threadly.notification.core.domain.notification.NotificationType;
 import com.threadly.notification.core.domain.notification.metadata.PostLikeMeta;
 import com.threadly.notification.core.domain.user.ActorProfile;
 import com.threadly.notification.core.port.notification.out.dto.NotificationMessage;
 import com.threadly.notification.core.port.notification.out.dto.NotificationMessage.Payload;
+import com.threadly.notification.core.port.notification.out.dto.PushPayload;
 import com.threadly.notification.core.port.notification.out.dto.preview.PostLikePreview;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -34,11 +42,14 @@ class WebSocketPushAdapterTest {
   private WebSocketPushAdapter webSocketPushAdapter;
 
   @Mock
-  private WsSessionRegistry wsSessionRegistry;
+  private PushFanoutRelay pushFanoutRelay;
 
   @Mock
   private ObjectMapper objectMapper;
 
+  @Captor
+  private ArgumentCaptor<Supplier<PushPayload>> serializerCaptor;
+
   private NotificationMessage sampleMessage() {
     return new NotificationMessage(
         "event-1",
@@ -56,35 +67,53 @@ class WebSocketPushAdapterTest {
   @DisplayName("pushToUser 테스트")
   class PushToUserTest {
 
-    /*[Case #1] 직렬화가 성공하면 세션 레지스트리에 JSON이 전파되어야 한다*/
-    @DisplayName("1. 직렬화가 성공하면 세션 레지스트리에 JSON이 전파되는지 검증")
+    /*[Case #1] 직렬화가 성공하면 직렬화된 JSON으로 전달되어야 한다*/
+    @DisplayName("1. 직렬화가 성공하면 직렬화된 JSON으로 전달되는지 검증")
     @Test
-    void pushToUser_shouldEmitSerializedJson_whenSerializationSucceeds() throws Exception {
+    void pushToUser_shouldRouteSerializedJson_whenSerializationSucceeds() throws Exception {
       //given
       NotificationMessage message = sampleMessage();
-      when(objectMapper.writeValueAsString(any(OutEvent.class))).thenReturn("{\"payload\":1}");
+      when(objectMapper.writeValueAsBytes(any(OutEvent.class)))
+          .thenReturn("{\"payload\":1}".getBytes(StandardCharsets.UTF_8));
 
       //when
       webSocketPushAdapter.pushToUser("receiver-1", message);
 
       //then
-      verify(wsSessionRegistry).emit(eq("receiver-1"), eq("{\"payload\":1}"));
+      verify(pushFanoutRelay).route(eq("receiver-1"), eq("sort-1"), serializerCaptor.capture());
+      assertThat(serializerCaptor.getValue().get()).isEqualTo(PushPayload.of("{\"payload\":1}"));
     }
 
-    /*[Case #2] 직렬화가 실패하면 기본 JSON으로 전파되어야 한다*/
-    @DisplayName("2. 직렬화가 실패하면 기본 JSON으로 전파되는지 검증")
+    /*[Case #2] 직렬화가 실패하면 기본 JSON으로 전달되어야 한다*/
+    @DisplayName("2. 직렬화가 실패하면 기본 JSON으로 전달되는지 검증")
     @Test
-    void pushToUser_shouldEmitFallbackJson_whenSerializationFails() throws Exception {
+    void pushToUser_shouldRouteFallbackJson_whenSerializationFails() throws Exception {
       //given
       NotificationMessage message = sampleMessage();
       doThrow(new JsonProcessingException("serialize error") {
-      }).when(objectMapper).writeValueAsString(any(OutEvent.class));
+      }).when(objectMapper).writeValueAsBytes(any(OutEvent.class));
+
+      //when
+      webSocketPushAdapter.pushToUser("receiver-1", message);
+
+      //then
+      verify(pushFanoutRelay).route(eq("receiver-1"), eq("sort-1"), serializerCaptor.capture());
+      assertThat(serializerCaptor.getValue().get()).isEqualTo(PushPayload.of("{\"type\":\"NOTIFICATION\"}"));
+    }
+
+    /*[Case #3] 세션을 가진 노드가 없으면 직렬화하지 않아야 한다*/
+    @DisplayName("3. 세션을 가진 노드가 없으면 직렬화하지 않는지 검증")
+    @Test
+    void pushToUser_shouldNotSerialize_whenRelayDoesNotInvokeSerializer() throws Exception {
+      //given
+      NotificationMessage message = sampleMessage();
 
       //when
       webSocketPushAdapter.pushToUser("receiver-1", message);
 
       //then
-      verify(wsSessionRegistry).emit(eq("receiver-1"), eq("{\"type\":\"NOTIFICATION\"}"));
+      verify(pushFanoutRelay).route(eq("receiver-1"), eq("sort-1"), any());
+      verify(objectMapper, never()).writeValueAsBytes(any());
     }
   }
 }
@@ -1,17 +1,45 @@
 package com.threadly.notification.adapter.websocket.notification;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORMapper;
+import com.threadly.notification.adapter.websocket.notification.codec.CborPushCodec;
+import com.threadly.notification.adapter.websocket.notification.codec.JsonPushCodec;
+import com.threadly.notification.adapter.websocket.notification.codec.PushCodecs;
+import com.threadly.notification.adapter.websocket.notification.schema.CompactPushTranscoder;
+import com.threadly.notification.adapter.websocket.notification.schema.PushMessages;
+import com.threadly.notification.adapter.websocket.notification.schema.PushSchema;
+import com.threadly.notification.core.port.notification.out.dto.PushPayload;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
 import org.springframework.web.socket.WebSocketSession;
 
 /**
@@ -19,7 +47,18 @@ import org.springframework.web.socket.WebSocketSession;
  */
 class WsSessionRegistryTest {
 
-  private final WsSessionRegistry wsSessionRegistry = new WsSessionRegistry();
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final WsSessionRegistry wsSessionRegistry = new WsSessionRegistry(meterRegistry, 16);
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final CompactPushTranscoder compactPushTranscoder =
+      new CompactPushTranscoder(objectMapper);
+  private final JsonPushCodec jsonPushCodec = new JsonPushCodec(objectMapper);
+  private final PushCodecs pushCodecs = new PushCodecs(jsonPushCodec,
+      List.of(jsonPushCodec, new CborPushCodec(objectMapper)));
+
+  private PushMessages messages(String json) {
+    return new PushMessages(PushPayload.of(json), compactPushTranscoder, pushCodecs);
+  }
 
   private WebSocketSession session(String id, boolean open) {
     WebSocketSession session = mock(WebSocketSession.class);
@@ -51,6 +90,188 @@ class WsSessionRegistryTest {
       //then
       assertThat(wsSessionRegistry.activeCount("user-1")).isZero();
     }
+
+    /*[Case #2] 닫힌 세션도 제거 전까지 집계되고, 열린 세션 여부에서는 제외되어야 한다*/
+    @DisplayName("2. 닫힌 세션이 제거 전까지 집계되고 열린 세션 여부에서는 제외되는지 검증")
+    @Test
+    void activeCount_shouldCountRegisteredSessions() throws Exception {
+      //given
+      WebSocketSession closed = session("session-1", false);
+
+      //when
+      wsSessionRegistry.add("user-1", closed);
+
+      //then
+      assertThat(wsSessionRegistry.activeCount("user-1")).isEqualTo(1);
+      verify(closed, never()).isOpen();
+      assertThat(wsSessionRegistry.hasOpenSession("user-1")).isFalse();
+    }
+  }
+
+  @Nested
+  @DisplayName("세션 집계 테스트")
+  class CountTest {
+
+    private double gauge(String name) {
+      return meterRegistry.get(name).gauge().value();
+    }
+
+    /*[Case #1] 세션 수와 사용자 수가 등록, 제거에 맞게 집계되어야 한다*/
+    @DisplayName("1. 세션 수와 사용자 수가 등록, 제거에 맞게 집계되는지 검증")
+    @Test
+    void addAndRemove_shouldUpdateCounters() throws Exception {
+      //given
+      WebSocketSession first = session("session-1", true);
+      WebSocketSession second = session("session-2", true);
+      WebSocketSession other = session("session-3", true);
+
+      //when
+      wsSessionRegistry.add("user-1", first);
+      wsSessionRegistry.add("user-1", second);
+      wsSessionRegistry.add("user-2", other);
+
+      //then
+      assertThat(gauge("notification_ws_sessions")).isEqualTo(3.0);
+      assertThat(gauge("notification_ws_session_users")).isEqualTo(2.0);
+      assertThat(wsSessionRegistry.activeCount("user-1")).isEqualTo(2);
+
+      //when
+      wsSessionRegistry.remove("user-1", first);
+      wsSessionRegistry.remove("user-1", second);
+
+      //then
+      assertThat(gauge("notification_ws_sessions")).isEqualTo(1.0);
+      assertThat(gauge("notification_ws_session_users")).isEqualTo(1.0);
+      assertThat(wsSessionRegistry.userIds()).containsExactly("user-2");
+    }
+
+    /*[Case #2] 같은 세션을 다시 등록하거나 없는 세션을 제거해도 집계가 바뀌지 않아야 한다*/
+    @DisplayName("2. 같은 세션 재등록, 없는 세션 제거 시 집계가 바뀌지 않는지 검증")
+    @Test
+    void addAndRemove_shouldBeIdempotent() throws Exception {
+      //given
+      WebSocketSession session = session("session-1", true);
+      wsSessionRegistry.add("user-1", session);
+
+      //when
+      wsSessionRegistry.add("user-1", session);
+      wsSessionRegistry.remove("user-1", session("session-2", true));
+      wsSessionRegistry.remove("user-2", session);
+
+      //then
+      assertThat(wsSessionRegistry.sessionCount()).isEqualTo(1);
+      assertThat(wsSessionRegistry.userCount()).isEqualTo(1);
+      assertThat(wsSessionRegistry.activeCount("user-1")).isEqualTo(1);
+    }
+  }
+
+  @Nested
+  @DisplayName("동시성 테스트")
+  class ConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int USERS = 64;
+    private static final int TABS = 4;
+    private static final int OPERATIONS = 20_000;
+
+    /*[Case #1] 여러 스레드가 동시에 연결, 종료, 전송해도 집계와 저장된 세션이 일치해야 한다*/
+    @DisplayName("1. 동시 연결, 종료, 전송 후 집계와 저장된 세션이 일치하는지 검증")
+    @Test
+    void churn_shouldKeepCountersConsistent() throws Exception {
+      //given
+      WebSocketSession[][] sessions = new WebSocketSession[USERS][TABS];
+      for (int user = 0; user < USERS; user++) {
+        for (int tab = 0; tab < TABS; tab++) {
+          sessions[user][tab] = session("session-" + user + "-" + tab, true);
+        }
+      }
+      ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<?>> futures = new ArrayList<>();
+
+      //when
+      for (int t = 0; t < THREADS; t++) {
+        Random random = new Random(t);
+        futures.add(executor.submit(() -> {
+          start.await();
+          for (int i = 0; i < OPERATIONS; i++) {
+            int user = random.nextInt(USERS);
+            WebSocketSession session = sessions[user][random.nextInt(TABS)];
+            switch (random.nextInt(3)) {
+              case 0 -> wsSessionRegistry.add("user-" + user, session);
+              case 1 -> wsSessionRegistry.remove("user-" + user, session);
+              default -> wsSessionRegistry.emit("user-" + user, messages("{\"n\":1}"));
+            }
+          }
+          return null;
+        }));
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+      executor.shutdown();
+
+      //then
+      int sessionsInRegistry = 0;
+      int usersInRegistry = 0;
+      for (int user = 0; user < USERS; user++) {
+        int active = wsSessionRegistry.activeCount("user-" + user);
+        sessionsInRegistry += active;
+        usersInRegistry += active > 0 ? 1 : 0;
+      }
+      assertThat(wsSessionRegistry.sessionCount()).isEqualTo(sessionsInRegistry);
+      assertThat(wsSessionRegistry.userCount()).isEqualTo(usersInRegistry);
+      assertThat(wsSessionRegistry.userIds()).hasSize(usersInRegistry);
+
+      //when
+      for (int user = 0; user < USERS; user++) {
+        for (WebSocketSession session : sessions[user]) {
+          wsSessionRegistry.remove("user-" + user, session);
+        }
+      }
+
+      //then
+      assertThat(wsSessionRegistry.sessionCount()).isZero();
+      assertThat(wsSessionRegistry.userCount()).isZero();
+      assertThat(wsSessionRegistry.userIds()).isEmpty();
+    }
+
+    /*[Case #2] 전송 중 같은 사용자의 세션이 제거, 추가되어도 순회가 중단되지 않아야 한다*/
+    @DisplayName("2. 전송 중 같은 사용자의 세션이 제거, 추가되어도 순회가 계속되는지 검증")
+    @Test
+    void emit_shouldContinue_whenSessionsChangeDuringIteration() throws Exception {
+      //given
+      WebSocketSession[] tabs = new WebSocketSession[TABS];
+      for (int tab = 0; tab < TABS; tab++) {
+        tabs[tab] = session("session-" + tab, true);
+        wsSessionRegistry.add("user-1", tabs[tab]);
+      }
+      WebSocketSession added = session("session-added", true);
+      AtomicBoolean changed = new AtomicBoolean();
+      for (WebSocketSession tab : tabs) {
+        doAnswer(invocation -> {
+          if (!changed.compareAndSet(false, true)) {
+            return null;
+          }
+          for (WebSocketSession other : tabs) {
+            if (other != tab) {
+              wsSessionRegistry.remove("user-1", other);
+            }
+          }
+          wsSessionRegistry.add("user-1", added);
+          return null;
+        }).when(tab).sendMessage(org.mockito.ArgumentMatchers.any());
+      }
+
+      //when
+      int sent = wsSessionRegistry.emit("user-1", messages("{\"n\":1}"));
+
+      //then
+      assertThat(sent).isPositive();
+      assertThat(wsSessionRegistry.sessionCount()).isEqualTo(2);
+      assertThat(wsSessionRegistry.activeCount("user-1")).isEqualTo(2);
+    }
   }
 
   @Nested
@@ -66,7 +287,7 @@ class WsSessionRegistryTest {
       wsSessionRegistry.add("user-1", session);
 
       //when
-      wsSessionRegistry.emit("user-1", "{\"message\":1}");
+      wsSessionRegistry.emit("user-1", messages("{\"message\":1}"));
 
       //then
       verify(session).sendMessage(new TextMessage("{\"message\":1}"));
@@ -81,11 +302,13 @@ class WsSessionRegistryTest {
       wsSessionRegistry.add("user-1", session);
 
       //when
-      wsSessionRegistry.emit("user-1", "payload");
+      wsSessionRegistry.emit("user-1", messages("payload"));
 
       //then
       verify(session, never()).sendMessage(org.mockito.ArgumentMatchers.any(TextMessage.class));
       assertThat(wsSessionRegistry.activeCount("user-1")).isZero();
+      assertThat(wsSessionRegistry.userIds()).doesNotContain("user-1");
+      assertThat(wsSessionRegistry.sessionCount()).isZero();
     }
 
     /*[Case #3] 전송 중 IOException 이 발생하면 세션이 제거되어야 한다*/
@@ -100,10 +323,158 @@ class WsSessionRegistryTest {
       wsSessionRegistry.add("user-1", session);
 
       //when
-      wsSessionRegistry.emit("user-1", "payload");
+      wsSessionRegistry.emit("user-1", messages("payload"));
 
       //then
       assertThat(wsSessionRegistry.activeCount("user-1")).isZero();
+      assertThat(wsSessionRegistry.userIds()).doesNotContain("user-1");
+    }
+
+    /*[Case #4] 여러 세션에 같은 메시지 인스턴스가 전송되어야 한다*/
+    @DisplayName("4. 여러 세션에 같은 메시지 인스턴스가 전송되는지 검증")
+    @Test
+    void emit_shouldShareMessageAcrossSessions() throws Exception {
+      //given
+      WebSocketSession first = session("session-1", true);
+      WebSocketSession second = session("session-2", true);
+      wsSessionRegistry.add("user-1", first);
+      wsSessionRegistry.add("user-1", second);
+      PushMessages messages = messages("payload");
+
+      //when
+      int sent = wsSessionRegistry.emit("user-1", messages);
+
+      //then
+      WebSocketMessage<?> message = messages.forSession(first);
+      assertThat(sent).isEqualTo(2);
+      verify(first).sendMessage(same(message));
+      verify(second).sendMessage(same(message));
+    }
+
+    /*[Case #5] v2 세션에는 v2 로 변환한 메시지가 전송되어야 한다*/
+    @DisplayName("5. v2 세션에는 v2 로 변환한 메시지가 전송되는지 검증")
+    @Test
+    void emit_shouldSendCompactMessage_whenSessionUsesV2() throws Exception {
+      //given
+      WebSocketSession v1 = session("session-1", true);
+      WebSocketSession v2 = session("session-2", true);
+      Map<String, Object> attributes = new HashMap<>();
+      attributes.put(PushSchema.ATTRIBUTE, PushSchema.V2);
+      when(v2.getAttributes()).thenReturn(attributes);
+      wsSessionRegistry.add("user-1", v1);
+      wsSessionRegistry.add("user-1", v2);
+      String json = "{\"type\":\"NOTIFICATION\",\"eventId\":\"event-1\",\"sortId\":\"sort-1\"}";
+
+      //when
+      wsSessionRegistry.emit("user-1", messages(json));
+
+      //then
+      verify(v1).sendMessage(new TextMessage(json));
+      verify(v2).sendMessage(new TextMessage("{\"t\":\"N\",\"id\":\"event-1\",\"s\":\"sort-1\"}"));
+    }
+
+    /*[Case #6] CBOR 세션에는 binary frame 이 전송되고, 인코딩된 배열은 세션 간에 공유되어야 한다*/
+    @DisplayName("6. CBOR 세션에는 binary frame 이 전송되고 인코딩된 배열이 공유되는지 검증")
+    @Test
+    void emit_shouldSendBinaryMessage_whenSessionUsesCbor() throws Exception {
+      //given
+      WebSocketSession first = session("session-1", true);
+      WebSocketSession second = session("session-2", true);
+      when(first.getAcceptedProtocol()).thenReturn(CborPushCodec.SUBPROTOCOL);
+      when(second.getAcceptedProtocol()).thenReturn(CborPushCodec.SUBPROTOCOL);
+      wsSessionRegistry.add("user-1", first);
+      wsSessionRegistry.add("user-1", second);
+      ArgumentCaptor<BinaryMessage> firstCaptor = ArgumentCaptor.forClass(BinaryMessage.class);
+      ArgumentCaptor<BinaryMessage> secondCaptor = ArgumentCaptor.forClass(BinaryMessage.class);
+
+      //when
+      wsSessionRegistry.emit("user-1", messages("{\"eventId\":\"event-1\"}"));
+
+      //then
+      verify(first).sendMessage(firstCaptor.capture());
+      verify(second).sendMessage(secondCaptor.capture());
+      BinaryMessage firstMessage = firstCaptor.getValue();
+      BinaryMessage secondMessage = secondCaptor.getValue();
+      assertThat(firstMessage).isNotSameAs(secondMessage);
+      assertThat(firstMessage.getPayload().array()).isSameAs(secondMessage.getPayload().array());
+      assertThat(new CBORMapper().readTree(firstMessage.getPayload().array())
+          .get("eventId").asText()).isEqualTo("event-1");
+    }
+
+    /*[Case #7] v2 세션에는 처음 보는 행위자의 프로필 frame 이 알림보다 먼저 한 번만 전송되어야 한다*/
+    @DisplayName("7. v2 세션에 처음 보는 행위자의 프로필 frame 이 먼저 한 번만 전송되는지 검증")
+    @Test
+    void emit_shouldIntroduceActorOnce_whenSessionUsesV2() throws Exception {
+      //given
+      WebSocketSession session = session("session-1", true);
+      Map<String, Object> attributes = new HashMap<>();
+      attributes.put(PushSchema.ATTRIBUTE, PushSchema.V2);
+      when(session.getAttributes()).thenReturn(attributes);
+      wsSessionRegistry.add("user-1", session);
+      String json = "{\"eventId\":\"event-%d\",\"payload\":{\"preview\":{\"actorProfile\":"
+          + "{\"userId\":\"actor-1\",\"nickname\":\"행위자\"}}}}";
+      ArgumentCaptor<TextMessage> captor = ArgumentCaptor.forClass(TextMessage.class);
+
+      //when
+      wsSessionRegistry.emit("user-1", messages(String.format(json, 1)));
+      wsSessionRegistry.emit("user-1", messages(String.format(json, 2)));
+
+      //then
+      verify(session, times(3)).sendMessage(captor.capture());
+      assertThat(captor.getAllValues()).extracting(TextMessage::getPayload).containsExactly(
+          "{\"t\":\"A\",\"id\":\"actor-1\",\"n\":\"행위자\"}",
+          "{\"t\":\"N\",\"id\":\"event-1\",\"a\":\"actor-1\"}",
+          "{\"t\":\"N\",\"id\":\"event-2\",\"a\":\"actor-1\"}");
+    }
+
+    /*[Case #8] 한 세션의 codec 으로 인코딩하지 못해도 다른 세션에는 전송되고 세션은 유지되어야 한다*/
+    @DisplayName("8. 한 세션의 인코딩 실패가 다른 세션 전송을 막지 않고 세션을 유지하는지 검증")
+    @Test
+    void emit_shouldSkipSession_whenEncodingFails() throws Exception {
+      //given
+      WebSocketSession cbor = session("session-1", true);
+      WebSocketSession json = session("session-2", true);
+      when(cbor.getAcceptedProtocol()).thenReturn(CborPushCodec.SUBPROTOCOL);
+      wsSessionRegistry.add("user-1", cbor);
+      wsSessionRegistry.add("user-1", json);
+
+      //when
+      int sent = wsSessionRegistry.emit("user-1", messages("{invalid"));
+
+      //then
+      assertThat(sent).isEqualTo(1);
+      verify(json).sendMessage(new TextMessage("{invalid"));
+      verify(cbor, never()).sendMessage(org.mockito.ArgumentMatchers.any());
+      assertThat(wsSessionRegistry.activeCount("user-1")).isEqualTo(2);
+    }
+
+    /*[Case #9] 탭이 많은 사용자에게는 한 번 인코딩한 메시지 인스턴스가 모든 세션에 전송되어야 한다*/
+    @DisplayName("9. 탭이 많은 사용자의 모든 세션에 같은 메시지 인스턴스가 전송되는지 검증")
+    @Test
+    void emit_shouldSendSameInstance_toEveryTab() throws Exception {
+      //given
+      int tabs = 50;
+      List<WebSocketSession> sessions = new ArrayList<>();
+      for (int tab = 0; tab < tabs; tab++) {
+        WebSocketSession session = session("session-" + tab, true);
+        wsSessionRegistry.add("user-1", session);
+        sessions.add(session);
+      }
+      String json = "{\"type\":\"NOTIFICATION\",\"payload\":{\"preview\":\"좋아요\"}}";
+
+      //when
+      int sent = wsSessionRegistry.emit("user-1", messages(json));
+
+      //then
+      assertThat(sent).isEqualTo(tabs);
+      ArgumentCaptor<TextMessage> captor = ArgumentCaptor.forClass(TextMessage.class);
+      for (WebSocketSession session : sessions) {
+        verify(session).sendMessage(captor.capture());
+      }
+      TextMessage first = captor.getAllValues().get(0);
+      assertThat(first.getPayload()).isEqualTo(json);
+      assertThat(captor.getAllValues()).hasSize(tabs).allSatisfy(
+          message -> assertThat(message).isSameAs(first));
     }
   }
 }
@@ -0,0 +1,171 @@
+package com.threadly.notification.adapter.websocket.notification.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.threadly.notification.adapter.websocket.notification.dto.AckRequest;
+import com.threadly.notification.adapter.websocket.notification.dto.OutEvent;
+import com.threadly.notification.adapter.websocket.notification.dto.WsInboundMessage;
+import com.threadly.notification.core.domain.notification.NotificationType;
+import com.threadly.notification.core.domain.notification.metadata.PostCommentMeta;
+import com.threadly.notification.core.domain.user.ActorProfile;
+import com.threadly.notification.core.port.notification.out.dto.NotificationMessage;
+import com.threadly.notification.core.port.notification.out.dto.NotificationMessage.Payload;
+import com.threadly.notification.core.port.notification.out.dto.preview.PostCommentPreview;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * PushCodec 테스트
+ */
+class PushCodecTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final JsonPushCodec jsonPushCodec = new JsonPushCodec(objectMapper);
+  private final CborPushCodec cborPushCodec = new CborPushCodec(objectMapper);
+  private final PushCodecs pushCodecs = new PushCodecs(jsonPushCodec,
+      List.of(jsonPushCodec, cborPushCodec));
+
+  private static OutEvent event(int seq) {
+    PostCommentMeta metadata = new PostCommentMeta("post-1", "comment-" + seq, "댓글 내용입니다");
+    return new OutEvent(new NotificationMessage(
+        "event-" + seq,
+        String.format("65a%021x", seq),
+        new Payload(
+            NotificationType.COMMENT_ADDED,
+            metadata,
+            new PostCommentPreview(new ActorProfile("actor-1", "행위자",
+                "https://cdn.threadly.kr/profile/actor-1.png"), metadata)
+        ),
+        LocalDateTime.of(2024, 1, 1, 12, 0)
+    ));
+  }
+
+  private static WebSocketSession session(String acceptedProtocol) {
+    WebSocketSession session = mock(WebSocketSession.class);
+    when(session.getAcceptedProtocol()).thenReturn(acceptedProtocol);
+    return session;
+  }
+
+  @Nested
+  @DisplayName("codec 선택 테스트")
+  class NegotiationTest {
+
+    /*[Case #1] 협상된 subprotocol 에 맞는 codec 이 선택되어야 한다*/
+    @DisplayName("1. 협상된 subprotocol 에 맞는 codec 이 선택되는지 검증")
+    @Test
+    void of_shouldReturnNegotiatedCodec() throws Exception {
+      //given
+      //when
+      PushCodec cbor = pushCodecs.of(session(CborPushCodec.SUBPROTOCOL));
+      PushCodec json = pushCodecs.of(session(JsonPushCodec.SUBPROTOCOL));
+
+      //then
+      assertThat(cbor).isSameAs(cborPushCodec);
+      assertThat(json).isSameAs(jsonPushCodec);
+      assertThat(pushCodecs.subprotocols())
+          .containsExactly(JsonPushCodec.SUBPROTOCOL, CborPushCodec.SUBPROTOCOL);
+    }
+
+    /*[Case #2] 협상하지 않았거나 알 수 없는 subprotocol 이면 JSON codec 이 선택되어야 한다*/
+    @DisplayName("2. 협상하지 않았거나 알 수 없는 subprotocol 이면 JSON codec 이 선택되는지 검증")
+    @Test
+    void of_shouldReturnJsonCodec_whenNotNegotiated() throws Exception {
+      //given
+      //when
+      PushCodec none = pushCodecs.of(session(null));
+      PushCodec empty = pushCodecs.of(session(""));
+      PushCodec unknown = pushCodecs.of(session("notification.msgpack"));
+
+      //then
+      assertThat(none).isSameAs(jsonPushCodec);
+      assertThat(empty).isSameAs(jsonPushCodec);
+      assertThat(unknown).isSameAs(jsonPushCodec);
+    }
+  }
+
+  @Nested
+  @DisplayName("인코딩/디코딩 테스트")
+  class RoundTripTest {
+
+    /*[Case #1] JSON codec 은 text frame, CBOR codec 은 binary frame 을 만들어야 한다*/
+    @DisplayName("1. JSON codec 은 text frame, CBOR codec 은 binary frame 을 만드는지 검증")
+    @Test
+    void message_shouldMatchFrameType() throws Exception {
+      //given
+      byte[] json = objectMapper.writeValueAsBytes(event(1));
+
+      //when
+      WebSocketMessage<?> text = jsonPushCodec.message(jsonPushCodec.fromJson(json));
+      WebSocketMessage<?> binary = cborPushCodec.message(cborPushCodec.fromJson(json));
+
+      //then
+      assertThat(text).isInstanceOf(TextMessage.class);
+      assertThat(binary).isInstanceOf(BinaryMessage.class);
+      assertThat(binary.getPayloadLength()).isLessThan(text.getPayloadLength());
+    }
+
+    /*[Case #2] JSON frame 을 변환한 CBOR 와 OutEvent 를 바로 인코딩한 CBOR 가 같은 구조여야 한다*/
+    @DisplayName("2. JSON frame 에서 변환한 CBOR 와 OutEvent 를 인코딩한 CBOR 가 같은 구조인지 검증")
+    @Test
+    void fromJson_shouldMatchDirectEncoding() throws Exception {
+      //given
+      OutEvent event = event(1);
+
+      //when
+      byte[] transcoded = cborPushCodec.fromJson(objectMapper.writeValueAsBytes(event));
+      byte[] encoded = cborPushCodec.encode(event);
+
+      //then
+      JsonNode expected = objectMapper.valueToTree(event);
+      assertThat(cborPushCodec.decode(transcoded, JsonNode.class)).isEqualTo(expected);
+      assertThat(cborPushCodec.decode(encoded, JsonNode.class)).isEqualTo(expected);
+    }
+
+    /*[Case #3] CBOR 로 인코딩된 수신 메시지를 디코딩할 수 있어야 한다*/
+    @DisplayName("3. CBOR 로 인코딩된 수신 메시지를 디코딩하는지 검증")
+    @Test
+    void decode_shouldReadInboundMessage() throws Exception {
+      //given
+      byte[] payload = cborPushCodec.encode(Map.of("type", "ACK", "eventId", "event-1"));
+
+      //when
+      WsInboundMessage inbound = cborPushCodec.decode(payload, WsInboundMessage.class);
+
+      //then
+      assertThat(inbound).isInstanceOf(AckRequest.class);
+      assertThat(((AckRequest) inbound).eventId()).isEqualTo("event-1");
+    }
+
+    /*[Case #4] codec 별로 인코딩한 OutEvent 를 그대로 복원하고, CBOR frame 이 JSON frame 보다 작아야 한다*/
+    @DisplayName("4. codec 별 OutEvent 왕복 결과가 같고 CBOR frame 이 JSON frame 보다 작은지 검증")
+    @Test
+    void encodeAndDecode_shouldRoundTrip() throws Exception {
+      //given
+      List<OutEvent> events = List.of(event(1), event(2), event(3));
+
+      for (OutEvent event : events) {
+        //when
+        byte[] json = jsonPushCodec.encode(event);
+        byte[] cbor = cborPushCodec.encode(event);
+
+        //then
+        JsonNode expected = objectMapper.valueToTree(event);
+        assertThat(jsonPushCodec.decode(json, JsonNode.class)).isEqualTo(expected);
+        assertThat(cborPushCodec.decode(cbor, JsonNode.class)).isEqualTo(expected);
+        assertThat(cbor.length).isLessThan(json.length);
+      }
+    }
+  }
+}
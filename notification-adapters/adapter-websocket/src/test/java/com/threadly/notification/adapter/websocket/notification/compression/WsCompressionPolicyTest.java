@@ -0,0 +1,217 @@
+package com.threadly.notification.adapter.websocket.notification.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * WsCompressionPolicy 테스트
+ */
+class WsCompressionPolicyTest {
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private static WebSocketSession session(String id, boolean compressed) {
+    return session(id, compressed, new HashMap<>());
+  }
+
+  private static WebSocketSession session(String id, boolean compressed,
+      Map<String, Object> attributes) {
+    WebSocketSession session = mock(WebSocketSession.class);
+    when(session.getId()).thenReturn(id);
+    when(session.getAttributes()).thenReturn(attributes);
+    when(session.getExtensions()).thenReturn(compressed
+        ? List.of(new WebSocketExtension(WsCompressionPolicy.PERMESSAGE_DEFLATE)) : List.of());
+    return session;
+  }
+
+  private double compressedSessions() {
+    return meterRegistry.get("notification_ws_compressed_sessions").gauge().value();
+  }
+
+  private double declined() {
+    return meterRegistry.get("notification_ws_compression_declined").counter().count();
+  }
+
+  @Nested
+  @DisplayName("압축 허용 테스트")
+  class AcceptsTest {
+
+    /*[Case #1] 압축 세션 수가 max-sessions 에 도달하면 압축을 허용하지 않아야 한다*/
+    @DisplayName("1. 압축 세션 수가 max-sessions 에 도달하면 압축을 거절하는지 검증")
+    @Test
+    void accepts_shouldReturnFalse_whenMaxSessionsReached() throws Exception {
+      //given
+      WsCompressionPolicy policy = new WsCompressionPolicy(meterRegistry, true, 2);
+      policy.opened(session("session-1", true));
+      Map<String, Object> attributes = new HashMap<>();
+      boolean acceptedBelowLimit = policy.reserve(attributes);
+      policy.opened(session("session-2", true, attributes));
+
+      //when
+      boolean accepted = policy.reserve(new HashMap<>());
+
+      //then
+      assertThat(acceptedBelowLimit).isTrue();
+      assertThat(accepted).isFalse();
+      assertThat(declined()).isEqualTo(1.0);
+    }
+
+    /*[Case #2] 압축 세션이 종료되면 다시 압축을 허용해야 한다*/
+    @DisplayName("2. 압축 세션이 종료되면 다시 압축을 허용하는지 검증")
+    @Test
+    void accepts_shouldReturnTrue_afterCompressedSessionClosed() throws Exception {
+      //given
+      WsCompressionPolicy policy = new WsCompressionPolicy(meterRegistry, true, 1);
+      WebSocketSession session = session("session-1", true);
+      policy.opened(session);
+
+      //when
+      policy.closed(session);
+
+      //then
+      assertThat(policy.reserve(new HashMap<>())).isTrue();
+    }
+
+    /*[Case #3] 압축이 비활성화되어 있으면 압축을 허용하지 않아야 한다*/
+    @DisplayName("3. 압축이 비활성화되어 있으면 압축을 거절하는지 검증")
+    @Test
+    void accepts_shouldReturnFalse_whenDisabled() throws Exception {
+      //given
+      WsCompressionPolicy policy = new WsCompressionPolicy(meterRegistry, false, 10);
+
+      //when
+      boolean accepted = policy.reserve(new HashMap<>());
+
+      //then
+      assertThat(accepted).isFalse();
+      assertThat(declined()).isEqualTo(1.0);
+    }
+
+    /*[Case #4] 동시에 들어온 핸드셰이크는 max-sessions 만큼만 예약되어야 한다*/
+    @DisplayName("4. 동시에 들어온 핸드셰이크가 max-sessions 만큼만 예약되는지 검증")
+    @Test
+    void reserve_shouldNotExceedMaxSessions_whenConcurrent() throws Exception {
+      //given
+      WsCompressionPolicy policy = new WsCompressionPolicy(meterRegistry, true, 10);
+      int handshakes = 100;
+      ExecutorService executor = Executors.newFixedThreadPool(8);
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<Boolean>> results = new ArrayList<>();
+
+      //when
+      for (int i = 0; i < handshakes; i++) {
+        Callable<Boolean> handshake = () -> {
+          start.await();
+          return policy.reserve(new ConcurrentHashMap<>());
+        };
+        results.add(executor.submit(handshake));
+      }
+      start.countDown();
+      int reserved = 0;
+      for (Future<Boolean> result : results) {
+        reserved += result.get() ? 1 : 0;
+      }
+      executor.shutdownNow();
+
+      //then
+      assertThat(reserved).isEqualTo(10);
+      assertThat(declined()).isEqualTo(handshakes - 10);
+    }
+
+    /*[Case #5] 압축 없이 연결되었거나 핸드셰이크가 실패하면 예약이 반납되어야 한다*/
+    @DisplayName("5. 압축 없이 연결되었거나 핸드셰이크가 실패하면 예약이 반납되는지 검증")
+    @Test
+    void reserve_shouldBeReleased_whenNotCompressedOrCancelled() throws Exception {
+      //given
+      WsCompressionPolicy policy = new WsCompressionPolicy(meterRegistry, true, 1);
+      Map<String, Object> uncompressed = new HashMap<>();
+      policy.reserve(uncompressed);
+      policy.opened(session("session-1", false, uncompressed));
+      Map<String, Object> failed = new HashMap<>();
+      policy.reserve(failed);
+
+      //when
+      policy.cancel(failed);
+
+      //then
+      assertThat(policy.reserve(new HashMap<>())).isTrue();
+      assertThat(compressedSessions()).isEqualTo(0.0);
+    }
+
+    /*[Case #6] 협상 결과를 기록하기 전에 종료된 세션의 예약은 종료 시 반납되어야 한다*/
+    @DisplayName("6. 협상 결과 기록 전에 종료된 세션의 예약이 종료 시 반납되는지 검증")
+    @Test
+    void closed_shouldReleaseReservation_whenNotOpened() throws Exception {
+      //given
+      WsCompressionPolicy policy = new WsCompressionPolicy(meterRegistry, true, 1);
+      Map<String, Object> attributes = new HashMap<>();
+      policy.reserve(attributes);
+
+      //when
+      policy.closed(session("session-1", true, attributes));
+
+      //then
+      assertThat(attributes).doesNotContainKey(WsCompressionPolicy.RESERVED_ATTRIBUTE);
+      assertThat(policy.reserve(new HashMap<>())).isTrue();
+    }
+  }
+
+  @Nested
+  @DisplayName("압축 세션 집계 테스트")
+  class SessionCountTest {
+
+    /*[Case #1] 압축을 협상한 세션만 집계되어야 한다*/
+    @DisplayName("1. 압축을 협상한 세션만 집계되는지 검증")
+    @Test
+    void opened_shouldCountOnlyCompressedSessions() throws Exception {
+      //given
+      WsCompressionPolicy policy = new WsCompressionPolicy(meterRegistry, true, 10);
+
+      //when
+      policy.opened(session("session-1", true));
+      policy.opened(session("session-2", false));
+
+      //then
+      assertThat(compressedSessions()).isEqualTo(1.0);
+    }
+
+    /*[Case #2] 같은 세션을 여러 번 기록하거나 제거해도 한 번만 반영되어야 한다*/
+    @DisplayName("2. 같은 세션의 중복 기록, 중복 제거가 한 번만 반영되는지 검증")
+    @Test
+    void openedAndClosed_shouldBeIdempotent() throws Exception {
+      //given
+      WsCompressionPolicy policy = new WsCompressionPolicy(meterRegistry, true, 10);
+      WebSocketSession session = session("session-1", true);
+
+      //when
+      policy.opened(session);
+      policy.opened(session);
+      double afterOpened = compressedSessions();
+      policy.closed(session);
+      policy.closed(session);
+
+      //then
+      assertThat(afterOpened).isEqualTo(1.0);
+      assertThat(compressedSessions()).isEqualTo(0.0);
+    }
+  }
+}
@@ -0,0 +1,284 @@
+package com.threadly.notification.adapter.websocket.notification.fanout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.threadly.notification.adapter.websocket.notification.WsSessionRegistry;
+import com.threadly.notification.adapter.websocket.notification.codec.JsonPushCodec;
+import com.threadly.notification.adapter.websocket.notification.codec.PushCodecs;
+import com.threadly.notification.adapter.websocket.notification.presence.InMemoryPushPresenceAdapter;
+import com.threadly.notification.adapter.websocket.notification.presence.PushPresenceDirectory;
+import com.threadly.notification.adapter.websocket.notification.replay.ReplayFrame;
+import com.threadly.notification.adapter.websocket.notification.replay.WsReplayBuffer;
+import com.threadly.notification.adapter.websocket.notification.schema.CompactPushTranscoder;
+import com.threadly.notification.core.port.notification.out.PushFanoutPort;
+import com.threadly.notification.core.port.notification.out.dto.PushFrame;
+import com.threadly.notification.core.port.notification.out.dto.PushPayload;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * PushFanoutRelay 테스트
+ */
+class PushFanoutRelayTest {
+
+  private final InMemoryPushFanoutAdapter bus = new InMemoryPushFanoutAdapter();
+  private final InMemoryPushPresenceAdapter presence = new InMemoryPushPresenceAdapter();
+
+  private Node nodeA;
+  private Node nodeB;
+
+  /**
+   * 같은 bus, presence 를 공유하는 노드
+   */
+  private class Node {
+
+    final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    final WsSessionRegistry registry = new WsSessionRegistry(meterRegistry, 16);
+    final PushPresenceDirectory directory;
+    final WsReplayBuffer replayBuffer = new WsReplayBuffer(meterRegistry, 16, 1 << 20, 0L);
+    final PushFanoutRelay relay;
+
+    Node(PushFanoutPort pushFanoutPort) {
+      directory = new PushPresenceDirectory(presence, registry, meterRegistry, 30000L, 0L);
+      JsonPushCodec jsonPushCodec = new JsonPushCodec(new ObjectMapper());
+      relay = new PushFanoutRelay(pushFanoutPort, registry, directory, replayBuffer,
+          new CompactPushTranscoder(new ObjectMapper()),
+          new PushCodecs(jsonPushCodec, List.of(jsonPushCodec)), meterRegistry);
+      relay.afterPropertiesSet();
+    }
+
+    WebSocketSession connect(String userId) {
+      WebSocketSession session = mock(WebSocketSession.class);
+      when(session.getId()).thenReturn(userId + "-session");
+      when(session.isOpen()).thenReturn(true);
+      registry.add(userId, session);
+      directory.connected(userId);
+      return session;
+    }
+
+    double frames(String result) {
+      return meterRegistry.get("notification_push_fanout_frames").tag("result", result)
+          .counter().count();
+    }
+
+    Timer latency(String origin) {
+      return meterRegistry.get("notification_push_fanout_latency").tag("origin", origin).timer();
+    }
+  }
+
+  @BeforeEach
+  void setUp() {
+    nodeA = new Node(bus);
+    nodeB = new Node(bus);
+  }
+
+  @Nested
+  @DisplayName("노드 간 전달 테스트")
+  class RouteTest {
+
+    /*[Case #1] 다른 노드에 연결된 사용자에게 푸시가 전달되어야 한다*/
+    @DisplayName("1. 다른 노드에 연결된 사용자에게 푸시가 전달되는지 검증")
+    @Test
+    void route_shouldDeliverToRemoteNodeSessions() throws Exception {
+      //given
+      WebSocketSession session = nodeB.connect("user-1");
+
+      //when
+      nodeA.relay.route("user-1", "sort-1", () -> PushPayload.of("{\"payload\":1}"));
+
+      //then
+      verify(session).sendMessage(new TextMessage("{\"payload\":1}"));
+      assertThat(nodeB.frames("delivered")).isEqualTo(1.0);
+      assertThat(nodeB.latency("remote").count()).isEqualTo(1L);
+    }
+
+    /*[Case #2] 세션이 없는 노드에는 frame 을 발행하지 않아야 한다*/
+    @DisplayName("2. 세션이 없는 노드에는 frame 을 발행하지 않는지 검증")
+    @Test
+    void route_shouldPublishOnlyToOwningNodes() throws Exception {
+      //given
+      PushFanoutPort spyBus = mock(PushFanoutPort.class);
+      Node origin = new Node(spyBus);
+      nodeB.connect("user-1");
+
+      //when
+      origin.relay.route("user-1", "sort-1", () -> PushPayload.of("payload"));
+
+      //then
+      verify(spyBus, times(1)).publish(anyString(), any(PushFrame.class));
+      verify(spyBus).publish(eq(nodeB.directory.nodeId()), any(PushFrame.class));
+    }
+
+    /*[Case #3] 이 노드에 연결된 세션은 bus 를 거치지 않고 전송되어야 한다*/
+    @DisplayName("3. 이 노드에 연결된 세션은 bus 를 거치지 않고 전송되는지 검증")
+    @Test
+    void route_shouldDeliverLocally_withoutPublishing() throws Exception {
+      //given
+      PushFanoutPort spyBus = mock(PushFanoutPort.class);
+      Node origin = new Node(spyBus);
+      WebSocketSession session = origin.connect("user-1");
+
+      //when
+      origin.relay.route("user-1", "sort-1", () -> PushPayload.of("payload"));
+
+      //then
+      verify(session).sendMessage(new TextMessage("payload"));
+      verify(spyBus, never()).publish(anyString(), any(PushFrame.class));
+      assertThat(origin.latency("local").count()).isEqualTo(1L);
+    }
+
+    /*[Case #4] 세션을 가진 노드가 없으면 직렬화하지 않아야 한다*/
+    @DisplayName("4. 세션을 가진 노드가 없으면 직렬화하지 않는지 검증")
+    @Test
+    void route_shouldSkipSerialization_whenUserIsOffline() throws Exception {
+      //given
+      AtomicInteger serialized = new AtomicInteger();
+
+      //when
+      nodeA.relay.route("user-1", "sort-1", () -> {
+        serialized.incrementAndGet();
+        return PushPayload.of("payload");
+      });
+
+      //then
+      assertThat(serialized.get()).isZero();
+      assertThat(nodeA.frames("offline")).isEqualTo(1.0);
+    }
+
+    /*[Case #5] 세션이 종료되면 더 이상 전달되지 않아야 한다*/
+    @DisplayName("5. 세션이 종료되면 더 이상 전달되지 않는지 검증")
+    @Test
+    void route_shouldStopDelivering_afterDisconnect() throws Exception {
+      //given
+      WebSocketSession session = nodeB.connect("user-1");
+      nodeB.registry.remove("user-1", session);
+      nodeB.directory.disconnected("user-1");
+
+      //when
+      nodeA.relay.route("user-1", "sort-1", () -> PushPayload.of("payload"));
+
+      //then
+      verify(session, never()).sendMessage(any());
+      assertThat(nodeA.frames("offline")).isEqualTo(1.0);
+    }
+
+    /*[Case #6] 발행에 실패해도 다른 노드 전달은 계속되어야 한다*/
+    @DisplayName("6. 발행에 실패해도 다른 노드 전달은 계속되는지 검증")
+    @Test
+    void route_shouldContinue_whenPublishFails() throws Exception {
+      //given
+      PushFanoutPort brokenBus = mock(PushFanoutPort.class);
+      doThrow(new IllegalStateException("redis down")).when(brokenBus)
+          .publish(anyString(), any(PushFrame.class));
+      Node origin = new Node(brokenBus);
+      WebSocketSession local = origin.connect("user-1");
+      nodeB.connect("user-1");
+
+      //when
+      origin.relay.route("user-1", "sort-1", () -> PushPayload.of("payload"));
+
+      //then
+      verify(local).sendMessage(new TextMessage("payload"));
+      verify(brokenBus, times(1)).publish(anyString(), any(PushFrame.class));
+      assertThat(origin.frames("publish_failed")).isEqualTo(1.0);
+    }
+  }
+
+  @Nested
+  @DisplayName("재전송 버퍼 보관 테스트")
+  class ReplayBufferTest {
+
+    /*[Case #1] 로컬 세션에 전송한 frame 은 재전송 버퍼에 보관되어야 한다*/
+    @DisplayName("1. 로컬 세션에 전송한 frame 이 재전송 버퍼에 보관되는지 검증")
+    @Test
+    void deliver_shouldRecordDeliveredFrame() throws Exception {
+      //given
+      nodeB.connect("user-1");
+
+      //when
+      nodeA.relay.route("user-1", "sort-2", () -> PushPayload.of("payload-2"));
+
+      //then
+      assertThat(nodeB.replayBuffer.framesAfter("user-1", "sort-1", 10)).isEmpty();
+      assertThat(nodeB.replayBuffer.framesAfter("user-1", "sort-2", 10)).contains(List.of());
+      assertThat(nodeA.replayBuffer.framesAfter("user-1", "sort-2", 10)).isEmpty();
+    }
+
+    /*[Case #2] 이 노드에 세션이 없으면 frame 을 보관하지 않아야 한다*/
+    @DisplayName("2. 이 노드에 세션이 없으면 frame 을 보관하지 않는지 검증")
+    @Test
+    void deliver_shouldNotRecord_whenNoLocalSession() throws Exception {
+      //given
+      //when
+      nodeA.relay.deliver(
+          new PushFrame("user-1", "sort-1", PushPayload.of("payload"), "node-x", 0L));
+
+      //then
+      assertThat(nodeA.replayBuffer.framesAfter("user-1", "sort-1", 10)).isEmpty();
+      assertThat(nodeA.frames("skipped")).isEqualTo(1.0);
+    }
+
+    /*[Case #3] 보관된 frame 은 sortId 이후로 조회되어야 한다*/
+    @DisplayName("3. 보관된 frame 이 sortId 이후로 조회되는지 검증")
+    @Test
+    void deliver_shouldServeRecordedFramesAfterSortId() throws Exception {
+      //given
+      nodeA.connect("user-1");
+
+      //when
+      nodeA.relay.route("user-1", "sort-1", () -> PushPayload.of("payload-1"));
+      nodeA.relay.route("user-1", "sort-2", () -> PushPayload.of("payload-2"));
+      nodeA.relay.route("user-1", "sort-3", () -> PushPayload.of("payload-3"));
+
+      //then
+      assertThat(nodeA.replayBuffer.framesAfter("user-1", "sort-1", 10))
+          .contains(List.of(new ReplayFrame("sort-2", PushPayload.of("payload-2")),
+              new ReplayFrame("sort-3", PushPayload.of("payload-3"))));
+    }
+  }
+
+  @Nested
+  @DisplayName("전달 지연 측정 테스트")
+  class LatencyTest {
+
+    /*[Case #1] 발행부터 전송까지의 지연이 측정되어야 한다*/
+    @DisplayName("1. 발행부터 전송까지의 지연이 측정되는지 검증")
+    @Test
+    void route_shouldMeasurePublishToDeliverLatency() throws Exception {
+      //given
+      int users = 100;
+      int frames = 10_000;
+      for (int i = 0; i < users; i++) {
+        nodeB.connect("user-" + i);
+      }
+
+      //when
+      for (int i = 0; i < frames; i++) {
+        nodeA.relay.route("user-" + (i % users), null, () -> PushPayload.of("payload"));
+      }
+
+      //then
+      Timer timer = nodeB.latency("remote");
+      assertThat(timer.count()).isEqualTo(frames);
+    }
+  }
+}
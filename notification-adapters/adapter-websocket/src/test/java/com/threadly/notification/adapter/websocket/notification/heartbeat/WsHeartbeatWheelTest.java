@@ -0,0 +1,253 @@
+package com.threadly.notification.adapter.websocket.notification.heartbeat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * WsHeartbeatWheel 테스트
+ */
+class WsHeartbeatWheelTest {
+
+  private static final int WHEEL_SIZE = 15;
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private WsHeartbeatWheel wheel(long pongTimeoutMillis) {
+    return new WsHeartbeatWheel(meterRegistry, 1000L, WHEEL_SIZE * 1000L, pongTimeoutMillis);
+  }
+
+  private WebSocketSession session(String id, boolean open) {
+    WebSocketSession session = mock(WebSocketSession.class);
+    when(session.getId()).thenReturn(id);
+    when(session.isOpen()).thenReturn(open);
+    return session;
+  }
+
+  private static void rotate(WsHeartbeatWheel wheel, int ticks) {
+    for (int i = 0; i < ticks; i++) {
+      wheel.tick();
+    }
+  }
+
+  private double count(String result) {
+    return meterRegistry.get("notification_ws_heartbeat").tag("result", result).counter().count();
+  }
+
+  @Nested
+  @DisplayName("ping 전송 테스트")
+  class PingTest {
+
+    /*[Case #1] 등록 후 wheel 이 한 바퀴 돌 때마다 ping 이 한 번 전송되어야 한다*/
+    @DisplayName("1. 등록 후 wheel 이 한 바퀴 돌 때마다 ping 이 한 번 전송되는지 검증")
+    @Test
+    void tick_shouldPingOncePerRotation() throws Exception {
+      //given
+      WsHeartbeatWheel wheel = wheel(60_000L);
+      rotate(wheel, 3);
+      WebSocketSession session = session("session-1", true);
+      wheel.register(session);
+
+      //when
+      rotate(wheel, WHEEL_SIZE - 1);
+      verify(session, never()).sendMessage(any());
+      rotate(wheel, 1);
+      rotate(wheel, WHEEL_SIZE);
+
+      //then
+      verify(session, times(2)).sendMessage(any(PingMessage.class));
+    }
+
+    /*[Case #2] 한 tick 에는 해당 bucket 의 세션에만 ping 이 전송되어야 한다*/
+    @DisplayName("2. 한 tick 에는 해당 bucket 의 세션에만 ping 이 전송되는지 검증")
+    @Test
+    void tick_shouldOnlyVisitCurrentBucket() throws Exception {
+      //given
+      WsHeartbeatWheel wheel = wheel(60_000L);
+      WebSocketSession first = session("session-1", true);
+      wheel.register(first);
+      rotate(wheel, 1);
+      WebSocketSession second = session("session-2", true);
+      wheel.register(second);
+
+      //when
+      rotate(wheel, WHEEL_SIZE - 1);
+
+      //then
+      verify(first).sendMessage(any(PingMessage.class));
+      verify(second, never()).sendMessage(any());
+    }
+
+    /*[Case #3] ping 전송에 실패해도 세션은 다음 순회 대상으로 남아야 한다*/
+    @DisplayName("3. ping 전송에 실패해도 세션은 다음 순회 대상으로 남는지 검증")
+    @Test
+    void tick_shouldKeepSession_whenPingFails() throws Exception {
+      //given
+      WsHeartbeatWheel wheel = wheel(60_000L);
+      WebSocketSession session = session("session-1", true);
+      doThrow(new IOException("broken pipe")).when(session).sendMessage(any());
+      wheel.register(session);
+
+      //when
+      rotate(wheel, WHEEL_SIZE);
+
+      //then
+      assertThat(wheel.size()).isEqualTo(1);
+      assertThat(count("failed")).isEqualTo(1.0);
+    }
+  }
+
+  @Nested
+  @DisplayName("세션 정리 테스트")
+  class CleanupTest {
+
+    /*[Case #1] 제거된 세션에는 더 이상 ping 이 전송되지 않아야 한다*/
+    @DisplayName("1. 제거된 세션에는 더 이상 ping 이 전송되지 않는지 검증")
+    @Test
+    void unregister_shouldStopPings() throws Exception {
+      //given
+      WsHeartbeatWheel wheel = wheel(60_000L);
+      WebSocketSession session = session("session-1", true);
+      wheel.register(session);
+
+      //when
+      wheel.unregister(session);
+      rotate(wheel, WHEEL_SIZE * 2);
+
+      //then
+      verify(session, never()).sendMessage(any());
+      assertThat(wheel.size()).isZero();
+    }
+
+    /*[Case #2] 닫힌 세션은 순회 시 제거되어야 한다*/
+    @DisplayName("2. 닫힌 세션은 순회 시 제거되는지 검증")
+    @Test
+    void tick_shouldDropClosedSessions() throws Exception {
+      //given
+      WsHeartbeatWheel wheel = wheel(60_000L);
+      WebSocketSession session = session("session-1", false);
+      wheel.register(session);
+
+      //when
+      rotate(wheel, WHEEL_SIZE);
+
+      //then
+      verify(session, never()).sendMessage(any());
+      assertThat(wheel.size()).isZero();
+      assertThat(count("closed")).isEqualTo(1.0);
+    }
+
+    /*[Case #3] pong 타임아웃이 지나면 세션을 닫고 제거해야 한다*/
+    @DisplayName("3. pong 타임아웃이 지나면 세션을 닫고 제거하는지 검증")
+    @Test
+    void tick_shouldCloseSession_whenPongTimesOut() throws Exception {
+      //given
+      WsHeartbeatWheel wheel = wheel(10L);
+      WebSocketSession session = session("session-1", true);
+      wheel.register(session);
+      Thread.sleep(30L);
+
+      //when
+      rotate(wheel, WHEEL_SIZE);
+
+      //then
+      verify(session, timeout(1_000L)).close(any(CloseStatus.class));
+      verify(session, never()).sendMessage(any());
+      assertThat(wheel.size()).isZero();
+      assertThat(count("timeout")).isEqualTo(1.0);
+    }
+
+    /*[Case #4] pong 을 받으면 타임아웃되지 않아야 한다*/
+    @DisplayName("4. pong 을 받으면 타임아웃되지 않는지 검증")
+    @Test
+    void onPong_shouldResetTimeout() throws Exception {
+      //given
+      WsHeartbeatWheel wheel = wheel(200L);
+      WebSocketSession session = session("session-1", true);
+      wheel.register(session);
+      Thread.sleep(250L);
+
+      //when
+      wheel.onPong(session);
+      rotate(wheel, WHEEL_SIZE);
+
+      //then
+      verify(session, never()).close(any(CloseStatus.class));
+      verify(session).sendMessage(any(PingMessage.class));
+    }
+
+    /*[Case #5] 타임아웃 세션 close 가 막혀도 tick 은 같은 bucket 의 다른 세션을 계속 처리해야 한다*/
+    @DisplayName("5. 타임아웃 세션 close 가 막혀도 tick 이 같은 bucket 의 다른 세션을 계속 처리하는지 검증")
+    @Test
+    void tick_shouldNotBlock_whenTimedOutSessionCloseHangs() throws Exception {
+      //given
+      WsHeartbeatWheel wheel = wheel(200L);
+      CountDownLatch release = new CountDownLatch(1);
+      WebSocketSession stalled = session("session-1", true);
+      doAnswer(invocation -> {
+        release.await();
+        return null;
+      }).when(stalled).close(any(CloseStatus.class));
+      WebSocketSession healthy = session("session-2", true);
+      wheel.register(stalled);
+      Thread.sleep(250L);
+      wheel.register(healthy);
+
+      //when
+      rotate(wheel, WHEEL_SIZE);
+
+      //then
+      verify(healthy).sendMessage(any(PingMessage.class));
+      verify(stalled, timeout(1_000L)).close(any(CloseStatus.class));
+      assertThat(wheel.size()).isEqualTo(1);
+      release.countDown();
+      wheel.destroy();
+    }
+  }
+
+  @Nested
+  @DisplayName("대량 세션 테스트")
+  class ScaleTest {
+
+    /*[Case #1] 세션 수와 무관하게 wheel 한 바퀴에 세션마다 ping 이 한 번씩 전송되어야 한다*/
+    @DisplayName("1. 세션 수와 무관하게 wheel 한 바퀴에 세션마다 ping 이 한 번씩 전송되는지 검증")
+    @Test
+    void tick_shouldPingEverySessionOncePerRotation() throws Exception {
+      //given
+      WsHeartbeatWheel wheel = wheel(60_000L);
+      int sessions = 5_000;
+      for (int i = 0; i < sessions; i++) {
+        wheel.register(session("session-" + i, true));
+        if (i % 500 == 0) {
+          wheel.tick();
+        }
+      }
+      double before = count("ping");
+
+      //when
+      rotate(wheel, WHEEL_SIZE);
+
+      //then
+      assertThat(count("ping") - before).isEqualTo(sessions);
+      assertThat(wheel.size()).isEqualTo(sessions);
+    }
+  }
+}
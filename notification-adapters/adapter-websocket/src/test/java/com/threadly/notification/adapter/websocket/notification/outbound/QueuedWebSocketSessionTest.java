@@ -0,0 +1,429 @@
+package com.threadly.notification.adapter.websocket.notification.outbound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * QueuedWebSocketSession 테스트
+ */
+class QueuedWebSocketSessionTest {
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final OutboundQueueMetrics metrics = new OutboundQueueMetrics(meterRegistry);
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+  private final ScheduledExecutorService batchScheduler =
+      Executors.newSingleThreadScheduledExecutor();
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+    batchScheduler.shutdownNow();
+  }
+
+  private WebSocketSession delegate() {
+    WebSocketSession delegate = mock(WebSocketSession.class);
+    when(delegate.getId()).thenReturn("session-1");
+    when(delegate.isOpen()).thenReturn(true);
+    return delegate;
+  }
+
+  private QueuedWebSocketSession queued(WebSocketSession delegate, long sendTimeLimitMillis,
+      int bufferSizeLimit) {
+    return new QueuedWebSocketSession(delegate, executor, sendTimeLimitMillis, bufferSizeLimit,
+        metrics);
+  }
+
+  private QueuedWebSocketSession batched(WebSocketSession delegate, long windowMillis,
+      int maxFrameBytes) {
+    return new QueuedWebSocketSession(delegate, executor, 60_000L, 1024 * 1024, metrics,
+        batchScheduler, windowMillis, maxFrameBytes);
+  }
+
+  private List<String> recordSent(WebSocketSession delegate) throws IOException {
+    List<String> sent = new CopyOnWriteArrayList<>();
+    doAnswer(invocation -> {
+      sent.add(((WebSocketMessage<?>) invocation.getArgument(0)).getPayload().toString());
+      return null;
+    }).when(delegate).sendMessage(any());
+    return sent;
+  }
+
+  /**
+   * drain 작업이 전송 후 처리까지 끝날 때까지 대기
+   */
+  private void awaitDrained() throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 1000L;
+    while (metrics.depth() > 0 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(5L);
+    }
+  }
+
+  private double evicted(String reason) {
+    return meterRegistry.get("notification_ws_outbound_evicted").tag("reason", reason).counter()
+        .count();
+  }
+
+  @Nested
+  @DisplayName("전송 테스트")
+  class SendTest {
+
+    /*[Case #1] 실제 전송이 막혀 있어도 호출 스레드는 바로 반환되어야 한다*/
+    @DisplayName("1. 실제 전송이 막혀 있어도 호출 스레드는 바로 반환되는지 검증")
+    @Test
+    void sendMessage_shouldNotBlockCaller_whenDelegateIsSlow() throws Exception {
+      //given
+      WebSocketSession delegate = delegate();
+      CountDownLatch release = new CountDownLatch(1);
+      doAnswer(invocation -> {
+        release.await();
+        return null;
+      }).when(delegate).sendMessage(any());
+      QueuedWebSocketSession session = queued(delegate, 60_000L, 1024 * 1024);
+
+      //when
+      long started = System.nanoTime();
+      for (int i = 0; i < 100; i++) {
+        session.sendMessage(new TextMessage("payload-" + i));
+      }
+      long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+      //then
+      assertThat(elapsedMillis).isLessThan(1000L);
+      assertThat(metrics.depth()).isGreaterThanOrEqualTo(99L);
+      release.countDown();
+      verify(delegate, timeout(1000).times(100)).sendMessage(any());
+    }
+
+    /*[Case #2] 여러 스레드가 보내도 세션에는 한 번에 하나씩, 스레드별 순서대로 전송되어야 한다*/
+    @DisplayName("2. 여러 스레드가 보내도 세션에는 한 번에 하나씩, 스레드별 순서대로 전송되는지 검증")
+    @Test
+    void sendMessage_shouldSerializeConcurrentSends() throws Exception {
+      //given
+      WebSocketSession delegate = delegate();
+      AtomicInteger inFlight = new AtomicInteger();
+      AtomicInteger maxInFlight = new AtomicInteger();
+      List<String> received = new CopyOnWriteArrayList<>();
+      doAnswer(invocation -> {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        received.add(((WebSocketMessage<?>) invocation.getArgument(0)).getPayload().toString());
+        inFlight.decrementAndGet();
+        return null;
+      }).when(delegate).sendMessage(any());
+      QueuedWebSocketSession session = queued(delegate, 60_000L, 1024 * 1024);
+      ExecutorService senders = Executors.newFixedThreadPool(4);
+      int perThread = 500;
+
+      //when
+      for (int t = 0; t < 4; t++) {
+        int thread = t;
+        senders.submit(() -> {
+          for (int i = 0; i < perThread; i++) {
+            session.sendMessage(new TextMessage(thread + ":" + i));
+          }
+          return null;
+        });
+      }
+      senders.shutdown();
+      senders.awaitTermination(5, TimeUnit.SECONDS);
+      verify(delegate, timeout(5000).times(4 * perThread)).sendMessage(any());
+
+      //then
+      assertThat(maxInFlight.get()).isEqualTo(1);
+      for (int t = 0; t < 4; t++) {
+        String prefix = t + ":";
+        List<String> ordered = received.stream().filter(p -> p.startsWith(prefix)).toList();
+        assertThat(ordered).hasSize(perThread);
+        for (int i = 0; i < perThread; i++) {
+          assertThat(ordered.get(i)).isEqualTo(prefix + i);
+        }
+      }
+      assertThat(metrics.depth()).isZero();
+    }
+  }
+
+  @Nested
+  @DisplayName("느린 세션 종료 테스트")
+  class EvictionTest {
+
+    /*[Case #1] 송신 버퍼 한도를 넘으면 쌓인 메시지를 버리고 세션을 닫아야 한다*/
+    @DisplayName("1. 송신 버퍼 한도를 넘으면 쌓인 메시지를 버리고 세션을 닫는지 검증")
+    @Test
+    void sendMessage_shouldEvict_whenBufferLimitExceeded() throws Exception {
+      //given
+      WebSocketSession delegate = delegate();
+      CountDownLatch release = new CountDownLatch(1);
+      doAnswer(invocation -> {
+        release.await();
+        return null;
+      }).when(delegate).sendMessage(any());
+      QueuedWebSocketSession session = queued(delegate, 60_000L, 100);
+
+      session.sendMessage(new TextMessage("x".repeat(40)));
+      session.sendMessage(new TextMessage("x".repeat(40)));
+
+      //when
+      //then
+      assertThatThrownBy(() -> session.sendMessage(new TextMessage("x".repeat(40))))
+          .isInstanceOf(IOException.class);
+      verify(delegate).close(any(CloseStatus.class));
+      assertThat(session.isOpen()).isFalse();
+      assertThat(evicted("buffer_limit")).isEqualTo(1.0);
+      assertThat(meterRegistry.get("notification_ws_outbound_dropped").counter().count())
+          .isEqualTo(1.0);
+      release.countDown();
+    }
+
+    /*[Case #2] 하나의 전송이 send-time-limit 보다 오래 걸리면 세션을 닫아야 한다*/
+    @DisplayName("2. 하나의 전송이 send-time-limit 보다 오래 걸리면 세션을 닫는지 검증")
+    @Test
+    void sendMessage_shouldEvict_whenSendTimeLimitExceeded() throws Exception {
+      //given
+      WebSocketSession delegate = delegate();
+      CountDownLatch sending = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      doAnswer(invocation -> {
+        sending.countDown();
+        release.await();
+        return null;
+      }).when(delegate).sendMessage(any());
+      QueuedWebSocketSession session = queued(delegate, 50L, 1024 * 1024);
+      session.sendMessage(new TextMessage("first"));
+      sending.await(1, TimeUnit.SECONDS);
+      Thread.sleep(100L);
+
+      //when
+      //then
+      assertThatThrownBy(() -> session.sendMessage(new TextMessage("second")))
+          .isInstanceOf(IOException.class);
+      verify(delegate).close(any(CloseStatus.class));
+      assertThat(evicted("send_time_limit")).isEqualTo(1.0);
+      release.countDown();
+    }
+
+    /*[Case #3] 전송에 실패하면 세션을 닫아야 한다*/
+    @DisplayName("3. 전송에 실패하면 세션을 닫는지 검증")
+    @Test
+    void drain_shouldEvict_whenSendFails() throws Exception {
+      //given
+      WebSocketSession delegate = delegate();
+      doThrow(new IOException("broken pipe")).when(delegate).sendMessage(any());
+      QueuedWebSocketSession session = queued(delegate, 60_000L, 1024 * 1024);
+
+      //when
+      session.sendMessage(new TextMessage("payload"));
+
+      //then
+      verify(delegate, timeout(1000)).close(any(CloseStatus.class));
+      assertThat(session.isOpen()).isFalse();
+      assertThat(evicted("send_failed")).isEqualTo(1.0);
+    }
+
+    /*[Case #4] 새 메시지가 없어도 감시 작업이 send-time-limit 을 넘긴 세션을 닫아야 한다*/
+    @DisplayName("4. 새 메시지가 없어도 감시 작업이 send-time-limit 을 넘긴 세션을 닫는지 검증")
+    @Test
+    void evictIfSendTimedOut_shouldEvictStalledSession() throws Exception {
+      //given
+      WebSocketSession delegate = delegate();
+      CountDownLatch sending = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      doAnswer(invocation -> {
+        sending.countDown();
+        release.await();
+        return null;
+      }).when(delegate).sendMessage(any());
+      QueuedWebSocketSession session = queued(delegate, 200L, 1024 * 1024);
+      session.sendMessage(new TextMessage("first"));
+      sending.await(1, TimeUnit.SECONDS);
+      boolean beforeLimit = session.evictIfSendTimedOut(Runnable::run);
+      Thread.sleep(300L);
+
+      //when
+      boolean evicted = session.evictIfSendTimedOut(Runnable::run);
+
+      //then
+      assertThat(beforeLimit).isFalse();
+      assertThat(evicted).isTrue();
+      assertThat(session.evictIfSendTimedOut(Runnable::run)).isFalse();
+      assertThat(session.isOpen()).isFalse();
+      verify(delegate).close(any(CloseStatus.class));
+      assertThat(evicted("send_time_limit")).isEqualTo(1.0);
+      release.countDown();
+    }
+
+    /*[Case #5] 세션 종료 사유별 지표는 종료 전부터 등록되어 있어야 한다*/
+    @DisplayName("5. 세션 종료 사유별 지표가 종료 전부터 등록되어 있는지 검증")
+    @Test
+    void metrics_shouldRegisterEvictReasonsUpfront() throws Exception {
+      //given
+      //when
+      //then
+      for (String reason : List.of("send_time_limit", "buffer_limit", "send_failed",
+          "rejected")) {
+        assertThat(evicted(reason)).isZero();
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("푸시 batching 테스트")
+  class BatchingTest {
+
+    /*[Case #1] batch-window 안에 들어온 푸시는 하나의 NOTIFICATIONS frame 으로 전송되어야 한다*/
+    @DisplayName("1. batch-window 안에 들어온 푸시가 하나의 NOTIFICATIONS frame 으로 전송되는지 검증")
+    @Test
+    void sendPush_shouldCoalescePushesWithinWindow() throws Exception {
+      //given
+      WebSocketSession delegate = delegate();
+      List<String> sent = recordSent(delegate);
+      QueuedWebSocketSession session = batched(delegate, 100L, 64 * 1024);
+
+      //when
+      for (int i = 1; i <= 3; i++) {
+        session.sendPush(new TextMessage("{\"n\":" + i + "}"));
+      }
+
+      //then
+      verify(delegate, timeout(1000)).sendMessage(any());
+      awaitDrained();
+      assertThat(sent).containsExactly(
+          "{\"type\":\"NOTIFICATIONS\",\"events\":[{\"n\":1},{\"n\":2},{\"n\":3}]}");
+      assertThat(meterRegistry.get("notification_ws_outbound_batch_size").summary().max())
+          .isEqualTo(3.0);
+      assertThat(meterRegistry.get("notification_ws_outbound_frames").tag("kind", "push")
+          .counter().count()).isEqualTo(1.0);
+      assertThat(session.bufferedBytes()).isZero();
+      assertThat(metrics.depth()).isZero();
+    }
+
+    /*[Case #2] max-frame-bytes 를 넘으면 여러 frame 으로 나누어 전송되어야 한다*/
+    @DisplayName("2. max-frame-bytes 를 넘으면 여러 frame 으로 나누어 전송되는지 검증")
+    @Test
+    void sendPush_shouldSplitFrames_whenMaxFrameBytesExceeded() throws Exception {
+      //given
+      WebSocketSession delegate = delegate();
+      List<String> sent = recordSent(delegate);
+      int twoPushes = "{\"type\":\"NOTIFICATIONS\",\"events\":[{\"n\":1},{\"n\":2}]}".length();
+      QueuedWebSocketSession session = batched(delegate, 100L, twoPushes);
+
+      //when
+      for (int i = 1; i <= 5; i++) {
+        session.sendPush(new TextMessage("{\"n\":" + i + "}"));
+      }
+
+      //then
+      verify(delegate, timeout(1000).times(3)).sendMessage(any());
+      assertThat(sent).containsExactly(
+          "{\"type\":\"NOTIFICATIONS\",\"events\":[{\"n\":1},{\"n\":2}]}",
+          "{\"type\":\"NOTIFICATIONS\",\"events\":[{\"n\":3},{\"n\":4}]}",
+          "{\"n\":5}");
+    }
+
+    /*[Case #3] 푸시가 아닌 메시지는 합치지 않고 순서를 유지해야 한다*/
+    @DisplayName("3. 푸시가 아닌 메시지는 합치지 않고 순서를 유지하는지 검증")
+    @Test
+    void sendPush_shouldKeepOrder_whenOtherMessageIsQueued() throws Exception {
+      //given
+      WebSocketSession delegate = delegate();
+      List<String> sent = recordSent(delegate);
+      QueuedWebSocketSession session = batched(delegate, 100L, 64 * 1024);
+
+      //when
+      session.sendPush(new TextMessage("{\"n\":1}"));
+      session.sendMessage(new TextMessage("resync"));
+      session.sendPush(new TextMessage("{\"n\":2}"));
+      session.sendPush(new TextMessage("{\"n\":3}"));
+
+      //then
+      verify(delegate, timeout(1000).times(3)).sendMessage(any());
+      awaitDrained();
+      assertThat(sent).containsExactly(
+          "{\"n\":1}",
+          "resync",
+          "{\"type\":\"NOTIFICATIONS\",\"events\":[{\"n\":2},{\"n\":3}]}");
+      assertThat(meterRegistry.get("notification_ws_outbound_frames").tag("kind", "other")
+          .counter().count()).isEqualTo(1.0);
+    }
+
+    /*[Case #4] batching 이 꺼져 있으면 푸시를 하나씩 전송해야 한다*/
+    @DisplayName("4. batching 이 꺼져 있으면 푸시를 하나씩 전송하는지 검증")
+    @Test
+    void sendPush_shouldSendEachPush_whenBatchingDisabled() throws Exception {
+      //given
+      WebSocketSession delegate = delegate();
+      List<String> sent = recordSent(delegate);
+      QueuedWebSocketSession session = queued(delegate, 60_000L, 1024 * 1024);
+
+      //when
+      for (int i = 1; i <= 3; i++) {
+        session.sendPush(new TextMessage("{\"n\":" + i + "}"));
+      }
+
+      //then
+      verify(delegate, timeout(1000).times(3)).sendMessage(any());
+      awaitDrained();
+      assertThat(sent).containsExactly("{\"n\":1}", "{\"n\":2}", "{\"n\":3}");
+      assertThat(meterRegistry.get("notification_ws_outbound_batch_size").summary().count())
+          .isEqualTo(3L);
+    }
+    }
+
+    /*[Case #5] binary 푸시는 합치지 않고, 전송하며 buffer 가 소비되어도 송신 큐 크기가 정리되어야 한다*/
+    @DisplayName("5. binary 푸시를 합치지 않고 전송 후 송신 큐 크기가 정리되는지 검증")
+    @Test
+    void sendPush_shouldSendBinaryPushesSeparately() throws Exception {
+      //given
+      WebSocketSession delegate = delegate();
+      AtomicInteger sentBytes = new AtomicInteger();
+      doAnswer(invocation -> {
+        /*컨테이너처럼 전송하면서 buffer 를 소비*/
+        ByteBuffer payload = ((BinaryMessage) invocation.getArgument(0)).getPayload();
+        sentBytes.addAndGet(payload.remaining());
+        payload.position(payload.limit());
+        return null;
+      }).when(delegate).sendMessage(any());
+      QueuedWebSocketSession session = batched(delegate, 100L, 64 * 1024);
+
+      //when
+      for (int i = 1; i <= 3; i++) {
+        session.sendPush(new BinaryMessage(new byte[]{(byte) 0xa1, (byte) i}));
+      }
+
+      //then
+      verify(delegate, timeout(1000).times(3)).sendMessage(any());
+      awaitDrained();
+      assertThat(sentBytes.get()).isEqualTo(6);
+      assertThat(session.bufferedBytes()).isZero();
+      assertThat(meterRegistry.get("notification_ws_outbound_batch_size").summary().max())
+          .isEqualTo(1.0);
+    }
+  }
+}
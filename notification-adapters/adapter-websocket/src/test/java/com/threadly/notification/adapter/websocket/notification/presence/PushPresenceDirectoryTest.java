@@ -0,0 +1,206 @@
+package com.threadly.notification.adapter.websocket.notification.presence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.threadly.notification.adapter.websocket.notification.WsSessionRegistry;
+import com.threadly.notification.core.port.notification.out.PushPresencePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * PushPresenceDirectory 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class PushPresenceDirectoryTest {
+
+  @Mock
+  private PushPresencePort pushPresencePort;
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final WsSessionRegistry wsSessionRegistry = new WsSessionRegistry(meterRegistry, 16);
+
+  private PushPresenceDirectory pushPresenceDirectory;
+
+  @BeforeEach
+  void setUp() {
+    pushPresenceDirectory = new PushPresenceDirectory(pushPresencePort, wsSessionRegistry,
+        meterRegistry, 30000L, 60000L);
+  }
+
+  private WebSocketSession openSession(String userId) {
+    WebSocketSession session = mock(WebSocketSession.class);
+    lenient().when(session.getId()).thenReturn(userId + "-session");
+    lenient().when(session.isOpen()).thenReturn(true);
+    wsSessionRegistry.add(userId, session);
+    return session;
+  }
+
+  @Nested
+  @DisplayName("등록/제거 테스트")
+  class RegisterTest {
+
+    /*[Case #1] 세션이 연결되면 lease 와 함께 이 노드가 등록되어야 한다*/
+    @DisplayName("1. 세션이 연결되면 lease 와 함께 이 노드가 등록되는지 검증")
+    @Test
+    void connected_shouldRegisterNodeWithLease() throws Exception {
+      //given
+      openSession("user-1");
+
+      //when
+      pushPresenceDirectory.connected("user-1");
+
+      //then
+      verify(pushPresencePort).register("user-1", pushPresenceDirectory.nodeId(),
+          Duration.ofMillis(30000L));
+    }
+
+    /*[Case #2] 이 노드에 세션이 남아 있으면 등록이 제거되지 않아야 한다*/
+    @DisplayName("2. 이 노드에 세션이 남아 있으면 등록이 제거되지 않는지 검증")
+    @Test
+    void disconnected_shouldKeepRegistration_whenSessionsRemain() throws Exception {
+      //given
+      openSession("user-1");
+
+      //when
+      pushPresenceDirectory.disconnected("user-1");
+
+      //then
+      verify(pushPresencePort, never()).unregister(anyString(), anyString());
+    }
+
+    /*[Case #3] 마지막 세션이 종료되면 등록이 제거되어야 한다*/
+    @DisplayName("3. 마지막 세션이 종료되면 등록이 제거되는지 검증")
+    @Test
+    void disconnected_shouldUnregister_whenLastSessionCloses() throws Exception {
+      //given
+      WebSocketSession session = openSession("user-1");
+      wsSessionRegistry.remove("user-1", session);
+
+      //when
+      pushPresenceDirectory.disconnected("user-1");
+
+      //then
+      verify(pushPresencePort).unregister("user-1", pushPresenceDirectory.nodeId());
+    }
+  }
+
+  @Nested
+  @DisplayName("nodesOf 테스트")
+  class NodesOfTest {
+
+    /*[Case #1] cache-ttl 동안은 presence 를 다시 조회하지 않아야 한다*/
+    @DisplayName("1. cache-ttl 동안은 presence 를 다시 조회하지 않는지 검증")
+    @Test
+    void nodesOf_shouldUseCache_withinTtl() throws Exception {
+      //given
+      when(pushPresencePort.nodesOf("user-1")).thenReturn(Set.of("node-2"));
+
+      //when
+      Set<String> first = pushPresenceDirectory.nodesOf("user-1");
+      Set<String> second = pushPresenceDirectory.nodesOf("user-1");
+
+      //then
+      assertThat(first).containsExactly("node-2");
+      assertThat(second).containsExactly("node-2");
+      verify(pushPresencePort, times(1)).nodesOf("user-1");
+      assertThat(meterRegistry.get("notification_push_presence_lookup").tag("result", "hit")
+          .counter().count()).isEqualTo(1.0);
+    }
+
+    /*[Case #2] 이 노드의 세션 여부는 캐시보다 로컬 세션 기준으로 판단해야 한다*/
+    @DisplayName("2. 이 노드의 세션 여부는 캐시보다 로컬 세션 기준으로 판단하는지 검증")
+    @Test
+    void nodesOf_shouldReflectLocalSessions_overCache() throws Exception {
+      //given
+      when(pushPresencePort.nodesOf("user-1")).thenReturn(Set.of("node-2"));
+      pushPresenceDirectory.nodesOf("user-1");
+      openSession("user-1");
+
+      //when
+      Set<String> nodes = pushPresenceDirectory.nodesOf("user-1");
+
+      //then
+      assertThat(nodes).containsExactlyInAnyOrder("node-2", pushPresenceDirectory.nodeId());
+    }
+
+    /*[Case #3] presence 조회에 실패하면 이 노드의 세션만 반영해야 한다*/
+    @DisplayName("3. presence 조회에 실패하면 이 노드의 세션만 반영하는지 검증")
+    @Test
+    void nodesOf_shouldFallbackToLocal_whenLookupFails() throws Exception {
+      //given
+      when(pushPresencePort.nodesOf(anyString())).thenThrow(new IllegalStateException("down"));
+      openSession("user-1");
+
+      //when
+      Set<String> local = pushPresenceDirectory.nodesOf("user-1");
+      Set<String> offline = pushPresenceDirectory.nodesOf("user-2");
+
+      //then
+      assertThat(local).containsExactly(pushPresenceDirectory.nodeId());
+      assertThat(offline).isEmpty();
+    }
+  }
+
+  @Nested
+  @DisplayName("heartbeat 테스트")
+  class HeartbeatTest {
+
+    /*[Case #1] 세션이 열린 userId 들의 lease 만 갱신되어야 한다*/
+    @DisplayName("1. 세션이 열린 userId 들의 lease 만 갱신되는지 검증")
+    @Test
+    @SuppressWarnings("unchecked")
+    void heartbeat_shouldRenewLeaseOfActiveUsers() throws Exception {
+      //given
+      openSession("user-1");
+      openSession("user-2");
+      WebSocketSession closed = mock(WebSocketSession.class);
+      lenient().when(closed.getId()).thenReturn("user-3-session");
+      when(closed.isOpen()).thenReturn(false);
+      wsSessionRegistry.add("user-3", closed);
+      ArgumentCaptor<Collection<String>> userIdsCaptor = ArgumentCaptor.forClass(Collection.class);
+
+      //when
+      pushPresenceDirectory.heartbeat();
+
+      //then
+      verify(pushPresencePort).heartbeat(eq(pushPresenceDirectory.nodeId()),
+          userIdsCaptor.capture(), any(Duration.class));
+      assertThat(userIdsCaptor.getValue()).containsExactlyInAnyOrder("user-1", "user-2");
+    }
+
+    /*[Case #2] 세션이 없으면 lease 를 갱신하지 않아야 한다*/
+    @DisplayName("2. 세션이 없으면 lease 를 갱신하지 않는지 검증")
+    @Test
+    void heartbeat_shouldSkip_whenNoSessions() throws Exception {
+      //given
+      //when
+      pushPresenceDirectory.heartbeat();
+
+      //then
+      verify(pushPresencePort, never()).heartbeat(anyString(), anyCollection(), any());
+    }
+  }
+}
@@ -0,0 +1,177 @@
+package com.threadly.notification.adapter.websocket.notification.replay;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.threadly.notification.core.port.notification.out.dto.PushPayload;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * WsReplayBuffer 테스트
+ */
+class WsReplayBufferTest {
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private WsReplayBuffer buffer(int framesPerUser, long maxBytes) {
+    return new WsReplayBuffer(meterRegistry, framesPerUser, maxBytes, 0L);
+  }
+
+  private static String sortId(int sequence) {
+    return "%024x".formatted(sequence);
+  }
+
+  private static List<String> sortIds(Optional<List<ReplayFrame>> frames) {
+    return frames.orElseThrow().stream().map(ReplayFrame::sortId).toList();
+  }
+
+  private double gauge(String name) {
+    return meterRegistry.get(name).gauge().value();
+  }
+
+  @Nested
+  @DisplayName("framesAfter 테스트")
+  class FramesAfterTest {
+
+    /*[Case #1] 보관된 frame 중 sortId 이후 frame 이 순서대로 조회되어야 한다*/
+    @DisplayName("1. 보관된 frame 중 sortId 이후 frame 이 순서대로 조회되는지 검증")
+    @Test
+    void framesAfter_shouldReturnFramesAfterSortId() throws Exception {
+      //given
+      WsReplayBuffer buffer = buffer(8, 1 << 20);
+      for (int i = 1; i <= 5; i++) {
+        buffer.record("user-1", sortId(i), PushPayload.of("payload-" + i));
+      }
+
+      //when
+      Optional<List<ReplayFrame>> frames = buffer.framesAfter("user-1", sortId(2), 2);
+
+      //then
+      assertThat(sortIds(frames)).containsExactly(sortId(3), sortId(4));
+      assertThat(frames.get().get(0).payload().asString()).isEqualTo("payload-3");
+      assertThat(meterRegistry.get("notification_ws_replay_buffer_lookup").tag("result", "hit")
+          .counter().count()).isEqualTo(1.0);
+    }
+
+    /*[Case #2] 늦게 도착한 frame 도 sortId 순서로 조회되어야 한다*/
+    @DisplayName("2. 늦게 도착한 frame 도 sortId 순서로 조회되는지 검증")
+    @Test
+    void framesAfter_shouldKeepSortIdOrder_whenFramesArriveOutOfOrder() throws Exception {
+      //given
+      WsReplayBuffer buffer = buffer(8, 1 << 20);
+      buffer.record("user-1", sortId(1), PushPayload.of("payload"));
+      buffer.record("user-1", sortId(3), PushPayload.of("payload"));
+      buffer.record("user-1", sortId(2), PushPayload.of("payload"));
+      buffer.record("user-1", sortId(3), PushPayload.of("payload"));
+
+      //when
+      Optional<List<ReplayFrame>> frames = buffer.framesAfter("user-1", sortId(1), 10);
+
+      //then
+      assertThat(sortIds(frames)).containsExactly(sortId(2), sortId(3));
+    }
+
+    /*[Case #3] 처음 보관한 frame 이전부터 요청하면 버퍼가 범위를 보장하지 못하므로 miss 여야 한다*/
+    @DisplayName("3. 처음 보관한 frame 이전부터 요청하면 miss 인지 검증")
+    @Test
+    void framesAfter_shouldMiss_beforeFirstRecordedFrame() throws Exception {
+      //given
+      WsReplayBuffer buffer = buffer(8, 1 << 20);
+      buffer.record("user-1", sortId(5), PushPayload.of("payload"));
+
+      //when
+      Optional<List<ReplayFrame>> frames = buffer.framesAfter("user-1", sortId(4), 10);
+
+      //then
+      assertThat(frames).isEmpty();
+      assertThat(meterRegistry.get("notification_ws_replay_buffer_lookup").tag("result", "miss")
+          .counter().count()).isEqualTo(1.0);
+    }
+
+    /*[Case #4] ring 이 가득 차 밀려난 frame 이전부터 요청하면 miss 여야 한다*/
+    @DisplayName("4. ring 이 가득 차 밀려난 frame 이전부터 요청하면 miss 인지 검증")
+    @Test
+    void framesAfter_shouldMiss_whenGapWasOverwritten() throws Exception {
+      //given
+      WsReplayBuffer buffer = buffer(3, 1 << 20);
+      for (int i = 1; i <= 5; i++) {
+        buffer.record("user-1", sortId(i), PushPayload.of("payload"));
+      }
+
+      //when
+      Optional<List<ReplayFrame>> evicted = buffer.framesAfter("user-1", sortId(1), 10);
+      Optional<List<ReplayFrame>> covered = buffer.framesAfter("user-1", sortId(2), 10);
+
+      //then
+      assertThat(evicted).isEmpty();
+      assertThat(sortIds(covered)).containsExactly(sortId(3), sortId(4), sortId(5));
+    }
+
+    /*[Case #5] 연결 직후 grace 동안에는 frame 을 보관하지 않아야 한다*/
+    @DisplayName("5. 연결 직후 grace 동안에는 frame 을 보관하지 않는지 검증")
+    @Test
+    void record_shouldSkipFrames_duringGrace() throws Exception {
+      //given
+      WsReplayBuffer buffer = new WsReplayBuffer(meterRegistry, 8, 1 << 20, 60_000L);
+      buffer.record("user-1", sortId(1), PushPayload.of("payload"));
+
+      //when
+      Optional<List<ReplayFrame>> frames = buffer.framesAfter("user-1", sortId(1), 10);
+
+      //then
+      assertThat(frames).isEmpty();
+    }
+  }
+
+  @Nested
+  @DisplayName("메모리 한도 테스트")
+  class MemoryLimitTest {
+
+    /*[Case #1] 메모리 한도를 넘으면 가장 오래 사용되지 않은 사용자 버퍼부터 제거되어야 한다*/
+    @DisplayName("1. 메모리 한도를 넘으면 가장 오래 사용되지 않은 사용자 버퍼부터 제거되는지 검증")
+    @Test
+    void record_shouldEvictLeastRecentlyUsedUser_whenOverLimit() throws Exception {
+      //given
+      long frameBytes = new ReplayFrame(sortId(1), PushPayload.of("payload")).estimatedBytes();
+      WsReplayBuffer buffer = buffer(8, frameBytes * 4);
+      buffer.record("user-1", sortId(1), PushPayload.of("payload"));
+      buffer.record("user-2", sortId(2), PushPayload.of("payload"));
+      buffer.record("user-3", sortId(3), PushPayload.of("payload"));
+      buffer.record("user-1", sortId(4), PushPayload.of("payload"));
+
+      //when
+      buffer.record("user-3", sortId(5), PushPayload.of("payload"));
+
+      //then
+      assertThat(buffer.framesAfter("user-2", sortId(2), 10)).isEmpty();
+      assertThat(buffer.framesAfter("user-1", sortId(1), 10)).isPresent();
+      assertThat(gauge("notification_ws_replay_buffer_users")).isEqualTo(2.0);
+      assertThat(gauge("notification_ws_replay_buffer_bytes")).isEqualTo(frameBytes * 4);
+      assertThat(meterRegistry.get("notification_ws_replay_buffer_evicted").counter().count())
+          .isEqualTo(1.0);
+    }
+
+    /*[Case #2] 사용자 버퍼를 제거하면 메모리 사용량에서 빠져야 한다*/
+    @DisplayName("2. 사용자 버퍼를 제거하면 메모리 사용량에서 빠지는지 검증")
+    @Test
+    void discard_shouldReleaseBytes() throws Exception {
+      //given
+      WsReplayBuffer buffer = buffer(8, 1 << 20);
+      buffer.record("user-1", sortId(1), PushPayload.of("payload"));
+      buffer.record("user-1", sortId(2), PushPayload.of("payload"));
+
+      //when
+      buffer.discard("user-1");
+
+      //then
+      assertThat(gauge("notification_ws_replay_buffer_bytes")).isZero();
+      assertThat(gauge("notification_ws_replay_buffer_users")).isZero();
+      assertThat(buffer.framesAfter("user-1", sortId(1), 10)).isEmpty();
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package com.threadly.notification.adapter.websocket.notification.resync;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DeliveryWatermarks 테스트
+ */
+class DeliveryWatermarksTest {
+
+  private static final String SORT_ID_1 = "65a000000000000000000001";
+
+  @Nested
+  @DisplayName("watermark 보관 테스트")
+  class LookupTest {
+
+    /*[Case #1] 같은 사용자, 기기로 재연결하면 이전 watermark 를 이어서 사용해야 한다*/
+    @DisplayName("1. 같은 사용자, 기기로 재연결하면 이전 watermark 를 이어서 사용하는지 검증")
+    @Test
+    void of_shouldReturnSameWatermark_forSameDevice() throws Exception {
+      //given
+      DeliveryWatermarks deliveryWatermarks = new DeliveryWatermarks(new SimpleMeterRegistry(), 16);
+      deliveryWatermarks.of("user-1", "ios").advance(SORT_ID_1);
+
+      //when
+      DeliveryWatermark reconnected = deliveryWatermarks.of("user-1", "ios");
+      DeliveryWatermark otherDevice = deliveryWatermarks.of("user-1", "web");
+
+      //then
+      assertThat(reconnected.current()).isEqualTo(SORT_ID_1);
+      assertThat(otherDevice.current()).isNull();
+    }
+
+    /*[Case #2] max-entries 를 넘으면 가장 오래 사용되지 않은 watermark 가 버려져야 한다*/
+    @DisplayName("2. max-entries 를 넘으면 가장 오래 사용되지 않은 watermark 가 버려지는지 검증")
+    @Test
+    void of_shouldEvictLeastRecentlyUsed_whenFull() throws Exception {
+      //given
+      DeliveryWatermarks deliveryWatermarks = new DeliveryWatermarks(new SimpleMeterRegistry(), 2);
+      deliveryWatermarks.of("user-1", null).advance(SORT_ID_1);
+      deliveryWatermarks.of("user-2", null);
+      deliveryWatermarks.of("user-1", null);
+
+      //when
+      deliveryWatermarks.of("user-3", null);
+
+      //then
+      assertThat(deliveryWatermarks.size()).isEqualTo(2);
+      assertThat(deliveryWatermarks.of("user-1", null).current()).isEqualTo(SORT_ID_1);
+    }
+  }
+}
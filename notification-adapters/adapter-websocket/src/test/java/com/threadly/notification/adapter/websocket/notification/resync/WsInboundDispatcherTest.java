@@ -0,0 +1,90 @@
+package com.threadly.notification.adapter.websocket.notification.resync;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * WsInboundDispatcher 테스트
+ */
+class WsInboundDispatcherTest {
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private WsInboundDispatcher wsInboundDispatcher;
+
+  @AfterEach
+  void tearDown() {
+    wsInboundDispatcher.destroy();
+  }
+
+  @Nested
+  @DisplayName("수신 메시지 처리 테스트")
+  class DispatchTest {
+
+    /*[Case #1] 같은 세션의 메시지는 호출 스레드가 아닌 executor 에서 받은 순서대로 처리되어야 한다*/
+    @DisplayName("1. 같은 세션의 메시지가 executor 에서 받은 순서대로 처리되는지 검증")
+    @Test
+    void dispatch_shouldRunInOrder_forSameSession() throws Exception {
+      //given
+      wsInboundDispatcher = new WsInboundDispatcher(meterRegistry, 4, 100);
+      List<Integer> handled = new CopyOnWriteArrayList<>();
+      List<Thread> threads = new CopyOnWriteArrayList<>();
+      CountDownLatch done = new CountDownLatch(50);
+
+      //when
+      for (int i = 0; i < 50; i++) {
+        int seq = i;
+        wsInboundDispatcher.dispatch("session-1", () -> {
+          handled.add(seq);
+          threads.add(Thread.currentThread());
+          done.countDown();
+        });
+      }
+
+      //then
+      assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+      assertThat(handled).isSorted().hasSize(50);
+      assertThat(threads).doesNotContain(Thread.currentThread());
+    }
+
+    /*[Case #2] 대기 큐가 가득 차면 메시지를 버리고 기록해야 한다*/
+    @DisplayName("2. 대기 큐가 가득 차면 메시지를 버리고 기록하는지 검증")
+    @Test
+    void dispatch_shouldDrop_whenQueueFull() throws Exception {
+      //given
+      wsInboundDispatcher = new WsInboundDispatcher(meterRegistry, 1, 1);
+      CountDownLatch started = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      wsInboundDispatcher.dispatch("session-1", () -> {
+        started.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+      wsInboundDispatcher.dispatch("session-1", () -> {
+      });
+
+      //when
+      boolean accepted = wsInboundDispatcher.dispatch("session-1", () -> {
+      });
+
+      //then
+      release.countDown();
+      assertThat(accepted).isFalse();
+      assertThat(meterRegistry.get("notification_ws_inbound_dropped").counter().count())
+          .isEqualTo(1.0);
+    }
+  }
+}
@@ -0,0 +1,425 @@
+package com.threadly.notification.adapter.websocket.notification.resync;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORMapper;
+import com.threadly.notification.adapter.websocket.notification.codec.CborPushCodec;
+import com.threadly.notification.adapter.websocket.notification.codec.JsonPushCodec;
+import com.threadly.notification.adapter.websocket.notification.codec.PushCodecs;
+import com.threadly.notification.adapter.websocket.notification.dto.AckRequest;
+import com.threadly.notification.adapter.websocket.notification.dto.ResyncRequest;
+import com.threadly.notification.adapter.websocket.notification.dto.WsInboundMessage.InboundMessageType;
+import com.threadly.notification.adapter.websocket.notification.replay.WsReplayBuffer;
+import com.threadly.notification.adapter.websocket.notification.schema.CompactPushTranscoder;
+import com.threadly.notification.adapter.websocket.notification.schema.PushSchema;
+import com.threadly.notification.core.domain.notification.NotificationType;
+import com.threadly.notification.core.domain.notification.metadata.PostLikeMeta;
+import com.threadly.notification.core.domain.user.ActorProfile;
+import com.threadly.notification.core.port.notification.in.NotificationReplayUseCase;
+import com.threadly.notification.core.port.notification.in.dto.ReplayBatch;
+import com.threadly.notification.core.port.notification.out.dto.NotificationMessage;
+import com.threadly.notification.core.port.notification.out.dto.NotificationMessage.Payload;
+import com.threadly.notification.core.port.notification.out.dto.PushPayload;
+import com.threadly.notification.core.port.notification.out.dto.preview.PostLikePreview;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * WsResyncHandler 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class WsResyncHandlerTest {
+
+  private static final String SORT_ID_1 = "65a000000000000000000001";
+  private static final String SORT_ID_2 = "65a000000000000000000002";
+  private static final String SORT_ID_3 = "65a000000000000000000003";
+
+  @Mock
+  private NotificationReplayUseCase notificationReplayUseCase;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final WebSocketSession outbound = mock(WebSocketSession.class);
+
+  private WsReplayBuffer wsReplayBuffer;
+  private WsResyncHandler wsResyncHandler;
+  private DeliveryWatermark watermark;
+
+  @BeforeEach
+  void setUp() {
+    wsReplayBuffer = new WsReplayBuffer(meterRegistry, 16, 1 << 20, 0L);
+    JsonPushCodec jsonPushCodec = new JsonPushCodec(objectMapper);
+    PushCodecs pushCodecs = new PushCodecs(jsonPushCodec,
+        List.of(jsonPushCodec, new CborPushCodec(objectMapper)));
+    wsResyncHandler = new WsResyncHandler(notificationReplayUseCase, wsReplayBuffer,
+        new CompactPushTranscoder(objectMapper), pushCodecs, meterRegistry, 2, 500);
+    watermark = new DeliveryWatermark();
+  }
+
+  private static NotificationMessage message(String sortId) {
+    return new NotificationMessage(
+        "event-" + sortId,
+        sortId,
+        new Payload(
+            NotificationType.POST_LIKE,
+            new PostLikeMeta("post-1"),
+            new PostLikePreview(new ActorProfile("actor-1", "행위자", "/profile.png"))
+        ),
+        LocalDateTime.of(2024, 1, 1, 12, 0)
+    );
+  }
+
+  @SuppressWarnings("unchecked")
+  private void replayWith(String afterId, ReplayBatch... batches) {
+    doAnswer(invocation -> {
+      Consumer<ReplayBatch> consumer = invocation.getArgument(3);
+      for (ReplayBatch batch : batches) {
+        consumer.accept(batch);
+      }
+      return null;
+    }).when(notificationReplayUseCase).replayAfter(eq("user-1"), eq(afterId), anyInt(), any());
+  }
+
+  private static Map<String, Object> v2Attributes() {
+    Map<String, Object> attributes = new HashMap<>();
+    attributes.put(PushSchema.ATTRIBUTE, PushSchema.V2);
+    return attributes;
+  }
+
+  private double inbound(String type) {
+    return meterRegistry.get("notification_ws_inbound").tag("type", type).counter().count();
+  }
+
+  private double replayed(String source) {
+    return meterRegistry.get("notification_ws_resync_events").tag("source", source).counter()
+        .count();
+  }
+
+  @Nested
+  @DisplayName("ACK 테스트")
+  class AckTest {
+
+    /*[Case #1] ACK 의 sortId 로 watermark 가 올라가야 한다*/
+    @DisplayName("1. ACK 의 sortId 로 watermark 가 올라가는지 검증")
+    @Test
+    void handle_shouldAdvanceWatermark_withAckedSortId() throws Exception {
+      //given
+      //when
+      wsResyncHandler.handle("user-1", outbound, watermark,
+          new AckRequest(InboundMessageType.ACK, "event-2", SORT_ID_2));
+      wsResyncHandler.handle("user-1", outbound, watermark,
+          new AckRequest(InboundMessageType.ACK, "event-1", SORT_ID_1));
+
+      //then
+      assertThat(watermark.current()).isEqualTo(SORT_ID_2);
+      assertThat(inbound("ack")).isEqualTo(2.0);
+      verify(notificationReplayUseCase, never()).findSortId(anyString(), anyString());
+    }
+
+    /*[Case #2] sortId 가 없으면 eventId 로 조회한 sortId 로 watermark 가 올라가야 한다*/
+    @DisplayName("2. sortId 가 없으면 eventId 로 조회한 sortId 로 watermark 가 올라가는지 검증")
+    @Test
+    void handle_shouldLookupSortId_whenAckHasOnlyEventId() throws Exception {
+      //given
+      when(notificationReplayUseCase.findSortId("user-1", "event-3"))
+          .thenReturn(Optional.of(SORT_ID_3));
+
+      //when
+      wsResyncHandler.handle("user-1", outbound, watermark,
+          new AckRequest(InboundMessageType.ACK, "event-3", null));
+
+      //then
+      assertThat(watermark.current()).isEqualTo(SORT_ID_3);
+    }
+
+    /*[Case #3] 알 수 없는 eventId 의 ACK 는 무시되어야 한다*/
+    @DisplayName("3. 알 수 없는 eventId 의 ACK 가 무시되는지 검증")
+    @Test
+    void handle_shouldIgnoreAck_whenEventUnknown() throws Exception {
+      //given
+      when(notificationReplayUseCase.findSortId("user-1", "event-x")).thenReturn(Optional.empty());
+
+      //when
+      wsResyncHandler.handle("user-1", outbound, watermark,
+          new AckRequest(InboundMessageType.ACK, "event-x", null));
+
+      //then
+      assertThat(watermark.current()).isNull();
+      assertThat(inbound("invalid")).isEqualTo(1.0);
+    }
+  }
+
+  @Nested
+  @DisplayName("RESYNC 테스트")
+  class ResyncTest {
+
+    /*[Case #1] afterId 이후 알림이 batch frame 으로 전송되어야 한다*/
+    @DisplayName("1. afterId 이후 알림이 batch frame 으로 전송되는지 검증")
+    @Test
+    void handle_shouldSendBatchFrames_afterAfterId() throws Exception {
+      //given
+      replayWith(SORT_ID_1,
+          new ReplayBatch(List.of(message(SORT_ID_2)), SORT_ID_2, false),
+          new ReplayBatch(List.of(message(SORT_ID_3)), SORT_ID_3, true));
+      ArgumentCaptor<TextMessage> frameCaptor = ArgumentCaptor.forClass(TextMessage.class);
+
+      //when
+      wsResyncHandler.handle("user-1", outbound, watermark,
+          new ResyncRequest(InboundMessageType.RESYNC, SORT_ID_1, 100));
+
+      //then
+      verify(outbound, times(2)).sendMessage(frameCaptor.capture());
+      JsonNode first = objectMapper.readTree(frameCaptor.getAllValues().get(0).getPayload());
+      JsonNode last = objectMapper.readTree(frameCaptor.getAllValues().get(1).getPayload());
+      assertThat(first.get("type").asText()).isEqualTo("RESYNC_BATCH");
+      assertThat(first.get("events").get(0).get("sortId").asText()).isEqualTo(SORT_ID_2);
+      assertThat(first.get("done").asBoolean()).isFalse();
+      assertThat(last.get("lastSortId").asText()).isEqualTo(SORT_ID_3);
+      assertThat(last.get("done").asBoolean()).isTrue();
+      assertThat(replayed("database")).isEqualTo(2.0);
+    }
+
+    /*[Case #2] afterId 가 없으면 watermark 이후부터 재전송해야 한다*/
+    @DisplayName("2. afterId 가 없으면 watermark 이후부터 재전송하는지 검증")
+    @Test
+    void handle_shouldResyncFromWatermark_whenAfterIdMissing() throws Exception {
+      //given
+      watermark.advance(SORT_ID_1);
+      replayWith(SORT_ID_1, new ReplayBatch(List.of(), SORT_ID_1, true));
+
+      //when
+      wsResyncHandler.handle("user-1", outbound, watermark,
+          new ResyncRequest(InboundMessageType.RESYNC, null, 0));
+
+      //then
+      verify(notificationReplayUseCase).replayAfter(eq("user-1"), eq(SORT_ID_1), eq(500), any());
+      verify(outbound).sendMessage(any(TextMessage.class));
+    }
+
+    /*[Case #3] 잘못된 afterId 는 조회 없이 무시되어야 한다*/
+    @DisplayName("3. 잘못된 afterId 가 조회 없이 무시되는지 검증")
+    @Test
+    void handle_shouldRejectInvalidAfterId() throws Exception {
+      //given
+      //when
+      wsResyncHandler.handle("user-1", outbound, watermark,
+          new ResyncRequest(InboundMessageType.RESYNC, "not-an-object-id", 10));
+
+      //then
+      verify(notificationReplayUseCase, never()).replayAfter(any(), any(), anyInt(), any());
+      assertThat(inbound("invalid")).isEqualTo(1.0);
+    }
+
+    /*[Case #4] 전송에 실패하면 재전송을 중단하고 예외를 전파하지 않아야 한다*/
+    @DisplayName("4. 전송에 실패하면 재전송을 중단하고 예외를 전파하지 않는지 검증")
+    @Test
+    void handle_shouldStopResync_whenSendFails() throws Exception {
+      //given
+      replayWith(SORT_ID_1,
+          new ReplayBatch(List.of(message(SORT_ID_2)), SORT_ID_2, false),
+          new ReplayBatch(List.of(message(SORT_ID_3)), SORT_ID_3, true));
+      doThrow(new IOException("evicted")).when(outbound).sendMessage(any());
+
+      //when
+      wsResyncHandler.handle("user-1", outbound, watermark,
+          new ResyncRequest(InboundMessageType.RESYNC, SORT_ID_1, 10));
+
+      //then
+      verify(outbound, times(1)).sendMessage(any());
+    }
+  }
+
+  @Nested
+  @DisplayName("재전송 버퍼 RESYNC 테스트")
+  class BufferedResyncTest {
+
+    /*[Case #1] 버퍼가 afterId 이후를 보관하고 있으면 Mongo 조회 없이 재전송해야 한다*/
+    @DisplayName("1. 버퍼가 afterId 이후를 보관하고 있으면 Mongo 조회 없이 재전송하는지 검증")
+    @Test
+    void handle_shouldServeFromBuffer_whenCovered() throws Exception {
+      //given
+      wsReplayBuffer.record("user-1", SORT_ID_1,
+          PushPayload.of("{\"sortId\":\"" + SORT_ID_1 + "\"}"));
+      wsReplayBuffer.record("user-1", SORT_ID_2,
+          PushPayload.of("{\"sortId\":\"" + SORT_ID_2 + "\"}"));
+      wsReplayBuffer.record("user-1", SORT_ID_3,
+          PushPayload.of("{\"sortId\":\"" + SORT_ID_3 + "\"}"));
+      ArgumentCaptor<TextMessage> frameCaptor = ArgumentCaptor.forClass(TextMessage.class);
+
+      //when
+      wsResyncHandler.handle("user-1", outbound, watermark,
+          new ResyncRequest(InboundMessageType.RESYNC, SORT_ID_1, 10));
+
+      //then
+      verify(notificationReplayUseCase, never()).replayAfter(any(), any(), anyInt(), any());
+      verify(outbound).sendMessage(frameCaptor.capture());
+      JsonNode frame = objectMapper.readTree(frameCaptor.getValue().getPayload());
+      assertThat(frame.get("type").asText()).isEqualTo("RESYNC_BATCH");
+      assertThat(frame.get("events")).hasSize(2);
+      assertThat(frame.get("events").get(1).get("sortId").asText()).isEqualTo(SORT_ID_3);
+      assertThat(frame.get("lastSortId").asText()).isEqualTo(SORT_ID_3);
+      assertThat(frame.get("done").asBoolean()).isTrue();
+      assertThat(replayed("buffer")).isEqualTo(2.0);
+    }
+
+    /*[Case #2] 버퍼가 afterId 이후를 모두 보관하고 있지 않으면 Mongo 에서 조회해야 한다*/
+    @DisplayName("2. 버퍼가 afterId 이후를 모두 보관하고 있지 않으면 Mongo 에서 조회하는지 검증")
+    @Test
+    void handle_shouldFallbackToDatabase_whenBufferHasGap() throws Exception {
+      //given
+      wsReplayBuffer.record("user-1", SORT_ID_2, PushPayload.of("{}"));
+      wsReplayBuffer.record("user-1", SORT_ID_3, PushPayload.of("{}"));
+      replayWith(SORT_ID_1, new ReplayBatch(List.of(message(SORT_ID_2), message(SORT_ID_3)),
+          SORT_ID_3, true));
+
+      //when
+      wsResyncHandler.handle("user-1", outbound, watermark,
+          new ResyncRequest(InboundMessageType.RESYNC, SORT_ID_1, 10));
+
+      //then
+      verify(notificationReplayUseCase).replayAfter(eq("user-1"), eq(SORT_ID_1), eq(10), any());
+      assertThat(meterRegistry.get("notification_ws_replay_buffer_lookup").tag("result", "miss")
+          .counter().count()).isEqualTo(1.0);
+    }
+  }
+
+  @Nested
+  @DisplayName("v2 schema RESYNC 테스트")
+  class CompactSchemaTest {
+
+    /*[Case #1] v2 세션에는 버퍼에 보관된 v1 frame 을 v2 로 변환해 재전송해야 한다*/
+    @DisplayName("1. v2 세션에는 버퍼에 보관된 v1 frame 을 v2 로 변환해 재전송하는지 검증")
+    @Test
+    void handle_shouldTranscodeBufferedFrames_whenSessionUsesV2() throws Exception {
+      //given
+      when(outbound.getAttributes()).thenReturn(v2Attributes());
+      wsReplayBuffer.record("user-1", SORT_ID_1,
+          PushPayload.of("{\"type\":\"NOTIFICATION\",\"sortId\":\"" + SORT_ID_1 + "\"}"));
+      wsReplayBuffer.record("user-1", SORT_ID_2,
+          PushPayload.of("{\"type\":\"NOTIFICATION\",\"sortId\":\"" + SORT_ID_2 + "\"}"));
+      ArgumentCaptor<TextMessage> frameCaptor = ArgumentCaptor.forClass(TextMessage.class);
+
+      //when
+      wsResyncHandler.handle("user-1", outbound, watermark,
+          new ResyncRequest(InboundMessageType.RESYNC, SORT_ID_1, 10));
+
+      //then
+      verify(outbound).sendMessage(frameCaptor.capture());
+      JsonNode frame = objectMapper.readTree(frameCaptor.getValue().getPayload());
+      assertThat(frame.get("events")).hasSize(1);
+      assertThat(frame.get("events").get(0).get("s").asText()).isEqualTo(SORT_ID_2);
+      assertThat(frame.get("events").get(0).has("sortId")).isFalse();
+    }
+
+    /*[Case #2] v2 세션에는 Mongo 에서 조회한 알림을 v2 로 재전송해야 한다*/
+    @DisplayName("2. v2 세션에는 Mongo 에서 조회한 알림을 v2 로 재전송하는지 검증")
+    @Test
+    void handle_shouldSendCompactEvents_whenReplayingFromDatabase() throws Exception {
+      //given
+      when(outbound.getAttributes()).thenReturn(v2Attributes());
+      replayWith(SORT_ID_1, new ReplayBatch(List.of(message(SORT_ID_2)), SORT_ID_2, true));
+      ArgumentCaptor<TextMessage> frameCaptor = ArgumentCaptor.forClass(TextMessage.class);
+
+      //when
+      wsResyncHandler.handle("user-1", outbound, watermark,
+          new ResyncRequest(InboundMessageType.RESYNC, SORT_ID_1, 10));
+
+      //then
+      verify(outbound, times(2)).sendMessage(frameCaptor.capture());
+      JsonNode actor = objectMapper.readTree(frameCaptor.getAllValues().get(0).getPayload());
+      assertThat(actor.get("t").asText()).isEqualTo("A");
+      assertThat(actor.get("n").asText()).isEqualTo("행위자");
+      JsonNode frame = objectMapper.readTree(frameCaptor.getAllValues().get(1).getPayload());
+      assertThat(frame.get("type").asText()).isEqualTo("RESYNC_BATCH");
+      assertThat(frame.get("lastSortId").asText()).isEqualTo(SORT_ID_2);
+      assertThat(frame.get("done").asBoolean()).isTrue();
+      JsonNode event = frame.get("events").get(0);
+      assertThat(event.get("id").asText()).isEqualTo("event-" + SORT_ID_2);
+      assertThat(event.get("k").asText()).isEqualTo("POST_LIKE");
+      assertThat(event.get("a").asText()).isEqualTo("actor-1");
+      assertThat(event.get("m").get("p").asText()).isEqualTo("post-1");
+    }
+  }
+
+  @Nested
+  @DisplayName("binary subprotocol RESYNC 테스트")
+  class BinaryCodecTest {
+
+    /*[Case #1] CBOR 세션에는 버퍼에 보관된 frame 을 CBOR binary frame 으로 재전송해야 한다*/
+    @DisplayName("1. CBOR 세션에는 버퍼에 보관된 frame 을 CBOR binary frame 으로 재전송하는지 검증")
+    @Test
+    void handle_shouldSendBinaryFrame_whenSessionUsesCbor() throws Exception {
+      //given
+      when(outbound.getAcceptedProtocol()).thenReturn(CborPushCodec.SUBPROTOCOL);
+      wsReplayBuffer.record("user-1", SORT_ID_1,
+          PushPayload.of("{\"type\":\"NOTIFICATION\",\"sortId\":\"" + SORT_ID_1 + "\"}"));
+      wsReplayBuffer.record("user-1", SORT_ID_2,
+          PushPayload.of("{\"type\":\"NOTIFICATION\",\"sortId\":\"" + SORT_ID_2 + "\"}"));
+      ArgumentCaptor<BinaryMessage> frameCaptor = ArgumentCaptor.forClass(BinaryMessage.class);
+
+      //when
+      wsResyncHandler.handle("user-1", outbound, watermark,
+          new ResyncRequest(InboundMessageType.RESYNC, SORT_ID_1, 10));
+
+      //then
+      verify(outbound).sendMessage(frameCaptor.capture());
+      JsonNode frame = new CBORMapper().readTree(frameCaptor.getValue().getPayload().array());
+      assertThat(frame.get("type").asText()).isEqualTo("RESYNC_BATCH");
+      assertThat(frame.get("events")).hasSize(1);
+      assertThat(frame.get("events").get(0).get("sortId").asText()).isEqualTo(SORT_ID_2);
+    }
+
+    /*[Case #2] CBOR 세션에는 Mongo 에서 조회한 알림을 CBOR binary frame 으로 재전송해야 한다*/
+    @DisplayName("2. CBOR 세션에는 Mongo 에서 조회한 알림을 CBOR binary frame 으로 재전송하는지 검증")
+    @Test
+    void handle_shouldEncodeDatabaseBatch_whenSessionUsesCbor() throws Exception {
+      //given
+      when(outbound.getAcceptedProtocol()).thenReturn(CborPushCodec.SUBPROTOCOL);
+      replayWith(SORT_ID_1, new ReplayBatch(List.of(message(SORT_ID_2)), SORT_ID_2, true));
+      ArgumentCaptor<BinaryMessage> frameCaptor = ArgumentCaptor.forClass(BinaryMessage.class);
+
+      //when
+      wsResyncHandler.handle("user-1", outbound, watermark,
+          new ResyncRequest(InboundMessageType.RESYNC, SORT_ID_1, 10));
+
+      //then
+      verify(outbound).sendMessage(frameCaptor.capture());
+      JsonNode frame = new CBORMapper().readTree(frameCaptor.getValue().getPayload().array());
+      assertThat(frame.get("lastSortId").asText()).isEqualTo(SORT_ID_2);
+      assertThat(frame.get("done").asBoolean()).isTrue();
+      assertThat(frame.get("events").get(0).get("eventId").asText())
+          .isEqualTo("event-" + SORT_ID_2);
+    }
+  }
+}
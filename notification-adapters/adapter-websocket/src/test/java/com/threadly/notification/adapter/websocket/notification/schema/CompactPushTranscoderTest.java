@@ -0,0 +1,205 @@
+package com.threadly.notification.adapter.websocket.notification.schema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.threadly.notification.adapter.websocket.notification.dto.OutEvent;
+import com.threadly.notification.core.domain.notification.NotificationType;
+import com.threadly.notification.core.domain.notification.metadata.CommentLikeMeta;
+import com.threadly.notification.core.domain.notification.metadata.FollowAcceptMeta;
+import com.threadly.notification.core.domain.notification.metadata.FollowMeta;
+import com.threadly.notification.core.domain.notification.metadata.FollowRequestMeta;
+import com.threadly.notification.core.domain.notification.metadata.PostCommentMeta;
+import com.threadly.notification.core.domain.notification.metadata.PostLikeMeta;
+import com.threadly.notification.core.domain.user.ActorProfile;
+import com.threadly.notification.core.port.notification.out.dto.NotificationMessage;
+import com.threadly.notification.core.port.notification.out.dto.NotificationMessage.Payload;
+import com.threadly.notification.core.port.notification.out.dto.PushPayload;
+import com.threadly.notification.core.port.notification.out.dto.preview.CommentLikePreview;
+import com.threadly.notification.core.port.notification.out.dto.preview.FollowAcceptPreview;
+import com.threadly.notification.core.port.notification.out.dto.preview.FollowPreview;
+import com.threadly.notification.core.port.notification.out.dto.preview.FollowRequestPreview;
+import com.threadly.notification.core.port.notification.out.dto.preview.PostCommentPreview;
+import com.threadly.notification.core.port.notification.out.dto.preview.PostLikePreview;
+import java.time.LocalDateTime;
+import java.util.zip.Deflater;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CompactPushTranscoder 테스트
+ */
+class CompactPushTranscoderTest {
+
+  private static final ActorProfile ACTOR = new ActorProfile("actor-1", "행위자",
+      "https://cdn.threadly.kr/profile/actor-1.png");
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final CompactPushTranscoder compactPushTranscoder =
+      new CompactPushTranscoder(objectMapper);
+
+  private static NotificationMessage message(NotificationType type) {
+    Payload payload = switch (type) {
+      case POST_LIKE -> new Payload(type, new PostLikeMeta("post-1"), new PostLikePreview(ACTOR));
+      case COMMENT_ADDED -> {
+        PostCommentMeta metadata = new PostCommentMeta("post-1", "comment-1", "댓글 내용입니다");
+        yield new Payload(type, metadata, new PostCommentPreview(ACTOR, metadata));
+      }
+      case COMMENT_LIKE -> new Payload(type,
+          new CommentLikeMeta("post-1", "comment-1", "댓글 내용입니다"),
+          new CommentLikePreview(ACTOR));
+      case FOLLOW_REQUEST -> new Payload(type, new FollowRequestMeta(),
+          new FollowRequestPreview(ACTOR));
+      case FOLLOW -> new Payload(type, new FollowMeta(), new FollowPreview(ACTOR));
+      case FOLLOW_ACCEPT -> new Payload(type, new FollowAcceptMeta(),
+          new FollowAcceptPreview(ACTOR));
+    };
+    return new NotificationMessage("event-1", "65a000000000000000000001", payload,
+        LocalDateTime.of(2024, 1, 1, 12, 0));
+  }
+
+  private PushPayload v1(NotificationMessage message) throws Exception {
+    return PushPayload.wrap(objectMapper.writeValueAsBytes(new OutEvent(message)));
+  }
+
+  /**
+   * permessage-deflate(context takeover 없음) 적용 시 크기
+   */
+  private static int deflatedSize(byte[] payload) {
+    Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+    deflater.setInput(payload);
+    byte[] buffer = new byte[payload.length + 64];
+    int size = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+    deflater.end();
+
+    /*permessage-deflate 는 마지막 00 00 ff ff 를 보내지 않는다*/
+    return size - 4;
+  }
+
+  @Nested
+  @DisplayName("v2 변환 테스트")
+  class TranscodeTest {
+
+    /*[Case #1] v1 frame 이 짧은 key 의 v2 frame 으로 변환되어야 한다*/
+    @DisplayName("1. v1 frame 이 짧은 key 의 v2 frame 으로 변환되는지 검증")
+    @Test
+    void toV2_shouldUseShortKeys() throws Exception {
+      //given
+      PushPayload v1 = v1(message(NotificationType.POST_LIKE));
+
+      //when
+      CompactPush v2 = compactPushTranscoder.toV2(v1);
+
+      //then
+      assertThat(v2.event().asString()).isEqualTo(
+          "{\"t\":\"N\",\"id\":\"event-1\",\"s\":\"65a000000000000000000001\","
+              + "\"at\":\"2024-01-01T12:00\",\"k\":\"POST_LIKE\",\"a\":\"actor-1\","
+              + "\"m\":{\"p\":\"post-1\"}}");
+    }
+
+    /*[Case #2] 행위자 프로필은 알림과 분리된 프로필 frame 으로 변환되어야 한다*/
+    @DisplayName("2. 행위자 프로필이 알림과 분리된 프로필 frame 으로 변환되는지 검증")
+    @Test
+    void toV2_shouldSeparateActorProfile() throws Exception {
+      //given
+      PushPayload v1 = v1(message(NotificationType.POST_LIKE));
+
+      //when
+      CompactPush v2 = compactPushTranscoder.toV2(v1);
+
+      //then
+      assertThat(v2.actorId()).isEqualTo("actor-1");
+      assertThat(v2.actorFrame().asString()).isEqualTo(
+          "{\"t\":\"A\",\"id\":\"actor-1\",\"n\":\"행위자\","
+              + "\"i\":\"https://cdn.threadly.kr/profile/actor-1.png\"}");
+      assertThat(v2.event().asString()).doesNotContain("행위자");
+    }
+
+    /*[Case #3] 댓글 알림의 metadata 는 한 번만 포함되어야 한다*/
+    @DisplayName("3. 댓글 알림의 metadata 가 한 번만 포함되는지 검증")
+    @Test
+    void toV2_shouldNotDuplicateMetadata() throws Exception {
+      //given
+      PushPayload v1 = v1(message(NotificationType.COMMENT_ADDED));
+
+      //when
+      JsonNode v2 = objectMapper.readTree(compactPushTranscoder.toV2(v1).event().bytes());
+
+      //then
+      assertThat(v1.asString().split("댓글 내용입니다", -1)).hasSize(4);
+      assertThat(v2.toString().split("댓글 내용입니다", -1)).hasSize(2);
+      assertThat(v2.get("m").get("c").asText()).isEqualTo("comment-1");
+      assertThat(v2.get("m").get("x").asText()).isEqualTo("댓글 내용입니다");
+    }
+
+    /*[Case #4] 팔로우 알림은 metadata 없이 변환되어야 한다*/
+    @DisplayName("4. 팔로우 알림이 metadata 없이 변환되는지 검증")
+    @Test
+    void toV2_shouldOmitEmptyMetadata() throws Exception {
+      //given
+      //when
+      JsonNode v2 = objectMapper.readTree(
+          compactPushTranscoder.toV2(new OutEvent(message(NotificationType.FOLLOW))).event()
+              .bytes());
+
+      //then
+      assertThat(v2.has("m")).isFalse();
+      assertThat(v2.get("k").asText()).isEqualTo("FOLLOW");
+      assertThat(v2.get("a").asText()).isEqualTo("actor-1");
+    }
+
+    /*[Case #5] 직렬화된 v1 과 OutEvent 에서 변환한 결과가 같아야 한다*/
+    @DisplayName("5. 직렬화된 v1 과 OutEvent 에서 변환한 결과가 같은지 검증")
+    @Test
+    void toV2_shouldMatch_forPayloadAndEvent() throws Exception {
+      //given
+      NotificationMessage message = message(NotificationType.COMMENT_LIKE);
+
+      //when
+      CompactPush fromPayload = compactPushTranscoder.toV2(v1(message));
+      CompactPush fromEvent = compactPushTranscoder.toV2(new OutEvent(message));
+
+      //then
+      assertThat(fromPayload).isEqualTo(fromEvent);
+    }
+
+    /*[Case #6] 해석할 수 없는 frame 이면 기본 frame 으로 변환되어야 한다*/
+    @DisplayName("6. 해석할 수 없는 frame 이면 기본 frame 으로 변환되는지 검증")
+    @Test
+    void toV2_shouldReturnFallback_whenPayloadIsInvalid() throws Exception {
+      //given
+      //when
+      CompactPush v2 = compactPushTranscoder.toV2(PushPayload.of("{invalid"));
+
+      //then
+      assertThat(v2.actorId()).isNull();
+      assertThat(v2.event().asString()).isEqualTo("{\"t\":\"N\"}");
+    }
+  }
+
+  @Nested
+  @DisplayName("크기 비교 테스트")
+  class SizeTest {
+
+    /*[Case #1] 모든 알림 타입에서 v2 가 v1 보다 작아야 한다*/
+    @DisplayName("1. 모든 알림 타입에서 v2 가 v1 보다 작은지 검증")
+    @Test
+    void toV2_shouldBeSmallerThanV1_forEveryNotificationType() throws Exception {
+      //given
+      for (NotificationType type : NotificationType.values()) {
+        PushPayload v1 = v1(message(type));
+
+        //when
+        PushPayload v2 = compactPushTranscoder.toV2(v1).event();
+
+        //then
+        int v1Deflated = deflatedSize(v1.bytes());
+        int v2Deflated = deflatedSize(v2.bytes());
+        assertThat(v2.length()).isLessThan(v1.length());
+        assertThat(v2Deflated).isLessThan(v1Deflated);
+      }
+    }
+  }
+}
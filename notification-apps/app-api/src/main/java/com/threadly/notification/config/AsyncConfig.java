@@ -1,6 +1,10 @@
 package com.threadly.notification.config;
 
+import com.threadly.notification.core.service.notification.backpressure.PushBackpressureController;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -10,18 +14,50 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 @EnableAsync
 public class AsyncConfig {
 
+  /**
+   * 알림 푸시 executor
+   * <p>
+   * 작업 적재/시작 시점의 큐 깊이를 {@link PushBackpressureController} 에 알려 watermark 기준으로 알림 수신을 멈추고
+   * 재개한다. 그래도 큐가 가득 차면 거절 건수를 남기고 호출 스레드에서 실행한다.
+   *
+   * @param pushBackpressureController
+   * @param meterRegistry
+   * @param queueCapacity
+   * @return
+   */
   @Bean("eventExecutor")
-  public ThreadPoolTaskExecutor eventExecutor() {
+  public ThreadPoolTaskExecutor eventExecutor(
+      PushBackpressureController pushBackpressureController,
+      MeterRegistry meterRegistry,
+      @Value("${notification.push.executor.queue-capacity:50}") int queueCapacity
+  ) {
     ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
     executor.setCorePoolSize(3);
     executor.setMaxPoolSize(10);
-    executor.setQueueCapacity(50);
+    executor.setQueueCapacity(queueCapacity);
     executor.setThreadNamePrefix("event-handler-");
+    executor.setTaskDecorator(task -> {
+      pushBackpressureController.onEnqueued(executor.getQueueSize() + 1);
+      return () -> {
+        pushBackpressureController.onDequeued(executor.getQueueSize());
+        task.run();
+      };
+    });
     executor.setRejectedExecutionHandler(
-        new ThreadPoolExecutor.CallerRunsPolicy()
+        new ThreadPoolExecutor.CallerRunsPolicy() {
+          @Override
+          public void rejectedExecution(Runnable runnable, ThreadPoolExecutor pool) {
+            pushBackpressureController.onRejected();
+            super.rejectedExecution(runnable, pool);
+          }
+        }
     );
     executor.initialize();
 
+    Gauge.builder("notification_push_queue_depth", executor, ThreadPoolTaskExecutor::getQueueSize)
+        .description("알림 푸시 executor 큐에 대기 중인 작업 수")
+        .register(meterRegistry);
+
     return executor;
   }
 }
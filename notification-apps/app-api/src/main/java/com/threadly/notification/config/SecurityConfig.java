@@ -96,6 +96,7 @@ public class SecurityConfig {
             .requestMatchers(
                 "/actuator/**",
                 "/api/test/kafka",
+                "/api/admin/**",
                 "/swagger-ui.html",
                 "/swagger-ui/**",
                 "/v3/api-docs/**",
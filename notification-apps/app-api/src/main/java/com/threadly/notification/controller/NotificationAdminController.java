@@ -0,0 +1,91 @@
+package com.threadly.notification.controller;
+
+import com.threadly.notification.commons.exception.ErrorCode;
+import com.threadly.notification.commons.exception.notification.NotificationException;
+import com.threadly.notification.core.port.notification.in.NotificationDeadLetterUseCase;
+import com.threadly.notification.core.port.notification.in.dto.DeadLetterReplayCommand;
+import com.threadly.notification.core.port.notification.in.dto.DeadLetterReplayResult;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 알림 운영 Controller
+ * <p>
+ * 사용자 JWT 대신 운영용 토큰(X-Admin-Token)으로 인증한다.
+ */
+@RestController
+@RequestMapping("/api/admin/notifications")
+public class NotificationAdminController {
+
+  private final NotificationDeadLetterUseCase notificationDeadLetterUseCase;
+  private final String adminToken;
+
+  private static final int MAX_BATCH_SIZE = 500;
+  private static final int MAX_RECORDS = 5_000;
+  private static final long MAX_PAUSE_MILLIS = 1_000L;
+  private static final long MAX_TOTAL_PAUSE_MILLIS = 10_000L;
+
+  public NotificationAdminController(NotificationDeadLetterUseCase notificationDeadLetterUseCase,
+      @Value("${notification.admin.token:}") String adminToken) {
+    this.notificationDeadLetterUseCase = notificationDeadLetterUseCase;
+    this.adminToken = adminToken;
+  }
+
+  /**
+   * 보관된 최종 실패 알림 재처리
+   * <p>
+   * batch_size 만큼 재처리한 뒤 pause_millis 만큼 대기하며, 요청 1회당 max_records 건까지 처리한다. 요청 스레드에서 동기로
+   * 처리하므로 max_records 와 batch 사이 대기의 합에 상한을 두고, 남은 알림은 hasMore 를 보고 다시 요청한다.
+   *
+   * @param token
+   * @param batchSize
+   * @param maxRecords
+   * @param pauseMillis
+   * @return
+   */
+  @PostMapping("/dead-letters/replay")
+  public ResponseEntity<DeadLetterReplayResult> replayDeadLetters(
+      @RequestHeader(value = "X-Admin-Token", required = false) String token,
+      @RequestParam(value = "batch_size", defaultValue = "100") int batchSize,
+      @RequestParam(value = "max_records", defaultValue = "1000") int maxRecords,
+      @RequestParam(value = "pause_millis", defaultValue = "200") long pauseMillis
+  ) {
+    verifyAdminToken(token);
+
+    if (batchSize < 1 || batchSize > MAX_BATCH_SIZE || maxRecords < 1
+        || maxRecords > MAX_RECORDS || pauseMillis < 0 || pauseMillis > MAX_PAUSE_MILLIS) {
+      throw new NotificationException(ErrorCode.INVALID_REQUEST);
+    }
+
+    /*batch 사이 대기 시간의 합 제한*/
+    long batches = (maxRecords + batchSize - 1) / batchSize;
+    if ((batches - 1) * pauseMillis > MAX_TOTAL_PAUSE_MILLIS) {
+      throw new NotificationException(ErrorCode.INVALID_REQUEST);
+    }
+
+    return ResponseEntity.ok().body(
+        notificationDeadLetterUseCase.replay(
+            new DeadLetterReplayCommand(batchSize, maxRecords, pauseMillis)
+        )
+    );
+  }
+
+  /**
+   * 운영용 토큰 검증
+   *
+   * @param token
+   */
+  private void verifyAdminToken(String token) {
+    if (adminToken.isBlank() || token == null || !MessageDigest.isEqual(
+        adminToken.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8))) {
+      throw new NotificationException(ErrorCode.ACCESS_DENIED);
+    }
+  }
+}
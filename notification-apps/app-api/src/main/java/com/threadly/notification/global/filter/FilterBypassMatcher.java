@@ -11,6 +11,7 @@ public class FilterBypassMatcher {
   public static final List<String> WHITE_LIST = List.of(
       "/actuator/**",
       "/api/test/kafka",
+      "/api/admin/**",
       "/swagger-ui.html",
       "/swagger-ui/**",
       "/v3/api-docs/**",
@@ -6,11 +6,11 @@ import com.threadly.notification.CommonResponse;
 import com.threadly.notification.adapter.kafka.notification.dto.NotificationEvent;
 import com.threadly.notification.adapter.persistence.notification.doc.NotificationDoc;
 import com.threadly.notification.core.domain.notification.NotificationType;
+import com.threadly.notification.core.domain.notification.metadata.NotificationMetaData;
+import com.threadly.notification.core.domain.notification.metadata.PostLikeMeta;
 import com.threadly.notification.core.domain.user.ActorProfile;
 import com.threadly.notification.core.port.notification.in.dto.GetNotificationDetailsApiResponse;
 import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import org.awaitility.Awaitility;
@@ -267,7 +267,7 @@ public class NotificationKafkaIntegrationTest extends BaseNotificationApiTest {
       String actorUserId, String actorNickname, String actorProfileUrl, String postId) {
     
     ActorProfile actorProfile = new ActorProfile(actorUserId, actorNickname, actorProfileUrl);
-    Map<String, Object> metadata = createPostLikeMetadata(postId);
+    NotificationMetaData metadata = createPostLikeMetadata(postId);
     
     return new NotificationEvent(
         eventId,
@@ -282,10 +282,7 @@ public class NotificationKafkaIntegrationTest extends BaseNotificationApiTest {
   /**
    * POST_LIKE 메타데이터 생성 헬퍼 메서드
    */
-  private Map<String, Object> createPostLikeMetadata(String postId) {
-    Map<String, Object> metadata = new HashMap<>();
-    metadata.put("type", "POST_LIKE");
-    metadata.put("postId", postId);
-    return metadata;
+  private NotificationMetaData createPostLikeMetadata(String postId) {
+    return new PostLikeMeta(postId);
   }
 }
\ No newline at end of file
@@ -10,13 +10,12 @@ import com.threadly.notification.core.domain.notification.metadata.CommentLikeMe
 import com.threadly.notification.core.domain.notification.metadata.FollowAcceptMeta;
 import com.threadly.notification.core.domain.notification.metadata.FollowMeta;
 import com.threadly.notification.core.domain.notification.metadata.FollowRequestMeta;
+import com.threadly.notification.core.domain.notification.metadata.NotificationMetaData;
 import com.threadly.notification.core.domain.notification.metadata.PostCommentMeta;
 import com.threadly.notification.core.domain.notification.metadata.PostLikeMeta;
 import com.threadly.notification.core.domain.user.ActorProfile;
 import com.threadly.notification.core.port.notification.in.dto.GetNotificationDetailsApiResponse;
 import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import org.awaitility.Awaitility;
@@ -230,7 +229,7 @@ public class NotificationMetadataSerializationTest extends BaseNotificationApiTe
     assert metadata != null;
   }
 
-  private NotificationEvent createNotificationEvent(String eventId, NotificationType type, Map<String, Object> metadata) {
+  private NotificationEvent createNotificationEvent(String eventId, NotificationType type, NotificationMetaData metadata) {
     ActorProfile actorProfile = new ActorProfile(ACTOR_USER_ID, "테스터", "https://test.com/profile.jpg");
     
     return new NotificationEvent(
@@ -243,46 +242,27 @@ public class NotificationMetadataSerializationTest extends BaseNotificationApiTe
     );
   }
 
-  private Map<String, Object> createPostLikeMetadata(String postId) {
-    Map<String, Object> metadata = new HashMap<>();
-    metadata.put("type", "POST_LIKE");
-    metadata.put("postId", postId);
-    return metadata;
+  private NotificationMetaData createPostLikeMetadata(String postId) {
+    return new PostLikeMeta(postId);
   }
 
-  private Map<String, Object> createPostCommentMetadata(String postId, String commentId, String commentExcerpt) {
-    Map<String, Object> metadata = new HashMap<>();
-    metadata.put("type", "COMMENT_ADDED");
-    metadata.put("postId", postId);
-    metadata.put("commentId", commentId);
-    metadata.put("commentExcerpt", commentExcerpt);
-    return metadata;
+  private NotificationMetaData createPostCommentMetadata(String postId, String commentId, String commentExcerpt) {
+    return new PostCommentMeta(postId, commentId, commentExcerpt);
   }
 
-  private Map<String, Object> createCommentLikeMetadata(String postId, String commentId, String commentExcerpt) {
-    Map<String, Object> metadata = new HashMap<>();
-    metadata.put("type", "COMMENT_LIKE");
-    metadata.put("postId", postId);
-    metadata.put("commentId", commentId);
-    metadata.put("commentExcerpt", commentExcerpt);
-    return metadata;
+  private NotificationMetaData createCommentLikeMetadata(String postId, String commentId, String commentExcerpt) {
+    return new CommentLikeMeta(postId, commentId, commentExcerpt);
   }
 
-  private Map<String, Object> createFollowRequestMetadata() {
-    Map<String, Object> metadata = new HashMap<>();
-    metadata.put("type", "FOLLOW_REQUEST");
-    return metadata;
+  private NotificationMetaData createFollowRequestMetadata() {
+    return new FollowRequestMeta();
   }
 
-  private Map<String, Object> createFollowMetadata() {
-    Map<String, Object> metadata = new HashMap<>();
-    metadata.put("type", "FOLLOW");
-    return metadata;
+  private NotificationMetaData createFollowMetadata() {
+    return new FollowMeta();
   }
 
-  private Map<String, Object> createFollowAcceptMetadata() {
-    Map<String, Object> metadata = new HashMap<>();
-    metadata.put("type", "FOLLOW_ACCEPT");
-    return metadata;
+  private NotificationMetaData createFollowAcceptMetadata() {
+    return new FollowAcceptMeta();
   }
-}
\ No newline at end of file
+}
@@ -1,13 +1,28 @@
 package com.threadly.notification.core.domain.notification;
 
+import com.threadly.notification.core.domain.notification.metadata.CommentLikeMeta;
+import com.threadly.notification.core.domain.notification.metadata.FollowAcceptMeta;
+import com.threadly.notification.core.domain.notification.metadata.FollowMeta;
+import com.threadly.notification.core.domain.notification.metadata.FollowRequestMeta;
+import com.threadly.notification.core.domain.notification.metadata.NotificationMetaData;
+import com.threadly.notification.core.domain.notification.metadata.PostCommentMeta;
+import com.threadly.notification.core.domain.notification.metadata.PostLikeMeta;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
 /**
  * Notification Type
  */
+@Getter
+@RequiredArgsConstructor
 public enum NotificationType {
-  POST_LIKE,
-  COMMENT_ADDED,
-  COMMENT_LIKE,
-  FOLLOW_REQUEST,
-  FOLLOW,
-  FOLLOW_ACCEPT
+  POST_LIKE(PostLikeMeta.class),
+  COMMENT_ADDED(PostCommentMeta.class),
+  COMMENT_LIKE(CommentLikeMeta.class),
+  FOLLOW_REQUEST(FollowRequestMeta.class),
+  FOLLOW(FollowMeta.class),
+  FOLLOW_ACCEPT(FollowAcceptMeta.class);
+
+  /*타입별 metadata 클래스*/
+  private final Class<? extends NotificationMetaData> metadataType;
 }
@@ -0,0 +1,22 @@
+package com.threadly.notification.core.port.mail.in;
+
+import com.threadly.notification.core.port.mail.in.dto.SendMailCommand;
+import java.time.LocalDateTime;
+
+/**
+ * 메일 outbox 적재 usecase
+ */
+public interface MailOutboxUseCase {
+
+  /**
+   * 메일 전송 요청을 outbox 에 적재
+   * <p>
+   * 같은 eventId 로 이미 적재된 요청은 다시 적재하지 않는다.
+   *
+   * @param eventId
+   * @param command
+   * @param occurredAt 요청 발생 시각, 없으면 적재 시각
+   * @return 새로 적재한 경우 true
+   */
+  boolean enqueue(String eventId, SendMailCommand command, LocalDateTime occurredAt);
+}
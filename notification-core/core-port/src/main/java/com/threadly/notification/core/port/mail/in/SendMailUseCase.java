@@ -1,6 +1,8 @@
 package com.threadly.notification.core.port.mail.in;
 
+import com.threadly.notification.core.port.mail.in.dto.MailBatchResult;
 import com.threadly.notification.core.port.mail.in.dto.SendMailCommand;
+import java.util.List;
 
 /**
  * 메일  이벤트 저장 처리 usecase
@@ -8,4 +10,14 @@ import com.threadly.notification.core.port.mail.in.dto.SendMailCommand;
 public interface SendMailUseCase {
 
   void send(SendMailCommand command);
+
+  /**
+   * 여러 메일을 하나의 SMTP 연결로 연속 전송
+   * <p>
+   * 일부 메일이 실패해도 예외 없이 나머지를 전송하고, 실패한 메일은 결과에 순번으로 남긴다.
+   *
+   * @param commands
+   * @return
+   */
+  MailBatchResult sendAll(List<SendMailCommand> commands);
 }
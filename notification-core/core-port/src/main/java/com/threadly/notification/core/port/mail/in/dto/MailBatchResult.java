@@ -0,0 +1,28 @@
+package com.threadly.notification.core.port.mail.in.dto;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 메일 일괄 전송 결과
+ *
+ * @param failures  전송 실패한 메일의 요청 순번 -> 실패 사유
+ * @param throttled 전송 속도 제한으로 보내지 않은 메일의 요청 순번, 실패가 아니므로 시도 횟수에 포함하지 않는다
+ */
+public record MailBatchResult(
+    Map<Integer, String> failures,
+    Set<Integer> throttled
+) {
+
+  public MailBatchResult(Map<Integer, String> failures) {
+    this(failures, Set.of());
+  }
+
+  public boolean isFailed(int index) {
+    return failures.containsKey(index);
+  }
+
+  public boolean isThrottled(int index) {
+    return throttled.contains(index);
+  }
+}
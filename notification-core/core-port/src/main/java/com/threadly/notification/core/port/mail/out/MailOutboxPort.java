@@ -0,0 +1,96 @@
+package com.threadly.notification.core.port.mail.out;
+
+import com.threadly.notification.core.domain.mail.MailType;
+import com.threadly.notification.core.port.mail.in.dto.SendMailCommand;
+import com.threadly.notification.core.port.mail.out.dto.OutboxMail;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 메일 outbox port
+ */
+public interface MailOutboxPort {
+
+  /**
+   * 전송 대기 메일 저장
+   *
+   * @param eventId
+   * @param command
+   * @param delay      전송 시작까지 대기 시간
+   * @param occurredAt 요청 발생 시각
+   * @return 새로 저장한 경우 true, 같은 eventId 가 이미 있으면 false
+   */
+  boolean append(String eventId, SendMailCommand command, Duration delay,
+      LocalDateTime occurredAt);
+
+  /**
+   * 같은 메일 타입, 수신자에게 주어진 메일보다 최신인 메일이 있는지 조회
+   * <p>
+   * 발생 시각이 늦을수록, 같으면 eventId 가 클수록 최신이다. 상태와 관계없이 비교한다.
+   *
+   * @param mailType
+   * @param to
+   * @param occurredAt
+   * @param eventId
+   * @return
+   */
+  boolean hasNewer(MailType mailType, String to, LocalDateTime occurredAt, String eventId);
+
+  /**
+   * 같은 메일 타입, 수신자의 가장 최신 메일보다 오래된 전송 대기 메일을 전송하지 않도록 처리
+   * <p>
+   * 가장 최신 메일은 처리하지 않으므로 동시에 호출되어도 최신 메일 하나는 남는다.
+   *
+   * @param mailType
+   * @param to
+   * @return 처리한 메일 수
+   */
+  long supersedePending(MailType mailType, String to);
+
+  /**
+   * 전송 시각이 된 메일을 limit 개까지 전송 중 상태로 변경 후 조회
+   * <p>
+   * lease 가 만료된 전송 중 메일(worker 비정상 종료)도 다시 가져온다. 인증 메일처럼 우선순위가 높은 메일을 먼저, 같은
+   * 우선순위에서는 전송 시각이 이른 메일을 먼저 가져온다. 가져올 때마다 시도 횟수가 1 증가한다.
+   *
+   * @param limit 최대 개수
+   * @param lease 전송 중 상태 유지 시간
+   * @return 없으면 빈 목록
+   */
+  List<OutboxMail> claim(int limit, Duration lease);
+
+  /**
+   * 전송 완료 처리
+   *
+   * @param id
+   */
+  void markSent(String id);
+
+  /**
+   * 재시도 예약
+   *
+   * @param id
+   * @param nextAttemptAt
+   * @param reason
+   */
+  void markRetry(String id, LocalDateTime nextAttemptAt, String reason);
+
+  /**
+   * 전송 속도 제한으로 보내지 못한 메일을 다시 전송 대기로 변경
+   * <p>
+   * 전송 실패가 아니므로 가져올 때 늘린 시도 횟수를 되돌린다.
+   *
+   * @param id
+   * @param nextAttemptAt
+   */
+  void markThrottled(String id, LocalDateTime nextAttemptAt);
+
+  /**
+   * 최종 실패 처리
+   *
+   * @param id
+   * @param reason
+   */
+  void markFailed(String id, String reason);
+}
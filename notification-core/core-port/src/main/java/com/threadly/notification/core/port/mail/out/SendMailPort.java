@@ -1,5 +1,10 @@
 package com.threadly.notification.core.port.mail.out;
 
+import com.threadly.notification.core.domain.mail.MailType;
+import com.threadly.notification.core.port.mail.in.dto.MailBatchResult;
+import com.threadly.notification.core.port.mail.out.dto.MailContent;
+import java.util.List;
+
 /**
  * 메일 전송 port
  */
@@ -8,8 +13,18 @@ public interface SendMailPort {
   /**
    * 메일 전송
    *
+   * @param mailType 전송 우선순위 결정에 사용
+   * @param to
    * @param subject
    * @param context
    */
-  void sendMail(String to, String subject, String context);
+  void sendMail(MailType mailType, String to, String subject, String context);
+
+  /**
+   * 여러 메일을 하나의 SMTP 연결로 연속 전송
+   *
+   * @param mails
+   * @return 실패한 메일의 순번과 사유
+   */
+  MailBatchResult sendMails(List<MailContent> mails);
 }
@@ -0,0 +1,20 @@
+package com.threadly.notification.core.port.mail.out.dto;
+
+import com.threadly.notification.core.domain.mail.MailType;
+
+/**
+ * 렌더링이 끝난 전송할 메일
+ *
+ * @param mailType 전송 우선순위 결정에 사용
+ * @param to
+ * @param subject
+ * @param context
+ */
+public record MailContent(
+    MailType mailType,
+    String to,
+    String subject,
+    String context
+) {
+
+}
@@ -0,0 +1,20 @@
+package com.threadly.notification.core.port.mail.out.dto;
+
+import com.threadly.notification.core.port.mail.in.dto.SendMailCommand;
+
+/**
+ * outbox 에서 가져온 전송 대기 메일
+ *
+ * @param id
+ * @param eventId
+ * @param command
+ * @param attempts 이번 시도를 포함한 시도 횟수
+ */
+public record OutboxMail(
+    String id,
+    String eventId,
+    SendMailCommand command,
+    int attempts
+) {
+
+}
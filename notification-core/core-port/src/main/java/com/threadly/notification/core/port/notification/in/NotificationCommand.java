@@ -2,8 +2,8 @@ package com.threadly.notification.core.port.notification.in;
 
 import com.threadly.notification.core.domain.user.ActorProfile;
 import com.threadly.notification.core.domain.notification.NotificationType;
+import com.threadly.notification.core.domain.notification.metadata.NotificationMetaData;
 import java.time.LocalDateTime;
-import java.util.Map;
 
 /**
  * 게시글 좋아요 알림 command
@@ -12,7 +12,7 @@ public record NotificationCommand(
     String eventId,
     String receiverId,
     NotificationType notificationType,
-    Map<String, Object> metadata,
+    NotificationMetaData metadata,
     LocalDateTime occurredAt,
     ActorProfile actorProfile
 ) {
@@ -0,0 +1,26 @@
+package com.threadly.notification.core.port.notification.in;
+
+import com.threadly.notification.core.port.notification.in.dto.DeadLetterReplayCommand;
+import com.threadly.notification.core.port.notification.in.dto.DeadLetterReplayResult;
+import com.threadly.notification.core.port.notification.in.dto.NotificationDeadLetterCommand;
+
+/**
+ * 최종 실패 알림 보관 및 재처리 usecase
+ */
+public interface NotificationDeadLetterUseCase {
+
+  /**
+   * 최종 실패 알림 보관
+   *
+   * @param command
+   */
+  void record(NotificationDeadLetterCommand command);
+
+  /**
+   * 보관된 최종 실패 알림 재처리
+   *
+   * @param command
+   * @return
+   */
+  DeadLetterReplayResult replay(DeadLetterReplayCommand command);
+}
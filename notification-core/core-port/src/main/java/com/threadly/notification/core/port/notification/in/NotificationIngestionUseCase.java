@@ -1,5 +1,8 @@
 package com.threadly.notification.core.port.notification.in;
 
+import com.threadly.notification.core.port.notification.in.dto.NotificationBatchResult;
+import java.util.List;
+
 /**
  * 알림 이벤트 저장 처리 usecase
  */
@@ -12,4 +15,12 @@ public interface NotificationIngestionUseCase {
    */
   void ingest(NotificationCommand command);
 
+  /**
+   * 알림 이벤트 일괄 저장
+   *
+   * @param commands
+   * @return 레코드 단위 처리 결과
+   */
+  NotificationBatchResult ingestBatch(List<NotificationCommand> commands);
+
 }
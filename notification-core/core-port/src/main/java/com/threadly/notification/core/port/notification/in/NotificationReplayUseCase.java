@@ -0,0 +1,33 @@
+package com.threadly.notification.core.port.notification.in;
+
+import com.threadly.notification.core.port.notification.in.dto.ReplayBatch;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 실시간 연결 재동기화용 알림 재전송 usecase
+ */
+public interface NotificationReplayUseCase {
+
+  /**
+   * 주어진 sortId 이후 알림을 sortId 오름차순 batch 로 재전송
+   * <p>
+   * afterSortId 가 없으면 가장 최근 limit 건을 재전송한다.
+   *
+   * @param receiverId
+   * @param afterSortId
+   * @param limit         재전송할 최대 알림 수
+   * @param batchConsumer
+   */
+  void replayAfter(String receiverId, String afterSortId, int limit,
+      Consumer<ReplayBatch> batchConsumer);
+
+  /**
+   * 주어진 eventId 및 receiverId에 해당하는 알림의 sortId 조회
+   *
+   * @param receiverId
+   * @param eventId
+   * @return
+   */
+  Optional<String> findSortId(String receiverId, String eventId);
+}
@@ -0,0 +1,16 @@
+package com.threadly.notification.core.port.notification.in.dto;
+
+/**
+ * 최종 실패 알림 재처리 command
+ *
+ * @param batchSize   batch 당 재처리 건수
+ * @param maxRecords  요청 1회당 최대 재처리 건수
+ * @param pauseMillis batch 사이 대기 시간(ms)
+ */
+public record DeadLetterReplayCommand(
+    int batchSize,
+    int maxRecords,
+    long pauseMillis
+) {
+
+}
@@ -0,0 +1,16 @@
+package com.threadly.notification.core.port.notification.in.dto;
+
+/**
+ * 최종 실패 알림 재처리 결과
+ *
+ * @param replayed 재처리에 성공한 건수
+ * @param failed   재처리에 실패한 건수
+ * @param hasMore  이번 요청에서 시도하지 못한 재처리 대기 알림이 남아있는지 여부
+ */
+public record DeadLetterReplayResult(
+    int replayed,
+    int failed,
+    boolean hasMore
+) {
+
+}
@@ -0,0 +1,19 @@
+package com.threadly.notification.core.port.notification.in.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 이벤트 일괄 저장 결과
+ *
+ * @param succeededEventIds  저장 및 발행된 eventId 목록
+ * @param duplicatedEventIds 이미 저장되어 있어 건너뛴 eventId 목록
+ * @param failures           저장 실패한 eventId -> 실패 사유
+ */
+public record NotificationBatchResult(
+    List<String> succeededEventIds,
+    List<String> duplicatedEventIds,
+    Map<String, String> failures
+) {
+
+}
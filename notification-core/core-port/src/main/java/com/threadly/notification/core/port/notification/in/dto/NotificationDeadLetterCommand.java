@@ -0,0 +1,26 @@
+package com.threadly.notification.core.port.notification.in.dto;
+
+import com.threadly.notification.core.port.notification.in.NotificationCommand;
+
+/**
+ * 최종 실패 알림 보관 command
+ *
+ * @param command          실패한 알림
+ * @param topic            DLT 토픽
+ * @param partition        DLT 파티션
+ * @param offset           DLT offset
+ * @param originalTopic    원본 토픽
+ * @param exceptionMessage 마지막 실패 사유
+ * @param attempts         처리 시도 횟수
+ */
+public record NotificationDeadLetterCommand(
+    NotificationCommand command,
+    String topic,
+    Integer partition,
+    Long offset,
+    String originalTopic,
+    String exceptionMessage,
+    int attempts
+) {
+
+}
@@ -0,0 +1,19 @@
+package com.threadly.notification.core.port.notification.in.dto;
+
+import com.threadly.notification.core.port.notification.out.dto.NotificationMessage;
+import java.util.List;
+
+/**
+ * 알림 재전송 batch
+ *
+ * @param messages   sortId 오름차순으로 정렬된 알림 목록
+ * @param lastSortId batch 마지막 알림의 sortId, 다음 재전송의 기준이 된다
+ * @param done       요청한 범위의 마지막 batch 인지 여부
+ */
+public record ReplayBatch(
+    List<NotificationMessage> messages,
+    String lastSortId,
+    boolean done
+) {
+
+}
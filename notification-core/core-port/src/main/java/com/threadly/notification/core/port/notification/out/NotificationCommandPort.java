@@ -1,7 +1,10 @@
 package com.threadly.notification.core.port.notification.out;
 
 import com.threadly.notification.core.domain.notification.Notification;
+import com.threadly.notification.core.port.notification.out.dto.SavedNotificationBatch;
 import com.threadly.notification.core.port.notification.out.dto.SavedNotificationEventDoc;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * 게시글 좋아요 command port
@@ -15,6 +18,26 @@ public interface NotificationCommandPort {
    */
   SavedNotificationEventDoc save(Notification notification);
 
+  /**
+   * 주어진 eventId 의 notification 이 없을 때만 저장
+   * <p>
+   * 이미 저장된 eventId 이면 기존 doc 을 덮어쓰지 않고 빈 값을 반환한다.
+   *
+   * @param notification
+   * @return
+   */
+  Optional<SavedNotificationEventDoc> saveIfAbsent(Notification notification);
+
+  /**
+   * notification 일괄 저장
+   * <p>
+   * 한 건의 실패가 나머지 저장을 막지 않도록 unordered 로 저장한다.
+   *
+   * @param notifications
+   * @return
+   */
+  SavedNotificationBatch saveAll(List<Notification> notifications);
+
 
   /**
    * 주어진 eventId에 해당하는 알림 데이터 삭제
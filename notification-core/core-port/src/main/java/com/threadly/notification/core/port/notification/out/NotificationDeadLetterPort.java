@@ -0,0 +1,42 @@
+package com.threadly.notification.core.port.notification.out;
+
+import com.threadly.notification.core.port.notification.in.dto.NotificationDeadLetterCommand;
+import com.threadly.notification.core.port.notification.out.dto.PendingDeadLetter;
+import java.util.List;
+
+/**
+ * 최종 실패 알림 보관 port
+ */
+public interface NotificationDeadLetterPort {
+
+  /**
+   * 최종 실패 알림 저장
+   *
+   * @param command
+   */
+  void save(NotificationDeadLetterCommand command);
+
+  /**
+   * 재처리 대기 중인 알림을 id 오름차순으로 조회
+   *
+   * @param cursorId 이전 조회의 마지막 id, 처음 조회하는 경우 null
+   * @param limit
+   * @return
+   */
+  List<PendingDeadLetter> fetchPending(String cursorId, int limit);
+
+  /**
+   * 재처리 완료 처리
+   *
+   * @param id
+   */
+  void markReplayed(String id);
+
+  /**
+   * 재처리 실패 기록
+   *
+   * @param id
+   * @param reason
+   */
+  void markReplayFailed(String id, String reason);
+}
@@ -0,0 +1,19 @@
+package com.threadly.notification.core.port.notification.out;
+
+/**
+ * 알림 수신 흐름 제어 port
+ * <p>
+ * 푸시 단계가 밀릴 때 알림 수신을 잠시 멈추고, 해소되면 다시 받는다.
+ */
+public interface NotificationIngestionFlowPort {
+
+  /**
+   * 알림 수신 일시 중지
+   */
+  void pause();
+
+  /**
+   * 알림 수신 재개
+   */
+  void resume();
+}
@@ -3,6 +3,7 @@ package com.threadly.notification.core.port.notification.out;
 import com.threadly.notification.core.domain.notification.Notification;
 import com.threadly.notification.core.port.notification.in.dto.GetNotificationsQuery;
 import com.threadly.notification.core.port.notification.in.dto.NotificationDetails;
+import com.threadly.notification.core.port.notification.out.dto.ReplayNotification;
 import java.util.List;
 import java.util.Optional;
 
@@ -51,4 +52,25 @@ public interface NotificationQueryPort {
    * @return
    */
   Optional<Notification> fetchByEventIdAndReceiverId(String eventId, String receiverId);
+
+  /**
+   * 주어진 receiverId에 해당하는 알림 중 afterSortId 이후 알림 목록을 sortId 오름차순으로 조회
+   * <p>
+   * afterSortId 가 없으면 가장 최근 limit 건을 오름차순으로 조회한다.
+   *
+   * @param receiverId
+   * @param afterSortId
+   * @param limit
+   * @return
+   */
+  List<ReplayNotification> fetchAfterSortId(String receiverId, String afterSortId, int limit);
+
+  /**
+   * 주어진 eventId 및 receiverId에 해당하는 알림의 sortId 조회
+   *
+   * @param eventId
+   * @param receiverId
+   * @return
+   */
+  Optional<String> fetchSortIdByEventIdAndReceiverId(String eventId, String receiverId);
 }
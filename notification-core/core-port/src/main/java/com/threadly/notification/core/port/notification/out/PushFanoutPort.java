@@ -0,0 +1,29 @@
+package com.threadly.notification.core.port.notification.out;
+
+import com.threadly.notification.core.port.notification.out.dto.PushFrame;
+import java.util.function.Consumer;
+
+/**
+ * 푸시 frame 노드 간 전달 port
+ * <p>
+ * 이벤트를 소비한 노드가 아닌 다른 노드에 연결된 사용자에게도 푸시가 전달되도록 직렬화된 frame 을 사용자의 세션을 가진 노드에
+ * 전달한다.
+ */
+public interface PushFanoutPort {
+
+  /**
+   * 지정한 노드에 frame 발행
+   *
+   * @param nodeId 수신 노드 id
+   * @param frame
+   */
+  void publish(String nodeId, PushFrame frame);
+
+  /**
+   * 이 노드로 발행된 frame 을 수신할 subscriber 등록
+   *
+   * @param nodeId     이 노드 id
+   * @param subscriber
+   */
+  void subscribe(String nodeId, Consumer<PushFrame> subscriber);
+}
@@ -0,0 +1,48 @@
+package com.threadly.notification.core.port.notification.out;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 푸시 presence port
+ * <p>
+ * userId 별로 실시간 세션을 가진 노드를 lease 와 함께 기록한다. lease 가 끝날 때까지 갱신되지 않은 노드(비정상 종료 등)는 조회되지
+ * 않는다.
+ */
+public interface PushPresencePort {
+
+  /**
+   * userId 의 세션을 가진 노드로 등록
+   *
+   * @param userId
+   * @param nodeId
+   * @param lease
+   */
+  void register(String userId, String nodeId, Duration lease);
+
+  /**
+   * userId 의 세션을 가진 노드에서 제거
+   *
+   * @param userId
+   * @param nodeId
+   */
+  void unregister(String userId, String nodeId);
+
+  /**
+   * 노드에 세션이 있는 userId 들의 lease 갱신
+   *
+   * @param nodeId
+   * @param userIds
+   * @param lease
+   */
+  void heartbeat(String nodeId, Collection<String> userIds, Duration lease);
+
+  /**
+   * userId 의 세션을 가진 노드 조회
+   *
+   * @param userId
+   * @return lease 가 유효한 노드 id, 없으면 빈 Set
+   */
+  Set<String> nodesOf(String userId);
+}
@@ -0,0 +1,16 @@
+package com.threadly.notification.core.port.notification.out.dto;
+
+import com.threadly.notification.core.port.notification.in.NotificationCommand;
+
+/**
+ * 재처리 대기 중인 최종 실패 알림
+ *
+ * @param id
+ * @param command
+ */
+public record PendingDeadLetter(
+    String id,
+    NotificationCommand command
+) {
+
+}
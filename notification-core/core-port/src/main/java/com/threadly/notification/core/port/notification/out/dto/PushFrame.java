@@ -0,0 +1,20 @@
+package com.threadly.notification.core.port.notification.out.dto;
+
+/**
+ * 노드 간 전파되는 푸시 frame
+ *
+ * @param userId            수신자 userId
+ * @param sortId            알림 정렬 기준 id, 재전송 버퍼의 순서 기준이 된다
+ * @param payload           세션에 그대로 전송할 인코딩된 메시지
+ * @param originNodeId      발행한 노드 id
+ * @param publishedAtMillis 발행 시각(epoch millis)
+ */
+public record PushFrame(
+    String userId,
+    String sortId,
+    PushPayload payload,
+    String originNodeId,
+    long publishedAtMillis
+) {
+
+}
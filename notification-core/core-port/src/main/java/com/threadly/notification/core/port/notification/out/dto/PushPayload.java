@@ -0,0 +1,75 @@
+package com.threadly.notification.core.port.notification.out.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 한 번 인코딩한 UTF-8 푸시 메시지
+ * <p>
+ * 사용자의 모든 세션, 재전송 버퍼, 노드 간 전달이 같은 byte 배열을 공유해 메시지마다 다시 직렬화, 인코딩하지 않는다. 배열은 생성 후
+ * 수정하지 않는다.
+ */
+public final class PushPayload {
+
+  private final byte[] utf8;
+
+  private PushPayload(byte[] utf8) {
+    this.utf8 = utf8;
+  }
+
+  /**
+   * 인코딩된 배열을 복사하지 않고 감싸기
+   * <p>
+   * 호출 이후 배열을 수정하지 않아야 한다.
+   *
+   * @param utf8
+   * @return
+   */
+  public static PushPayload wrap(byte[] utf8) {
+    return new PushPayload(utf8);
+  }
+
+  /**
+   * 문자열을 UTF-8 로 인코딩해 생성
+   *
+   * @param text
+   * @return
+   */
+  public static PushPayload of(String text) {
+    return new PushPayload(text.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 공유 중인 UTF-8 배열
+   * <p>
+   * 복사하지 않으므로 수정하지 않는다.
+   *
+   * @return
+   */
+  public byte[] bytes() {
+    return utf8;
+  }
+
+  public int length() {
+    return utf8.length;
+  }
+
+  public String asString() {
+    return new String(utf8, StandardCharsets.UTF_8);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return this == o || (o instanceof PushPayload other && Arrays.equals(utf8, other.utf8));
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(utf8);
+  }
+
+  @Override
+  public String toString() {
+    return asString();
+  }
+}
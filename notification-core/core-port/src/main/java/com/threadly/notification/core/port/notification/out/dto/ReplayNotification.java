@@ -0,0 +1,16 @@
+package com.threadly.notification.core.port.notification.out.dto;
+
+import com.threadly.notification.core.domain.notification.Notification;
+
+/**
+ * 재전송 대상 알림
+ *
+ * @param notification
+ * @param sortId       알림 정렬 기준 id (ObjectId hex)
+ */
+public record ReplayNotification(
+    Notification notification,
+    String sortId
+) {
+
+}
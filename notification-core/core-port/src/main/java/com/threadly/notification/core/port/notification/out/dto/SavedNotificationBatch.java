@@ -0,0 +1,19 @@
+package com.threadly.notification.core.port.notification.out.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * NotificationEventDoc 일괄 저장 응답 dto
+ *
+ * @param saved              저장된 doc 목록
+ * @param duplicatedEventIds 이미 존재하여 저장되지 않은 eventId 목록
+ * @param failures           저장 실패한 eventId -> 실패 사유
+ */
+public record SavedNotificationBatch(
+    List<SavedNotificationEventDoc> saved,
+    List<String> duplicatedEventIds,
+    Map<String, String> failures
+) {
+
+}
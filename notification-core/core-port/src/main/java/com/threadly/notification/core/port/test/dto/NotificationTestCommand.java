@@ -2,8 +2,8 @@ package com.threadly.notification.core.port.test.dto;
 
 import com.threadly.notification.core.domain.user.ActorProfile;
 import com.threadly.notification.core.domain.notification.NotificationType;
+import com.threadly.notification.core.domain.notification.metadata.NotificationMetaData;
 import java.time.LocalDateTime;
-import java.util.Map;
 
 /**
  * Kafka Notification 테스트 커맨드
@@ -21,7 +21,7 @@ public record NotificationTestCommand(
     NotificationType notificationType,
     ActorProfile actorProfile,
     LocalDateTime occurredAt,
-    Map<String, Object> metadata
+    NotificationMetaData metadata
 ) {
 
 }
@@ -9,6 +9,7 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-thymeleaf")
     implementation("org.springframework:spring-tx")
+    implementation("io.micrometer:micrometer-core")
 
 
 }
\ No newline at end of file
@@ -2,19 +2,25 @@ package com.threadly.notification.core.service.mail;
 
 import com.threadly.notification.commons.exception.ErrorCode;
 import com.threadly.notification.commons.exception.mail.EmailVerificationException;
+import com.threadly.notification.core.domain.mail.MailType;
 import com.threadly.notification.core.domain.mail.model.VerificationModel;
 import com.threadly.notification.core.domain.mail.model.WelcomeModel;
 import com.threadly.notification.core.port.mail.in.SendMailUseCase;
+import com.threadly.notification.core.port.mail.in.dto.MailBatchResult;
 import com.threadly.notification.core.port.mail.in.dto.SendMailCommand;
 import com.threadly.notification.core.port.mail.out.SendMailPort;
+import com.threadly.notification.core.port.mail.out.dto.MailContent;
+import com.threadly.notification.core.service.mail.template.MailTemplateRenderer;
 import com.threadly.notification.core.service.utils.MailModelMapper;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
 
 @Service
 @RequiredArgsConstructor
@@ -23,40 +29,82 @@ public class SendMailService implements SendMailUseCase {
 
   private final SendMailPort sendMailPort;
   private final MailModelMapper mailModelMapper;
-  private final TemplateEngine templateEngine;
+  private final MailTemplateRenderer mailTemplateRenderer;
 
   @Override
   public void send(SendMailCommand command) {
-    switch (command.mailType()) {
+    MailContent mail = render(command);
+    sendMail(mail.mailType(), mail.to(), mail.subject(), mail.context());
+  }
+
+  @Override
+  public MailBatchResult sendAll(List<SendMailCommand> commands) {
+    Map<Integer, String> failures = new HashMap<>();
+    List<MailContent> mails = new ArrayList<>(commands.size());
+    List<Integer> indexes = new ArrayList<>(commands.size());
+
+    for (int i = 0; i < commands.size(); i++) {
+      try {
+        mails.add(render(commands.get(i)));
+        indexes.add(i);
+      } catch (Exception e) {
+        log.error("메일 렌더링 실패: mailType={}, error={}", commands.get(i).mailType(),
+            e.getMessage());
+        failures.put(i, e.getMessage());
+      }
+    }
+    if (mails.isEmpty()) {
+      return new MailBatchResult(failures);
+    }
+
+    /*전송 요청 순번을 command 순번으로 변환*/
+    MailBatchResult sent = sendMailPort.sendMails(mails);
+    sent.failures().forEach((index, reason) -> failures.put(indexes.get(index), reason));
+    Set<Integer> throttled = new HashSet<>();
+    sent.throttled().forEach(index -> throttled.add(indexes.get(index)));
+
+    log.info("메일 일괄 전송: total={}, failed={}, throttled={}", commands.size(), failures.size(),
+        throttled.size());
+    return new MailBatchResult(failures, throttled);
+  }
+
+  /**
+   * 메일 타입별 제목, 본문 생성
+   *
+   * @param command
+   * @return
+   */
+  private MailContent render(SendMailCommand command) {
+    return switch (command.mailType()) {
       case WELCOME -> {
         log.info("가입 환영 메일 전송: mailType={}, to={}", command.mailType(), command.to());
-        sendWelcomeMail(command);
+        yield renderWelcomeMail(command);
       }
       case VERIFICATION -> {
         log.info("인증 메일 전송: mailType={}, to={}", command.mailType(), command.to());
-        sendVerificationMail(command);
+        yield renderVerificationMail(command);
       }
-    }
+    };
   }
 
   /**
-   * 가입 환영 메일 전송
+   * 가입 환영 메일 생성
    *
    * @param command
    */
-  private void sendWelcomeMail(SendMailCommand command) {
+  private MailContent renderWelcomeMail(SendMailCommand command) {
     WelcomeModel model = mailModelMapper.toTypeModel(command);
 
     String subject = "[" + model.userName() + "] 님 가입을 환엽합니다.";
     String context = getContext(null, "signup-complete-mail");
 
-    sendMail(command.to(), subject, context);
+    return new MailContent(MailType.WELCOME, command.to(), subject, context);
   }
 
   /**
-   * 인증 메일 전송
+   * 인증 메일 생성
    */
-  private void sendVerificationMail(SendMailCommand command) {
+  private MailContent renderVerificationMail(SendMailCommand command) {
     VerificationModel model = mailModelMapper.toTypeModel(command);
 
     Map<String, Object> values = new HashMap<>();
@@ -65,19 +113,20 @@ public class SendMailService implements SendMailUseCase {
     String subject = "[Threadly] 본인 인증을 위한 이메일입니다.";
     String context = getContext(values, "verify-email-mail");
 
-    sendMail(command.to(), subject, context);
+    return new MailContent(MailType.VERIFICATION, command.to(), subject, context);
   }
 
   /**
    * 메일 발송
    *
+   * @param mailType
    * @param to
    * @param subject
    * @param context
    */
-  private void sendMail(String to, String subject, String context) {
+  private void sendMail(MailType mailType, String to, String subject, String context) {
     try {
-      sendMailPort.sendMail(to, subject, context);
+      sendMailPort.sendMail(mailType, to, subject, context);
     } catch (Exception e) {
       log.error("메일 전송 실패, error={}", e.getMessage());
       throw new EmailVerificationException(ErrorCode.EMAIL_SENDING_FAILED);
@@ -92,9 +141,6 @@ public class SendMailService implements SendMailUseCase {
    * @return
    */
   private String getContext(Map<String, Object> values, String template) {
-    Context context = new Context();
-    context.setVariables(values);
-
-    return templateEngine.process(template, context);
+    return mailTemplateRenderer.render(template, values);
   }
 }
@@ -0,0 +1,92 @@
+package com.threadly.notification.core.service.mail.outbox;
+
+import com.threadly.notification.core.domain.mail.MailType;
+import com.threadly.notification.core.port.mail.in.MailOutboxUseCase;
+import com.threadly.notification.core.port.mail.in.dto.SendMailCommand;
+import com.threadly.notification.core.port.mail.out.MailOutboxPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 메일 outbox 적재 서비스
+ * <p>
+ * 수신한 메일 요청은 저장만 하고 바로 반환한다. 실제 전송은 {@link MailOutboxWorkerPool} 이 한다.
+ * <p>
+ * 인증 메일은 coalesce-window 만큼 늦게 전송하고, 그 사이 같은 수신자에게 새 인증 메일이 적재되면 이전 메일은 전송하지
+ * 않는다. 재전송 버튼을 반복해서 눌러도 마지막 요청 후 window 동안 추가 요청이 없을 때 한 통만 전송된다.
+ * <p>
+ * 최신 여부는 적재 순서가 아닌 요청 발생 시각(같으면 eventId)으로 판단한다. 재시도로 늦게 도착한 이전 요청은 적재하지 않고,
+ * 동시에 적재된 요청끼리는 가장 최신 요청만 남는다.
+ */
+@Service
+@Slf4j
+public class MailOutboxService implements MailOutboxUseCase {
+
+  private static final Set<MailType> COALESCED_TYPES = EnumSet.of(MailType.VERIFICATION);
+
+  private final MailOutboxPort mailOutboxPort;
+  private final Duration coalesceWindow;
+
+  private final Counter enqueuedCounter;
+  private final Counter duplicateCounter;
+  private final Counter coalescedCounter;
+
+  public MailOutboxService(MailOutboxPort mailOutboxPort, MeterRegistry meterRegistry,
+      @Value("${notification.mail.outbox.coalesce-window-millis:5000}") long coalesceWindowMillis) {
+    this.mailOutboxPort = mailOutboxPort;
+    this.coalesceWindow = Duration.ofMillis(Math.max(0L, coalesceWindowMillis));
+    this.enqueuedCounter = Counter.builder("mail_outbox_enqueued")
+        .description("outbox 에 적재된 메일 수")
+        .register(meterRegistry);
+    this.duplicateCounter = Counter.builder("mail_outbox_duplicate")
+        .description("이미 적재되어 무시한 메일 수")
+        .register(meterRegistry);
+    this.coalescedCounter = Counter.builder("mail_outbox_coalesced")
+        .description("같은 수신자의 최신 메일로 대체되어 전송하지 않은 메일 수")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public boolean enqueue(String eventId, SendMailCommand command, LocalDateTime occurredAt) {
+    boolean coalesced = isCoalesced(command.mailType());
+    Duration delay = coalesced ? coalesceWindow : Duration.ZERO;
+    LocalDateTime orderedAt = occurredAt != null ? occurredAt : LocalDateTime.now();
+
+    /*이미 더 최신 요청이 있으면 이전 요청은 적재하지 않음*/
+    if (coalesced && mailOutboxPort.hasNewer(command.mailType(), command.to(), orderedAt,
+        eventId)) {
+      log.info("최신 메일이 있어 이전 메일 요청 생략: eventId={}, mailType={}, to={}", eventId,
+          command.mailType(), command.to());
+      coalescedCounter.increment();
+      return false;
+    }
+
+    if (!mailOutboxPort.append(eventId, command, delay, orderedAt)) {
+      log.info("이미 적재된 메일 요청: eventId={}, mailType={}", eventId, command.mailType());
+      duplicateCounter.increment();
+      return false;
+    }
+    enqueuedCounter.increment();
+
+    if (coalesced) {
+      long superseded = mailOutboxPort.supersedePending(command.mailType(), command.to());
+      if (superseded > 0) {
+        log.info("이전 메일 전송 생략: mailType={}, to={}, superseded={}", command.mailType(),
+            command.to(), superseded);
+        coalescedCounter.increment(superseded);
+      }
+    }
+    return true;
+  }
+
+  private boolean isCoalesced(MailType mailType) {
+    return !coalesceWindow.isZero() && COALESCED_TYPES.contains(mailType);
+  }
+}
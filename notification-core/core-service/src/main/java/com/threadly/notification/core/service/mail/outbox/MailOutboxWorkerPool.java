@@ -0,0 +1,240 @@
+package com.threadly.notification.core.service.mail.outbox;
+
+import com.threadly.notification.core.port.mail.in.SendMailUseCase;
+import com.threadly.notification.core.port.mail.in.dto.MailBatchResult;
+import com.threadly.notification.core.port.mail.in.dto.SendMailCommand;
+import com.threadly.notification.core.port.mail.out.MailOutboxPort;
+import com.threadly.notification.core.port.mail.out.dto.OutboxMail;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메일 outbox 전송 worker pool
+ * <p>
+ * worker 수만큼의 스레드가 outbox 에서 메일을 batch-size 개까지 가져와 하나의 SMTP 연결로 연속 전송한다. 가져올 메일이 없으면
+ * poll-interval 만큼 쉰다.
+ * 실패한 메일은 base-backoff * 2^(시도 횟수 - 1) (최대 max-backoff) 뒤로 재시도를 예약하고, max-attempts 를 넘으면
+ * 최종 실패로 남긴다. 전송 속도 제한으로 보내지 못한 메일은 시도 횟수를 늘리지 않고 base-backoff 뒤에 다시 보낸다.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "notification.mail.outbox.worker.enabled", havingValue = "true",
+    matchIfMissing = true)
+public class MailOutboxWorkerPool implements SmartLifecycle {
+
+  private final MailOutboxPort mailOutboxPort;
+  private final SendMailUseCase sendMailUseCase;
+
+  private final int workers;
+  private final int batchSize;
+  private final int maxAttempts;
+  private final long pollIntervalMillis;
+  private final Duration lease;
+  private final long baseBackoffMillis;
+  private final long maxBackoffMillis;
+
+  private final Counter sentCounter;
+  private final Counter retryCounter;
+  private final Counter failedCounter;
+  private final Counter throttledCounter;
+  private final Timer sendTimer;
+
+  private volatile boolean running;
+  private ExecutorService executor;
+
+  public MailOutboxWorkerPool(MailOutboxPort mailOutboxPort, SendMailUseCase sendMailUseCase,
+      MeterRegistry meterRegistry,
+      @Value("${notification.mail.outbox.worker.size:4}") int workers,
+      @Value("${notification.mail.outbox.batch-size:10}") int batchSize,
+      @Value("${notification.mail.outbox.max-attempts:5}") int maxAttempts,
+      @Value("${notification.mail.outbox.poll-interval-millis:500}") long pollIntervalMillis,
+      @Value("${notification.mail.outbox.lease-millis:60000}") long leaseMillis,
+      @Value("${notification.mail.outbox.base-backoff-millis:1000}") long baseBackoffMillis,
+      @Value("${notification.mail.outbox.max-backoff-millis:600000}") long maxBackoffMillis) {
+    this.mailOutboxPort = mailOutboxPort;
+    this.sendMailUseCase = sendMailUseCase;
+    this.workers = Math.max(1, workers);
+    this.batchSize = Math.max(1, batchSize);
+    this.maxAttempts = maxAttempts;
+    this.pollIntervalMillis = pollIntervalMillis;
+    this.lease = Duration.ofMillis(leaseMillis);
+    this.baseBackoffMillis = baseBackoffMillis;
+    this.maxBackoffMillis = maxBackoffMillis;
+
+    this.sentCounter = Counter.builder("mail_outbox_processed")
+        .tag("result", "sent")
+        .description("outbox 에서 처리된 메일 수")
+        .register(meterRegistry);
+    this.retryCounter = Counter.builder("mail_outbox_processed")
+        .tag("result", "retry")
+        .description("outbox 에서 처리된 메일 수")
+        .register(meterRegistry);
+    this.failedCounter = Counter.builder("mail_outbox_processed")
+        .tag("result", "failed")
+        .description("outbox 에서 처리된 메일 수")
+        .register(meterRegistry);
+    this.throttledCounter = Counter.builder("mail_outbox_processed")
+        .tag("result", "throttled")
+        .description("outbox 에서 처리된 메일 수")
+        .register(meterRegistry);
+    this.sendTimer = Timer.builder("mail_outbox_send")
+        .description("outbox 메일 일괄 전송 소요 시간")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public synchronized void start() {
+    if (running) {
+      return;
+    }
+    running = true;
+    AtomicInteger sequence = new AtomicInteger();
+    executor = Executors.newFixedThreadPool(workers, runnable -> {
+      Thread thread = new Thread(runnable, "mail-outbox-" + sequence.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    for (int i = 0; i < workers; i++) {
+      executor.submit(this::runLoop);
+    }
+    log.info("메일 outbox worker 시작: workers={}", workers);
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (!running) {
+      return;
+    }
+    running = false;
+
+    /*전송 중인 batch 는 끝까지 보내고 상태를 남긴 뒤 종료*/
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(lease.toMillis(), TimeUnit.MILLISECONDS)) {
+        log.warn("메일 outbox worker 종료 대기 시간 초과, 남은 메일은 lease 만료 후 다시 전송");
+        executor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+    log.info("메일 outbox worker 종료");
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  private void runLoop() {
+    while (running && !Thread.currentThread().isInterrupted()) {
+      try {
+        if (!processNext()) {
+          Thread.sleep(pollIntervalMillis);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (Exception e) {
+        log.error("메일 outbox 처리 중 오류 발생", e);
+        sleepQuietly(pollIntervalMillis);
+      }
+    }
+  }
+
+  /**
+   * 전송 대기 메일을 batch-size 개까지 가져와 한 번에 전송
+   *
+   * @return 처리할 메일이 있었으면 true
+   */
+  boolean processNext() {
+    List<OutboxMail> mails = mailOutboxPort.claim(batchSize, lease);
+    if (mails.isEmpty()) {
+      return false;
+    }
+
+    List<SendMailCommand> commands = mails.stream().map(OutboxMail::command).toList();
+    MailBatchResult result;
+    try {
+      result = sendTimer.recordCallable(() -> sendMailUseCase.sendAll(commands));
+    } catch (Exception e) {
+      /*결과를 받지 못하면 모든 메일을 실패로 처리*/
+      Map<Integer, String> failures = new HashMap<>();
+      for (int i = 0; i < mails.size(); i++) {
+        failures.put(i, e.getMessage());
+      }
+      result = new MailBatchResult(failures);
+    }
+
+    for (int i = 0; i < mails.size(); i++) {
+      OutboxMail mail = mails.get(i);
+      if (result.isThrottled(i)) {
+        mailOutboxPort.markThrottled(mail.id(),
+            LocalDateTime.now().plus(Duration.ofMillis(baseBackoffMillis)));
+        throttledCounter.increment();
+      } else if (result.isFailed(i)) {
+        handleFailure(mail, result.failures().get(i));
+      } else {
+        mailOutboxPort.markSent(mail.id());
+        sentCounter.increment();
+      }
+    }
+    return true;
+  }
+
+  /**
+   * 전송 실패한 메일의 재시도 예약 또는 최종 실패 처리
+   *
+   * @param mail
+   * @param reason
+   */
+  private void handleFailure(OutboxMail mail, String reason) {
+    if (mail.attempts() >= maxAttempts) {
+      log.error("메일 최종 전송 실패: eventId={}, attempts={}, error={}", mail.eventId(),
+          mail.attempts(), reason);
+      mailOutboxPort.markFailed(mail.id(), reason);
+      failedCounter.increment();
+      return;
+    }
+
+    LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(mail.attempts()));
+    log.warn("메일 전송 실패, 재시도 예약: eventId={}, attempts={}, nextAttemptAt={}, error={}",
+        mail.eventId(), mail.attempts(), nextAttemptAt, reason);
+    mailOutboxPort.markRetry(mail.id(), nextAttemptAt, reason);
+    retryCounter.increment();
+  }
+
+  /**
+   * 시도 횟수별 재시도 대기 시간
+   *
+   * @param attempts
+   * @return
+   */
+  Duration backoff(int attempts) {
+    int shift = Math.min(Math.max(attempts - 1, 0), 30);
+    long millis = baseBackoffMillis << shift;
+    return Duration.ofMillis(millis <= 0 ? maxBackoffMillis : Math.min(millis, maxBackoffMillis));
+  }
+
+  private static void sleepQuietly(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
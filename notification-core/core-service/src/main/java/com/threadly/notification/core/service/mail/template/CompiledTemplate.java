@@ -0,0 +1,97 @@
+package com.threadly.notification.core.service.mail.template;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import org.unbescape.html.HtmlEscape;
+
+/**
+ * 고정 구간과 변수 위치로 나눈 template
+ * <p>
+ * literals 는 variables 보다 항상 하나 많으며 literals[0], variables[0], literals[1], ... 순서로 이어 붙인다.
+ */
+final class CompiledTemplate {
+
+  private static final CompiledTemplate DYNAMIC = new CompiledTemplate(List.of(), List.of(), 0);
+
+  private final List<String> literals;
+  private final List<String> variables;
+  private final int literalLength;
+
+  private CompiledTemplate(List<String> literals, List<String> variables, int literalLength) {
+    this.literals = literals;
+    this.variables = variables;
+    this.literalLength = literalLength;
+  }
+
+  /**
+   * 분할할 수 없어 매번 렌더링해야 하는 template
+   *
+   * @return
+   */
+  static CompiledTemplate dynamic() {
+    return DYNAMIC;
+  }
+
+  /**
+   * 문자열 값만 끼워 넣을 수 있다.
+   *
+   * @param values
+   * @return
+   */
+  static boolean supports(Map<String, Object> values) {
+    return values.values().stream().allMatch(value -> value instanceof String);
+  }
+
+  /**
+   * 치환 위치 표시 값으로 렌더링한 결과 분할
+   *
+   * @param marked
+   * @param placeholders
+   * @return 표시 값이 하나도 없으면 dynamic
+   */
+  static CompiledTemplate split(String marked, Placeholders placeholders) {
+    List<String> literals = new ArrayList<>();
+    List<String> variables = new ArrayList<>();
+    int literalLength = 0;
+
+    Matcher matcher = placeholders.pattern().matcher(marked);
+    int last = 0;
+    while (matcher.find()) {
+      String literal = marked.substring(last, matcher.start());
+      literals.add(literal);
+      literalLength += literal.length();
+      variables.add(placeholders.nameAt(Integer.parseInt(matcher.group(1))));
+      last = matcher.end();
+    }
+    if (variables.isEmpty()) {
+      return DYNAMIC;
+    }
+    String tail = marked.substring(last);
+    literals.add(tail);
+    literalLength += tail.length();
+
+    return new CompiledTemplate(List.copyOf(literals), List.copyOf(variables), literalLength);
+  }
+
+  boolean isDynamic() {
+    return this == DYNAMIC;
+  }
+
+  /**
+   * 값을 HTML escape 해 끼워 넣은 본문
+   *
+   * @param values
+   * @return
+   */
+  String render(Map<String, Object> values) {
+    StringBuilder builder = new StringBuilder(literalLength + variables.size() * 64);
+    for (int i = 0; i < variables.size(); i++) {
+      builder.append(literals.get(i));
+      builder.append(HtmlEscape.escapeHtml4Xml((String) values.get(variables.get(i))));
+    }
+    builder.append(literals.get(variables.size()));
+    return builder.toString();
+  }
+}
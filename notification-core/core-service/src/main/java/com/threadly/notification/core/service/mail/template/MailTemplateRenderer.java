@@ -0,0 +1,122 @@
+package com.threadly.notification.core.service.mail.template;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+/**
+ * 메일 template 렌더링 cache
+ * <p>
+ * <ul>
+ *   <li>변수가 없는 template 은 한 번 렌더링한 결과를 그대로 재사용한다.</li>
+ *   <li>문자열 변수만 쓰는 template 은 처음 한 번 치환 위치를 표시한 값으로 렌더링해 고정 구간과 변수 위치로 나눠 두고,
+ *   이후에는 HTML escape 한 값만 끼워 넣는다.</li>
+ * </ul>
+ * 나눈 결과로 만든 본문이 처음 렌더링한 결과와 다르면(변수를 조건문, 가공 등에 쓰는 경우) 해당 template 은 매번
+ * 렌더링한다. 검증은 첫 값으로만 하므로 메일 template 에서 변수는 그대로 출력하는 데만 쓴다.
+ */
+@Component
+@Slf4j
+public class MailTemplateRenderer {
+
+  private final TemplateEngine templateEngine;
+
+  private final ConcurrentMap<String, String> staticBodies = new ConcurrentHashMap<>();
+  private final ConcurrentMap<TemplateKey, CompiledTemplate> compiledTemplates =
+      new ConcurrentHashMap<>();
+
+  private final Counter cacheHitCounter;
+  private final Counter cacheMissCounter;
+
+  public MailTemplateRenderer(TemplateEngine templateEngine, MeterRegistry meterRegistry) {
+    this.templateEngine = templateEngine;
+    this.cacheHitCounter = Counter.builder("mail_template_render")
+        .tag("result", "hit")
+        .description("메일 template 렌더링 횟수")
+        .register(meterRegistry);
+    this.cacheMissCounter = Counter.builder("mail_template_render")
+        .tag("result", "miss")
+        .description("메일 template 렌더링 횟수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * template 렌더링
+   *
+   * @param template
+   * @param values   null 이면 변수 없는 template 으로 취급
+   * @return
+   */
+  public String render(String template, Map<String, Object> values) {
+    if (values == null || values.isEmpty()) {
+      String body = staticBodies.get(template);
+      if (body != null) {
+        cacheHitCounter.increment();
+        return body;
+      }
+      cacheMissCounter.increment();
+      return staticBodies.computeIfAbsent(template, t -> process(t, null));
+    }
+
+    if (!CompiledTemplate.supports(values)) {
+      cacheMissCounter.increment();
+      return process(template, values);
+    }
+
+    TemplateKey key = new TemplateKey(template, new TreeSet<>(values.keySet()));
+    CompiledTemplate compiled = compiledTemplates.get(key);
+    if (compiled != null) {
+      if (compiled.isDynamic()) {
+        cacheMissCounter.increment();
+        return process(template, values);
+      }
+      cacheHitCounter.increment();
+      return compiled.render(values);
+    }
+
+    cacheMissCounter.increment();
+    String rendered = process(template, values);
+    compiledTemplates.computeIfAbsent(key, k -> compile(k, values, rendered));
+    return rendered;
+  }
+
+  /**
+   * 치환 위치 표시 값으로 렌더링해 template 분할
+   *
+   * @param key
+   * @param values   분할 결과 검증용 실제 값
+   * @param rendered values 로 렌더링한 결과
+   * @return
+   */
+  private CompiledTemplate compile(TemplateKey key, Map<String, Object> values,
+      String rendered) {
+    Placeholders placeholders = new Placeholders(key.variables());
+    String marked = process(key.template(), placeholders.values());
+
+    CompiledTemplate compiled = CompiledTemplate.split(marked, placeholders);
+    if (!compiled.isDynamic() && !compiled.render(values).equals(rendered)) {
+      log.info("변수 치환 결과가 렌더링 결과와 달라 매번 렌더링: template={}", key.template());
+      return CompiledTemplate.dynamic();
+    }
+    return compiled;
+  }
+
+  private String process(String template, Map<String, Object> values) {
+    Context context = new Context();
+    context.setVariables(values);
+
+    return templateEngine.process(template, context);
+  }
+
+  private record TemplateKey(String template, Set<String> variables) {
+
+  }
+}
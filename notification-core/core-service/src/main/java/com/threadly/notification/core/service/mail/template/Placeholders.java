@@ -0,0 +1,42 @@
+package com.threadly.notification.core.service.mail.template;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * template 분할용 치환 위치 표시 값
+ * <p>
+ * HTML escape 에 영향을 받지 않도록 영문, 숫자, '_' 로만 만든다.
+ */
+final class Placeholders {
+
+  private final List<String> names;
+  private final Map<String, Object> values = new LinkedHashMap<>();
+  private final Pattern pattern;
+
+  Placeholders(Collection<String> variables) {
+    this.names = new ArrayList<>(variables);
+    String nonce = UUID.randomUUID().toString().replace("-", "");
+    for (int i = 0; i < names.size(); i++) {
+      values.put(names.get(i), "__mailtpl_" + nonce + "_" + i + "__");
+    }
+    this.pattern = Pattern.compile("__mailtpl_" + nonce + "_(\\d+)__");
+  }
+
+  Map<String, Object> values() {
+    return values;
+  }
+
+  Pattern pattern() {
+    return pattern;
+  }
+
+  String nameAt(int index) {
+    return names.get(index);
+  }
+}
@@ -7,11 +7,19 @@ import com.threadly.notification.core.domain.notification.Notification;
 import com.threadly.notification.core.port.notification.in.NotificationCommand;
 import com.threadly.notification.core.port.notification.in.NotificationCommandUseCase;
 import com.threadly.notification.core.port.notification.in.NotificationIngestionUseCase;
+import com.threadly.notification.core.port.notification.in.dto.NotificationBatchResult;
 import com.threadly.notification.core.port.notification.out.NotificationCommandPort;
 import com.threadly.notification.core.port.notification.out.NotificationQueryPort;
+import com.threadly.notification.core.port.notification.out.dto.SavedNotificationBatch;
 import com.threadly.notification.core.port.notification.out.dto.SavedNotificationEventDoc;
+import com.threadly.notification.core.service.notification.dedupe.NotificationDedupeFilter;
 import com.threadly.notification.core.service.notification.dto.NotificationPushCommand;
-import com.threadly.notification.core.service.utils.MetadataMapper;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -27,7 +35,7 @@ public class NotificationCommandService implements NotificationCommandUseCase,
   private final NotificationCommandPort notificationCommandPort;
   private final NotificationQueryPort notificationQueryPort;
 
-  private final MetadataMapper metadataMapper;
+  private final NotificationDedupeFilter notificationDedupeFilter;
 
   private final ApplicationEventPublisher applicationEventPublisher;
 
@@ -36,27 +44,79 @@ public class NotificationCommandService implements NotificationCommandUseCase,
   public void ingest(NotificationCommand command) {
 
     log.info("Handling notification event: {}", command.toString());
-    /*도메인 생성*/
-    Notification notification = Notification.newNotification(
-        command.eventId(),
-        command.receiverId(),
-        command.notificationType(),
-        command.occurredAt(),
-        new ActorProfile(
-            command.actorProfile().getUserId(),
-            command.actorProfile().getNickname(),
-            command.actorProfile().getProfileImageUrl()
-        ),
-        metadataMapper.toTypeMeta(command.notificationType(), command.metadata())
-    );
 
-    /*알림 저장*/
-    SavedNotificationEventDoc saved = notificationCommandPort.save(notification);
+    /*최근 처리한 eventId 이면 저장, 발행 없이 종료*/
+    if (notificationDedupeFilter.isRecentlySeen(command.eventId())) {
+      log.info("중복 알림 이벤트 무시: eventId={}", command.eventId());
+      return;
+    }
+
+    /*도메인 생성*/
+    Notification notification = toNotification(command);
+
+    /*알림 저장, 이미 저장된 eventId 이면 발행 없이 종료*/
+    Optional<SavedNotificationEventDoc> saved = notificationCommandPort.saveIfAbsent(notification);
+    if (saved.isEmpty()) {
+      notificationDedupeFilter.recordStoreHit(command.eventId());
+      log.info("이미 저장된 알림 이벤트 무시: eventId={}", command.eventId());
+      return;
+    }
+    notificationDedupeFilter.recordMiss(command.eventId());
 
     /*알림 발행*/
     applicationEventPublisher.publishEvent(
-        new NotificationPushCommand(notification, saved.sortId())
+        new NotificationPushCommand(notification, saved.get().sortId())
+    );
+  }
+
+  @Transactional
+  @Override
+  public NotificationBatchResult ingestBatch(List<NotificationCommand> commands) {
+    log.info("Handling notification batch: size={}", commands.size());
+
+    Map<String, String> failures = new LinkedHashMap<>();
+    List<String> duplicated = new ArrayList<>();
+
+    /*도메인 생성, 최근 처리한 eventId 는 중복으로, 변환에 실패한 레코드는 실패로 기록*/
+    List<Notification> notifications = new ArrayList<>(commands.size());
+    for (NotificationCommand command : commands) {
+      if (notificationDedupeFilter.isRecentlySeen(command.eventId())) {
+        duplicated.add(command.eventId());
+        continue;
+      }
+      try {
+        notifications.add(toNotification(command));
+      } catch (Exception e) {
+        failures.put(command.eventId(), e.getMessage());
+      }
+    }
+
+    if (notifications.isEmpty()) {
+      return new NotificationBatchResult(List.of(), duplicated, failures);
+    }
+
+    /*알림 일괄 저장*/
+    SavedNotificationBatch batch = notificationCommandPort.saveAll(notifications);
+    failures.putAll(batch.failures());
+    batch.duplicatedEventIds().forEach(notificationDedupeFilter::recordStoreHit);
+    duplicated.addAll(batch.duplicatedEventIds());
+
+    /*저장에 성공한 알림만 발행*/
+    Map<String, Notification> notificationByEventId = new HashMap<>();
+    notifications.forEach(
+        notification -> notificationByEventId.putIfAbsent(notification.getEventId(), notification)
     );
+
+    List<String> succeeded = new ArrayList<>(batch.saved().size());
+    for (SavedNotificationEventDoc saved : batch.saved()) {
+      applicationEventPublisher.publishEvent(
+          new NotificationPushCommand(notificationByEventId.get(saved.eventId()), saved.sortId())
+      );
+      notificationDedupeFilter.recordMiss(saved.eventId());
+      succeeded.add(saved.eventId());
+    }
+
+    return new NotificationBatchResult(succeeded, duplicated, failures);
   }
 
   @Transactional
@@ -98,4 +158,25 @@ public class NotificationCommandService implements NotificationCommandUseCase,
   public void markAllNotificationsAsRead(String userId) {
     notificationCommandPort.markAllAsRead(userId);
   }
+
+  /**
+   * command -> domain
+   *
+   * @param command
+   * @return
+   */
+  private Notification toNotification(NotificationCommand command) {
+    return Notification.newNotification(
+        command.eventId(),
+        command.receiverId(),
+        command.notificationType(),
+        command.occurredAt(),
+        new ActorProfile(
+            command.actorProfile().getUserId(),
+            command.actorProfile().getNickname(),
+            command.actorProfile().getProfileImageUrl()
+        ),
+        command.metadata()
+    );
+  }
 }
@@ -0,0 +1,115 @@
+package com.threadly.notification.core.service.notification;
+
+import com.threadly.notification.core.port.notification.in.NotificationDeadLetterUseCase;
+import com.threadly.notification.core.port.notification.in.NotificationIngestionUseCase;
+import com.threadly.notification.core.port.notification.in.dto.DeadLetterReplayCommand;
+import com.threadly.notification.core.port.notification.in.dto.DeadLetterReplayResult;
+import com.threadly.notification.core.port.notification.in.dto.NotificationDeadLetterCommand;
+import com.threadly.notification.core.port.notification.out.NotificationDeadLetterPort;
+import com.threadly.notification.core.port.notification.out.dto.PendingDeadLetter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 최종 실패 알림 보관 및 재처리 서비스
+ * <p>
+ * 재처리는 일반 수신과 같은 {@link NotificationIngestionUseCase} 를 거치므로 저장, 중복 제거, 발행이 동일하게 적용된다.
+ */
+@Service
+@Slf4j
+public class NotificationDeadLetterService implements NotificationDeadLetterUseCase {
+
+  private final NotificationDeadLetterPort notificationDeadLetterPort;
+  private final NotificationIngestionUseCase notificationIngestionUseCase;
+
+  private final Counter recordedCounter;
+  private final Counter replaySuccessCounter;
+  private final Counter replayFailureCounter;
+
+  public NotificationDeadLetterService(NotificationDeadLetterPort notificationDeadLetterPort,
+      NotificationIngestionUseCase notificationIngestionUseCase, MeterRegistry meterRegistry) {
+    this.notificationDeadLetterPort = notificationDeadLetterPort;
+    this.notificationIngestionUseCase = notificationIngestionUseCase;
+    this.recordedCounter = Counter.builder("notification_dead_letter_recorded")
+        .description("보관된 최종 실패 알림 수")
+        .register(meterRegistry);
+    this.replaySuccessCounter = Counter.builder("notification_dead_letter_replayed")
+        .tag("result", "success")
+        .description("재처리된 최종 실패 알림 수")
+        .register(meterRegistry);
+    this.replayFailureCounter = Counter.builder("notification_dead_letter_replayed")
+        .tag("result", "failure")
+        .description("재처리된 최종 실패 알림 수")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public void record(NotificationDeadLetterCommand command) {
+    notificationDeadLetterPort.save(command);
+    recordedCounter.increment();
+  }
+
+  @Override
+  public DeadLetterReplayResult replay(DeadLetterReplayCommand command) {
+    int replayed = 0;
+    int failed = 0;
+    String cursorId = null;
+    boolean exhausted = false;
+
+    while (replayed + failed < command.maxRecords()) {
+      int limit = Math.min(command.batchSize(), command.maxRecords() - replayed - failed);
+
+      /*재처리 대기 중인 알림 조회, 실패한 알림은 대기 상태로 남으므로 cursor 로 건너뛴다*/
+      List<PendingDeadLetter> batch = notificationDeadLetterPort.fetchPending(cursorId, limit);
+
+      for (PendingDeadLetter deadLetter : batch) {
+        try {
+          notificationIngestionUseCase.ingest(deadLetter.command());
+          notificationDeadLetterPort.markReplayed(deadLetter.id());
+          replaySuccessCounter.increment();
+          replayed++;
+
+        } catch (Exception e) {
+          log.warn("최종 실패 알림 재처리 실패: id={}, eventId={}", deadLetter.id(),
+              deadLetter.command().eventId(), e);
+          notificationDeadLetterPort.markReplayFailed(deadLetter.id(), e.getMessage());
+          replayFailureCounter.increment();
+          failed++;
+        }
+      }
+
+      if (batch.isEmpty() || batch.size() < limit) {
+        exhausted = true;
+        break;
+      }
+      cursorId = batch.get(batch.size() - 1).id();
+
+      /*batch 사이 대기로 저장소 부하 제한*/
+      if (!pause(command.pauseMillis())) {
+        break;
+      }
+    }
+
+    boolean hasMore = !exhausted && !notificationDeadLetterPort.fetchPending(cursorId, 1).isEmpty();
+
+    log.info("최종 실패 알림 재처리 완료: replayed={}, failed={}, hasMore={}", replayed, failed,
+        hasMore);
+    return new DeadLetterReplayResult(replayed, failed, hasMore);
+  }
+
+  private static boolean pause(long millis) {
+    if (millis <= 0) {
+      return true;
+    }
+    try {
+      Thread.sleep(millis);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
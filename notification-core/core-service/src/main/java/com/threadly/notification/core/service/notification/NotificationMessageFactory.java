@@ -0,0 +1,58 @@
+package com.threadly.notification.core.service.notification;
+
+import com.threadly.notification.core.domain.notification.Notification;
+import com.threadly.notification.core.domain.user.ActorProfile;
+import com.threadly.notification.core.port.notification.out.dto.NotificationMessage;
+import com.threadly.notification.core.port.notification.out.dto.NotificationMessage.Payload;
+import com.threadly.notification.core.port.notification.out.dto.preview.CommentLikePreview;
+import com.threadly.notification.core.port.notification.out.dto.preview.FollowAcceptPreview;
+import com.threadly.notification.core.port.notification.out.dto.preview.FollowPreview;
+import com.threadly.notification.core.port.notification.out.dto.preview.FollowRequestPreview;
+import com.threadly.notification.core.port.notification.out.dto.preview.PostCommentPreview;
+import com.threadly.notification.core.port.notification.out.dto.preview.PostLikePreview;
+import com.threadly.notification.core.port.notification.out.dto.preview.Preview;
+
+/**
+ * 실시간 알림 메시지 생성기
+ * <p>
+ * 실시간 발행과 재동기화 재전송이 같은 형태의 메시지를 보내도록 한 곳에서 생성한다.
+ */
+final class NotificationMessageFactory {
+
+  private NotificationMessageFactory() {
+  }
+
+  /**
+   * notification -> 실시간 알림 메시지
+   *
+   * @param notification
+   * @param sortId
+   * @return
+   */
+  static NotificationMessage create(Notification notification, String sortId) {
+    return new NotificationMessage(
+        notification.getEventId(),
+        sortId,
+        new Payload(
+            notification.getNotificationType(),
+            notification.getMetadata(),
+            generatePayload(notification)
+        ),
+        notification.getOccurredAt()
+    );
+  }
+
+  private static Preview generatePayload(Notification notification) {
+    ActorProfile actorProfile = notification.getActorProfile();
+
+    return
+        switch (notification.getNotificationType()) {
+          case POST_LIKE -> new PostLikePreview(actorProfile);
+          case COMMENT_ADDED -> new PostCommentPreview(actorProfile, notification.getMetadata());
+          case COMMENT_LIKE -> new CommentLikePreview(actorProfile);
+          case FOLLOW -> new FollowPreview(actorProfile);
+          case FOLLOW_REQUEST -> new FollowRequestPreview(actorProfile);
+          case FOLLOW_ACCEPT -> new FollowAcceptPreview(actorProfile);
+        };
+  }
+}
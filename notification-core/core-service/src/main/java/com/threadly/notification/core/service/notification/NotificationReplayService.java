@@ -0,0 +1,89 @@
+package com.threadly.notification.core.service.notification;
+
+import com.threadly.notification.core.port.notification.in.NotificationReplayUseCase;
+import com.threadly.notification.core.port.notification.in.dto.ReplayBatch;
+import com.threadly.notification.core.port.notification.out.NotificationQueryPort;
+import com.threadly.notification.core.port.notification.out.dto.NotificationMessage;
+import com.threadly.notification.core.port.notification.out.dto.ReplayNotification;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 실시간 연결 재동기화용 알림 재전송 서비스
+ * <p>
+ * 요청 범위를 batch-size 단위의 sortId range scan 으로 나누어 조회하고, 조회한 batch 를 바로 넘겨 전체 범위를 메모리에
+ * 올리지 않는다. 한 번에 재전송하는 알림 수는 max-limit 으로 제한한다.
+ */
+@Service
+public class NotificationReplayService implements NotificationReplayUseCase {
+
+  private final NotificationQueryPort notificationQueryPort;
+
+  private final int batchSize;
+  private final int maxLimit;
+
+  public NotificationReplayService(NotificationQueryPort notificationQueryPort,
+      @Value("${notification.replay.batch-size:50}") int batchSize,
+      @Value("${notification.replay.max-limit:500}") int maxLimit) {
+    this.notificationQueryPort = notificationQueryPort;
+    this.batchSize = Math.max(1, batchSize);
+    this.maxLimit = Math.max(1, maxLimit);
+  }
+
+  @Override
+  public void replayAfter(String receiverId, String afterSortId, int limit,
+      Consumer<ReplayBatch> batchConsumer) {
+    int remaining = limit <= 0 ? maxLimit : Math.min(limit, maxLimit);
+
+    /*기준 sortId 가 없으면 가장 최근 remaining 건만 한 번에 조회*/
+    if (afterSortId == null) {
+      List<ReplayNotification> latest = notificationQueryPort.fetchAfterSortId(receiverId, null,
+          remaining);
+      batchConsumer.accept(toBatch(latest, null, true));
+      return;
+    }
+
+    String cursor = afterSortId;
+    while (true) {
+      int size = Math.min(batchSize, remaining);
+      List<ReplayNotification> batch = notificationQueryPort.fetchAfterSortId(receiverId, cursor,
+          size);
+      remaining -= batch.size();
+
+      boolean done = batch.size() < size || remaining <= 0;
+      batchConsumer.accept(toBatch(batch, cursor, done));
+
+      if (done) {
+        return;
+      }
+      cursor = batch.get(batch.size() - 1).sortId();
+    }
+  }
+
+  @Override
+  public Optional<String> findSortId(String receiverId, String eventId) {
+    return notificationQueryPort.fetchSortIdByEventIdAndReceiverId(eventId, receiverId);
+  }
+
+  /**
+   * 조회 결과 -> 재전송 batch
+   *
+   * @param notifications
+   * @param cursor        batch 가 비어있을 때 lastSortId 로 사용할 기준 sortId
+   * @param done
+   * @return
+   */
+  private static ReplayBatch toBatch(List<ReplayNotification> notifications, String cursor,
+      boolean done) {
+    List<NotificationMessage> messages = notifications.stream()
+        .map(it -> NotificationMessageFactory.create(it.notification(), it.sortId()))
+        .toList();
+    String lastSortId = notifications.isEmpty() ? cursor
+        : notifications.get(notifications.size() - 1).sortId();
+
+    return new ReplayBatch(messages, lastSortId, done);
+  }
+}
@@ -0,0 +1,119 @@
+package com.threadly.notification.core.service.notification.backpressure;
+
+import com.threadly.notification.core.port.notification.out.NotificationIngestionFlowPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 푸시 단계 backpressure 제어기
+ * <p>
+ * 푸시 executor 큐 깊이가 high-watermark 이상이 되면 알림 수신을 멈추고, low-watermark 이하로 내려오면 재개한다. 큐가 가득 차
+ * 거절된 작업은 호출 스레드에서 실행되므로, 거절 건수는 watermark 가 늦게 반응했다는 신호로 본다.
+ */
+@Component
+@Slf4j
+public class PushBackpressureController {
+
+  private final NotificationIngestionFlowPort notificationIngestionFlowPort;
+
+  private final int highWatermark;
+  private final int lowWatermark;
+
+  /*pause/resume 순서가 뒤바뀌지 않도록 상태 변경은 synchronized 안에서만 한다*/
+  private final AtomicBoolean paused = new AtomicBoolean(false);
+  private long pausedAtNanos;
+
+  private final Timer pauseTimer;
+  private final Counter rejectedCounter;
+
+  public PushBackpressureController(
+      NotificationIngestionFlowPort notificationIngestionFlowPort,
+      MeterRegistry meterRegistry,
+      @Value("${notification.push.backpressure.high-watermark:40}") int highWatermark,
+      @Value("${notification.push.backpressure.low-watermark:10}") int lowWatermark
+  ) {
+    if (lowWatermark >= highWatermark) {
+      throw new IllegalArgumentException(
+          "low-watermark 는 high-watermark 보다 작아야 합니다: low=" + lowWatermark + ", high="
+              + highWatermark);
+    }
+    this.notificationIngestionFlowPort = notificationIngestionFlowPort;
+    this.highWatermark = highWatermark;
+    this.lowWatermark = lowWatermark;
+
+    Gauge.builder("notification_consumer_paused", paused, value -> value.get() ? 1 : 0)
+        .tag("binding", "notification-in-0")
+        .description("푸시 backpressure 로 알림 수신이 멈춰 있는지 여부")
+        .register(meterRegistry);
+    this.pauseTimer = Timer.builder("notification_consumer_pause")
+        .tag("binding", "notification-in-0")
+        .description("푸시 backpressure 로 알림 수신이 멈춰 있던 시간")
+        .register(meterRegistry);
+    this.rejectedCounter = Counter.builder("notification_push_rejected")
+        .description("푸시 executor 큐가 가득 차 호출 스레드에서 실행된 작업 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 작업 적재 시 큐 깊이 확인
+   *
+   * @param queueDepth
+   */
+  public void onEnqueued(int queueDepth) {
+    if (queueDepth < highWatermark || paused.get()) {
+      return;
+    }
+    synchronized (this) {
+      if (paused.get()) {
+        return;
+      }
+      pausedAtNanos = System.nanoTime();
+      log.warn("푸시 큐 high-watermark 도달, 알림 수신 중지: queueDepth={}", queueDepth);
+      notificationIngestionFlowPort.pause();
+      paused.set(true);
+    }
+  }
+
+  /**
+   * 작업 시작 시 큐 깊이 확인
+   *
+   * @param queueDepth
+   */
+  public void onDequeued(int queueDepth) {
+    if (queueDepth > lowWatermark || !paused.get()) {
+      return;
+    }
+    synchronized (this) {
+      if (!paused.get()) {
+        return;
+      }
+      pauseTimer.record(System.nanoTime() - pausedAtNanos, TimeUnit.NANOSECONDS);
+      log.info("푸시 큐 low-watermark 도달, 알림 수신 재개: queueDepth={}", queueDepth);
+      notificationIngestionFlowPort.resume();
+      paused.set(false);
+    }
+  }
+
+  /**
+   * 큐가 가득 차 거절된 작업 기록
+   */
+  public void onRejected() {
+    rejectedCounter.increment();
+  }
+
+  /**
+   * 알림 수신 중지 여부
+   *
+   * @return
+   */
+  public boolean isPaused() {
+    return paused.get();
+  }
+}
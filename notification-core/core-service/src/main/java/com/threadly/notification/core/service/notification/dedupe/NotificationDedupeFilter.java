@@ -0,0 +1,82 @@
+package com.threadly.notification.core.service.notification.dedupe;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 eventId 중복 수신 필터
+ * <p>
+ * 최근 처리한 eventId 를 크기가 제한된 LRU 캐시로 유지한다. 캐시에 없는 eventId 는 저장소의 insert-if-absent 결과로 중복
+ * 여부를 최종 판단한다.
+ */
+@Component
+public class NotificationDedupeFilter {
+
+  private final Map<String, Boolean> recentEventIds;
+
+  private final Counter cacheHitCounter;
+  private final Counter storeHitCounter;
+  private final Counter missCounter;
+
+  public NotificationDedupeFilter(
+      MeterRegistry meterRegistry,
+      @Value("${notification.dedupe.cache-size:10000}") int cacheSize
+  ) {
+    this.recentEventIds = Collections.synchronizedMap(
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Entry<String, Boolean> eldest) {
+            return size() > cacheSize;
+          }
+        });
+
+    this.cacheHitCounter = Counter.builder("notification_dedupe_hit")
+        .tag("source", "cache")
+        .register(meterRegistry);
+    this.storeHitCounter = Counter.builder("notification_dedupe_hit")
+        .tag("source", "store")
+        .register(meterRegistry);
+    this.missCounter = Counter.builder("notification_dedupe_miss")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 최근에 처리한 eventId 인지 확인
+   *
+   * @param eventId
+   * @return 캐시에 존재하면 true
+   */
+  public boolean isRecentlySeen(String eventId) {
+    if (recentEventIds.get(eventId) != null) {
+      cacheHitCounter.increment();
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * 저장소에 이미 존재해 중복으로 판단된 eventId 기록
+   *
+   * @param eventId
+   */
+  public void recordStoreHit(String eventId) {
+    storeHitCounter.increment();
+    recentEventIds.put(eventId, Boolean.TRUE);
+  }
+
+  /**
+   * 신규로 저장된 eventId 기록
+   *
+   * @param eventId
+   */
+  public void recordMiss(String eventId) {
+    missCounter.increment();
+    recentEventIds.put(eventId, Boolean.TRUE);
+  }
+}
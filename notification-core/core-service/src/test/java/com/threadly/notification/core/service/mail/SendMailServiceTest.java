@@ -1,8 +1,11 @@
 package com.threadly.notification.core.service.mail;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -12,19 +15,23 @@ import com.threadly.notification.commons.exception.mail.EmailVerificationExcepti
 import com.threadly.notification.core.domain.mail.MailType;
 import com.threadly.notification.core.domain.mail.model.VerificationModel;
 import com.threadly.notification.core.domain.mail.model.WelcomeModel;
+import com.threadly.notification.core.port.mail.in.dto.MailBatchResult;
 import com.threadly.notification.core.port.mail.in.dto.SendMailCommand;
 import com.threadly.notification.core.port.mail.out.SendMailPort;
+import com.threadly.notification.core.port.mail.out.dto.MailContent;
+import com.threadly.notification.core.service.mail.template.MailTemplateRenderer;
 import com.threadly.notification.core.service.utils.MailModelMapper;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
 
 /**
  * SendMailService 테스트
@@ -42,7 +49,7 @@ class SendMailServiceTest {
   private MailModelMapper mailModelMapper;
 
   @Mock
-  private TemplateEngine templateEngine;
+  private MailTemplateRenderer mailTemplateRenderer;
 
   @Nested
   @DisplayName("가입 환영 메일 전송 테스트")
@@ -60,7 +67,7 @@ class SendMailServiceTest {
       );
       when(mailModelMapper.toTypeModel(command))
           .thenReturn(new WelcomeModel("홍길동", "https://threadly.io/login"));
-      when(templateEngine.process(eq("signup-complete-mail"), any(Context.class)))
+      when(mailTemplateRenderer.render(eq("signup-complete-mail"), isNull()))
           .thenReturn("rendered-welcome");
 
       //when
@@ -68,6 +75,7 @@ class SendMailServiceTest {
 
       //then
       verify(sendMailPort).sendMail(
+          eq(MailType.WELCOME),
           eq("welcome@threadly.io"),
           eq("[홍길동] 님 가입을 환엽합니다."),
           eq("rendered-welcome")
@@ -91,7 +99,8 @@ class SendMailServiceTest {
       );
       when(mailModelMapper.toTypeModel(command))
           .thenReturn(new VerificationModel("홍길동", "https://threadly.io/verify?code=1234"));
-      when(templateEngine.process(eq("verify-email-mail"), any(Context.class)))
+      when(mailTemplateRenderer.render(eq("verify-email-mail"),
+          eq(Map.of("verifyUrl", "https://threadly.io/verify?code=1234"))))
           .thenReturn("rendered-verification");
 
       //when
@@ -99,6 +108,7 @@ class SendMailServiceTest {
 
       //then
       verify(sendMailPort).sendMail(
+          eq(MailType.VERIFICATION),
           eq("verify@threadly.io"),
           eq("[Threadly] 본인 인증을 위한 이메일입니다."),
           eq("rendered-verification")
@@ -117,11 +127,13 @@ class SendMailServiceTest {
       );
       when(mailModelMapper.toTypeModel(command))
           .thenReturn(new VerificationModel("홍길동", "https://threadly.io/verify?code=1234"));
-      when(templateEngine.process(eq("verify-email-mail"), any(Context.class)))
+      when(mailTemplateRenderer.render(eq("verify-email-mail"),
+          eq(Map.of("verifyUrl", "https://threadly.io/verify?code=1234"))))
           .thenReturn("rendered-verification");
       doThrow(new IllegalStateException("smtp down"))
           .when(sendMailPort)
-          .sendMail(eq("verify@threadly.io"), eq("[Threadly] 본인 인증을 위한 이메일입니다."),
+          .sendMail(eq(MailType.VERIFICATION), eq("verify@threadly.io"),
+              eq("[Threadly] 본인 인증을 위한 이메일입니다."),
               eq("rendered-verification"));
 
       //when & then
@@ -131,4 +143,67 @@ class SendMailServiceTest {
           .isEqualTo(ErrorCode.EMAIL_SENDING_FAILED);
     }
   }
+
+  @Nested
+  @DisplayName("일괄 전송 테스트")
+  class SendAllTest {
+
+    /*[Case #1] 렌더링한 메일을 한 번에 전송하고 실패 순번을 command 순번으로 돌려줘야 한다*/
+    @DisplayName("1. 렌더링한 메일을 한 번에 전송하고 실패 순번이 command 순번으로 변환되는지 검증")
+    @Test
+    @SuppressWarnings("unchecked")
+    void sendAll_shouldSendRenderedMailsAtOnce() throws Exception {
+      //given
+      SendMailCommand broken = new SendMailCommand(MailType.WELCOME, "broken@threadly.io",
+          Map.of());
+      SendMailCommand welcome = new SendMailCommand(MailType.WELCOME, "welcome@threadly.io",
+          Map.of("userName", "홍길동", "loginUrl", "https://threadly.io/login"));
+      when(mailModelMapper.toTypeModel(broken))
+          .thenThrow(new IllegalArgumentException("userName 누락"));
+      when(mailModelMapper.toTypeModel(welcome))
+          .thenReturn(new WelcomeModel("홍길동", "https://threadly.io/login"));
+      when(mailTemplateRenderer.render(eq("signup-complete-mail"), isNull()))
+          .thenReturn("rendered-welcome");
+      when(sendMailPort.sendMails(anyList()))
+          .thenReturn(new MailBatchResult(Map.of(0, "mailbox unavailable")));
+      ArgumentCaptor<List<MailContent>> captor = ArgumentCaptor.forClass(List.class);
+
+      //when
+      MailBatchResult result = sendMailService.sendAll(List.of(broken, welcome));
+
+      //then
+      verify(sendMailPort).sendMails(captor.capture());
+      assertThat(captor.getValue()).containsExactly(new MailContent(MailType.WELCOME,
+          "welcome@threadly.io", "[홍길동] 님 가입을 환엽합니다.", "rendered-welcome"));
+      assertThat(result.failures()).containsOnly(
+          entry(0, "userName 누락"),
+          entry(1, "mailbox unavailable"));
+    }
+
+    /*[Case #2] 전송 속도 제한 순번도 command 순번으로 돌려줘야 한다*/
+    @DisplayName("2. 전송 속도 제한 순번이 command 순번으로 변환되는지 검증")
+    @Test
+    void sendAll_shouldMapThrottledIndexes() throws Exception {
+      //given
+      SendMailCommand broken = new SendMailCommand(MailType.WELCOME, "broken@threadly.io",
+          Map.of());
+      SendMailCommand welcome = new SendMailCommand(MailType.WELCOME, "welcome@threadly.io",
+          Map.of("userName", "홍길동", "loginUrl", "https://threadly.io/login"));
+      when(mailModelMapper.toTypeModel(broken))
+          .thenThrow(new IllegalArgumentException("userName 누락"));
+      when(mailModelMapper.toTypeModel(welcome))
+          .thenReturn(new WelcomeModel("홍길동", "https://threadly.io/login"));
+      when(mailTemplateRenderer.render(eq("signup-complete-mail"), isNull()))
+          .thenReturn("rendered-welcome");
+      when(sendMailPort.sendMails(anyList()))
+          .thenReturn(new MailBatchResult(Map.of(), Set.of(0)));
+
+      //when
+      MailBatchResult result = sendMailService.sendAll(List.of(broken, welcome));
+
+      //then
+      assertThat(result.failures()).containsOnlyKeys(0);
+      assertThat(result.throttled()).containsExactly(1);
+    }
+  }
 }
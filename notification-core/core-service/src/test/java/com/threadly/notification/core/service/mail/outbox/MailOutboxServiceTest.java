@@ -0,0 +1,321 @@
+package com.threadly.notification.core.service.mail.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.threadly.notification.core.domain.mail.MailType;
+import com.threadly.notification.core.port.mail.in.dto.SendMailCommand;
+import com.threadly.notification.core.port.mail.out.MailOutboxPort;
+import com.threadly.notification.core.port.mail.out.dto.OutboxMail;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * MailOutboxService 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class MailOutboxServiceTest {
+
+  @Mock
+  private MailOutboxPort mailOutboxPort;
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private MailOutboxService mailOutboxService;
+
+  private final LocalDateTime occurredAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+  private final SendMailCommand command = new SendMailCommand(
+      MailType.VERIFICATION,
+      "verify@threadly.io",
+      Map.of("userName", "홍길동", "verificationUrl", "https://threadly.io/verify?code=1234")
+  );
+
+  @BeforeEach
+  void setUp() {
+    mailOutboxService = new MailOutboxService(mailOutboxPort, meterRegistry, 5000L);
+  }
+
+  @Nested
+  @DisplayName("enqueue 테스트")
+  class EnqueueTest {
+
+    /*[Case #1] 새 메일 요청이면 적재되고 적재 건수가 증가해야 한다*/
+    @DisplayName("1. 새 메일 요청이면 적재되고 적재 건수가 증가하는지 검증")
+    @Test
+    void enqueue_shouldAppend_whenEventIsNew() throws Exception {
+      //given
+      when(mailOutboxPort.append("event-1", command, Duration.ofSeconds(5), occurredAt))
+          .thenReturn(true);
+
+      //when
+      boolean result = mailOutboxService.enqueue("event-1", command, occurredAt);
+
+      //then
+      assertThat(result).isTrue();
+      assertThat(meterRegistry.get("mail_outbox_enqueued").counter().count()).isEqualTo(1.0);
+    }
+
+    /*[Case #2] 이미 적재된 메일 요청이면 중복 건수만 증가해야 한다*/
+    @DisplayName("2. 이미 적재된 메일 요청이면 중복 건수만 증가하는지 검증")
+    @Test
+    void enqueue_shouldCountDuplicate_whenEventAlreadyExists() throws Exception {
+      //given
+      when(mailOutboxPort.append("event-1", command, Duration.ofSeconds(5), occurredAt))
+          .thenReturn(false);
+
+      //when
+      boolean result = mailOutboxService.enqueue("event-1", command, occurredAt);
+
+      //then
+      assertThat(result).isFalse();
+      assertThat(meterRegistry.get("mail_outbox_duplicate").counter().count()).isEqualTo(1.0);
+      assertThat(meterRegistry.get("mail_outbox_enqueued").counter().count()).isZero();
+      verify(mailOutboxPort, never()).supersedePending(any(), any());
+    }
+
+    /*[Case #3] 요청 발생 시각이 없으면 적재 시각으로 저장되어야 한다*/
+    @DisplayName("3. 요청 발생 시각이 없으면 적재 시각으로 저장되는지 검증")
+    @Test
+    void enqueue_shouldUseNow_whenOccurredAtIsMissing() throws Exception {
+      //given
+      LocalDateTime before = LocalDateTime.now();
+      when(mailOutboxPort.append(eq("event-1"), eq(command), eq(Duration.ofSeconds(5)),
+          any(LocalDateTime.class))).thenReturn(true);
+
+      //when
+      mailOutboxService.enqueue("event-1", command, null);
+
+      //then
+      ArgumentCaptor<LocalDateTime> captor = ArgumentCaptor.forClass(LocalDateTime.class);
+      verify(mailOutboxPort).append(eq("event-1"), eq(command), eq(Duration.ofSeconds(5)),
+          captor.capture());
+      assertThat(captor.getValue()).isAfterOrEqualTo(before);
+    }
+  }
+
+  @Nested
+  @DisplayName("인증 메일 병합 테스트")
+  class CoalesceTest {
+
+    /*[Case #1] 인증 메일은 window 만큼 늦게 전송되고 이전 대기 메일은 대체되어야 한다*/
+    @DisplayName("1. 인증 메일은 window 만큼 늦게 전송되고 이전 대기 메일이 대체되는지 검증")
+    @Test
+    void enqueue_shouldSupersedePreviousVerificationMail() throws Exception {
+      //given
+      when(mailOutboxPort.append("event-2", command, Duration.ofSeconds(5), occurredAt))
+          .thenReturn(true);
+      when(mailOutboxPort.supersedePending(MailType.VERIFICATION, "verify@threadly.io"))
+          .thenReturn(2L);
+
+      //when
+      mailOutboxService.enqueue("event-2", command, occurredAt);
+
+      //then
+      assertThat(meterRegistry.get("mail_outbox_coalesced").counter().count()).isEqualTo(2.0);
+    }
+
+    /*[Case #2] 가입 환영 메일은 병합하지 않고 바로 전송되어야 한다*/
+    @DisplayName("2. 가입 환영 메일은 병합하지 않고 바로 전송되는지 검증")
+    @Test
+    void enqueue_shouldNotCoalesceWelcomeMail() throws Exception {
+      //given
+      SendMailCommand welcome = new SendMailCommand(
+          MailType.WELCOME,
+          "welcome@threadly.io",
+          Map.of("userName", "홍길동", "loginUrl", "https://threadly.io/login")
+      );
+      when(mailOutboxPort.append("event-3", welcome, Duration.ZERO, occurredAt)).thenReturn(true);
+
+      //when
+      mailOutboxService.enqueue("event-3", welcome, occurredAt);
+
+      //then
+      verify(mailOutboxPort, never()).hasNewer(any(), any(), any(), any());
+      verify(mailOutboxPort, never()).supersedePending(any(), any());
+      assertThat(meterRegistry.get("mail_outbox_coalesced").counter().count()).isZero();
+    }
+
+    /*[Case #3] window 가 0 이면 인증 메일도 병합하지 않아야 한다*/
+    @DisplayName("3. window 가 0 이면 인증 메일도 병합하지 않는지 검증")
+    @Test
+    void enqueue_shouldNotCoalesce_whenWindowIsZero() throws Exception {
+      //given
+      MailOutboxService service = new MailOutboxService(mailOutboxPort,
+          new SimpleMeterRegistry(), 0L);
+      when(mailOutboxPort.append("event-4", command, Duration.ZERO, occurredAt)).thenReturn(true);
+
+      //when
+      service.enqueue("event-4", command, occurredAt);
+
+      //then
+      verify(mailOutboxPort, never()).supersedePending(any(), any());
+    }
+
+    /*[Case #4] 재시도로 늦게 도착한 이전 요청은 더 최신 요청이 있으면 적재되지 않아야 한다*/
+    @DisplayName("4. 더 최신 요청이 있으면 늦게 도착한 이전 요청이 적재되지 않는지 검증")
+    @Test
+    void enqueue_shouldSkipOlderEvent_whenNewerExists() throws Exception {
+      //given
+      when(mailOutboxPort.hasNewer(MailType.VERIFICATION, "verify@threadly.io", occurredAt,
+          "event-1")).thenReturn(true);
+
+      //when
+      boolean result = mailOutboxService.enqueue("event-1", command, occurredAt);
+
+      //then
+      assertThat(result).isFalse();
+      verify(mailOutboxPort, never()).append(any(), any(), any(), any());
+      verify(mailOutboxPort, never()).supersedePending(any(), any());
+      assertThat(meterRegistry.get("mail_outbox_coalesced").counter().count()).isEqualTo(1.0);
+    }
+  }
+
+  @Nested
+  @DisplayName("동시 적재 테스트")
+  class ConcurrentEnqueueTest {
+
+    /*[Case #1] 같은 수신자의 인증 메일이 동시에 적재되면 가장 최신 메일 하나만 전송 대기로 남아야 한다*/
+    @DisplayName("1. 같은 수신자의 인증 메일을 동시에 적재하면 최신 메일 하나만 남는지 검증")
+    @Test
+    void enqueue_shouldKeepLatestOnly_whenEnqueuedConcurrently() throws Exception {
+      ExecutorService executor = Executors.newFixedThreadPool(2);
+      try {
+        for (int round = 0; round < 200; round++) {
+          //given
+          InMemoryMailOutboxPort port = new InMemoryMailOutboxPort();
+          MailOutboxService service = new MailOutboxService(port, new SimpleMeterRegistry(),
+              5000L);
+          CountDownLatch start = new CountDownLatch(1);
+
+          //when
+          Future<Boolean> older = executor.submit(() -> {
+            start.await();
+            return service.enqueue("event-1", command, occurredAt);
+          });
+          Future<Boolean> newer = executor.submit(() -> {
+            start.await();
+            return service.enqueue("event-2", command, occurredAt.plusSeconds(1));
+          });
+          start.countDown();
+          older.get(5, TimeUnit.SECONDS);
+          newer.get(5, TimeUnit.SECONDS);
+
+          //then
+          assertThat(port.pendingEventIds()).containsExactly("event-2");
+        }
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+  }
+
+  /**
+   * 호출 하나하나만 원자적인 outbox, 호출 사이에는 다른 적재가 끼어들 수 있다
+   */
+  private static final class InMemoryMailOutboxPort implements MailOutboxPort {
+
+    private final List<Row> rows = new ArrayList<>();
+
+    synchronized List<String> pendingEventIds() {
+      return rows.stream().filter(row -> row.pending).map(row -> row.eventId).toList();
+    }
+
+    @Override
+    public synchronized boolean append(String eventId, SendMailCommand command, Duration delay,
+        LocalDateTime occurredAt) {
+      if (rows.stream().anyMatch(row -> row.eventId.equals(eventId))) {
+        return false;
+      }
+      return rows.add(new Row(eventId, occurredAt));
+    }
+
+    @Override
+    public synchronized boolean hasNewer(MailType mailType, String to, LocalDateTime occurredAt,
+        String eventId) {
+      return rows.stream().anyMatch(row -> row.isNewerThan(occurredAt, eventId));
+    }
+
+    @Override
+    public synchronized long supersedePending(MailType mailType, String to) {
+      Row latest = null;
+      for (Row row : rows) {
+        if (latest == null || row.isNewerThan(latest.occurredAt, latest.eventId)) {
+          latest = row;
+        }
+      }
+      long superseded = 0;
+      for (Row row : rows) {
+        if (row != latest && row.pending) {
+          row.pending = false;
+          superseded++;
+        }
+      }
+      return superseded;
+    }
+
+    @Override
+    public List<OutboxMail> claim(int limit, Duration lease) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void markSent(String id) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void markRetry(String id, LocalDateTime nextAttemptAt, String reason) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void markThrottled(String id, LocalDateTime nextAttemptAt) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void markFailed(String id, String reason) {
+      throw new UnsupportedOperationException();
+    }
+
+    private static final class Row {
+
+      private final String eventId;
+      private final LocalDateTime occurredAt;
+      private boolean pending = true;
+
+      private Row(String eventId, LocalDateTime occurredAt) {
+        this.eventId = eventId;
+        this.occurredAt = occurredAt;
+      }
+
+      private boolean isNewerThan(LocalDateTime otherOccurredAt, String otherEventId) {
+        int compared = occurredAt.compareTo(otherOccurredAt);
+        return compared > 0 || compared == 0 && eventId.compareTo(otherEventId) > 0;
+      }
+    }
+  }
+}
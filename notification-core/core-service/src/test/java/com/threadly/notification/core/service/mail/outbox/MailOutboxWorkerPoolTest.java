@@ -0,0 +1,264 @@
+package com.threadly.notification.core.service.mail.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.threadly.notification.core.domain.mail.MailType;
+import com.threadly.notification.core.port.mail.in.SendMailUseCase;
+import com.threadly.notification.core.port.mail.in.dto.MailBatchResult;
+import com.threadly.notification.core.port.mail.in.dto.SendMailCommand;
+import com.threadly.notification.core.port.mail.out.MailOutboxPort;
+import com.threadly.notification.core.port.mail.out.dto.OutboxMail;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * MailOutboxWorkerPool 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class MailOutboxWorkerPoolTest {
+
+  @Mock
+  private MailOutboxPort mailOutboxPort;
+
+  @Mock
+  private SendMailUseCase sendMailUseCase;
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private MailOutboxWorkerPool mailOutboxWorkerPool;
+
+  private final SendMailCommand command = new SendMailCommand(
+      MailType.WELCOME,
+      "welcome@threadly.io",
+      Map.of("userName", "홍길동", "loginUrl", "https://threadly.io/login")
+  );
+
+  @BeforeEach
+  void setUp() {
+    mailOutboxWorkerPool = new MailOutboxWorkerPool(
+        mailOutboxPort, sendMailUseCase, meterRegistry,
+        2, 10, 3, 10L, 60_000L, 1_000L, 600_000L
+    );
+  }
+
+  private OutboxMail outboxMail(int attempts) {
+    return new OutboxMail("outbox-1", "event-1", command, attempts);
+  }
+
+  @Nested
+  @DisplayName("processNext 테스트")
+  class ProcessNextTest {
+
+    /*[Case #1] 전송에 성공하면 전송 완료로 변경되어야 한다*/
+    @DisplayName("1. 전송에 성공하면 전송 완료로 변경되는지 검증")
+    @Test
+    void processNext_shouldMarkSent_whenSendSucceeds() throws Exception {
+      //given
+      when(mailOutboxPort.claim(eq(10), any(Duration.class))).thenReturn(List.of(outboxMail(1)));
+      when(sendMailUseCase.sendAll(List.of(command))).thenReturn(new MailBatchResult(Map.of()));
+
+      //when
+      boolean processed = mailOutboxWorkerPool.processNext();
+
+      //then
+      assertThat(processed).isTrue();
+      verify(sendMailUseCase).sendAll(List.of(command));
+      verify(mailOutboxPort).markSent("outbox-1");
+      assertThat(meterRegistry.get("mail_outbox_processed").tag("result", "sent").counter()
+          .count()).isEqualTo(1.0);
+    }
+
+    /*[Case #2] 전송에 실패하면 backoff 뒤로 재시도가 예약되어야 한다*/
+    @DisplayName("2. 전송에 실패하면 backoff 뒤로 재시도가 예약되는지 검증")
+    @Test
+    void processNext_shouldScheduleRetry_whenSendFails() throws Exception {
+      //given
+      when(mailOutboxPort.claim(eq(10), any(Duration.class))).thenReturn(List.of(outboxMail(2)));
+      when(sendMailUseCase.sendAll(List.of(command)))
+          .thenReturn(new MailBatchResult(Map.of(0, "smtp down")));
+      ArgumentCaptor<LocalDateTime> nextAttemptCaptor =
+          ArgumentCaptor.forClass(LocalDateTime.class);
+      LocalDateTime before = LocalDateTime.now();
+
+      //when
+      mailOutboxWorkerPool.processNext();
+
+      //then
+      verify(mailOutboxPort).markRetry(eq("outbox-1"), nextAttemptCaptor.capture(),
+          eq("smtp down"));
+      assertThat(nextAttemptCaptor.getValue()).isAfterOrEqualTo(before.plusSeconds(2));
+      verify(mailOutboxPort, never()).markFailed(anyString(), anyString());
+    }
+
+    /*[Case #3] 최대 시도 횟수에 도달하면 최종 실패로 변경되어야 한다*/
+    @DisplayName("3. 최대 시도 횟수에 도달하면 최종 실패로 변경되는지 검증")
+    @Test
+    void processNext_shouldMarkFailed_whenAttemptsExhausted() throws Exception {
+      //given
+      when(mailOutboxPort.claim(eq(10), any(Duration.class))).thenReturn(List.of(outboxMail(3)));
+      when(sendMailUseCase.sendAll(List.of(command)))
+          .thenThrow(new IllegalStateException("smtp down"));
+
+      //when
+      mailOutboxWorkerPool.processNext();
+
+      //then
+      verify(mailOutboxPort).markFailed("outbox-1", "smtp down");
+      verify(mailOutboxPort, never()).markRetry(anyString(), any(), anyString());
+    }
+
+    /*[Case #4] 가져올 메일이 없으면 false를 반환해야 한다*/
+    @DisplayName("4. 가져올 메일이 없으면 false를 반환하는지 검증")
+    @Test
+    void processNext_shouldReturnFalse_whenOutboxIsEmpty() throws Exception {
+      //given
+      when(mailOutboxPort.claim(eq(10), any(Duration.class))).thenReturn(List.of());
+
+      //when
+      boolean processed = mailOutboxWorkerPool.processNext();
+
+      //then
+      assertThat(processed).isFalse();
+      verify(sendMailUseCase, never()).sendAll(any());
+    }
+
+    /*[Case #5] 가져온 메일을 한 번에 전송하고 메일별 결과로 상태를 변경해야 한다*/
+    @DisplayName("5. 가져온 메일을 한 번에 전송하고 메일별 결과로 상태가 변경되는지 검증")
+    @Test
+    void processNext_shouldSendClaimedMailsAtOnce() throws Exception {
+      //given
+      OutboxMail first = new OutboxMail("outbox-1", "event-1", command, 1);
+      OutboxMail second = new OutboxMail("outbox-2", "event-2", command, 1);
+      when(mailOutboxPort.claim(eq(10), any(Duration.class))).thenReturn(List.of(first, second));
+      when(sendMailUseCase.sendAll(List.of(command, command)))
+          .thenReturn(new MailBatchResult(Map.of(1, "550 no mailbox")));
+
+      //when
+      mailOutboxWorkerPool.processNext();
+
+      //then
+      verify(sendMailUseCase).sendAll(List.of(command, command));
+      verify(mailOutboxPort).markSent("outbox-1");
+      verify(mailOutboxPort).markRetry(eq("outbox-2"), any(LocalDateTime.class),
+          eq("550 no mailbox"));
+      verify(mailOutboxPort, never()).markSent("outbox-2");
+    }
+
+    /*[Case #6] 전송 속도 제한으로 보내지 못한 메일은 시도 횟수와 관계없이 다시 전송 대기로 변경되어야 한다*/
+    @DisplayName("6. 전송 속도 제한으로 보내지 못한 메일은 실패 처리 없이 다시 전송 대기로 변경되는지 검증")
+    @Test
+    void processNext_shouldReschedule_whenThrottled() throws Exception {
+      //given
+      when(mailOutboxPort.claim(eq(10), any(Duration.class))).thenReturn(List.of(outboxMail(3)));
+      when(sendMailUseCase.sendAll(List.of(command)))
+          .thenReturn(new MailBatchResult(Map.of(), Set.of(0)));
+      LocalDateTime before = LocalDateTime.now();
+
+      //when
+      mailOutboxWorkerPool.processNext();
+
+      //then
+      ArgumentCaptor<LocalDateTime> nextAttemptCaptor =
+          ArgumentCaptor.forClass(LocalDateTime.class);
+      verify(mailOutboxPort).markThrottled(eq("outbox-1"), nextAttemptCaptor.capture());
+      assertThat(nextAttemptCaptor.getValue()).isAfterOrEqualTo(before.plusSeconds(1));
+      verify(mailOutboxPort, never()).markFailed(anyString(), anyString());
+      verify(mailOutboxPort, never()).markRetry(anyString(), any(), anyString());
+      assertThat(meterRegistry.get("mail_outbox_processed").tag("result", "throttled").counter()
+          .count()).isEqualTo(1.0);
+    }
+  }
+
+  @Nested
+  @DisplayName("backoff 테스트")
+  class BackoffTest {
+
+    /*[Case #1] 시도 횟수마다 대기 시간이 두 배로 늘고 최대값을 넘지 않아야 한다*/
+    @DisplayName("1. 시도 횟수마다 대기 시간이 두 배로 늘고 최대값을 넘지 않는지 검증")
+    @Test
+    void backoff_shouldDoubleAndCap() throws Exception {
+      //given
+      //when
+      //then
+      assertThat(mailOutboxWorkerPool.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+      assertThat(mailOutboxWorkerPool.backoff(2)).isEqualTo(Duration.ofSeconds(2));
+      assertThat(mailOutboxWorkerPool.backoff(4)).isEqualTo(Duration.ofSeconds(8));
+      assertThat(mailOutboxWorkerPool.backoff(40)).isEqualTo(Duration.ofMinutes(10));
+    }
+  }
+
+  @Nested
+  @DisplayName("lifecycle 테스트")
+  class LifecycleTest {
+
+    /*[Case #1] 시작하면 worker 가 outbox 의 메일을 전송해야 한다*/
+    @DisplayName("1. 시작하면 worker 가 outbox 의 메일을 전송하는지 검증")
+    @Test
+    void start_shouldDrainOutbox() throws Exception {
+      //given
+      when(mailOutboxPort.claim(eq(10), any(Duration.class)))
+          .thenReturn(List.of(outboxMail(1)))
+          .thenReturn(List.of());
+      when(sendMailUseCase.sendAll(List.of(command))).thenReturn(new MailBatchResult(Map.of()));
+
+      //when
+      mailOutboxWorkerPool.start();
+
+      //then
+      try {
+        verify(mailOutboxPort, timeout(1000)).markSent("outbox-1");
+        assertThat(mailOutboxWorkerPool.isRunning()).isTrue();
+      } finally {
+        mailOutboxWorkerPool.stop();
+      }
+      assertThat(mailOutboxWorkerPool.isRunning()).isFalse();
+    }
+
+    /*[Case #2] 종료 시 전송 중인 메일은 끝까지 보내고 상태를 남긴 뒤 종료되어야 한다*/
+    @DisplayName("2. 종료 시 전송 중인 메일을 끝까지 보내고 상태를 남기는지 검증")
+    @Test
+    void stop_shouldFinishInFlightBatch() throws Exception {
+      //given
+      CountDownLatch sending = new CountDownLatch(1);
+      when(mailOutboxPort.claim(eq(10), any(Duration.class)))
+          .thenReturn(List.of(outboxMail(1)))
+          .thenReturn(List.of());
+      when(sendMailUseCase.sendAll(List.of(command))).thenAnswer(invocation -> {
+        sending.countDown();
+        Thread.sleep(200);
+        return new MailBatchResult(Map.of());
+      });
+      mailOutboxWorkerPool.start();
+      assertThat(sending.await(1, TimeUnit.SECONDS)).isTrue();
+
+      //when
+      mailOutboxWorkerPool.stop();
+
+      //then
+      verify(mailOutboxPort).markSent("outbox-1");
+      assertThat(mailOutboxWorkerPool.isRunning()).isFalse();
+    }
+  }
+}
@@ -0,0 +1,173 @@
+package com.threadly.notification.core.service.mail.template;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.context.IContext;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import org.thymeleaf.templateresolver.StringTemplateResolver;
+
+/**
+ * MailTemplateRenderer 테스트
+ * <p>
+ * 실제 메일 template 으로 렌더링 결과가 Thymeleaf 렌더링 결과와 같은지 확인한다.
+ */
+class MailTemplateRendererTest {
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private TemplateEngine templateEngine;
+  private MailTemplateRenderer mailTemplateRenderer;
+
+  @BeforeEach
+  void setUp() {
+    ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+    resolver.setPrefix("templates/");
+    resolver.setSuffix(".html");
+    resolver.setTemplateMode(TemplateMode.HTML);
+    resolver.setCharacterEncoding("UTF-8");
+
+    TemplateEngine engine = new TemplateEngine();
+    engine.setTemplateResolver(resolver);
+
+    templateEngine = spy(engine);
+    mailTemplateRenderer = new MailTemplateRenderer(templateEngine, meterRegistry);
+  }
+
+  private static TemplateEngine stringEngine() {
+    StringTemplateResolver resolver = new StringTemplateResolver();
+    resolver.setTemplateMode(TemplateMode.HTML);
+
+    TemplateEngine engine = new TemplateEngine();
+    engine.setTemplateResolver(resolver);
+    return engine;
+  }
+
+  private String process(String template, Map<String, Object> values) {
+    Context context = new Context();
+    context.setVariables(values);
+    return templateEngine.process(template, context);
+  }
+
+  @Nested
+  @DisplayName("변수 없는 template 렌더링 테스트")
+  class StaticTemplateTest {
+
+    /*[Case #1] 변수 없는 template 은 한 번만 렌더링되어야 한다*/
+    @DisplayName("1. 변수 없는 template 은 한 번만 렌더링되는지 검증")
+    @Test
+    void render_shouldRenderStaticTemplateOnce() throws Exception {
+      //given
+      //when
+      String first = mailTemplateRenderer.render("signup-complete-mail", null);
+      String second = mailTemplateRenderer.render("signup-complete-mail", null);
+
+      //then
+      assertThat(second).isSameAs(first);
+      verify(templateEngine, times(1)).process(eq("signup-complete-mail"), any(IContext.class));
+      assertThat(meterRegistry.get("mail_template_render").tag("result", "hit").counter()
+          .count()).isEqualTo(1.0);
+    }
+
+    /*[Case #2] 빈 변수로 다시 렌더링해도 engine 을 거치지 않고 cache 된 본문을 반환해야 한다*/
+    @DisplayName("2. 빈 변수로 다시 렌더링해도 engine 을 거치지 않고 cache 된 본문을 반환하는지 검증")
+    @Test
+    void render_shouldReturnCachedBody_whenValuesAreEmpty() throws Exception {
+      //given
+      String first = mailTemplateRenderer.render("signup-complete-mail", null);
+
+      //when
+      String second = mailTemplateRenderer.render("signup-complete-mail", Map.of());
+
+      //then
+      assertThat(second).isSameAs(first);
+      verify(templateEngine, times(1)).process(eq("signup-complete-mail"), any(IContext.class));
+    }
+  }
+
+  @Nested
+  @DisplayName("변수 치환 template 렌더링 테스트")
+  class CompiledTemplateTest {
+
+    /*[Case #1] 변수 치환 결과가 Thymeleaf 렌더링 결과와 같아야 한다*/
+    @DisplayName("1. 변수 치환 결과가 Thymeleaf 렌더링 결과와 같은지 검증")
+    @Test
+    void render_shouldMatchFullRender() throws Exception {
+      //given
+      mailTemplateRenderer.render("verify-email-mail",
+          Map.of("verifyUrl", "https://threadly.io/verify?code=0000"));
+      Map<String, Object> values = Map.of("verifyUrl",
+          "https://threadly.io/verify?code=1234&state=\"<x>'");
+
+      //when
+      String result = mailTemplateRenderer.render("verify-email-mail", values);
+
+      //then
+      assertThat(result).isEqualTo(process("verify-email-mail", values));
+      assertThat(result).contains("code=1234&amp;state=&quot;&lt;x&gt;&#39;");
+    }
+
+    /*[Case #2] 분할 이후에는 template 을 다시 렌더링하지 않아야 한다*/
+    @DisplayName("2. 분할 이후에는 template 을 다시 렌더링하지 않는지 검증")
+    @Test
+    void render_shouldNotReprocess_afterCompile() throws Exception {
+      //given
+      //when
+      for (int i = 0; i < 5; i++) {
+        mailTemplateRenderer.render("verify-email-mail",
+            Map.of("verifyUrl", "https://threadly.io/verify?code=" + i));
+      }
+
+      //then
+      /*실제 값 렌더링 1회 + 치환 위치 표시 렌더링 1회*/
+      verify(templateEngine, times(2)).process(eq("verify-email-mail"), any(IContext.class));
+    }
+
+    /*[Case #3] 변수 값에 따라 구조가 바뀌는 template 은 매번 렌더링해야 한다*/
+    @DisplayName("3. 변수 값에 따라 구조가 바뀌는 template 은 매번 렌더링하는지 검증")
+    @Test
+    void render_shouldFallBack_whenVariableDrivesLogic() throws Exception {
+      //given
+      MailTemplateRenderer renderer = new MailTemplateRenderer(stringEngine(), meterRegistry);
+      String template = "<p th:if=\"${name == 'admin'}\">관리자</p><p th:text=\"${name}\">x</p>";
+
+      //when
+      String admin = renderer.render(template, Map.of("name", "admin"));
+      String user = renderer.render(template, Map.of("name", "user"));
+
+      //then
+      assertThat(admin).contains("관리자");
+      assertThat(user).doesNotContain("관리자").contains("user");
+    }
+
+    /*[Case #4] 변수를 가공해 출력하는 template 은 매번 렌더링해야 한다*/
+    @DisplayName("4. 변수를 가공해 출력하는 template 은 매번 렌더링하는지 검증")
+    @Test
+    void render_shouldFallBack_whenVariableIsTransformed() throws Exception {
+      //given
+      MailTemplateRenderer renderer = new MailTemplateRenderer(stringEngine(), meterRegistry);
+      String template = "<p th:text=\"${#strings.toUpperCase(name)}\">x</p>";
+
+      //when
+      renderer.render(template, Map.of("name", "first"));
+      String result = renderer.render(template, Map.of("name", "second"));
+
+      //then
+      assertThat(result).isEqualTo("<p>SECOND</p>");
+    }
+  }
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -16,12 +17,15 @@ import com.threadly.notification.core.domain.notification.metadata.NotificationM
 import com.threadly.notification.core.domain.notification.metadata.PostLikeMeta;
 import com.threadly.notification.core.domain.user.ActorProfile;
 import com.threadly.notification.core.port.notification.in.NotificationCommand;
+import com.threadly.notification.core.port.notification.in.dto.NotificationBatchResult;
 import com.threadly.notification.core.port.notification.out.NotificationCommandPort;
 import com.threadly.notification.core.port.notification.out.NotificationQueryPort;
+import com.threadly.notification.core.port.notification.out.dto.SavedNotificationBatch;
 import com.threadly.notification.core.port.notification.out.dto.SavedNotificationEventDoc;
+import com.threadly.notification.core.service.notification.dedupe.NotificationDedupeFilter;
 import com.threadly.notification.core.service.notification.dto.NotificationPushCommand;
-import com.threadly.notification.core.service.utils.MetadataMapper;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.ClassOrderer;
@@ -56,19 +60,27 @@ class NotificationCommandServiceTest {
   private NotificationQueryPort notificationQueryPort;
 
   @Mock
-  private MetadataMapper metadataMapper;
+  private NotificationDedupeFilter notificationDedupeFilter;
 
   @Mock
   private ApplicationEventPublisher applicationEventPublisher;
 
   private NotificationCommand sampleCommand() {
+    return sampleCommand("event-1");
+  }
+
+  private NotificationCommand sampleCommand(String eventId) {
+    return sampleCommand(eventId, new ActorProfile("actor-1", "행위자", "/profile.png"));
+  }
+
+  private NotificationCommand sampleCommand(String eventId, ActorProfile actorProfile) {
     return new NotificationCommand(
-        "event-1",
+        eventId,
         "receiver-1",
         NotificationType.POST_LIKE,
-        Map.of("postId", "post-1"),
+        new PostLikeMeta("post-1"),
         LocalDateTime.of(2024, 1, 1, 12, 0),
-        new ActorProfile("actor-1", "행위자", "/profile.png")
+        actorProfile
     );
   }
 
@@ -85,17 +97,15 @@ class NotificationCommandServiceTest {
     void ingest_shouldSaveAndPublishNotification() throws Exception {
       //given
       NotificationCommand command = sampleCommand();
-      NotificationMetaData metadata = new PostLikeMeta("post-1");
-      when(metadataMapper.toTypeMeta(command.notificationType(), command.metadata()))
-          .thenReturn(metadata);
-      when(notificationCommandPort.save(any(Notification.class)))
-          .thenReturn(new SavedNotificationEventDoc(
+      NotificationMetaData metadata = command.metadata();
+      when(notificationCommandPort.saveIfAbsent(any(Notification.class)))
+          .thenReturn(Optional.of(new SavedNotificationEventDoc(
               command.eventId(),
               "sort-123",
               command.notificationType(),
               metadata,
               command.occurredAt()
-          ));
+          )));
 
       ArgumentCaptor<Notification> notificationCaptor = ArgumentCaptor.forClass(Notification.class);
       ArgumentCaptor<NotificationPushCommand> pushCommandCaptor =
@@ -105,8 +115,7 @@ class NotificationCommandServiceTest {
       notificationCommandService.ingest(command);
 
       //then
-      verify(metadataMapper).toTypeMeta(command.notificationType(), command.metadata());
-      verify(notificationCommandPort).save(notificationCaptor.capture());
+      verify(notificationCommandPort).saveIfAbsent(notificationCaptor.capture());
       Notification savedNotification = notificationCaptor.getValue();
       assertThat(savedNotification.getEventId()).isEqualTo(command.eventId());
       assertThat(savedNotification.getReceiverId()).isEqualTo(command.receiverId());
@@ -119,6 +128,43 @@ class NotificationCommandServiceTest {
       NotificationPushCommand publishedCommand = pushCommandCaptor.getValue();
       assertThat(publishedCommand.notification()).isEqualTo(savedNotification);
       assertThat(publishedCommand.sortId()).isEqualTo("sort-123");
+      verify(notificationDedupeFilter).recordMiss(command.eventId());
+    }
+
+    /*[Case #2] 최근 처리한 eventId 이면 저장, 발행 없이 종료되어야 한다*/
+    @Order(2)
+    @DisplayName("2. 최근 처리한 eventId 이면 저장, 발행 없이 종료되는지 검증")
+    @Test
+    void ingest_shouldSkip_whenEventIdRecentlySeen() throws Exception {
+      //given
+      NotificationCommand command = sampleCommand();
+      when(notificationDedupeFilter.isRecentlySeen(command.eventId())).thenReturn(true);
+
+      //when
+      notificationCommandService.ingest(command);
+
+      //then
+      verify(notificationCommandPort, never()).saveIfAbsent(any());
+      verify(applicationEventPublisher, never()).publishEvent(any());
+    }
+
+    /*[Case #3] 이미 저장된 eventId 이면 발행 없이 종료되어야 한다*/
+    @Order(3)
+    @DisplayName("3. 이미 저장된 eventId 이면 발행 없이 종료되는지 검증")
+    @Test
+    void ingest_shouldSkipPublish_whenEventIdAlreadyStored() throws Exception {
+      //given
+      NotificationCommand command = sampleCommand();
+      when(notificationCommandPort.saveIfAbsent(any(Notification.class)))
+          .thenReturn(Optional.empty());
+
+      //when
+      notificationCommandService.ingest(command);
+
+      //then
+      verify(notificationDedupeFilter).recordStoreHit(command.eventId());
+      verify(notificationDedupeFilter, never()).recordMiss(any());
+      verify(applicationEventPublisher, never()).publishEvent(any());
     }
   }
 
@@ -256,4 +302,79 @@ class NotificationCommandServiceTest {
       verify(notificationCommandPort).markAllAsRead(eq(receiverId));
     }
   }
+
+  @Order(6)
+  @Nested
+  @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+  @DisplayName("ingestBatch 테스트")
+  class IngestBatchTest {
+
+    /*[Case #1] 저장에 성공한 알림만 발행되어야 한다*/
+    @Order(1)
+    @DisplayName("1. 저장에 성공한 알림만 발행되는지 검증")
+    @Test
+    void ingestBatch_shouldPublishOnlySavedNotifications() throws Exception {
+      //given
+      NotificationMetaData metadata = new PostLikeMeta("post-1");
+      when(notificationCommandPort.saveAll(any()))
+          .thenReturn(new SavedNotificationBatch(
+              List.of(new SavedNotificationEventDoc("event-1", "sort-1", NotificationType.POST_LIKE,
+                  metadata, LocalDateTime.of(2024, 1, 1, 12, 0))),
+              List.of("event-2"),
+              Map.of("event-3", "write error")
+          ));
+
+      ArgumentCaptor<NotificationPushCommand> pushCommandCaptor =
+          ArgumentCaptor.forClass(NotificationPushCommand.class);
+
+      //when
+      NotificationBatchResult result = notificationCommandService.ingestBatch(
+          List.of(sampleCommand("event-1"), sampleCommand("event-2"), sampleCommand("event-3")));
+
+      //then
+      verify(applicationEventPublisher, times(1)).publishEvent(pushCommandCaptor.capture());
+      assertThat(pushCommandCaptor.getValue().notification().getEventId()).isEqualTo("event-1");
+      assertThat(pushCommandCaptor.getValue().sortId()).isEqualTo("sort-1");
+
+      assertThat(result.succeededEventIds()).containsExactly("event-1");
+      assertThat(result.duplicatedEventIds()).containsExactly("event-2");
+      assertThat(result.failures()).containsOnlyKeys("event-3");
+    }
+
+    /*[Case #2] 도메인 변환에 실패한 레코드는 저장 없이 실패로 기록되어야 한다*/
+    @Order(2)
+    @DisplayName("2. 도메인 변환에 실패한 레코드가 실패로 기록되는지 검증")
+    @Test
+    void ingestBatch_shouldReportMappingFailure_withoutSaving() throws Exception {
+      //given
+      NotificationCommand invalidCommand = sampleCommand("event-1", null);
+
+      //when
+      NotificationBatchResult result = notificationCommandService.ingestBatch(
+          List.of(invalidCommand));
+
+      //then
+      verify(notificationCommandPort, never()).saveAll(any());
+      verify(applicationEventPublisher, never()).publishEvent(any());
+      assertThat(result.failures()).containsOnlyKeys("event-1");
+    }
+
+    /*[Case #3] 최근 처리한 eventId 는 저장 대상에서 제외되고 중복으로 기록되어야 한다*/
+    @Order(3)
+    @DisplayName("3. 최근 처리한 eventId 가 저장 없이 중복으로 기록되는지 검증")
+    @Test
+    void ingestBatch_shouldSkipRecentlySeenEventIds() throws Exception {
+      //given
+      when(notificationDedupeFilter.isRecentlySeen("event-1")).thenReturn(true);
+
+      //when
+      NotificationBatchResult result = notificationCommandService.ingestBatch(
+          List.of(sampleCommand("event-1")));
+
+      //then
+      verify(notificationCommandPort, never()).saveAll(any());
+      verify(applicationEventPublisher, never()).publishEvent(any());
+      assertThat(result.duplicatedEventIds()).containsExactly("event-1");
+    }
+  }
 }
@@ -0,0 +1,177 @@
+package com.threadly.notification.core.service.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.threadly.notification.core.domain.notification.NotificationType;
+import com.threadly.notification.core.domain.notification.metadata.PostLikeMeta;
+import com.threadly.notification.core.domain.user.ActorProfile;
+import com.threadly.notification.core.port.notification.in.NotificationCommand;
+import com.threadly.notification.core.port.notification.in.NotificationIngestionUseCase;
+import com.threadly.notification.core.port.notification.in.dto.DeadLetterReplayCommand;
+import com.threadly.notification.core.port.notification.in.dto.DeadLetterReplayResult;
+import com.threadly.notification.core.port.notification.in.dto.NotificationDeadLetterCommand;
+import com.threadly.notification.core.port.notification.out.NotificationDeadLetterPort;
+import com.threadly.notification.core.port.notification.out.dto.PendingDeadLetter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestClassOrder;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * NotificationDeadLetterService 테스트
+ */
+@TestClassOrder(ClassOrderer.OrderAnnotation.class)
+@ExtendWith(MockitoExtension.class)
+class NotificationDeadLetterServiceTest {
+
+  private NotificationDeadLetterService notificationDeadLetterService;
+
+  @Mock
+  private NotificationDeadLetterPort notificationDeadLetterPort;
+
+  @Mock
+  private NotificationIngestionUseCase notificationIngestionUseCase;
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @BeforeEach
+  void setUp() {
+    notificationDeadLetterService = new NotificationDeadLetterService(notificationDeadLetterPort,
+        notificationIngestionUseCase, meterRegistry);
+  }
+
+  private static NotificationCommand sampleCommand(String eventId) {
+    return new NotificationCommand(
+        eventId,
+        "receiver-1",
+        NotificationType.POST_LIKE,
+        new PostLikeMeta("post-1"),
+        LocalDateTime.of(2024, 1, 1, 12, 0),
+        new ActorProfile("actor-1", "행위자", "/profile.png")
+    );
+  }
+
+  private static PendingDeadLetter pending(String id) {
+    return new PendingDeadLetter(id, sampleCommand("event-" + id));
+  }
+
+  @Order(1)
+  @Nested
+  @DisplayName("record 테스트")
+  class RecordTest {
+
+    /*[Case #1] 최종 실패 알림이 저장되어야 한다*/
+    @DisplayName("1. 최종 실패 알림이 저장되는지 검증")
+    @Test
+    void record_shouldSaveDeadLetter() throws Exception {
+      //given
+      NotificationDeadLetterCommand command = new NotificationDeadLetterCommand(
+          sampleCommand("event-1"), "notification.DLT", 0, 10L, "notification", "mongo down", 4);
+
+      //when
+      notificationDeadLetterService.record(command);
+
+      //then
+      verify(notificationDeadLetterPort).save(command);
+      assertThat(meterRegistry.get("notification_dead_letter_recorded").counter().count())
+          .isEqualTo(1.0);
+    }
+  }
+
+  @Order(2)
+  @Nested
+  @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+  @DisplayName("replay 테스트")
+  class ReplayTest {
+
+    /*[Case #1] batch 단위로 재처리하고 cursor 로 다음 batch 를 조회해야 한다*/
+    @Order(1)
+    @DisplayName("1. batch 단위로 재처리하고 cursor 로 다음 batch 를 조회하는지 검증")
+    @Test
+    void replay_shouldReplayInBatches_usingCursor() throws Exception {
+      //given
+      when(notificationDeadLetterPort.fetchPending(isNull(), eq(2)))
+          .thenReturn(List.of(pending("1"), pending("2")));
+      when(notificationDeadLetterPort.fetchPending(eq("2"), eq(2)))
+          .thenReturn(List.of(pending("3")));
+
+      //when
+      DeadLetterReplayResult result = notificationDeadLetterService.replay(
+          new DeadLetterReplayCommand(2, 10, 0));
+
+      //then
+      verify(notificationIngestionUseCase, org.mockito.Mockito.times(3)).ingest(
+          any(NotificationCommand.class));
+      verify(notificationDeadLetterPort).markReplayed("1");
+      verify(notificationDeadLetterPort).markReplayed("2");
+      verify(notificationDeadLetterPort).markReplayed("3");
+      assertThat(result.replayed()).isEqualTo(3);
+      assertThat(result.failed()).isZero();
+      assertThat(result.hasMore()).isFalse();
+    }
+
+    /*[Case #2] 재처리에 실패한 알림은 대기 상태로 남고 실패로 집계되어야 한다*/
+    @Order(2)
+    @DisplayName("2. 재처리에 실패한 알림이 대기 상태로 남고 실패로 집계되는지 검증")
+    @Test
+    void replay_shouldRecordFailure_andContinue() throws Exception {
+      //given
+      PendingDeadLetter failing = pending("1");
+      when(notificationDeadLetterPort.fetchPending(isNull(), eq(10)))
+          .thenReturn(List.of(failing, pending("2")));
+      doThrow(new IllegalStateException("mongo down"))
+          .when(notificationIngestionUseCase).ingest(failing.command());
+
+      //when
+      DeadLetterReplayResult result = notificationDeadLetterService.replay(
+          new DeadLetterReplayCommand(10, 10, 0));
+
+      //then
+      verify(notificationDeadLetterPort).markReplayFailed("1", "mongo down");
+      verify(notificationDeadLetterPort, never()).markReplayed("1");
+      verify(notificationDeadLetterPort).markReplayed("2");
+      assertThat(result.replayed()).isEqualTo(1);
+      assertThat(result.failed()).isEqualTo(1);
+    }
+
+    /*[Case #3] 최대 건수에 도달하면 남은 알림 여부를 반환해야 한다*/
+    @Order(3)
+    @DisplayName("3. 최대 건수에 도달하면 남은 알림 여부가 반환되는지 검증")
+    @Test
+    void replay_shouldStopAtMaxRecords_andReportRemaining() throws Exception {
+      //given
+      when(notificationDeadLetterPort.fetchPending(isNull(), eq(2)))
+          .thenReturn(List.of(pending("1"), pending("2")));
+      when(notificationDeadLetterPort.fetchPending(eq("2"), eq(1)))
+          .thenReturn(List.of(pending("3")));
+
+      //when
+      DeadLetterReplayResult result = notificationDeadLetterService.replay(
+          new DeadLetterReplayCommand(5, 2, 0));
+
+      //then
+      assertThat(result.replayed()).isEqualTo(2);
+      assertThat(result.hasMore()).isTrue();
+      verify(notificationDeadLetterPort, never()).markReplayed("3");
+    }
+  }
+}
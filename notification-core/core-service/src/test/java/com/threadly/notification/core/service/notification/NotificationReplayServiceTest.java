@@ -0,0 +1,182 @@
+package com.threadly.notification.core.service.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.threadly.notification.core.domain.notification.Notification;
+import com.threadly.notification.core.domain.notification.NotificationType;
+import com.threadly.notification.core.domain.notification.metadata.PostLikeMeta;
+import com.threadly.notification.core.domain.user.ActorProfile;
+import com.threadly.notification.core.port.notification.in.dto.ReplayBatch;
+import com.threadly.notification.core.port.notification.out.NotificationQueryPort;
+import com.threadly.notification.core.port.notification.out.dto.NotificationMessage;
+import com.threadly.notification.core.port.notification.out.dto.ReplayNotification;
+import com.threadly.notification.core.port.notification.out.dto.preview.PostLikePreview;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * NotificationReplayService 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class NotificationReplayServiceTest {
+
+  private NotificationReplayService notificationReplayService;
+
+  @Mock
+  private NotificationQueryPort notificationQueryPort;
+
+  private final List<ReplayBatch> batches = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    notificationReplayService = new NotificationReplayService(notificationQueryPort, 2, 5);
+  }
+
+  private static ReplayNotification replay(String sortId) {
+    return new ReplayNotification(
+        Notification.newNotification(
+            "event-" + sortId,
+            "receiver-1",
+            NotificationType.POST_LIKE,
+            LocalDateTime.of(2024, 1, 1, 12, 0),
+            new ActorProfile("actor-1", "행위자", "/profile.png"),
+            new PostLikeMeta("post-1")
+        ),
+        sortId
+    );
+  }
+
+  @Nested
+  @DisplayName("replayAfter 테스트")
+  class ReplayAfterTest {
+
+    /*[Case #1] batch-size 단위로 나누어 조회하고 마지막 sortId 로 다음 batch 를 조회해야 한다*/
+    @DisplayName("1. batch-size 단위로 나누어 조회하고 마지막 sortId 로 다음 batch 를 조회하는지 검증")
+    @Test
+    void replayAfter_shouldFetchInBatches_usingLastSortId() throws Exception {
+      //given
+      when(notificationQueryPort.fetchAfterSortId("receiver-1", "s0", 2))
+          .thenReturn(List.of(replay("s1"), replay("s2")));
+      when(notificationQueryPort.fetchAfterSortId("receiver-1", "s2", 2))
+          .thenReturn(List.of(replay("s3")));
+
+      //when
+      notificationReplayService.replayAfter("receiver-1", "s0", 10, batches::add);
+
+      //then
+      assertThat(batches).hasSize(2);
+      assertThat(batches.get(0).messages()).extracting(NotificationMessage::sortId)
+          .containsExactly("s1", "s2");
+      assertThat(batches.get(0).lastSortId()).isEqualTo("s2");
+      assertThat(batches.get(0).done()).isFalse();
+      assertThat(batches.get(1).messages()).extracting(NotificationMessage::eventId)
+          .containsExactly("event-s3");
+      assertThat(batches.get(1).lastSortId()).isEqualTo("s3");
+      assertThat(batches.get(1).done()).isTrue();
+    }
+
+    /*[Case #2] 재전송 메시지는 실시간 발행과 같은 preview 를 포함해야 한다*/
+    @DisplayName("2. 재전송 메시지에 실시간 발행과 같은 preview 가 포함되는지 검증")
+    @Test
+    void replayAfter_shouldBuildPreview() throws Exception {
+      //given
+      when(notificationQueryPort.fetchAfterSortId("receiver-1", "s0", 2))
+          .thenReturn(List.of(replay("s1")));
+
+      //when
+      notificationReplayService.replayAfter("receiver-1", "s0", 10, batches::add);
+
+      //then
+      NotificationMessage message = batches.get(0).messages().get(0);
+      assertThat(message.payload().notificationType()).isEqualTo(NotificationType.POST_LIKE);
+      assertThat(message.payload().preview()).isInstanceOf(PostLikePreview.class);
+    }
+
+    /*[Case #3] 요청 limit 만큼 재전송하면 남은 알림이 있어도 멈춰야 한다*/
+    @DisplayName("3. 요청 limit 만큼 재전송하면 멈추는지 검증")
+    @Test
+    void replayAfter_shouldStop_whenLimitReached() throws Exception {
+      //given
+      when(notificationQueryPort.fetchAfterSortId("receiver-1", "s0", 2))
+          .thenReturn(List.of(replay("s1"), replay("s2")));
+      when(notificationQueryPort.fetchAfterSortId("receiver-1", "s2", 1))
+          .thenReturn(List.of(replay("s3")));
+
+      //when
+      notificationReplayService.replayAfter("receiver-1", "s0", 3, batches::add);
+
+      //then
+      assertThat(batches).hasSize(2);
+      assertThat(batches.get(1).done()).isTrue();
+      verify(notificationQueryPort, never()).fetchAfterSortId(anyString(), eq("s3"), anyInt());
+    }
+
+    /*[Case #4] limit 은 max-limit 을 넘지 않아야 한다*/
+    @DisplayName("4. limit 이 max-limit 으로 제한되는지 검증")
+    @Test
+    void replayAfter_shouldCapLimit_byMaxLimit() throws Exception {
+      //given
+      when(notificationQueryPort.fetchAfterSortId(eq("receiver-1"), isNull(), eq(5)))
+          .thenReturn(List.of());
+
+      //when
+      notificationReplayService.replayAfter("receiver-1", null, 1000, batches::add);
+
+      //then
+      verify(notificationQueryPort).fetchAfterSortId(eq("receiver-1"), isNull(), eq(5));
+    }
+
+    /*[Case #5] 이후 알림이 없으면 기준 sortId 를 유지한 빈 batch 를 넘겨야 한다*/
+    @DisplayName("5. 이후 알림이 없으면 기준 sortId 를 유지한 빈 batch 를 넘기는지 검증")
+    @Test
+    void replayAfter_shouldEmitEmptyDoneBatch_whenNothingMissed() throws Exception {
+      //given
+      when(notificationQueryPort.fetchAfterSortId("receiver-1", "s9", 2)).thenReturn(List.of());
+
+      //when
+      notificationReplayService.replayAfter("receiver-1", "s9", 10, batches::add);
+
+      //then
+      assertThat(batches).hasSize(1);
+      assertThat(batches.get(0).messages()).isEmpty();
+      assertThat(batches.get(0).lastSortId()).isEqualTo("s9");
+      assertThat(batches.get(0).done()).isTrue();
+    }
+  }
+
+  @Nested
+  @DisplayName("findSortId 테스트")
+  class FindSortIdTest {
+
+    /*[Case #1] eventId 에 해당하는 알림의 sortId 를 조회해야 한다*/
+    @DisplayName("1. eventId 에 해당하는 알림의 sortId 가 조회되는지 검증")
+    @Test
+    void findSortId_shouldDelegateToPort() throws Exception {
+      //given
+      when(notificationQueryPort.fetchSortIdByEventIdAndReceiverId("event-1", "receiver-1"))
+          .thenReturn(Optional.of("s1"));
+
+      //when
+      Optional<String> result = notificationReplayService.findSortId("receiver-1", "event-1");
+
+      //then
+      assertThat(result).contains("s1");
+    }
+  }
+}
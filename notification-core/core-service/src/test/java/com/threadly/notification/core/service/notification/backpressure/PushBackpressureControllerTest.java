@@ -0,0 +1,120 @@
+package com.threadly.notification.core.service.notification.backpressure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.threadly.notification.core.port.notification.out.NotificationIngestionFlowPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * PushBackpressureController 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class PushBackpressureControllerTest {
+
+  @Mock
+  private NotificationIngestionFlowPort notificationIngestionFlowPort;
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private PushBackpressureController pushBackpressureController;
+
+  @BeforeEach
+  void setUp() {
+    pushBackpressureController = new PushBackpressureController(
+        notificationIngestionFlowPort, meterRegistry, 40, 10);
+  }
+
+  @Nested
+  @DisplayName("watermark 테스트")
+  class WatermarkTest {
+
+    /*[Case #1] high-watermark 에 도달하면 한 번만 수신을 중지해야 한다*/
+    @DisplayName("1. high-watermark 에 도달하면 한 번만 수신을 중지하는지 검증")
+    @Test
+    void onEnqueued_shouldPauseOnce_whenHighWatermarkReached() throws Exception {
+      //given
+      //when
+      pushBackpressureController.onEnqueued(39);
+      pushBackpressureController.onEnqueued(40);
+      pushBackpressureController.onEnqueued(45);
+
+      //then
+      verify(notificationIngestionFlowPort, times(1)).pause();
+      assertThat(pushBackpressureController.isPaused()).isTrue();
+      assertThat(meterRegistry.get("notification_consumer_paused").gauge().value())
+          .isEqualTo(1.0);
+    }
+
+    /*[Case #2] low-watermark 이하로 내려오면 수신을 재개하고 중지 시간을 기록해야 한다*/
+    @DisplayName("2. low-watermark 이하로 내려오면 수신을 재개하고 중지 시간을 기록하는지 검증")
+    @Test
+    void onDequeued_shouldResume_whenLowWatermarkReached() throws Exception {
+      //given
+      pushBackpressureController.onEnqueued(40);
+
+      //when
+      pushBackpressureController.onDequeued(20);
+      pushBackpressureController.onDequeued(10);
+      pushBackpressureController.onDequeued(5);
+
+      //then
+      InOrder inOrder = inOrder(notificationIngestionFlowPort);
+      inOrder.verify(notificationIngestionFlowPort).pause();
+      inOrder.verify(notificationIngestionFlowPort, times(1)).resume();
+      assertThat(pushBackpressureController.isPaused()).isFalse();
+      assertThat(meterRegistry.get("notification_consumer_pause").timer().count()).isEqualTo(1L);
+    }
+
+    /*[Case #3] 중지되지 않은 상태에서는 재개하지 않아야 한다*/
+    @DisplayName("3. 중지되지 않은 상태에서는 재개하지 않는지 검증")
+    @Test
+    void onDequeued_shouldNotResume_whenNotPaused() throws Exception {
+      //given
+      //when
+      pushBackpressureController.onDequeued(0);
+
+      //then
+      verify(notificationIngestionFlowPort, never()).resume();
+    }
+
+    /*[Case #4] 거절된 작업 수가 기록되어야 한다*/
+    @DisplayName("4. 거절된 작업 수가 기록되는지 검증")
+    @Test
+    void onRejected_shouldIncrementCounter() throws Exception {
+      //given
+      //when
+      pushBackpressureController.onRejected();
+      pushBackpressureController.onRejected();
+
+      //then
+      assertThat(meterRegistry.get("notification_push_rejected").counter().count())
+          .isEqualTo(2.0);
+    }
+
+    /*[Case #5] low-watermark 가 high-watermark 이상이면 생성에 실패해야 한다*/
+    @DisplayName("5. low-watermark 가 high-watermark 이상이면 생성에 실패하는지 검증")
+    @Test
+    void constructor_shouldThrow_whenWatermarksInverted() throws Exception {
+      //given
+      //when
+      //then
+      assertThatThrownBy(() -> new PushBackpressureController(
+          notificationIngestionFlowPort, new SimpleMeterRegistry(), 10, 10))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+}
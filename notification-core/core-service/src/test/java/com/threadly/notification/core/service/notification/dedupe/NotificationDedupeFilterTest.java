@@ -0,0 +1,61 @@
+package com.threadly.notification.core.service.notification.dedupe;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * NotificationDedupeFilter 테스트
+ */
+class NotificationDedupeFilterTest {
+
+  private MeterRegistry meterRegistry;
+  private NotificationDedupeFilter notificationDedupeFilter;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    notificationDedupeFilter = new NotificationDedupeFilter(meterRegistry, 2);
+  }
+
+  /*[Case #1] 처리 기록된 eventId 는 캐시 hit 으로 판단되어야 한다*/
+  @DisplayName("1. 처리 기록된 eventId 가 캐시 hit 으로 집계되는지 검증")
+  @Test
+  void isRecentlySeen_shouldReturnTrue_afterRecordMiss() throws Exception {
+    //given
+    notificationDedupeFilter.recordMiss("event-1");
+
+    //when
+    boolean seen = notificationDedupeFilter.isRecentlySeen("event-1");
+
+    //then
+    assertThat(seen).isTrue();
+    assertThat(meterRegistry.get("notification_dedupe_hit").tag("source", "cache").counter()
+        .count()).isEqualTo(1.0);
+    assertThat(meterRegistry.get("notification_dedupe_miss").counter().count()).isEqualTo(1.0);
+  }
+
+  /*[Case #2] 캐시 크기를 넘으면 가장 오래 사용되지 않은 eventId 가 제거되어야 한다*/
+  @DisplayName("2. 캐시 크기를 넘으면 가장 오래 사용되지 않은 eventId 가 제거되는지 검증")
+  @Test
+  void isRecentlySeen_shouldEvictLeastRecentlyUsed_whenCapacityExceeded() throws Exception {
+    //given
+    notificationDedupeFilter.recordMiss("event-1");
+    notificationDedupeFilter.recordMiss("event-2");
+    notificationDedupeFilter.isRecentlySeen("event-1");
+
+    //when
+    notificationDedupeFilter.recordStoreHit("event-3");
+
+    //then
+    assertThat(notificationDedupeFilter.isRecentlySeen("event-1")).isTrue();
+    assertThat(notificationDedupeFilter.isRecentlySeen("event-2")).isFalse();
+    assertThat(notificationDedupeFilter.isRecentlySeen("event-3")).isTrue();
+    assertThat(meterRegistry.get("notification_dedupe_hit").tag("source", "store").counter()
+        .count()).isEqualTo(1.0);
+  }
+}